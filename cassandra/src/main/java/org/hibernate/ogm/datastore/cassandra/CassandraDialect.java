@@ -6,10 +6,9 @@
  */
 package org.hibernate.ogm.datastore.cassandra;
 
-import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
-
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -17,27 +16,39 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Table;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraBatchExecutor;
 import org.hibernate.ogm.datastore.cassandra.impl.CassandraDatastoreProvider;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraStatementCache;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraStatementTemplate;
 import org.hibernate.ogm.datastore.cassandra.impl.CassandraTypeMapper;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraWrite;
 import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
 import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.cassandra.model.impl.ResultSetTupleIterator;
 import org.hibernate.ogm.datastore.cassandra.query.impl.CassandraParameterMetadataBuilder;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
 import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -61,50 +72,43 @@
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
 import com.datastax.driver.core.PreparedStatement;
-import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.TokenRange;
 import com.datastax.driver.core.exceptions.DriverException;
-import com.datastax.driver.core.querybuilder.Delete;
-import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 
 /**
  * Dialect implementation using CQL3 over Cassandra's native transport via java-driver.
  *
  * @author Jonathan Halliday
  */
-public class CassandraDialect extends BaseGridDialect implements GridDialect, QueryableGridDialect<String> {
+public class CassandraDialect extends BaseGridDialect implements GridDialect, QueryableGridDialect<String>, BatchableGridDialect, PartitionedScanGridDialect {
 
 	private static final Log log = LoggerFactory.getLogger();
 
 	private final CassandraDatastoreProvider provider;
 	private final Session session;
 	private final QueryBuilder queryBuilder;
-	private final LoadingCache<String, PreparedStatement> preparedStatementCache;
+	private final CassandraStatementCache statementCache;
+	private final CassandraBatchExecutor batchExecutor;
 
 	public CassandraDialect(CassandraDatastoreProvider provider) {
 		this.provider = provider;
 		session = provider.getSession();
 		queryBuilder = provider.getQueryBuilder();
-
-
-		preparedStatementCache = CacheBuilder.newBuilder()
-				.maximumSize( 100000 )
-				.build(
-						new CacheLoader<String, PreparedStatement>() {
-							@Override
-							public PreparedStatement load(String query) throws Exception {
-								return session.prepare( query );
-							}
-						}
-				);
+		statementCache = provider.getStatementCache();
+		batchExecutor = new CassandraBatchExecutor(
+				session,
+				provider.getConfiguration().getBatchSize(),
+				provider.getConfiguration().getMaxConcurrentRequests()
+		);
 	}
 
 	@Override
@@ -114,26 +118,34 @@ public LockingStrategy getLockingStrategy(Lockable lockable, LockMode lockMode)
 		return null;
 	}
 
-	private ResultSet bindAndExecute(Object[] columnValues, RegularStatement statement) {
+	private ResultSet bindAndExecute(Object[] columnValues, CassandraStatementTemplate template) {
+		return bindAndExecute( columnValues, statementCache.get( template ) );
+	}
 
-		PreparedStatement preparedStatement;
+	private ResultSet bindAndExecute(Object[] columnValues, PreparedStatement preparedStatement) {
+		BoundStatement boundStatement = bind( columnValues, preparedStatement );
 		try {
-			preparedStatement = preparedStatementCache.get( statement.getQueryString() );
-			session.prepare( statement );
+			return session.execute( boundStatement );
 		}
-		catch (ExecutionException e) {
-			throw log.failToPrepareCQL( statement.getQueryString(), e.getCause() );
+		catch (DriverException e) {
+			throw log.failToExecuteCQL( preparedStatement.getQueryString(), e );
 		}
+	}
 
+	private BoundStatement bind(Object[] columnValues, CassandraStatementTemplate template) {
+		return bind( columnValues, statementCache.get( template ) );
+	}
+
+	private BoundStatement bind(Object[] columnValues, PreparedStatement preparedStatement) {
 		try {
 			BoundStatement boundStatement = new BoundStatement( preparedStatement );
 			for ( int i = 0; i < columnValues.length; i++ ) {
 				boundStatement.setObject( i, columnValues[i] );
 			}
-			return session.execute( boundStatement );
+			return boundStatement;
 		}
 		catch (DriverException e) {
-			throw log.failToExecuteCQL( statement.getQueryString(), e );
+			throw log.failToExecuteCQL( preparedStatement.getQueryString(), e );
 		}
 	}
 
@@ -149,12 +161,9 @@ private static String quote(String columnName) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		executePendingOperations( tupleContext.getOperationsQueue() );
 
-		Select select = queryBuilder.select().all().from( quote( key.getTable() ) );
-		Select.Where selectWhere = select.where( eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() ) );
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			selectWhere = selectWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
+		CassandraStatementTemplate select = CassandraStatementTemplate.select( key.getTable(), key.getColumnNames(), false );
 
 		Object[] columnValues = key.getColumnValues();
 		ResultSet resultSet = bindAndExecute( columnValues, select );
@@ -178,7 +187,12 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext)
 			throws TupleAlreadyExistsException {
+		List<CassandraWrite> writes = new ArrayList<CassandraWrite>( 2 );
+		addInsertOrUpdateTupleWrites( writes, key, tuple );
+		batchExecutor.execute( writes );
+	}
 
+	private void addInsertOrUpdateTupleWrites(List<CassandraWrite> writes, EntityKey key, Tuple tuple) {
 		List<TupleOperation> updateOps = new ArrayList<TupleOperation>( tuple.getOperations().size() );
 		List<TupleOperation> deleteOps = new ArrayList<TupleOperation>( tuple.getOperations().size() );
 
@@ -198,74 +212,64 @@ public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleCo
 
 		if ( deleteOps.size() > 0 ) {
 
-			Delete.Selection deleteSelection = queryBuilder.delete();
+			List<String> deletedColumns = new ArrayList<String>( deleteOps.size() );
 			for ( TupleOperation tupleOperation : deleteOps ) {
-				deleteSelection.column( quote( tupleOperation.getColumn() ) );
+				deletedColumns.add( tupleOperation.getColumn() );
 			}
-			Delete delete = deleteSelection.from( quote( key.getTable() ) );
-			Delete.Where deleteWhere = delete.where(
-					eq(
-							quote( key.getColumnNames()[0] ),
-							QueryBuilder.bindMarker()
-					)
+			CassandraStatementTemplate delete = CassandraStatementTemplate.deleteColumns(
+					key.getTable(),
+					deletedColumns,
+					Arrays.asList( key.getColumnNames() )
 			);
-			for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-				deleteWhere = deleteWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-			}
 
-			bindAndExecute( key.getColumnValues(), delete );
+			writes.add( entityWrite( key, bind( key.getColumnValues(), delete ) ) );
 		}
 
 		if ( updateOps.size() > 0 ) {
 
 			// insert and update are both 'upsert' in cassandra.
-			Insert insert = queryBuilder.insertInto( quote( key.getTable() ) );
-			List<Object> columnValues = new LinkedList<>();
+			List<String> columnNames = new ArrayList<>( updateOps.size() + key.getColumnNames().length );
+			List<Object> columnValues = new ArrayList<>( updateOps.size() + key.getColumnNames().length );
 			Set<String> seenColNames = new HashSet<>();
 			for ( int i = 0; i < updateOps.size(); i++ ) {
 				TupleOperation op = updateOps.get( i );
-				insert.value( quote( op.getColumn() ), QueryBuilder.bindMarker() );
+				columnNames.add( op.getColumn() );
 				columnValues.add( op.getValue() );
 				seenColNames.add( op.getColumn() );
 			}
 			for ( int j = 0; j < key.getColumnNames().length; j++ ) {
 				String keyCol = key.getColumnNames()[j];
 				if ( !seenColNames.contains( keyCol ) ) {
-					insert.value( quote( keyCol ), QueryBuilder.bindMarker() );
+					columnNames.add( keyCol );
 					columnValues.add( key.getColumnValues()[j] );
 				}
 			}
 
-			bindAndExecute( columnValues.toArray(), insert );
+			writes.add( entityWrite( key, bind( columnValues.toArray(), CassandraStatementTemplate.insert( key.getTable(), columnNames ) ) ) );
 		}
 	}
 
+	private static CassandraWrite entityWrite(EntityKey key, BoundStatement statement) {
+		return new CassandraWrite( statement, key.getTable(), Arrays.asList( key.getColumnValues() ) );
+	}
+
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		bindAndExecute( key.getColumnValues(), removeTupleTemplate( key ) );
+	}
 
-		Delete delete = queryBuilder.delete().from( quote( key.getTable() ) );
-		Delete.Where deleteWhere = delete.where(
-				eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() )
-		);
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			deleteWhere = deleteWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
-
-		bindAndExecute( key.getColumnValues(), delete );
+	private CassandraStatementTemplate removeTupleTemplate(EntityKey key) {
+		return CassandraStatementTemplate.delete( key.getTable(), key.getColumnNames() );
 	}
 
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
+
 		Table tableMetadata = provider.getMetaDataCache().get( key.getTable() );
 		@SuppressWarnings("unchecked")
 		List<Column> tablePKCols = tableMetadata.getPrimaryKey().getColumns();
 
-		Select select = queryBuilder.select().all().from( quote( key.getTable() ) );
-		Select.Where selectWhere = select.where( eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() ) );
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			selectWhere = selectWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
-
 		boolean requiredFiltering = false;
 		for ( Column column : tablePKCols ) {
 			String name = column.getName();
@@ -282,9 +286,7 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 			}
 		}
 
-		if ( requiredFiltering ) {
-			select.allowFiltering();
-		}
+		CassandraStatementTemplate select = CassandraStatementTemplate.select( key.getTable(), key.getColumnNames(), requiredFiltering );
 
 		Object[] columnValues = key.getColumnValues();
 		ResultSet resultSet = bindAndExecute( columnValues, select );
@@ -331,17 +333,17 @@ public void insertOrUpdateAssociation(
 			AssociationKey key,
 			Association association,
 			AssociationContext associationContext) {
+		List<CassandraWrite> writes = new ArrayList<CassandraWrite>( association.getOperations().size() );
+		addInsertOrUpdateAssociationWrites( writes, key, association );
+		batchExecutor.execute( writes );
+	}
 
+	private void addInsertOrUpdateAssociationWrites(List<CassandraWrite> writes, AssociationKey key, Association association) {
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
 
-		Table tableMetadata = provider.getMetaDataCache().get( key.getTable() );
-		Set<String> keyColumnNames = new HashSet<String>();
-		for ( Object columnObject : tableMetadata.getPrimaryKey().getColumns() ) {
-			Column column = (Column) columnObject;
-			keyColumnNames.add( column.getName() );
-		}
+		List<String> keyColumnNames = getPrimaryKeyColumnNames( key.getTable() );
 
 		List<AssociationOperation> updateOps = new ArrayList<AssociationOperation>(
 				association.getOperations()
@@ -369,75 +371,141 @@ public void insertOrUpdateAssociation(
 
 		for ( AssociationOperation op : updateOps ) {
 			Tuple value = op.getValue();
+			List<String> columnNames = new ArrayList<>();
 			List<Object> columnValues = new ArrayList<>();
-			Insert insert = queryBuilder.insertInto( quote( key.getTable() ) );
 			for ( String columnName : value.getColumnNames() ) {
-				insert.value( quote( columnName ), QueryBuilder.bindMarker( columnName ) );
+				columnNames.add( columnName );
 				columnValues.add( value.get( columnName ) );
 			}
 
-			bindAndExecute( columnValues.toArray(), insert );
+			BoundStatement insert = bind( columnValues.toArray(), CassandraStatementTemplate.insert( key.getTable(), columnNames ) );
+			writes.add( new CassandraWrite( insert, key.getTable(), getRow( keyColumnNames, columnNames, columnValues ) ) );
 		}
 
 		for ( AssociationOperation op : deleteOps ) {
 
 			RowKey value = op.getKey();
-			Delete.Selection deleteSelection = queryBuilder.delete();
-			for ( String columnName : op.getKey().getColumnNames() ) {
-				if ( !keyColumnNames.contains( columnName ) ) {
-					deleteSelection.column( quote( columnName ) );
-				}
-			}
-			Delete delete = deleteSelection.from( quote( key.getTable() ) );
-			List<Object> columnValues = new LinkedList<>();
+			List<String> deletedColumns = new ArrayList<>();
+			List<String> whereColumns = new ArrayList<>();
+			List<Object> columnValues = new ArrayList<>();
 			for ( String columnName : value.getColumnNames() ) {
 				if ( keyColumnNames.contains( columnName ) ) {
-					delete.where( eq( quote( columnName ), QueryBuilder.bindMarker( columnName ) ) );
+					whereColumns.add( columnName );
 					columnValues.add( value.getColumnValue( columnName ) );
 				}
+				else {
+					deletedColumns.add( columnName );
+				}
 			}
 
-			bindAndExecute( columnValues.toArray(), delete );
+			CassandraStatementTemplate delete = CassandraStatementTemplate.deleteColumns( key.getTable(), deletedColumns, whereColumns );
+			writes.add( new CassandraWrite( bind( columnValues.toArray(), delete ), key.getTable(), getRow( keyColumnNames, whereColumns, columnValues ) ) );
 		}
 	}
 
 	@Override
 	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		List<CassandraWrite> writes = new ArrayList<CassandraWrite>( 1 );
+		addRemoveAssociationWrites( writes, key );
+		batchExecutor.execute( writes );
+	}
+
+	private void addRemoveAssociationWrites(List<CassandraWrite> writes, AssociationKey key) {
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
 
-		Table tableMetadata = provider.getMetaDataCache().get( key.getTable() );
-		Set<String> keyColumnNames = new HashSet<String>();
+		List<String> keyColumnNames = getPrimaryKeyColumnNames( key.getTable() );
+
+		List<String> deletedColumns = new ArrayList<>();
+		List<String> whereColumns = new ArrayList<>();
+		List<Object> columnValues = new ArrayList<>();
+		for ( String columnName : key.getColumnNames() ) {
+			if ( keyColumnNames.contains( columnName ) ) {
+				whereColumns.add( columnName );
+				columnValues.add( key.getColumnValue( columnName ) );
+			}
+			else {
+				deletedColumns.add( columnName );
+			}
+		}
+
+		if ( whereColumns.isEmpty() ) {
+			return;
+		}
+
+		CassandraStatementTemplate delete = CassandraStatementTemplate.deleteColumns( key.getTable(), deletedColumns, whereColumns );
+		writes.add( new CassandraWrite( bind( columnValues.toArray(), delete ), key.getTable(), getRow( keyColumnNames, whereColumns, columnValues ) ) );
+	}
+
+	private List<String> getPrimaryKeyColumnNames(String table) {
+		Table tableMetadata = provider.getMetaDataCache().get( table );
+		List<String> keyColumnNames = new ArrayList<String>();
 		for ( Object columnObject : tableMetadata.getPrimaryKey().getColumns() ) {
 			Column column = (Column) columnObject;
 			keyColumnNames.add( column.getName() );
 		}
+		return keyColumnNames;
+	}
 
-		Delete.Selection deleteSelection = queryBuilder.delete();
-		for ( String columnName : key.getColumnNames() ) {
-			if ( !keyColumnNames.contains( columnName ) ) {
-				deleteSelection.column( quote( columnName ) );
+	/**
+	 * Returns the values of the primary key columns among the given columns, in the order of the primary key.
+	 *
+	 * @return the primary key of the row written by a statement with the given columns or {@code null} if the columns
+	 * don't contain the whole primary key, i.e. the statement may write to several rows
+	 */
+	private static List<Object> getRow(List<String> keyColumnNames, List<String> columnNames, List<Object> columnValues) {
+		List<Object> row = new ArrayList<Object>( keyColumnNames.size() );
+		for ( String keyColumnName : keyColumnNames ) {
+			int index = columnNames.indexOf( keyColumnName );
+			if ( index < 0 ) {
+				return null;
 			}
+			row.add( columnValues.get( index ) );
 		}
+		return row;
+	}
 
-		Delete delete = deleteSelection.from( quote( key.getTable() ) );
-		List<Object> columnValues = new LinkedList<>();
-
-		boolean hasWhereClause = false;
-		for ( String columnName : key.getColumnNames() ) {
-			if ( keyColumnNames.contains( columnName ) ) {
-				delete.where( eq( quote( columnName ), QueryBuilder.bindMarker( columnName ) ) );
-				columnValues.add( key.getColumnValue( columnName ) );
-				hasWhereClause = true;
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			List<CassandraWrite> writes = new ArrayList<CassandraWrite>( queue.size() * 2 );
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				if ( operation instanceof InsertOrUpdateTupleOperation ) {
+					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+					addInsertOrUpdateTupleWrites( writes, update.getEntityKey(), update.getTuple() );
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+					EntityKey key = remove.getEntityKey();
+					writes.add( entityWrite( key, bind( key.getColumnValues(), removeTupleTemplate( key ) ) ) );
+				}
+				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+					addInsertOrUpdateAssociationWrites( writes, update.getAssociationKey(), update.getAssociation() );
+				}
+				else if ( operation instanceof RemoveAssociationOperation ) {
+					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+					addRemoveAssociationWrites( writes, remove.getAssociationKey() );
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported on Cassandra: " + operation.getClass().getName() );
+				}
+				operation = queue.poll();
 			}
+			batchExecutor.execute( writes );
+			queue.clear();
 		}
+	}
 
-		if ( !hasWhereClause ) {
-			return;
+	/**
+	 * Executes the operations queued in the current flush, so that reads see them.
+	 */
+	private void executePendingOperations(OperationsQueue queue) {
+		if ( queue != null && queue.size() > 0 ) {
+			executeBatch( queue );
 		}
-
-		bindAndExecute( columnValues.toArray(), delete );
 	}
 
 	@Override
@@ -463,6 +531,117 @@ public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, Enti
 		}
 	}
 
+	/**
+	 * Splits the token ring of the cluster into at most {@code maxPartitions} groups of token ranges, each range being
+	 * read with a {@code SELECT} restricted on the token of the partition key. With virtual nodes there are more
+	 * ranges than partitions, otherwise the ranges are split further.
+	 * <p>
+	 * The range {@code SELECT}s only differ by the bounds of the range, so they are prepared once per table and the
+	 * bounds are bound to them.
+	 */
+	@Override
+	public List<TuplePartition> getTuplePartitions(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, int maxPartitions) {
+		String token = tokenFunction( entityKeyMetadata.getTable() );
+		List<TokenRange> ranges = new ArrayList<>();
+		if ( token != null ) {
+			for ( TokenRange range : session.getCluster().getMetadata().getTokenRanges() ) {
+				ranges.addAll( range.unwrap() );
+			}
+		}
+
+		List<TuplePartition> partitions = new ArrayList<>();
+		if ( ranges.isEmpty() ) {
+			partitions.add( new TokenRangesPartition( null, Collections.<TokenRange>emptyList() ) );
+			return partitions;
+		}
+
+		if ( ranges.size() < maxPartitions ) {
+			ranges = splitEvenly( ranges, ( maxPartitions + ranges.size() - 1 ) / ranges.size() );
+		}
+		int numberOfPartitions = Math.min( maxPartitions, ranges.size() );
+		List<List<TokenRange>> rangesPerPartition = new ArrayList<>( numberOfPartitions );
+		for ( int i = 0; i < numberOfPartitions; i++ ) {
+			rangesPerPartition.add( new ArrayList<TokenRange>() );
+		}
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			rangesPerPartition.get( i % numberOfPartitions ).add( ranges.get( i ) );
+		}
+		TokenRangeSelects selects = new TokenRangeSelects( entityKeyMetadata.getTable(), token );
+		for ( List<TokenRange> partitionRanges : rangesPerPartition ) {
+			partitions.add( new TokenRangesPartition( selects, partitionRanges ) );
+		}
+		return partitions;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
+		TokenRangesPartition tokenRangesPartition = (TokenRangesPartition) partition;
+		TokenRangeSelects selects = tokenRangesPartition.selects;
+		if ( selects == null ) {
+			forEachTuple( consumer, tupleContext, entityKeyMetadata );
+			return;
+		}
+
+		for ( TokenRange range : tokenRangesPartition.ranges ) {
+			ResultSet resultSet;
+			if ( range.getStart().equals( range.getEnd() ) ) {
+				// the whole ring
+				resultSet = bindAndExecute( new Object[0], statementCache.get( selects.selectAll ) );
+			}
+			else if ( range.getStart().compareTo( range.getEnd() ) > 0 ) {
+				// the last range of the ring, ending with the minimum token
+				resultSet = bindAndExecute( new Object[] { range.getStart().getValue() }, statementCache.get( selects.selectAfter ) );
+			}
+			else {
+				resultSet = bindAndExecute( new Object[] { range.getStart().getValue(), range.getEnd().getValue() }, statementCache.get( selects.selectBetween ) );
+			}
+
+			for ( Row row : resultSet ) {
+				consumer.consume( new Tuple( new MapTupleSnapshot( tupleFromRow( row ) ) ) );
+			}
+		}
+	}
+
+	@Override
+	public void closePartitions(List<TuplePartition> partitions) {
+		// nothing to release, each range is read by a statement of its own
+	}
+
+	/**
+	 * @return the {@code token(...)} function applied to the partition key of the table or {@code null} if the
+	 * metadata of the table are not available
+	 */
+	private String tokenFunction(String table) {
+		KeyspaceMetadata keyspace = session.getCluster().getMetadata().getKeyspace( session.getLoggedKeyspace() );
+		TableMetadata tableMetadata = keyspace == null ? null : keyspace.getTable( quote( table ) );
+		if ( tableMetadata == null ) {
+			return null;
+		}
+		StringBuilder token = new StringBuilder( "token(" );
+		List<ColumnMetadata> partitionKey = tableMetadata.getPartitionKey();
+		for ( int i = 0; i < partitionKey.size(); i++ ) {
+			if ( i > 0 ) {
+				token.append( ", " );
+			}
+			token.append( quote( partitionKey.get( i ).getName() ) );
+		}
+		return token.append( ")" ).toString();
+	}
+
+	private static List<TokenRange> splitEvenly(List<TokenRange> ranges, int numberOfSplits) {
+		List<TokenRange> splitRanges = new ArrayList<>();
+		for ( TokenRange range : ranges ) {
+			try {
+				splitRanges.addAll( range.splitEvenly( numberOfSplits ) );
+			}
+			catch (IllegalArgumentException e) {
+				// the range cannot be split, e.g. it is the whole ring of a single node cluster
+				splitRanges.add( range );
+			}
+		}
+		return splitRanges;
+	}
+
 	public static Map<String, Object> tupleFromRow(Row row) {
 		Map<String, Object> map = new HashMap<>();
 
@@ -502,10 +681,7 @@ public ClosableIterator<Tuple> executeBackendQuery(
 			i++;
 		}
 
-		ResultSet resultSet = bindAndExecute(
-				parameters,
-				session.newSimpleStatement( query.getQuery() )
-		);
+		ResultSet resultSet = bindAndExecute( parameters, statementCache.get( query.getQuery() ) );
 
 		int first = 0;
 		if ( queryParameters.getRowSelection().getFirstRow() != null ) {
@@ -537,4 +713,36 @@ public String parseNativeQuery(String nativeQuery) {
 		// the db server supplied metadata or parsing assistance we can't do much meaningful validation.
 		return nativeQuery;
 	}
+
+	/**
+	 * The CQL of the {@code SELECT}s reading a token range of a table; the bounds of the range are bound to them.
+	 */
+	private static class TokenRangeSelects {
+
+		private final String selectAll;
+		private final String selectAfter;
+		private final String selectBetween;
+
+		private TokenRangeSelects(String table, String token) {
+			this.selectAll = "SELECT * FROM " + quote( table );
+			this.selectAfter = selectAll + " WHERE " + token + " > ?";
+			this.selectBetween = selectAfter + " AND " + token + " <= ?";
+		}
+	}
+
+	private static class TokenRangesPartition implements TuplePartition {
+
+		private final TokenRangeSelects selects;
+		private final List<TokenRange> ranges;
+
+		private TokenRangesPartition(TokenRangeSelects selects, List<TokenRange> ranges) {
+			this.selects = selects;
+			this.ranges = ranges;
+		}
+
+		@Override
+		public String toString() {
+			return "TokenRangesPartition " + ranges;
+		}
+	}
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.ogm.cfg.OgmProperties;
+
+/**
+ * Properties for configuring the Cassandra datastore via {@code persistence.xml} or
+ * {@link StandardServiceRegistryBuilder}.
+ */
+public final class CassandraProperties implements OgmProperties {
+
+	/**
+	 * The maximum number of statements grouped into a single unlogged batch when executing the operations of a flush.
+	 * Only statements targeting the same partition are grouped together; use 1 to execute each statement on its own.
+	 * <p>
+	 * Default is 100.
+	 */
+	public static final String BATCH_SIZE = "hibernate.ogm.cassandra.batch_size";
+
+	/**
+	 * The maximum number of requests executed concurrently when executing the operations of a flush.
+	 * <p>
+	 * Default is 32.
+	 */
+	public static final String MAX_CONCURRENT_REQUESTS = "hibernate.ogm.cassandra.max_concurrent_requests";
+
+	private CassandraProperties() {
+	}
+}
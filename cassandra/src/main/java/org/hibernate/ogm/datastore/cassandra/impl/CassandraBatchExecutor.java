@@ -0,0 +1,155 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * Executes a list of writes, grouping the statements targeting the same partition into unlogged batches and running
+ * the batches of different partitions concurrently.
+ * <p>
+ * The statements of a given partition are executed in the order they have been given: the batches are sent in rounds,
+ * the n-th batch of each partition being part of the n-th round, and a round only starts once all the requests of the
+ * previous one are completed. No more than the configured number of requests are in flight at any time.
+ * <p>
+ * All the statements of a batch get the same write timestamp, and Cassandra resolves conflicting writes with the same
+ * timestamp by their content instead of their order (e.g. a deletion always wins over an insert). So a batch never
+ * contains two writes to the same row: a write to a row already written by the current batch of its partition starts
+ * the next batch.
+ */
+public class CassandraBatchExecutor {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	/**
+	 * Groups the statements for which the driver cannot compute a routing key.
+	 */
+	private static final Object UNKNOWN_PARTITION = new Object();
+
+	private final Session session;
+	private final int batchSize;
+	private final int maxConcurrentRequests;
+
+	public CassandraBatchExecutor(Session session, int batchSize, int maxConcurrentRequests) {
+		this.session = session;
+		this.batchSize = Math.max( 1, batchSize );
+		this.maxConcurrentRequests = Math.max( 1, maxConcurrentRequests );
+	}
+
+	/**
+	 * Executes the given writes and waits for their completion.
+	 *
+	 * @param writes the writes to execute
+	 */
+	public void execute(List<CassandraWrite> writes) {
+		if ( writes.isEmpty() ) {
+			return;
+		}
+		if ( writes.size() == 1 ) {
+			BoundStatement statement = writes.get( 0 ).getStatement();
+			try {
+				session.execute( statement );
+			}
+			catch (DriverException e) {
+				throw log.failToExecuteCQL( statement.preparedStatement().getQueryString(), e );
+			}
+			return;
+		}
+
+		List<List<Statement>> batchesPerPartition = batchesPerPartition( writes );
+		Deque<ResultSetFuture> inFlight = new ArrayDeque<ResultSetFuture>( maxConcurrentRequests );
+		try {
+			boolean executed = true;
+			for ( int round = 0; executed; round++ ) {
+				executed = false;
+				for ( List<Statement> batches : batchesPerPartition ) {
+					if ( round < batches.size() ) {
+						if ( inFlight.size() == maxConcurrentRequests ) {
+							inFlight.removeFirst().getUninterruptibly();
+						}
+						inFlight.addLast( session.executeAsync( batches.get( round ) ) );
+						executed = true;
+					}
+				}
+				while ( !inFlight.isEmpty() ) {
+					inFlight.removeFirst().getUninterruptibly();
+				}
+			}
+		}
+		catch (DriverException e) {
+			throw log.failToExecuteBatch( writes.size(), e );
+		}
+	}
+
+	private List<List<Statement>> batchesPerPartition(List<CassandraWrite> writes) {
+		Map<Object, List<CassandraWrite>> writesPerPartition = new LinkedHashMap<Object, List<CassandraWrite>>();
+		for ( CassandraWrite write : writes ) {
+			Object partition = write.getStatement().getRoutingKey();
+			if ( partition == null ) {
+				partition = UNKNOWN_PARTITION;
+			}
+			List<CassandraWrite> partitionWrites = writesPerPartition.get( partition );
+			if ( partitionWrites == null ) {
+				partitionWrites = new ArrayList<CassandraWrite>();
+				writesPerPartition.put( partition, partitionWrites );
+			}
+			partitionWrites.add( write );
+		}
+
+		List<List<Statement>> batchesPerPartition = new ArrayList<List<Statement>>( writesPerPartition.size() );
+		for ( List<CassandraWrite> partitionWrites : writesPerPartition.values() ) {
+			List<Statement> batches = new ArrayList<Statement>( partitionWrites.size() / batchSize + 1 );
+			List<CassandraWrite> batch = new ArrayList<CassandraWrite>( batchSize );
+			for ( CassandraWrite write : partitionWrites ) {
+				if ( batch.size() == batchSize || conflicts( batch, write ) ) {
+					batches.add( toStatement( batch ) );
+					batch.clear();
+				}
+				batch.add( write );
+			}
+			batches.add( toStatement( batch ) );
+			batchesPerPartition.add( batches );
+		}
+		return batchesPerPartition;
+	}
+
+	private static boolean conflicts(List<CassandraWrite> batch, CassandraWrite write) {
+		for ( CassandraWrite batched : batch ) {
+			if ( batched.conflictsWith( write ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Statement toStatement(List<CassandraWrite> batch) {
+		if ( batch.size() == 1 ) {
+			return batch.get( 0 ).getStatement();
+		}
+
+		BatchStatement statement = new BatchStatement( BatchStatement.Type.UNLOGGED );
+		for ( CassandraWrite write : batch ) {
+			statement.add( write.getStatement() );
+		}
+		return statement;
+	}
+}
@@ -53,6 +53,7 @@ public class CassandraDatastoreProvider extends BaseDatastoreProvider
 	private Session session;
 	private QueryBuilder queryBuilder;
 	private CassandraSequenceHandler sequenceHandler;
+	private CassandraStatementCache statementCache;
 
 	private final Map<String, Table> metaDataCache = new HashMap<String, Table>();
 	private final Map<String, Table> wrappedMetaDataCache = Collections.unmodifiableMap( metaDataCache );
@@ -70,6 +71,10 @@ public CassandraSequenceHandler getSequenceHandler() {
 		return sequenceHandler;
 	}
 
+	public CassandraConfiguration getConfiguration() {
+		return config;
+	}
+
 	@Override
 	public void configure(Map configurationValues) {
 		OptionsService optionsService = serviceRegistry.getService( OptionsService.class );
@@ -89,6 +94,10 @@ public QueryBuilder getQueryBuilder() {
 		return queryBuilder;
 	}
 
+	public CassandraStatementCache getStatementCache() {
+		return statementCache;
+	}
+
 	public Map<String, Table> getMetaDataCache() {
 		return wrappedMetaDataCache;
 	}
@@ -128,6 +137,7 @@ public void start() {
 
 				session = cluster.connect( config.getDatabaseName() );
 				queryBuilder = new QueryBuilder( cluster );
+				statementCache = new CassandraStatementCache( session, queryBuilder );
 
 				sequenceHandler = new CassandraSequenceHandler(this);
 			}
@@ -145,12 +155,15 @@ public void stop() {
 		cluster.close();
 		cluster = null;
 		sequenceHandler = null;
+		statementCache = null;
 	}
 
 	public void removeKeyspace() {
 		Session bootstrapSession = cluster.connect();
 		bootstrapSession.execute( "DROP KEYSPACE " + config.getDatabaseName() );
 		bootstrapSession.close();
+		// the prepared statements refer to tables which don't exist anymore
+		statementCache.clear();
 	}
 
 	public void createSecondaryIndexIfNeeded(String entityName, String columnName) {
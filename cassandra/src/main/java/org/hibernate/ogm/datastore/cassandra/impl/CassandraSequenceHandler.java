@@ -58,7 +58,7 @@ private Long nextValueSelect(IdSourceKeyMetadata metadata, String sequenceName)
 				.from( quote( metadata.getName() ) )
 				.where( eq( metadata.getKeyColumnName(), QueryBuilder.bindMarker() ) );
 
-		PreparedStatement preparedStatement = provider.getSession().prepare( select.toString() );
+		PreparedStatement preparedStatement = provider.getStatementCache().get( select.toString() );
 		BoundStatement boundStatement = preparedStatement.bind( sequenceName );
 
 		ResultSet resultSet;
@@ -84,7 +84,7 @@ private Long nextValueInsert(IdSourceKeyMetadata metadata, String sequenceName,
 				.value( quote( metadata.getValueColumnName() ), QueryBuilder.bindMarker( "sequence_value" ) )
 				.ifNotExists();
 
-		PreparedStatement preparedStatement = provider.getSession().prepare( insert.toString() );
+		PreparedStatement preparedStatement = provider.getStatementCache().get( insert.toString() );
 		BoundStatement boundStatement = preparedStatement.bind();
 		boundStatement.setString( "sequence_name", sequenceName );
 		boundStatement.setLong( "sequence_value", value );
@@ -106,7 +106,7 @@ private boolean nextValueUpdate(IdSourceKeyMetadata metadata, String sequenceNam
 				.where( eq( quote( metadata.getKeyColumnName() ), QueryBuilder.bindMarker( "sequence_name" ) ) )
 				.onlyIf( eq( quote( metadata.getValueColumnName() ), QueryBuilder.bindMarker( "sequence_value_old" ) ) );
 
-		PreparedStatement preparedStatement = provider.getSession().prepare( update.toString() );
+		PreparedStatement preparedStatement = provider.getStatementCache().get( update.toString() );
 		BoundStatement boundStatement = preparedStatement.bind();
 		boundStatement.setString( "sequence_name", sequenceName );
 		boundStatement.setLong( "sequence_value_new", newValue );
@@ -0,0 +1,120 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.util.concurrent.ExecutionException;
+
+import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Keeps the statements prepared against a Cassandra session, so that each CQL statement is prepared only once.
+ * <p>
+ * Statements can be looked up by their CQL or by {@link CassandraStatementTemplate}; in the latter case, the CQL is
+ * only built the first time a template is requested and the following look-ups only cost the comparison of the
+ * template.
+ */
+public class CassandraStatementCache {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	private static final int MAXIMUM_SIZE = 100000;
+
+	private final QueryBuilder queryBuilder;
+	private final LoadingCache<String, PreparedStatement> preparedStatements;
+	private final Cache<CassandraStatementTemplate, PreparedStatement> templates;
+
+	public CassandraStatementCache(final Session session, QueryBuilder queryBuilder) {
+		this.queryBuilder = queryBuilder;
+		this.preparedStatements = CacheBuilder.newBuilder()
+				.maximumSize( MAXIMUM_SIZE )
+				.recordStats()
+				.build(
+						new CacheLoader<String, PreparedStatement>() {
+							@Override
+							public PreparedStatement load(String query) throws Exception {
+								return session.prepare( query );
+							}
+						}
+				);
+		this.templates = CacheBuilder.newBuilder()
+				.maximumSize( MAXIMUM_SIZE )
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * Returns the prepared statement for the given CQL, preparing it if needed.
+	 *
+	 * @param query the CQL statement
+	 * @return the prepared statement
+	 */
+	public PreparedStatement get(String query) {
+		try {
+			return preparedStatements.get( query );
+		}
+		catch (ExecutionException e) {
+			throw log.failToPrepareCQL( query, e.getCause() );
+		}
+		catch (UncheckedExecutionException e) {
+			throw log.failToPrepareCQL( query, e.getCause() );
+		}
+	}
+
+	/**
+	 * Returns the prepared statement described by the given template, building and preparing it if needed.
+	 *
+	 * @param template the description of the statement
+	 * @return the prepared statement
+	 */
+	public PreparedStatement get(CassandraStatementTemplate template) {
+		PreparedStatement preparedStatement = templates.getIfPresent( template );
+		if ( preparedStatement == null ) {
+			preparedStatement = get( template.toStatement( queryBuilder ).getQueryString() );
+			templates.put( template, preparedStatement );
+		}
+		return preparedStatement;
+	}
+
+	/**
+	 * @return the number of look-ups which have been served without preparing a statement
+	 */
+	public long getHitCount() {
+		return templates.stats().hitCount() + preparedStatements.stats().hitCount();
+	}
+
+	/**
+	 * @return the number of look-ups which required to prepare a statement
+	 */
+	public long getMissCount() {
+		return preparedStatements.stats().missCount();
+	}
+
+	/**
+	 * @return the number of statements currently prepared
+	 */
+	public long getPreparedStatementCount() {
+		return preparedStatements.size();
+	}
+
+	/**
+	 * Discards all the prepared statements.
+	 */
+	public void clear() {
+		templates.invalidateAll();
+		preparedStatements.invalidateAll();
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.querybuilder.Delete;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+
+/**
+ * Describes the shape of a CQL statement executed by the dialect: the kind of statement, the table and the columns it
+ * refers to.
+ * <p>
+ * Templates are cheap to create and to compare, so they can be used as key for caching the corresponding prepared
+ * statements; the CQL itself only gets built the first time a template is used. All the values are bound
+ * positionally: first the values of the {@link #getColumns() columns}, then the ones of the
+ * {@link #getWhereColumns() where columns}.
+ *
+ * @see CassandraStatementCache
+ */
+public final class CassandraStatementTemplate {
+
+	private enum Kind {
+		SELECT, INSERT, DELETE
+	}
+
+	private final Kind kind;
+	private final String table;
+	private final List<String> columns;
+	private final List<String> whereColumns;
+	private final boolean allowFiltering;
+	private final int hashCode;
+
+	private CassandraStatementTemplate(Kind kind, String table, List<String> columns, List<String> whereColumns, boolean allowFiltering) {
+		this.kind = kind;
+		this.table = table;
+		this.columns = columns;
+		this.whereColumns = whereColumns;
+		this.allowFiltering = allowFiltering;
+		this.hashCode = buildHashCode();
+	}
+
+	/**
+	 * {@code SELECT * FROM table WHERE whereColumns[0] = ? AND ...}
+	 */
+	public static CassandraStatementTemplate select(String table, String[] whereColumns, boolean allowFiltering) {
+		return new CassandraStatementTemplate( Kind.SELECT, table, Collections.<String>emptyList(), Arrays.asList( whereColumns ), allowFiltering );
+	}
+
+	/**
+	 * {@code INSERT INTO table (columns[0], ...) VALUES (?, ...)}
+	 */
+	public static CassandraStatementTemplate insert(String table, List<String> columns) {
+		return new CassandraStatementTemplate( Kind.INSERT, table, columns, Collections.<String>emptyList(), false );
+	}
+
+	/**
+	 * {@code DELETE FROM table WHERE whereColumns[0] = ? AND ...}
+	 */
+	public static CassandraStatementTemplate delete(String table, String[] whereColumns) {
+		return new CassandraStatementTemplate( Kind.DELETE, table, Collections.<String>emptyList(), Arrays.asList( whereColumns ), false );
+	}
+
+	/**
+	 * {@code DELETE columns[0], ... FROM table WHERE whereColumns[0] = ? AND ...}
+	 */
+	public static CassandraStatementTemplate deleteColumns(String table, List<String> columns, List<String> whereColumns) {
+		return new CassandraStatementTemplate( Kind.DELETE, table, columns, whereColumns, false );
+	}
+
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	public List<String> getWhereColumns() {
+		return whereColumns;
+	}
+
+	/**
+	 * Builds the CQL statement described by this template.
+	 *
+	 * @param queryBuilder the builder to use
+	 * @return the CQL statement with a bind marker for each column and each where column
+	 */
+	public RegularStatement toStatement(QueryBuilder queryBuilder) {
+		switch ( kind ) {
+			case SELECT:
+				Select select = queryBuilder.select().all().from( quote( table ) );
+				Select.Where selectWhere = select.where();
+				for ( String column : whereColumns ) {
+					selectWhere.and( eq( quote( column ), QueryBuilder.bindMarker() ) );
+				}
+				if ( allowFiltering ) {
+					select.allowFiltering();
+				}
+				return select;
+			case INSERT:
+				Insert insert = queryBuilder.insertInto( quote( table ) );
+				for ( String column : columns ) {
+					insert.value( quote( column ), QueryBuilder.bindMarker() );
+				}
+				return insert;
+			case DELETE:
+				Delete.Selection deleteSelection = queryBuilder.delete();
+				for ( String column : columns ) {
+					deleteSelection.column( quote( column ) );
+				}
+				Delete delete = deleteSelection.from( quote( table ) );
+				Delete.Where deleteWhere = delete.where();
+				for ( String column : whereColumns ) {
+					deleteWhere.and( eq( quote( column ), QueryBuilder.bindMarker() ) );
+				}
+				return delete;
+			default:
+				throw new IllegalStateException( "Unexpected statement kind: " + kind );
+		}
+	}
+
+	// temporary, as equivalent in java-driver's Querybuilder is broken.
+	// https://datastax-oss.atlassian.net/browse/JAVA-712
+	private static String quote(String columnName) {
+		StringBuilder sb = new StringBuilder();
+		sb.append( '"' );
+		sb.append( columnName );
+		sb.append( '"' );
+		return sb.toString();
+	}
+
+	private int buildHashCode() {
+		int result = kind.hashCode();
+		result = 31 * result + table.hashCode();
+		result = 31 * result + columns.hashCode();
+		result = 31 * result + whereColumns.hashCode();
+		result = 31 * result + ( allowFiltering ? 1 : 0 );
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		CassandraStatementTemplate other = (CassandraStatementTemplate) obj;
+		return hashCode == other.hashCode
+				&& kind == other.kind
+				&& allowFiltering == other.allowFiltering
+				&& table.equals( other.table )
+				&& columns.equals( other.columns )
+				&& whereColumns.equals( other.whereColumns );
+	}
+
+	@Override
+	public String toString() {
+		return "CassandraStatementTemplate [kind=" + kind + ", table=" + table + ", columns=" + columns + ", whereColumns=" + whereColumns
+				+ ", allowFiltering=" + allowFiltering + "]";
+	}
+}
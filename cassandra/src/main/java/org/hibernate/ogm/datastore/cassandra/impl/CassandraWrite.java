@@ -0,0 +1,64 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.util.List;
+
+import com.datastax.driver.core.BoundStatement;
+
+/**
+ * A statement writing to a table, together with the primary key of the row it writes to.
+ * <p>
+ * The statements of an unlogged batch share a single write timestamp, so Cassandra cannot tell which of two writes to
+ * the same cell in the batch comes last. {@link CassandraBatchExecutor} uses the rows to never put two writes to the
+ * same row into the same batch.
+ */
+public final class CassandraWrite {
+
+	private final BoundStatement statement;
+	private final String table;
+	private final List<Object> row;
+
+	/**
+	 * @param statement the statement to execute
+	 * @param table the table written to
+	 * @param row the values of all the primary key columns of the row written to, or {@code null} if the statement
+	 * may write to several rows of a partition, e.g. a delete restricted on the partition key only
+	 */
+	public CassandraWrite(BoundStatement statement, String table, List<Object> row) {
+		this.statement = statement;
+		this.table = table;
+		this.row = row;
+	}
+
+	public BoundStatement getStatement() {
+		return statement;
+	}
+
+	public String getTable() {
+		return table;
+	}
+
+	public List<Object> getRow() {
+		return row;
+	}
+
+	/**
+	 * Whether this write and the given one may write to the same cells.
+	 */
+	boolean conflictsWith(CassandraWrite other) {
+		if ( !table.equals( other.table ) ) {
+			return false;
+		}
+		return row == null || other.row == null || row.equals( other.row );
+	}
+
+	@Override
+	public String toString() {
+		return "CassandraWrite [table=" + table + ", row=" + row + ", statement=" + statement.preparedStatement().getQueryString() + "]";
+	}
+}
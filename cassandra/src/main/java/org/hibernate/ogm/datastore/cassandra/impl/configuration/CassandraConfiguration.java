@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.cassandra.impl.configuration;
 
 import org.hibernate.ogm.cfg.spi.DocumentStoreConfiguration;
+import org.hibernate.ogm.datastore.cassandra.CassandraProperties;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 
@@ -19,7 +20,37 @@ public class CassandraConfiguration extends DocumentStoreConfiguration {
 
 	private static final int DEFAULT_PORT = 9042;
 
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
+	private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 32;
+
+	private final int batchSize;
+	private final int maxConcurrentRequests;
+
 	public CassandraConfiguration(ConfigurationPropertyReader propertyReader, OptionsContext globalOptions) {
 		super( propertyReader, DEFAULT_PORT );
+
+		this.batchSize = propertyReader.property( CassandraProperties.BATCH_SIZE, int.class )
+				.withDefault( DEFAULT_BATCH_SIZE )
+				.getValue();
+		this.maxConcurrentRequests = propertyReader.property( CassandraProperties.MAX_CONCURRENT_REQUESTS, int.class )
+				.withDefault( DEFAULT_MAX_CONCURRENT_REQUESTS )
+				.getValue();
+	}
+
+	/**
+	 * @see CassandraProperties#BATCH_SIZE
+	 * @return the maximum number of statements grouped into a single unlogged batch
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @see CassandraProperties#MAX_CONCURRENT_REQUESTS
+	 * @return the maximum number of requests executed concurrently during a flush
+	 */
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
 	}
 }
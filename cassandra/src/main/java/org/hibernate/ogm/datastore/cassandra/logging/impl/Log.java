@@ -54,4 +54,7 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@LogMessage(level = Level.WARN)
 	@Message(id = 1609, value = "Cannot create multi-column secondary index for index/key named '%2$s' for table '%1$s'; Only considering first index column")
 	void multiColumnIndexNotSupported(String tableName, String name);
+
+	@Message(id = 1610, value = "Failed to execute a batch of %1$d CQL operations")
+	HibernateException failToExecuteBatch(int size, @Cause RuntimeException e);
 }
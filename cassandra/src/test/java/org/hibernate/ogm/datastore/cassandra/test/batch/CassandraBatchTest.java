@@ -0,0 +1,134 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.cassandra.CassandraDialect;
+import org.hibernate.ogm.datastore.cassandra.CassandraProperties;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraDatastoreProvider;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test that the operations queued during a flush are executed in batches by the dialect.
+ */
+public class CassandraBatchTest extends OgmTestCase {
+
+	@Test
+	public void testInsertsAreBatched() throws Exception {
+		int numInsert = 5;
+
+		Session session = openSession();
+		session.beginTransaction();
+		List<Helicopter> helicopters = new ArrayList<Helicopter>();
+		for ( int i = 0; i < numInsert; i++ ) {
+			Helicopter helicopter = helicopter( "H_" + i );
+			session.persist( helicopter );
+			helicopters.add( helicopter );
+		}
+		session.getTransaction().commit();
+		session.clear();
+
+		assertThat( LeakingCassandraDialect.queueSize ).isEqualTo( numInsert );
+
+		session.beginTransaction();
+		for ( int i = 0; i < numInsert; i++ ) {
+			Helicopter loaded = (Helicopter) session.get( Helicopter.class, helicopters.get( i ).getUUID() );
+			assertThat( loaded.getName() ).isEqualTo( "H_" + i );
+			session.delete( loaded );
+		}
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testOperationsOnTheSameEntitiesAreExecutedInOrder() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		Helicopter deleted = helicopter( "H_0" );
+		Helicopter updated = helicopter( "H_1" );
+		session.persist( deleted );
+		session.persist( updated );
+		session.delete( deleted );
+		updated.setName( "H_updated" );
+		session.getTransaction().commit();
+		session.clear();
+
+		assertThat( LeakingCassandraDialect.queueSize ).isEqualTo( 4 );
+
+		session.beginTransaction();
+		assertThat( session.get( Helicopter.class, deleted.getUUID() ) ).isNull();
+		Helicopter loaded = (Helicopter) session.get( Helicopter.class, updated.getUUID() );
+		assertThat( loaded.getName() ).isEqualTo( "H_updated" );
+		session.delete( loaded );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testLaterUpdateWinsOverEarlierWriteOfTheSameRow() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		// the later value sorts before the earlier one, so it only wins if the writes are applied in order
+		Helicopter helicopter = helicopter( "H_z" );
+		session.persist( helicopter );
+		helicopter.setName( "H_a" );
+		session.getTransaction().commit();
+		session.clear();
+
+		assertThat( LeakingCassandraDialect.queueSize ).isEqualTo( 2 );
+
+		session.beginTransaction();
+		Helicopter loaded = (Helicopter) session.get( Helicopter.class, helicopter.getUUID() );
+		assertThat( loaded.getName() ).isEqualTo( "H_a" );
+		session.delete( loaded );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private Helicopter helicopter(String name) {
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( name );
+		return helicopter;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class };
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.GRID_DIALECT, LeakingCassandraDialect.class );
+		// Force the batched operations to be split into several requests
+		settings.put( CassandraProperties.BATCH_SIZE, 2 );
+	}
+
+	public static class LeakingCassandraDialect extends CassandraDialect {
+
+		static volatile int queueSize = 0;
+
+		public LeakingCassandraDialect(CassandraDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			queueSize = queue.size();
+			super.executeBatch( queue );
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.test.statement;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraDatastoreProvider;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraStatementCache;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Tests that the CQL statements executed by the dialect are prepared only once.
+ */
+public class StatementCacheTest extends OgmTestCase {
+
+	@Test
+	public void testStatementsArePreparedOnlyOnce() throws Exception {
+		CassandraStatementCache statementCache = getStatementCache();
+
+		createReadUpdateAndDelete( "Lama" );
+		long missCount = statementCache.getMissCount();
+		long hitCount = statementCache.getHitCount();
+
+		assertThat( missCount ).isEqualTo( statementCache.getPreparedStatementCount() );
+
+		createReadUpdateAndDelete( "Puma" );
+
+		assertThat( statementCache.getMissCount() ).isEqualTo( missCount );
+		assertThat( statementCache.getHitCount() ).isGreaterThan( hitCount );
+	}
+
+	private void createReadUpdateAndDelete(String name) {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( name );
+		session.persist( helicopter );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		Helicopter loaded = (Helicopter) session.get( Helicopter.class, helicopter.getUUID() );
+		assertThat( loaded.getName() ).isEqualTo( name );
+		loaded.setName( name + " II" );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		loaded = (Helicopter) session.get( Helicopter.class, helicopter.getUUID() );
+		assertThat( loaded.getName() ).isEqualTo( name + " II" );
+		session.delete( loaded );
+		transaction.commit();
+		session.close();
+	}
+
+	private CassandraStatementCache getStatementCache() {
+		DatastoreProvider provider = sfi().getServiceRegistry().getService( DatastoreProvider.class );
+		return ( (CassandraDatastoreProvider) provider ).getStatementCache();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class };
+	}
+}
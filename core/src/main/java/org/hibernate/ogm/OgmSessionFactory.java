@@ -9,6 +9,9 @@
 import org.hibernate.HibernateException;
 import org.hibernate.SessionBuilder;
 import org.hibernate.SessionFactory;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.stat.GridDialectStatistics;
+import org.hibernate.ogm.stat.TupleCacheStatistics;
 
 /**
  * Provides OGM-specific functionality on the session factory level.
@@ -42,4 +45,20 @@ interface OgmSessionBuilder extends SessionBuilder {
 
 	@Override
 	OgmSession getCurrentSession() throws HibernateException;
+
+	/**
+	 * Returns the statistics about the operations invoked on the datastore. They are only collected if enabled via
+	 * {@link OgmProperties#DATASTORE_STATISTICS}.
+	 *
+	 * @return the statistics about the operations invoked on the grid dialect
+	 */
+	GridDialectStatistics getGridDialectStatistics();
+
+	/**
+	 * Returns the statistics about the cache of tuples and associations. The cache is only used if enabled via
+	 * {@link OgmProperties#TUPLE_CACHE_MAX_ENTRIES}.
+	 *
+	 * @return the statistics about the tuple cache
+	 */
+	TupleCacheStatistics getTupleCacheStatistics();
 }
@@ -13,12 +13,15 @@
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.cfg.impl.HibernateSearchIntegration;
 import org.hibernate.ogm.datastore.impl.DatastoreProviderInitiator;
+import org.hibernate.ogm.dialect.cache.impl.TupleCacheInitiator;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagerInitiator;
 import org.hibernate.ogm.dialect.impl.GridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.IdentityColumnAwareGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.MultigetAssociationGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.MultigetGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.OgmDialectFactoryInitiator;
 import org.hibernate.ogm.dialect.impl.OptimisticLockingAwareGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.PartitionedScanGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.QueryableGridDialectInitiator;
 import org.hibernate.ogm.jdbc.impl.OgmConnectionProviderInitiator;
 import org.hibernate.ogm.jpa.impl.OgmMutableIdentifierGeneratorFactoryInitiator;
@@ -28,6 +31,7 @@
 import org.hibernate.ogm.service.impl.OgmConfigurationService;
 import org.hibernate.ogm.service.impl.OgmJdbcServicesInitiator;
 import org.hibernate.ogm.service.impl.OgmSessionFactoryServiceRegistryFactoryInitiator;
+import org.hibernate.ogm.stat.impl.GridDialectStatisticsInitiator;
 import org.hibernate.ogm.transaction.impl.OgmJtaPlatformInitiator;
 import org.hibernate.ogm.transaction.impl.OgmTransactionCoordinatorBuilderInitiator;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
@@ -75,12 +79,16 @@ public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
 		serviceRegistryBuilder.addInitiator( OptionsServiceInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( OgmMutableIdentifierGeneratorFactoryInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( EventContextManagerInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( GridDialectStatisticsInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( TupleCacheInitiator.INSTANCE );
 
 		serviceRegistryBuilder.addInitiator( GridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( QueryableGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( IdentityColumnAwareGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( OptimisticLockingAwareGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( MultigetGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( MultigetAssociationGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( PartitionedScanGridDialectInitiator.INSTANCE );
 	}
 
 	private boolean isOgmEnabled(Map<?, ?> settings) {
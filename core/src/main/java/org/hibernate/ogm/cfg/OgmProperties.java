@@ -106,4 +106,45 @@ public interface OgmProperties {
 	 * </ul>
 	 */
 	String ERROR_HANDLER = "hibernate.ogm.error_handler";
+
+	/**
+	 * Property for setting the number of tuples which are converted into results at once when iterating over the
+	 * results of a query via {@code Query#scroll()} or {@code Query#iterate()}, unless a fetch size has been given
+	 * for the query itself. Accepts {@code int}. Defaults to 100.
+	 */
+	String QUERY_FETCH_SIZE = "hibernate.ogm.query.fetch_size";
+
+	/**
+	 * Property for specifying whether the entities loaded when iterating over the results of a query via
+	 * {@code Query#scroll()} or {@code Query#iterate()} should be evicted from the session as soon as the iteration
+	 * moves on to the next chunk of results. Accepts {@code boolean} or {@code String}s representing booleans.
+	 * Defaults to {@code false}.
+	 */
+	String QUERY_EVICT_AFTER_CHUNK = "hibernate.ogm.query.evict_after_chunk";
+
+	/**
+	 * Property for setting the number of identifiers reserved at once by sequence and table generators which do not
+	 * use a pooled optimizer (i.e. whose increment size is 1). The values of a block are handed out without accessing
+	 * the datastore and the next block is reserved in the background when the current one runs low. Can be overridden
+	 * per generator with the {@code block_size} generator parameter. Accepts {@code int} or {@code String}s
+	 * representing integers. Defaults to {@code 1}, i.e. each identifier is fetched from the datastore.
+	 */
+	String ID_BLOCK_SIZE = "hibernate.ogm.id.block_size";
+
+	/**
+	 * Property for enabling the collection of statistics about the operations invoked on the grid dialect, such as their
+	 * count and latency per entity table or association role. The statistics can be retrieved via
+	 * {@code OgmSessionFactory#getGridDialectStatistics()} and are exposed as MBean if {@code hibernate.jmx.enabled} is
+	 * set. Accepts {@code boolean} or {@code String}s representing booleans. Defaults to {@code false}.
+	 */
+	String DATASTORE_STATISTICS = "hibernate.ogm.datastore.statistics";
+
+	/**
+	 * Property for setting the maximum number of entries of the cache of tuples and associations kept in front of the
+	 * grid dialect. Only entities marked with {@code @TupleCaching} are cached; when the cache is full, the entries
+	 * accessed least frequently are evicted first. Statistics about the cache can be retrieved via
+	 * {@code OgmSessionFactory#getTupleCacheStatistics()}. Accepts {@code int} or {@code String}s representing integers.
+	 * Defaults to {@code 0}, i.e. the cache is disabled.
+	 */
+	String TUPLE_CACHE_MAX_ENTRIES = "hibernate.ogm.datastore.tuple_cache.max_entries";
 }
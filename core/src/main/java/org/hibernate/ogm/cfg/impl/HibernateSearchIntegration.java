@@ -17,7 +17,7 @@
  */
 public final class HibernateSearchIntegration {
 
-	private static final boolean searchIsAvailable = isSearchAvailable();
+	private static final boolean searchIsAvailable = checkSearchAvailability();
 	private static String MASSINDEXER_PROPERTY_KEY = null;
 	private static String MASSINDEXER_PROPERTY_VALUE = null;
 	private static String RETRIEVALSTRATEGY_PROPERTY_KEY = null;
@@ -36,7 +36,14 @@ private HibernateSearchIntegration() {
 		// Not to be instantiated
 	}
 
-	private static boolean isSearchAvailable() {
+	/**
+	 * @return {@code true} if Hibernate Search is on the class path, {@code false} otherwise
+	 */
+	public static boolean isSearchAvailable() {
+		return searchIsAvailable;
+	}
+
+	private static boolean checkSearchAvailability() {
 		try {
 			HibernateSearchIntegration.class.getClassLoader().loadClass( "org.hibernate.search.cfg.Environment" );
 			return true;
@@ -7,15 +7,13 @@
 
 package org.hibernate.ogm.datastore.document.association.impl;
 
-import java.util.regex.Pattern;
+import org.hibernate.ogm.datastore.document.impl.ColumnPath;
 
 /**
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  */
 public class DocumentHelpers {
 
-	private static final Pattern DOT_SEPARATOR_PATTERN = Pattern.compile( "\\." );
-
 	/**
 	 * If the column name is a dotted column, returns the first part.
 	 * Returns null otherwise.
@@ -24,7 +22,8 @@ public class DocumentHelpers {
 	 * @return the first part of the prefix of the column or {@code null} if the column does not have a prefix.
 	 */
 	public static String getPrefix(String column) {
-		return column.contains( "." ) ? DOT_SEPARATOR_PATTERN.split( column )[0] : null;
+		ColumnPath path = ColumnPath.of( column );
+		return path.isFlat() ? null : path.getSegment( 0 );
 	}
 
 	/**
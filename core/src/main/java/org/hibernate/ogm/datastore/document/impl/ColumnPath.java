@@ -0,0 +1,155 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.document.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The path of a (potentially nested) column within a document, e.g. {@code address.city.name}.
+ * <p>
+ * Paths are compiled once per column name and cached, so reading or writing a column of a document does not split the
+ * column name each time. The number of distinct column names is bounded by the mapped model; the cache stops growing
+ * after {@link #MAX_CACHED_PATHS} entries nevertheless, should arbitrary names be passed.
+ */
+public final class ColumnPath {
+
+	private static final int MAX_CACHED_PATHS = 10000;
+
+	private static final ConcurrentMap<String, ColumnPath> PATHS = new ConcurrentHashMap<String, ColumnPath>();
+
+	private final String column;
+	private final String[] segments;
+
+	private ColumnPath(String column, String[] segments) {
+		this.column = column;
+		this.segments = segments;
+	}
+
+	/**
+	 * Returns the path of the given column.
+	 *
+	 * @param column the dot-separated column name
+	 * @return the path of the column
+	 */
+	public static ColumnPath of(String column) {
+		ColumnPath path = PATHS.get( column );
+		if ( path == null ) {
+			path = new ColumnPath( column, split( column ) );
+			if ( PATHS.size() < MAX_CACHED_PATHS ) {
+				PATHS.putIfAbsent( column, path );
+			}
+		}
+		return path;
+	}
+
+	/*
+	 * Same as Pattern.compile( "\\." ).split( column ), i.e. trailing empty segments are dropped.
+	 */
+	private static String[] split(String column) {
+		if ( column.indexOf( '.' ) < 0 ) {
+			return new String[] { column };
+		}
+
+		List<String> segments = new ArrayList<String>();
+		int start = 0;
+		int end;
+		while ( ( end = column.indexOf( '.', start ) ) >= 0 ) {
+			segments.add( column.substring( start, end ) );
+			start = end + 1;
+		}
+		segments.add( column.substring( start ) );
+
+		int size = segments.size();
+		while ( size > 0 && segments.get( size - 1 ).isEmpty() ) {
+			size--;
+		}
+		return segments.subList( 0, size ).toArray( new String[size] );
+	}
+
+	/**
+	 * @return the column name this path was compiled from
+	 */
+	public String getColumn() {
+		return column;
+	}
+
+	/**
+	 * @return whether the column is a top-level property of the document, i.e. not nested in an embedded object
+	 */
+	public boolean isFlat() {
+		return segments.length == 1;
+	}
+
+	/**
+	 * @return the number of segments of the path
+	 */
+	public int getDepth() {
+		return segments.length;
+	}
+
+	/**
+	 * @param index the index of the segment
+	 * @return the segment at the given index
+	 */
+	public String getSegment(int index) {
+		return segments[index];
+	}
+
+	/**
+	 * @return the last segment of the path, i.e. the name of the property within its innermost embedded object
+	 */
+	public String getLeaf() {
+		return segments[segments.length - 1];
+	}
+
+	/**
+	 * Returns the value of the column in the given document.
+	 *
+	 * @param document the document, nested properties being stored in nested maps
+	 * @return the value of the column or {@code null} if the document or one of the embedded objects on the path
+	 * doesn't contain it
+	 */
+	public Object getValue(Map<?, ?> document) {
+		Map<?, ?> owner = document;
+		for ( int index = 0; index < segments.length - 1; index++ ) {
+			Object next = owner.get( segments[index] );
+			if ( !( next instanceof Map ) ) {
+				return null;
+			}
+			owner = (Map<?, ?>) next;
+		}
+		return owner.get( getLeaf() );
+	}
+
+	/**
+	 * Removes the column from the given document. Embedded objects on the path are left in place, even if empty.
+	 *
+	 * @param document the document, nested properties being stored in nested maps
+	 */
+	public void removeValue(Map<?, ?> document) {
+		Map<?, ?> owner = document;
+		for ( int index = 0; index < segments.length - 1; index++ ) {
+			Object next = owner.get( segments[index] );
+			if ( next == null ) {
+				//TODO clean up the hierarchy of empty containers
+				// no way to reach the leaf, nothing to do
+				return;
+			}
+			owner = (Map<?, ?>) next;
+		}
+		owner.remove( getLeaf() );
+	}
+
+	@Override
+	public String toString() {
+		return column;
+	}
+}
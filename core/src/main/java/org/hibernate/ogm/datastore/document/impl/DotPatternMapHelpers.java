@@ -7,7 +7,6 @@
 package org.hibernate.ogm.datastore.document.impl;
 
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import org.hibernate.ogm.datastore.document.association.impl.DocumentHelpers;
 import org.hibernate.ogm.datastore.document.options.MapStorageType;
@@ -25,8 +24,6 @@
  */
 public class DotPatternMapHelpers {
 
-	private static final Pattern DOT_SEPARATOR_PATTERN = Pattern.compile( "\\." );
-
 	/**
 	 * Remove a column from the Map
 	 *
@@ -34,28 +31,7 @@ public class DotPatternMapHelpers {
 	 * @param column the column to remove
 	 */
 	public static void resetValue(Map<?, ?> entity, String column) {
-		// fast path for non-embedded case
-		if ( !column.contains( "." ) ) {
-			entity.remove( column );
-		}
-		else {
-			String[] path = DOT_SEPARATOR_PATTERN.split( column );
-			Object field = entity;
-			int size = path.length;
-			for ( int index = 0; index < size; index++ ) {
-				String node = path[index];
-				Map parent = (Map) field;
-				field = parent.get( node );
-				if ( field == null && index < size - 1 ) {
-					//TODO clean up the hierarchy of empty containers
-					// no way to reach the leaf, nothing to do
-					return;
-				}
-				if ( index == size - 1 ) {
-					parent.remove( node );
-				}
-			}
-		}
+		ColumnPath.of( column ).removeValue( entity );
 	}
 
 	public static boolean hasField(Map entity, String dotPath) {
@@ -68,24 +44,7 @@ public static <T> T getValueOrNull(Map entity, String dotPath, Class<T> type) {
 	}
 
 	public static Object getValueOrNull(Map entity, String dotPath) {
-		// fast path for simple properties
-		if ( !dotPath.contains( "." ) ) {
-			return entity.get( dotPath );
-		}
-
-		String[] path = DOT_SEPARATOR_PATTERN.split( dotPath );
-		int size = path.length;
-
-		for ( int index = 0; index < size - 1; index++ ) {
-			Object next = entity.get( path[index] );
-			if ( next == null || !( next instanceof Map ) ) {
-				return null;
-			}
-			entity = (Map) next;
-		}
-
-		String field = path[size - 1];
-		return entity.get( field );
+		return ColumnPath.of( dotPath ).getValue( entity );
 	}
 
 	/**
@@ -46,7 +46,7 @@ public EmbeddableStateFinder(Tuple tuple, TupleContext tupleContext) {
 	 * The idea behind caching is that an embeddable contains several columns, no need to recompute its state.
 	 */
 	public String getOuterMostNullEmbeddableIfAny(String column) {
-		String[] path = column.split( "\\." );
+		ColumnPath path = ColumnPath.of( column );
 		if ( !isEmbeddableColumn( path ) ) {
 			return null;
 		}
@@ -63,11 +63,11 @@ public String getOuterMostNullEmbeddableIfAny(String column) {
 	 * and exclude the embeddables that have a non null column
 	 * because of caching, the algorithm is only run once per column parameter
 	 */
-	private String determineAndCacheOuterMostNullEmbeddable(String column, String[] path) {
-		String embeddable = path[0];
+	private String determineAndCacheOuterMostNullEmbeddable(String column, ColumnPath path) {
+		String embeddable = path.getSegment( 0 );
 		// process each embeddable from less specific to most specific
 		// exclude path leaves as it's a column and not an embeddable
-		for ( int index = 0; index < path.length - 1; index++ ) {
+		for ( int index = 0; index < path.getDepth() - 1; index++ ) {
 			Set<String> columnsOfEmbeddable = getColumnsOfEmbeddableAndComputeEmbeddableNullness( embeddable );
 
 			if ( nullEmbeddables.contains( embeddable ) ) {
@@ -81,7 +81,7 @@ private String determineAndCacheOuterMostNullEmbeddable(String column, String[]
 				maybeCacheOnNonNullEmbeddable( path, index, columnsOfEmbeddable );
 			}
 			// a more specific null embeddable might be present, carry on
-			embeddable += "." + path[index + 1];
+			embeddable += "." + path.getSegment( index + 1 );
 		}
 		return columnToOuterMostNullEmbeddableCache.get( column );
 	}
@@ -94,11 +94,11 @@ private String determineAndCacheOuterMostNullEmbeddable(String column, String[]
 	 * Only set the values for the columns sharing this specific embeddable
 	 * columns from deeper embeddables might be null
 	 */
-	private void maybeCacheOnNonNullEmbeddable(String[] path, int index, Set<String> columnsOfEmbeddable) {
-		if ( index == path.length - 2 ) {
+	private void maybeCacheOnNonNullEmbeddable(ColumnPath path, int index, Set<String> columnsOfEmbeddable) {
+		if ( index == path.getDepth() - 2 ) {
 			//right level (i.e. the most specific embeddable for the column at bay
 			for ( String columnInvolved : columnsOfEmbeddable ) {
-				if ( columnInvolved.split( "\\." ).length == path.length ) {
+				if ( ColumnPath.of( columnInvolved ).getDepth() == path.getDepth() ) {
 					// Only cache for columns from the same embeddable
 					columnToOuterMostNullEmbeddableCache.put( columnInvolved, null );
 				}
@@ -137,7 +137,7 @@ private boolean isColumnPartOfEmbeddable(String embeddable, String selectableCol
 		return selectableColumn.startsWith( embeddable );
 	}
 
-	private boolean isEmbeddableColumn(String[] path) {
-		return path.length >= 2;
+	private boolean isEmbeddableColumn(ColumnPath path) {
+		return path.getDepth() >= 2;
 	}
 }
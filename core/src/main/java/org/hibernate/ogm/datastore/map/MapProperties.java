@@ -0,0 +1,28 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+
+/**
+ * Properties for configuring OGM's simple map data store via {@code persistence.xml} or
+ * {@link org.hibernate.ogm.cfg.OgmConfiguration}.
+ */
+public final class MapProperties implements OgmProperties {
+
+	/**
+	 * Property for enabling the execution of JP-QL queries by the map data store itself, evaluating them against the
+	 * stored entities and their secondary indexes. Accepts {@code boolean} or {@code String}s representing booleans.
+	 * <p>
+	 * Defaults to {@code true} if Hibernate Search is not on the class path; otherwise queries are executed via
+	 * Hibernate Search by default.
+	 */
+	public static final String NATIVE_QUERIES = "hibernate.ogm.map.native_queries";
+
+	private MapProperties() {
+	}
+}
@@ -10,27 +10,32 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
-import javax.persistence.PessimisticLockException;
 
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.ogm.cfg.impl.HibernateSearchIntegration;
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.datastore.map.index.impl.MapIndex;
+import org.hibernate.ogm.datastore.map.index.impl.MapTableIndexes;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+import org.hibernate.ogm.datastore.map.query.parsing.impl.MapQueryParserService;
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.SchemaDefiner;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.query.spi.QueryParserService;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.service.spi.Configurable;
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
@@ -41,42 +46,60 @@
  * contents to other storage. Most important, it must be considered that different sessions won't be isolated
  * unless they avoid flushing.
  *
- * Oh and while we lock data when Hibernate ORM acquires locks, we never unlock as ORM expects locks
- * to be released by the transaction commit / rollback which does not happen here.
+ * Entities and associations are stored per table. The stored records are immutable: updates are applied on a copy
+ * which then atomically replaces the current record, so readers never see a record while it is being changed.
+ *
+ * Data is locked per entity key when Hibernate ORM acquires locks; the locks are released when the transaction
+ * acquiring them commits or rolls back.
+ *
+ * JP-QL queries are evaluated against the stored entities if enabled via {@link MapProperties#NATIVE_QUERIES}. The
+ * secondary indexes created by {@link MapSchemaDefiner} are updated together with the entities, so selective queries
+ * don't need to scan whole tables.
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public final class MapDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable {
+public final class MapDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable, Configurable {
 
 	private static final Log log = LoggerFactory.make();
 
-	private final ConcurrentMap<EntityKey,Map<String, Object>> entitiesKeyValueStorage = newConcurrentHashMap();
-	private final ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> associationsKeyValueStorage = newConcurrentHashMap();
+	private final ConcurrentMap<String, ConcurrentMap<EntityKey, Map<String, Object>>> entitiesKeyValueStorage = newConcurrentHashMap();
+	private final ConcurrentMap<String, ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>>> associationsKeyValueStorage = newConcurrentHashMap();
 	private final ConcurrentMap<IdSourceKey, AtomicInteger> sequencesStorage = newConcurrentHashMap();
-	private final ConcurrentMap<Object, ReadWriteLock> dataLocks = newConcurrentHashMap();
+	private final ConcurrentMap<String, MapTableIndexes> indexes = newConcurrentHashMap();
+	private final MapEntityLocks dataLocks = new MapEntityLocks();
 
-	/**
-	 * This simplistic data store only supports thread-bound transactions:
-	 */
-	private final ThreadLocal<Set<Lock>> acquiredLocksPerThread = new ThreadLocal<Set<Lock>>() {
-		@Override protected Set<Lock> initialValue() {
-			return new HashSet<Lock>();
-		}
-	};
+	private boolean nativeQueries;
+
+	@Override
+	public void configure(Map configurationValues) {
+		nativeQueries = new ConfigurationPropertyReader( configurationValues )
+			.property( MapProperties.NATIVE_QUERIES, boolean.class )
+			.withDefault( !HibernateSearchIntegration.isSearchAvailable() )
+			.getValue();
+	}
 
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
 		return MapDialect.class;
 	}
 
+	@Override
+	public Class<? extends QueryParserService> getDefaultQueryParserServiceType() {
+		return nativeQueries ? MapQueryParserService.class : null;
+	}
+
+	@Override
+	public Class<? extends SchemaDefiner> getSchemaDefinerType() {
+		return MapSchemaDefiner.class;
+	}
+
 	@Override
 	public void stop() {
 		entitiesKeyValueStorage.clear();
 		associationsKeyValueStorage.clear();
 		sequencesStorage.clear();
+		indexes.clear();
 		dataLocks.clear();
-		//not nice but that's the best we can do
-		acquiredLocksPerThread.remove();
 		log.debug( "Stopped and cleared MapDatastoreProvider" );
 	}
 
@@ -86,84 +109,214 @@ public void start() {
 	}
 
 	/**
-	 * Acquires a write lock on a specific key.
+	 * Acquires a write lock on a specific key, held until the transaction of the given session completes.
 	 * @param key The key to lock
 	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @param session The session acquiring the lock
 	 */
-	public void writeLock(EntityKey key, int timeout) {
-		ReadWriteLock lock = getLock( key );
-		Lock writeLock = lock.writeLock();
-		acquireLock( key, timeout, writeLock );
+	public void writeLock(EntityKey key, int timeout, SessionImplementor session) {
+		dataLocks.lock( key, true, timeout, session );
 	}
 
 	/**
-	 * Acquires a read lock on a specific key.
+	 * Acquires a read lock on a specific key, held until the transaction of the given session completes.
 	 * @param key The key to lock
 	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @param session The session acquiring the lock
 	 */
-	public void readLock(EntityKey key, int timeout) {
-		ReadWriteLock lock = getLock( key );
-		Lock readLock = lock.readLock();
-		acquireLock( key, timeout, readLock );
+	public void readLock(EntityKey key, int timeout, SessionImplementor session) {
+		dataLocks.lock( key, false, timeout, session );
 	}
 
-	private ReadWriteLock getLock(EntityKey key) {
-		ReadWriteLock newLock = new ReentrantReadWriteLock();
-		ReadWriteLock previous = dataLocks.putIfAbsent( key, newLock );
-		return previous != null ? previous : newLock;
+	/**
+	 * Stores the given record, replacing the current one if any. The map must not be changed afterwards.
+	 */
+	public void putEntity(EntityKey key, Map<String, Object> tuple) {
+		ConcurrentMap<EntityKey, Map<String, Object>> table = getEntityTable( key.getTable() );
+		MapTableIndexes tableIndexes = indexes.get( key.getTable() );
+		if ( tableIndexes == null ) {
+			table.put( key, tuple );
+		}
+		else {
+			synchronized ( tableIndexes ) {
+				Map<String, Object> previous = table.get( key );
+				tableIndexes.beforeUpdate( key, previous, tuple );
+				table.put( key, tuple );
+				tableIndexes.afterUpdate( key, previous, tuple );
+			}
+		}
 	}
 
-	private void acquireLock(EntityKey key, int timeout, Lock writeLock) {
-		try {
-			if ( timeout == -1 ) {
-				writeLock.lockInterruptibly();
-			}
-			else if ( timeout == 0 ) {
-				boolean locked = writeLock.tryLock();
-				if ( ! locked ) {
-					throw new PessimisticLockException( "lock on key " + key + " was not available" );
-				}
-			}
-			else {
-				writeLock.tryLock( timeout, TimeUnit.MILLISECONDS );
-			}
+	/**
+	 * Atomically replaces the given record of an entity with a new one, unless it has been replaced or removed
+	 * concurrently.
+	 *
+	 * @return {@code true} if the record got replaced, {@code false} otherwise
+	 */
+	public boolean replaceEntity(EntityKey key, Map<String, Object> expected, Map<String, Object> tuple) {
+		ConcurrentMap<EntityKey, Map<String, Object>> table = getEntityTable( key.getTable() );
+		MapTableIndexes tableIndexes = indexes.get( key.getTable() );
+		if ( tableIndexes == null ) {
+			return replace( table, key, expected, tuple );
 		}
-		catch ( InterruptedException e ) {
-			throw new PessimisticLockException( "timed out waiting for lock on key " + key, e );
+
+		// the indexes must be updated in the same order as the records; all the writers of the table hold the lock, so
+		// the record can't change between the check and the replacement
+		synchronized ( tableIndexes ) {
+			Map<String, Object> current = table.get( key );
+			if ( expected == null ? current != null : !expected.equals( current ) ) {
+				return false;
+			}
+			tableIndexes.beforeUpdate( key, current, tuple );
+			table.put( key, tuple );
+			tableIndexes.afterUpdate( key, current, tuple );
+			return true;
 		}
-		acquiredLocksPerThread.get().add( writeLock );
 	}
 
-	public void putEntity(EntityKey key, Map<String, Object> tuple) {
-		entitiesKeyValueStorage.put( key, tuple );
+	private static <K, V> boolean replace(ConcurrentMap<K, V> table, K key, V expected, V value) {
+		if ( expected == null ) {
+			return table.putIfAbsent( key, value ) == null;
+		}
+		else {
+			return table.replace( key, expected, value );
+		}
 	}
 
 	public Map<String, Object> getEntityTuple(EntityKey key) {
-		return entitiesKeyValueStorage.get( key );
+		Map<EntityKey, Map<String, Object>> table = entitiesKeyValueStorage.get( key.getTable() );
+		return table == null ? null : table.get( key );
 	}
 
 	public List<Map<String, Object>> getEntityTuples(EntityKey... keys) {
 		List<Map<String, Object>> results = new ArrayList<>( keys.length );
 		for ( EntityKey key : keys ) {
-			results.add( entitiesKeyValueStorage.get( key ) );
+			results.add( getEntityTuple( key ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Returns the entities of the given table satisfying the given filter, using the secondary indexes of the table
+	 * where possible.
+	 *
+	 * @param table the name of the table
+	 * @param filter the condition the entities must satisfy
+	 * @return the records of the matching entities, in no particular order
+	 */
+	public List<Map<String, Object>> getEntityTuples(String table, MapQueryFilter filter) {
+		Map<EntityKey, Map<String, Object>> entities = entitiesKeyValueStorage.get( table );
+		if ( entities == null ) {
+			return new ArrayList<>();
+		}
+
+		MapTableIndexes tableIndexes = indexes.get( table );
+		Set<EntityKey> candidates = tableIndexes == null ? null : filter.getCandidates( tableIndexes );
+
+		List<Map<String, Object>> results = new ArrayList<>();
+		if ( candidates == null ) {
+			for ( Map<String, Object> entity : entities.values() ) {
+				if ( filter.matches( entity ) ) {
+					results.add( entity );
+				}
+			}
+		}
+		else {
+			// the indexes may still contain the old values of the entities being updated, so the candidates are checked again
+			for ( EntityKey candidate : candidates ) {
+				Map<String, Object> entity = entities.get( candidate );
+				if ( entity != null && filter.matches( entity ) ) {
+					results.add( entity );
+				}
+			}
 		}
 		return results;
 	}
 
 	public void removeEntityTuple(EntityKey key) {
-		entitiesKeyValueStorage.remove( key );
+		Map<EntityKey, Map<String, Object>> table = entitiesKeyValueStorage.get( key.getTable() );
+		if ( table != null ) {
+			MapTableIndexes tableIndexes = indexes.get( key.getTable() );
+			if ( tableIndexes == null ) {
+				table.remove( key );
+			}
+			else {
+				synchronized ( tableIndexes ) {
+					Map<String, Object> previous = table.remove( key );
+					if ( previous != null ) {
+						tableIndexes.afterUpdate( key, previous, null );
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a secondary index to the given table, indexing the entities already stored.
+	 *
+	 * @param table the name of the table
+	 * @param index the index to add
+	 */
+	public void addIndex(String table, MapIndex index) {
+		MapTableIndexes tableIndexes = indexes.get( table );
+		if ( tableIndexes == null ) {
+			MapTableIndexes newIndexes = new MapTableIndexes();
+			tableIndexes = indexes.putIfAbsent( table, newIndexes );
+			if ( tableIndexes == null ) {
+				tableIndexes = newIndexes;
+			}
+		}
+
+		synchronized ( tableIndexes ) {
+			if ( tableIndexes.addIndex( index ) ) {
+				for ( Map.Entry<EntityKey, Map<String, Object>> entry : getEntityMap( table ).entrySet() ) {
+					index.add( entry.getValue().get( index.getColumn() ), entry.getKey() );
+				}
+				log.debugf( "Added index %1$s to table %2$s", index, table );
+			}
+		}
 	}
 
+	/**
+	 * Stores the given association, replacing the current one if any. The map must not be changed afterwards.
+	 */
 	public void putAssociation(AssociationKey key, Map<RowKey, Map<String, Object>> associationMap) {
-		associationsKeyValueStorage.put( key, associationMap );
+		getAssociationTable( key.getTable() ).put( key, associationMap );
+	}
+
+	/**
+	 * Atomically replaces the given association with a new one, unless it has been replaced or removed concurrently.
+	 *
+	 * @return {@code true} if the association got replaced, {@code false} otherwise
+	 */
+	public boolean replaceAssociation(AssociationKey key, Map<RowKey, Map<String, Object>> expected, Map<RowKey, Map<String, Object>> associationMap) {
+		ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> table = getAssociationTable( key.getTable() );
+		if ( expected == null ) {
+			return table.putIfAbsent( key, associationMap ) == null;
+		}
+		else {
+			return table.replace( key, expected, associationMap );
+		}
 	}
 
 	public Map<RowKey, Map<String, Object>> getAssociation(AssociationKey key) {
-		return associationsKeyValueStorage.get( key );
+		Map<AssociationKey, Map<RowKey, Map<String, Object>>> table = associationsKeyValueStorage.get( key.getTable() );
+		return table == null ? null : table.get( key );
+	}
+
+	public List<Map<RowKey, Map<String, Object>>> getAssociations(AssociationKey... keys) {
+		List<Map<RowKey, Map<String, Object>>> results = new ArrayList<>( keys.length );
+		for ( AssociationKey key : keys ) {
+			results.add( getAssociation( key ) );
+		}
+		return results;
 	}
 
 	public void removeAssociation(AssociationKey key) {
-		associationsKeyValueStorage.remove( key );
+		Map<AssociationKey, Map<RowKey, Map<String, Object>>> table = associationsKeyValueStorage.get( key.getTable() );
+		if ( table != null ) {
+			table.remove( key );
+		}
 	}
 
 	public int getSharedAtomicInteger(IdSourceKey key, int initialValue, int increment) {
@@ -172,24 +325,65 @@ public int getSharedAtomicInteger(IdSourceKey key, int initialValue, int increme
 		return previous == null ? initialValue : previous.addAndGet( increment );
 	}
 
+	/**
+	 * @param table the name of the table
+	 * @return a read-only view of the map containing the entities of the given table
+	 */
+	public Map<EntityKey, Map<String, Object>> getEntityMap(String table) {
+		Map<EntityKey, Map<String, Object>> entities = entitiesKeyValueStorage.get( table );
+		return entities == null ? Collections.<EntityKey, Map<String, Object>>emptyMap() : Collections.unmodifiableMap( entities );
+	}
+
 	/**
 	 * Meant to execute assertions in tests only
-	 * @return a read-only view of the map containing the entities
+	 * @return a read-only copy of the map containing the entities of all the tables
 	 */
 	public Map<EntityKey,Map<String, Object>> getEntityMap() {
-		return Collections.unmodifiableMap( entitiesKeyValueStorage );
+		Map<EntityKey, Map<String, Object>> entities = new HashMap<>();
+		for ( Map<EntityKey, Map<String, Object>> table : entitiesKeyValueStorage.values() ) {
+			entities.putAll( table );
+		}
+		return Collections.unmodifiableMap( entities );
 	}
 
 	/**
 	 * Meant to execute assertions in tests only
-	 * @return a read-only view of the map containing the relations between entities
+	 * @return a read-only copy of the map containing the relations between entities of all the tables
 	 */
 	public Map<AssociationKey, Map<RowKey, Map<String, Object>>> getAssociationsMap() {
-		return Collections.unmodifiableMap( associationsKeyValueStorage );
+		Map<AssociationKey, Map<RowKey, Map<String, Object>>> associations = new HashMap<>();
+		for ( Map<AssociationKey, Map<RowKey, Map<String, Object>>> table : associationsKeyValueStorage.values() ) {
+			associations.putAll( table );
+		}
+		return Collections.unmodifiableMap( associations );
 	}
 
 	@Override
 	public boolean allowsTransactionEmulation() {
 		return true;
 	}
+
+	private ConcurrentMap<EntityKey, Map<String, Object>> getEntityTable(String name) {
+		ConcurrentMap<EntityKey, Map<String, Object>> table = entitiesKeyValueStorage.get( name );
+		if ( table == null ) {
+			ConcurrentMap<EntityKey, Map<String, Object>> newTable = newConcurrentHashMap();
+			table = entitiesKeyValueStorage.putIfAbsent( name, newTable );
+			if ( table == null ) {
+				table = newTable;
+			}
+		}
+		return table;
+	}
+
+	private ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> getAssociationTable(String name) {
+		ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> table = associationsKeyValueStorage.get( name );
+		if ( table == null ) {
+			ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> newTable = newConcurrentHashMap();
+			table = associationsKeyValueStorage.putIfAbsent( name, newTable );
+			if ( table == null ) {
+				table = newTable;
+			}
+		}
+		return table;
+	}
 }
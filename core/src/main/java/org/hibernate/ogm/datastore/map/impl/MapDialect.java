@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.map.impl;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,7 +17,18 @@
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryDescriptor;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.NoOpParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.query.spi.RowSelection;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -30,6 +42,7 @@
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.util.impl.CollectionHelper;
 import org.hibernate.persister.entity.Lockable;
 
 /**
@@ -37,7 +50,7 @@
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public class MapDialect extends BaseGridDialect implements MultigetGridDialect {
+public class MapDialect extends BaseGridDialect implements MultigetGridDialect, MultigetAssociationGridDialect, PartitionedScanGridDialect, QueryableGridDialect<MapQueryDescriptor> {
 
 	private final MapDatastoreProvider provider;
 
@@ -90,15 +103,27 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
-		HashMap<String,Object> tuple = new HashMap<String,Object>();
-		provider.putEntity( key, tuple );
-		return new Tuple( new MapTupleSnapshot( tuple ) );
+		// stored upon insertOrUpdateTuple()
+		return new Tuple( new MapTupleSnapshot( Collections.<String, Object>emptyMap() ) );
 	}
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
-		Map<String,Object> entityRecord = ( (MapTupleSnapshot) tuple.getSnapshot() ).getMap();
-		MapHelpers.applyTupleOpsOnMap( tuple, entityRecord );
+		Map<String, Object> snapshot = ( (MapTupleSnapshot) tuple.getSnapshot() ).getMap();
+		Map<String, Object> current = provider.getEntityTuple( key );
+
+		// the stored records are immutable; the changes are applied on a copy of the latest record which then replaces
+		// it, unless another thread did so in the meantime
+		while ( true ) {
+			Map<String, Object> entityRecord = new HashMap<String, Object>( current != null ? current : snapshot );
+			MapHelpers.applyTupleOpsOnMap( tuple, entityRecord );
+
+			if ( provider.replaceEntity( key, current, Collections.unmodifiableMap( entityRecord ) ) ) {
+				return;
+			}
+
+			current = provider.getEntityTuple( key );
+		}
 	}
 
 	@Override
@@ -112,16 +137,37 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return associationMap == null ? null : new Association( new MapAssociationSnapshot( associationMap ) );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		List<Map<RowKey, Map<String, Object>>> mapResults = provider.getAssociations( keys );
+		List<Association> results = new ArrayList<>( mapResults.size() );
+		for ( Map<RowKey, Map<String, Object>> entry : mapResults ) {
+			results.add( entry != null ? new Association( new MapAssociationSnapshot( entry ) ) : null );
+		}
+		return results;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
-		Map<RowKey, Map<String, Object>> associationMap = new HashMap<RowKey, Map<String,Object>>();
-		provider.putAssociation( key, associationMap );
-		return new Association( new MapAssociationSnapshot( associationMap ) );
+		// stored upon insertOrUpdateAssociation()
+		return new Association( new MapAssociationSnapshot( Collections.<RowKey, Map<String, Object>>emptyMap() ) );
 	}
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
-		MapHelpers.updateAssociation( association );
+		Map<RowKey, Map<String, Object>> snapshot = ( (MapAssociationSnapshot) association.getSnapshot() ).getUnderlyingMap();
+		Map<RowKey, Map<String, Object>> current = provider.getAssociation( key );
+
+		while ( true ) {
+			Map<RowKey, Map<String, Object>> associationMap = new HashMap<RowKey, Map<String, Object>>( current != null ? current : snapshot );
+			MapHelpers.applyAssociationOpsOnMap( association, associationMap );
+
+			if ( provider.replaceAssociation( key, current, Collections.unmodifiableMap( associationMap ) ) ) {
+				return;
+			}
+
+			current = provider.getAssociation( key );
+		}
 	}
 
 	@Override
@@ -141,11 +187,92 @@ public Number nextValue(NextValueRequest request) {
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata metadata) {
-		Map<EntityKey, Map<String, Object>> entityMap = provider.getEntityMap();
-		for ( EntityKey key : entityMap.keySet() ) {
-			if ( key.getTable().equals( metadata.getTable() ) ) {
-				consumer.consume( new Tuple( new MapTupleSnapshot( entityMap.get( key ) ) ) );
+		for ( Map<String, Object> entity : provider.getEntityMap( metadata.getTable() ).values() ) {
+			consumer.consume( new Tuple( new MapTupleSnapshot( entity ) ) );
+		}
+	}
+
+	@Override
+	public List<TuplePartition> getTuplePartitions(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, int maxPartitions) {
+		List<EntityKey> keys = new ArrayList<EntityKey>( provider.getEntityMap( entityKeyMetadata.getTable() ).keySet() );
+		int numberOfPartitions = Math.max( 1, Math.min( maxPartitions, keys.size() ) );
+
+		List<TuplePartition> partitions = new ArrayList<TuplePartition>( numberOfPartitions );
+		for ( int i = 0; i < numberOfPartitions; i++ ) {
+			int fromIndex = (int) ( (long) keys.size() * i / numberOfPartitions );
+			int toIndex = (int) ( (long) keys.size() * ( i + 1 ) / numberOfPartitions );
+			partitions.add( new KeyRangePartition( keys.subList( fromIndex, toIndex ) ) );
+		}
+		return partitions;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata metadata, TuplePartition partition) {
+		Map<EntityKey, Map<String, Object>> entities = provider.getEntityMap( metadata.getTable() );
+		for ( EntityKey key : ( (KeyRangePartition) partition ).keys ) {
+			Map<String, Object> entity = entities.get( key );
+			// the entity may have been removed since the partitions were created
+			if ( entity != null ) {
+				consumer.consume( new Tuple( new MapTupleSnapshot( entity ) ) );
 			}
 		}
 	}
+
+	@Override
+	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MapQueryDescriptor> backendQuery, QueryParameters queryParameters, TupleContext tupleContext) {
+		MapQueryDescriptor query = backendQuery.getQuery();
+		List<Map<String, Object>> entities = provider.getEntityTuples( query.getTable(), query.getFilter() );
+
+		if ( !query.getOrderBy().isEmpty() ) {
+			Collections.sort( entities, query.getOrderByComparator() );
+		}
+
+		RowSelection rowSelection = queryParameters.getRowSelection();
+		int firstRow = rowSelection.getFirstRow() != null ? Math.min( rowSelection.getFirstRow(), entities.size() ) : 0;
+		int lastRow = rowSelection.getMaxRows() != null ? Math.min( firstRow + rowSelection.getMaxRows(), entities.size() ) : entities.size();
+
+		List<Tuple> tuples = new ArrayList<>( lastRow - firstRow );
+		for ( Map<String, Object> entity : entities.subList( firstRow, lastRow ) ) {
+			tuples.add( new Tuple( new MapTupleSnapshot( entity ) ) );
+		}
+		return CollectionHelper.newClosableIterator( tuples );
+	}
+
+	@Override
+	public int executeBackendUpdateQuery(BackendQuery<MapQueryDescriptor> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		throw new UnsupportedOperationException( "The map data store does not support update queries" );
+	}
+
+	@Override
+	public ParameterMetadataBuilder getParameterMetadataBuilder() {
+		return NoOpParameterMetadataBuilder.INSTANCE;
+	}
+
+	@Override
+	public MapQueryDescriptor parseNativeQuery(String nativeQuery) {
+		throw new UnsupportedOperationException( "The map data store does not support native queries" );
+	}
+
+	@Override
+	public void closePartitions(List<TuplePartition> partitions) {
+		// nothing to release, the partitions only hold keys
+	}
+
+	/**
+	 * A slice of the keys contained in a table when the partitions were created; the slices of the partitions of a
+	 * table don't overlap.
+	 */
+	private static final class KeyRangePartition implements TuplePartition {
+
+		private final List<EntityKey> keys;
+
+		private KeyRangePartition(List<EntityKey> keys) {
+			this.keys = keys;
+		}
+
+		@Override
+		public String toString() {
+			return "KeyRangePartition [" + keys.size() + " keys]";
+		}
+	}
 }
@@ -0,0 +1,215 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import static org.hibernate.ogm.util.impl.CollectionHelper.newConcurrentHashMap;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.PessimisticLockException;
+import javax.transaction.Synchronization;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * The pessimistic read and write locks on the entities of the {@link MapDatastoreProvider}.
+ * <p>
+ * Locks are held per entity key by the transaction running in the current thread, and released when that transaction
+ * completes. Without a running transaction, a lock is released as soon as it is acquired, as nothing would release it
+ * later. A lock is only kept while held, so the number of locks is bounded by the number of locked entities.
+ */
+final class MapEntityLocks {
+
+	private final ConcurrentMap<EntityKey, KeyLock> locks = newConcurrentHashMap();
+
+	/**
+	 * This simplistic data store only supports thread-bound transactions: the owner of the locks acquired by the
+	 * transaction running in the current thread.
+	 */
+	private final ThreadLocal<LockOwner> currentOwner = new ThreadLocal<LockOwner>();
+
+	/**
+	 * Acquires a lock on the given key for the transaction of the given session. If the session has no transaction in
+	 * progress, the lock is released right after its acquisition.
+	 *
+	 * @param key the key to lock
+	 * @param write whether to acquire a write lock or a read lock
+	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 * @param session the session acquiring the lock
+	 */
+	void lock(EntityKey key, boolean write, int timeout, SessionImplementor session) {
+		boolean inTransaction = session.isTransactionInProgress();
+		LockOwner owner = inTransaction ? getOwner( session ) : new LockOwner();
+		long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeout ) : 0;
+
+		while ( true ) {
+			KeyLock lock = locks.get( key );
+			if ( lock == null ) {
+				KeyLock newLock = new KeyLock( key );
+				lock = locks.putIfAbsent( key, newLock );
+				if ( lock == null ) {
+					lock = newLock;
+				}
+			}
+
+			if ( lock.acquire( owner, write, timeout, deadline ) ) {
+				if ( inTransaction ) {
+					owner.add( lock );
+				}
+				else {
+					lock.release( owner );
+				}
+				return;
+			}
+			// the lock got released and evicted in the meantime, try again with a new one
+		}
+	}
+
+	/**
+	 * Releases all the locks; meant to be used when stopping the datastore.
+	 */
+	void clear() {
+		locks.clear();
+		currentOwner.remove();
+	}
+
+	private LockOwner getOwner(SessionImplementor session) {
+		LockOwner owner = currentOwner.get();
+		if ( owner == null || owner.isReleased() ) {
+			owner = new LockOwner();
+			session.getTransactionCoordinator().getLocalSynchronizations().registerSynchronization( owner );
+			currentOwner.set( owner );
+		}
+		return owner;
+	}
+
+	/**
+	 * The locks held by a transaction, released upon its completion, be it a commit or a rollback.
+	 */
+	private final class LockOwner implements Synchronization {
+
+		private final List<KeyLock> heldLocks = new ArrayList<KeyLock>();
+		private boolean released;
+
+		private synchronized void add(KeyLock lock) {
+			heldLocks.add( lock );
+		}
+
+		private synchronized boolean isReleased() {
+			return released;
+		}
+
+		@Override
+		public void beforeCompletion() {
+			// nothing to do
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			List<KeyLock> toRelease;
+			synchronized ( this ) {
+				released = true;
+				toRelease = new ArrayList<KeyLock>( heldLocks );
+				heldLocks.clear();
+			}
+			for ( KeyLock lock : toRelease ) {
+				lock.release( this );
+			}
+			// the transaction may be completed by another thread, e.g. upon a timeout
+			if ( currentOwner.get() == this ) {
+				currentOwner.remove();
+			}
+		}
+	}
+
+	/**
+	 * The lock on a single key. Unlike a {@link java.util.concurrent.locks.ReentrantReadWriteLock}, it is held by a
+	 * transaction rather than a thread, so it can be released by whichever thread completes the transaction.
+	 */
+	private final class KeyLock {
+
+		private final EntityKey key;
+		private final Set<LockOwner> readers = new HashSet<LockOwner>();
+		private LockOwner writer;
+		private boolean evicted;
+
+		private KeyLock(EntityKey key) {
+			this.key = key;
+		}
+
+		/**
+		 * @return {@code true} if the lock got acquired, {@code false} if this lock has been evicted and a new one must
+		 * be used instead
+		 */
+		private synchronized boolean acquire(LockOwner owner, boolean write, int timeout, long deadline) {
+			if ( write && timeout == -1 && readers.contains( owner ) && readers.size() > 1 ) {
+				// Waiting for the other readers to release the key could wait forever if one of them upgrades as well
+				throw new PessimisticLockException( "lock on key " + key + " cannot be upgraded from read to write while other transactions read it" );
+			}
+
+			try {
+				while ( !evicted && !isAvailable( owner, write ) ) {
+					if ( timeout == 0 ) {
+						throw new PessimisticLockException( "lock on key " + key + " was not available" );
+					}
+					else if ( timeout == -1 ) {
+						wait();
+					}
+					else {
+						long remaining = deadline - System.nanoTime();
+						if ( remaining <= 0 ) {
+							throw new PessimisticLockException( "timed out waiting for lock on key " + key );
+						}
+						TimeUnit.NANOSECONDS.timedWait( this, remaining );
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new PessimisticLockException( "timed out waiting for lock on key " + key, e );
+			}
+
+			if ( evicted ) {
+				return false;
+			}
+			if ( write ) {
+				writer = owner;
+			}
+			else {
+				readers.add( owner );
+			}
+			return true;
+		}
+
+		private boolean isAvailable(LockOwner owner, boolean write) {
+			if ( writer != null && writer != owner ) {
+				return false;
+			}
+			// a transaction reading the key may upgrade its lock once it is the only reader
+			return !write || readers.isEmpty() || ( readers.size() == 1 && readers.contains( owner ) );
+		}
+
+		private synchronized void release(LockOwner owner) {
+			if ( writer == owner ) {
+				writer = null;
+			}
+			readers.remove( owner );
+
+			if ( writer == null && readers.isEmpty() ) {
+				evicted = true;
+				locks.remove( key, this );
+			}
+			notifyAll();
+		}
+	}
+}
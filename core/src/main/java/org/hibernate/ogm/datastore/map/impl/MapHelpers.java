@@ -61,6 +61,10 @@ public static Map<String, Object> associationRowToMap(Tuple associationRow) {
 
 	public static void updateAssociation(Association association) {
 		Map<RowKey, Map<String, Object>> underlyingMap = ( (MapAssociationSnapshot) association.getSnapshot() ).getUnderlyingMap();
+		applyAssociationOpsOnMap( association, underlyingMap );
+	}
+
+	public static void applyAssociationOpsOnMap(Association association, Map<RowKey, Map<String, Object>> underlyingMap) {
 		for ( AssociationOperation action : association.getOperations() ) {
 			switch ( action.getType() ) {
 				case CLEAR:
@@ -36,6 +36,6 @@ public void lock(Serializable id, Object version, Object object, int timeout, Se
 				identifierGridType,
 				id,
 				session );
-		dataStore.readLock( key, timeout );
+		dataStore.readLock( key, timeout, session );
 	}
 }
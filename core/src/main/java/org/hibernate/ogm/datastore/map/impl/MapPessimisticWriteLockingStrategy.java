@@ -52,7 +52,7 @@ public void lock(Serializable id, Object version, Object object, int timeout, Se
 				identifierGridType,
 				id,
 				session );
-		dataStore.writeLock( key, timeout );
+		dataStore.writeLock( key, timeout, session );
 		// FIXME check the version number as well and raise an optimistic lock exception if there is an issue JPA 2 spec: 3.4.4.2
 		// (Comment by Emmanuel)
 	}
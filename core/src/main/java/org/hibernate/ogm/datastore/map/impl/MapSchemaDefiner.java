@@ -0,0 +1,122 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.naming.NamingHelper;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
+import org.hibernate.mapping.UniqueKey;
+import org.hibernate.ogm.datastore.map.index.impl.MapIndexType;
+import org.hibernate.ogm.datastore.spi.BaseSchemaDefiner;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.options.shared.impl.IndexOptionsOption;
+import org.hibernate.ogm.options.shared.spi.IndexOptions;
+import org.hibernate.ogm.options.spi.OptionsService;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.ogm.util.impl.StringHelper;
+
+/**
+ * Creates the secondary indexes of the map data store for the indexes and unique constraints of the mapped tables.
+ * <p>
+ * The type of an index is given through the options of an {@link org.hibernate.ogm.options.shared.IndexOption}: either
+ * {@code hash} (the default) or {@code sorted}. Indexes on several columns only index their first column.
+ */
+public class MapSchemaDefiner extends BaseSchemaDefiner {
+
+	private static final Log log = LoggerFactory.make();
+
+	@Override
+	public void initializeSchema(SchemaDefinitionContext context) {
+		MapDatastoreProvider provider = (MapDatastoreProvider) context.getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+		OptionsService optionsService = context.getSessionFactory().getServiceRegistry().getService( OptionsService.class );
+		Map<String, Class<?>> tableEntityTypeMapping = context.getTableEntityTypeMapping();
+
+		for ( Namespace namespace : context.getDatabase().getNamespaces() ) {
+			for ( Table table : namespace.getTables() ) {
+				if ( table.isPhysicalTable() ) {
+					Class<?> entityType = tableEntityTypeMapping.get( table.getName() );
+					if ( entityType == null ) {
+						continue;
+					}
+
+					IndexOptions indexOptions = getIndexOptions( optionsService, entityType );
+
+					createIndexesForUniqueColumns( provider, table, indexOptions );
+					createIndexesForUniqueKeys( provider, table, indexOptions );
+					createIndexesForIndexes( provider, table, indexOptions );
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void createIndexesForUniqueColumns(MapDatastoreProvider provider, Table table, IndexOptions indexOptions) {
+		Iterator<Column> columnIterator = table.getColumnIterator();
+		while ( columnIterator.hasNext() ) {
+			Column column = columnIterator.next();
+			if ( column.isUnique() ) {
+				String indexName = NamingHelper.INSTANCE.generateHashedConstraintName(
+						"UK_",
+						table.getNameIdentifier(),
+						Identifier.toIdentifier( column.getName() ) );
+				createIndex( provider, table, indexOptions, indexName, column );
+			}
+		}
+	}
+
+	private void createIndexesForUniqueKeys(MapDatastoreProvider provider, Table table, IndexOptions indexOptions) {
+		Iterator<UniqueKey> keys = table.getUniqueKeyIterator();
+		while ( keys.hasNext() ) {
+			UniqueKey uniqueKey = keys.next();
+			Iterator<Column> columns = uniqueKey.getColumnIterator();
+			if ( columns.hasNext() ) {
+				createIndex( provider, table, indexOptions, uniqueKey.getName(), columns.next() );
+			}
+		}
+	}
+
+	private void createIndexesForIndexes(MapDatastoreProvider provider, Table table, IndexOptions indexOptions) {
+		Iterator<Index> indexes = table.getIndexIterator();
+		while ( indexes.hasNext() ) {
+			Index index = indexes.next();
+			Iterator<Column> columns = index.getColumnIterator();
+			if ( columns.hasNext() ) {
+				createIndex( provider, table, indexOptions, index.getName(), columns.next() );
+			}
+		}
+	}
+
+	private void createIndex(MapDatastoreProvider provider, Table table, IndexOptions indexOptions, String indexName, Column column) {
+		MapIndexType type = MapIndexType.HASH;
+
+		String options = indexOptions.getOptionForIndex( indexName ).getOptions();
+		if ( !StringHelper.isNullOrEmptyString( options ) ) {
+			type = MapIndexType.fromName( options );
+			if ( type == null ) {
+				log.unknownMapIndexType( table.getName(), indexName, options );
+				type = MapIndexType.HASH;
+			}
+		}
+
+		provider.addIndex( table.getName(), type.createIndex( indexName, column.getName() ) );
+	}
+
+	private IndexOptions getIndexOptions(OptionsService optionsService, Class<?> entityType) {
+		IndexOptions options = optionsService.context().getEntityOptions( entityType ).getUnique( IndexOptionsOption.class );
+		if ( options == null ) {
+			options = new IndexOptions();
+		}
+		return options;
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.index.impl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.ogm.datastore.map.query.impl.MapValueComparator;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * A {@link MapIndex} based on a hash map, supporting lookups by equality only.
+ */
+public class MapHashIndex extends MapIndex {
+
+	public MapHashIndex(String name, String column) {
+		super( name, column, new ConcurrentHashMap<Object, Set<EntityKey>>() );
+	}
+
+	/**
+	 * Arrays don't implement {@code equals()} and {@code hashCode()} based on their elements.
+	 */
+	@Override
+	protected boolean accepts(Object value) {
+		return !value.getClass().isArray();
+	}
+
+	/**
+	 * Numbers of different types are equal for the queries if their numeric values are (see
+	 * {@link MapValueComparator#isEqual(Object, Object)}), so they are stored as {@code Long} if integral and as
+	 * {@code Double} otherwise.
+	 */
+	@Override
+	protected Object toEntry(Object value) {
+		if ( !( value instanceof Number ) ) {
+			return value;
+		}
+		Number number = (Number) value;
+		if ( value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ) {
+			return number.longValue();
+		}
+		double doubleValue = number.doubleValue();
+		long longValue = (long) doubleValue;
+		return longValue == doubleValue ? (Object) longValue : (Object) doubleValue;
+	}
+}
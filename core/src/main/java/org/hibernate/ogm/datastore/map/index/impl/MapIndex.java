@@ -0,0 +1,114 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.index.impl;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * A secondary index of the map data store, mapping the values of one column to the keys of the entities having that
+ * value. {@code null} values are not indexed.
+ * <p>
+ * The index is changed by one thread at a time only, while it may be read concurrently. An index which comes across a
+ * value it cannot handle becomes unusable; queries then fall back to scanning the table.
+ */
+public abstract class MapIndex {
+
+	private final String name;
+	private final String column;
+	private final ConcurrentMap<Object, Set<EntityKey>> entries;
+	private volatile boolean usable = true;
+
+	protected MapIndex(String name, String column, ConcurrentMap<Object, Set<EntityKey>> entries) {
+		this.name = name;
+		this.column = column;
+		this.entries = entries;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getColumn() {
+		return column;
+	}
+
+	public boolean isUsable() {
+		return usable;
+	}
+
+	public void add(Object value, EntityKey key) {
+		if ( value == null || !usable ) {
+			return;
+		}
+		if ( !accepts( value ) ) {
+			usable = false;
+			entries.clear();
+			return;
+		}
+
+		Object entry = toEntry( value );
+		Set<EntityKey> keys = entries.get( entry );
+		if ( keys == null ) {
+			keys = Collections.newSetFromMap( new ConcurrentHashMap<EntityKey, Boolean>() );
+			entries.put( entry, keys );
+		}
+		keys.add( key );
+	}
+
+	public void remove(Object value, EntityKey key) {
+		if ( value == null || !usable ) {
+			return;
+		}
+
+		Object entry = toEntry( value );
+		Set<EntityKey> keys = entries.get( entry );
+		if ( keys != null ) {
+			keys.remove( key );
+			if ( keys.isEmpty() ) {
+				entries.remove( entry );
+			}
+		}
+	}
+
+	/**
+	 * @return the keys of the entities with the given value, or {@code null} if the index is not usable
+	 */
+	public Set<EntityKey> getEqual(Object value) {
+		if ( !usable ) {
+			return null;
+		}
+		Set<EntityKey> keys = entries.get( toEntry( value ) );
+		return keys == null ? Collections.<EntityKey>emptySet() : Collections.unmodifiableSet( keys );
+	}
+
+	protected ConcurrentMap<Object, Set<EntityKey>> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Whether the given non-null value can be stored in this index.
+	 */
+	protected abstract boolean accepts(Object value);
+
+	/**
+	 * Returns the entry under which the given non-null value is stored; values considered equal by the queries must
+	 * share the same entry.
+	 */
+	protected Object toEntry(Object value) {
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [name=" + name + ", column=" + column + ", usable=" + usable + "]";
+	}
+}
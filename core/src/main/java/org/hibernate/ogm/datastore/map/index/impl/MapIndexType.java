@@ -0,0 +1,50 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.index.impl;
+
+/**
+ * The kinds of secondary indexes supported by the map data store. The type of an index is given as the options of its
+ * {@link org.hibernate.ogm.options.shared.IndexOption}, e.g. {@code @IndexOption(forIndex = "title_idx", options = "sorted")}.
+ */
+public enum MapIndexType {
+
+	/**
+	 * Supports lookups by equality, the default.
+	 */
+	HASH {
+
+		@Override
+		public MapIndex createIndex(String name, String column) {
+			return new MapHashIndex( name, column );
+		}
+	},
+
+	/**
+	 * Supports lookups by equality and by ranges of values.
+	 */
+	SORTED {
+
+		@Override
+		public MapIndex createIndex(String name, String column) {
+			return new MapSortedIndex( name, column );
+		}
+	};
+
+	public abstract MapIndex createIndex(String name, String column);
+
+	/**
+	 * @return the index type with the given name (case-insensitive), or {@code null} if there is no such type
+	 */
+	public static MapIndexType fromName(String name) {
+		for ( MapIndexType type : values() ) {
+			if ( type.name().equalsIgnoreCase( name.trim() ) ) {
+				return type;
+			}
+		}
+		return null;
+	}
+}
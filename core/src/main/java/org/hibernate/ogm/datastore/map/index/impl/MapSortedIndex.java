@@ -0,0 +1,66 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.index.impl;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.hibernate.ogm.datastore.map.query.impl.MapValueComparator;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * A {@link MapIndex} based on a skip list, supporting lookups by equality and by ranges of values.
+ */
+public class MapSortedIndex extends MapIndex {
+
+	public MapSortedIndex(String name, String column) {
+		super( name, column, new ConcurrentSkipListMap<Object, Set<EntityKey>>( MapValueComparator.INSTANCE ) );
+	}
+
+	/**
+	 * Returns the keys of the entities with a value within the given range.
+	 *
+	 * @param lower the lower bound of the range; {@code null} if the range has no lower bound
+	 * @param lowerInclusive whether the lower bound is part of the range
+	 * @param upper the upper bound of the range; {@code null} if the range has no upper bound
+	 * @param upperInclusive whether the upper bound is part of the range
+	 * @return the keys of the matching entities, or {@code null} if the index is not usable
+	 */
+	public Set<EntityKey> getRange(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+		if ( !isUsable() || !accepts( lower ) || !accepts( upper ) ) {
+			return null;
+		}
+
+		ConcurrentNavigableMap<Object, Set<EntityKey>> range = (ConcurrentNavigableMap<Object, Set<EntityKey>>) getEntries();
+		if ( lower != null && upper != null ) {
+			if ( MapValueComparator.INSTANCE.compare( lower, upper ) > 0 ) {
+				return new HashSet<EntityKey>();
+			}
+			range = range.subMap( lower, lowerInclusive, upper, upperInclusive );
+		}
+		else if ( lower != null ) {
+			range = range.tailMap( lower, lowerInclusive );
+		}
+		else if ( upper != null ) {
+			range = range.headMap( upper, upperInclusive );
+		}
+
+		Set<EntityKey> keys = new HashSet<EntityKey>();
+		for ( Map.Entry<Object, Set<EntityKey>> entry : range.entrySet() ) {
+			keys.addAll( entry.getValue() );
+		}
+		return keys;
+	}
+
+	@Override
+	protected boolean accepts(Object value) {
+		return value == null || MapValueComparator.isComparable( value );
+	}
+}
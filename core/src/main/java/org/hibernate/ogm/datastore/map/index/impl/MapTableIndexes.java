@@ -0,0 +1,117 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.index.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.ogm.datastore.map.query.impl.MapValueComparator;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.util.impl.CollectionHelper;
+
+/**
+ * The secondary indexes of one table of the map data store.
+ * <p>
+ * Callers must synchronize on this object when changing the indexes or the records of the table, so they are updated
+ * in the same order as the table. Lookups don't need to be synchronized: the new values of an entity are indexed before
+ * its record is changed and the old ones are only removed afterwards, so a lookup never misses an entity whose record
+ * matched when the lookup started.
+ */
+public class MapTableIndexes {
+
+	private final List<MapIndex> indexes = new CopyOnWriteArrayList<MapIndex>();
+	private final ConcurrentMap<String, MapHashIndex> hashIndexes = CollectionHelper.newConcurrentHashMap();
+	private final ConcurrentMap<String, MapSortedIndex> sortedIndexes = CollectionHelper.newConcurrentHashMap();
+
+	/**
+	 * Registers the given index; an index of the same type on the same column makes it redundant.
+	 *
+	 * @return {@code true} if the index has been registered, {@code false} if it is redundant
+	 */
+	public boolean addIndex(MapIndex index) {
+		boolean added;
+		if ( index instanceof MapSortedIndex ) {
+			added = sortedIndexes.putIfAbsent( index.getColumn(), (MapSortedIndex) index ) == null;
+		}
+		else {
+			added = hashIndexes.putIfAbsent( index.getColumn(), (MapHashIndex) index ) == null;
+		}
+		if ( added ) {
+			indexes.add( index );
+		}
+		return added;
+	}
+
+	/**
+	 * Adds the new values of an entity to the indexes; to be invoked before the record of the entity is changed, so
+	 * that concurrent lookups find the entity under its old or its new values at any time.
+	 *
+	 * @param key the key of the entity
+	 * @param oldEntity the current record of the entity; {@code null} if it is inserted
+	 * @param newEntity the new record of the entity; {@code null} if it is removed
+	 * @see #afterUpdate(EntityKey, Map, Map)
+	 */
+	public void beforeUpdate(EntityKey key, Map<String, Object> oldEntity, Map<String, Object> newEntity) {
+		for ( MapIndex index : indexes ) {
+			Object oldValue = oldEntity == null ? null : oldEntity.get( index.getColumn() );
+			Object newValue = newEntity == null ? null : newEntity.get( index.getColumn() );
+
+			if ( !MapValueComparator.isEqual( oldValue, newValue ) ) {
+				index.add( newValue, key );
+			}
+		}
+	}
+
+	/**
+	 * Removes the old values of an entity from the indexes; to be invoked once the record of the entity has been
+	 * changed.
+	 *
+	 * @param key the key of the entity
+	 * @param oldEntity the previous record of the entity; {@code null} if it has been inserted
+	 * @param newEntity the new record of the entity; {@code null} if it has been removed
+	 * @see #beforeUpdate(EntityKey, Map, Map)
+	 */
+	public void afterUpdate(EntityKey key, Map<String, Object> oldEntity, Map<String, Object> newEntity) {
+		for ( MapIndex index : indexes ) {
+			Object oldValue = oldEntity == null ? null : oldEntity.get( index.getColumn() );
+			Object newValue = newEntity == null ? null : newEntity.get( index.getColumn() );
+
+			if ( !MapValueComparator.isEqual( oldValue, newValue ) ) {
+				index.remove( oldValue, key );
+			}
+		}
+	}
+
+	/**
+	 * @return the keys of the entities with the given column value, or {@code null} if there is no usable index on
+	 * the column
+	 */
+	public Set<EntityKey> getEqual(String column, Object value) {
+		if ( value == null ) {
+			return null;
+		}
+
+		MapIndex index = hashIndexes.get( column );
+		if ( index == null || !index.isUsable() ) {
+			index = sortedIndexes.get( column );
+		}
+		return index == null ? null : index.getEqual( value );
+	}
+
+	/**
+	 * @return the keys of the entities with a column value within the given range, or {@code null} if there is no
+	 * usable sorted index on the column
+	 * @see MapSortedIndex#getRange(Object, boolean, Object, boolean)
+	 */
+	public Set<EntityKey> getRange(String column, Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+		MapSortedIndex index = sortedIndexes.get( column );
+		return index == null ? null : index.getRange( lower, lowerInclusive, upper, upperInclusive );
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes a query to be executed against the map data store: the entities of one table satisfying a
+ * {@link MapQueryFilter}, optionally sorted.
+ */
+public class MapQueryDescriptor implements Serializable {
+
+	private final String table;
+	private final MapQueryFilter filter;
+	private final List<SortField> orderBy;
+
+	public MapQueryDescriptor(String table, MapQueryFilter filter, List<SortField> orderBy) {
+		this.table = table;
+		this.filter = filter;
+		this.orderBy = orderBy == null ? Collections.<SortField>emptyList() : new ArrayList<SortField>( orderBy );
+	}
+
+	public String getTable() {
+		return table;
+	}
+
+	public MapQueryFilter getFilter() {
+		return filter;
+	}
+
+	public List<SortField> getOrderBy() {
+		return Collections.unmodifiableList( orderBy );
+	}
+
+	/**
+	 * @return a comparator sorting entities as given by the order by clause of this query
+	 */
+	public Comparator<Map<String, Object>> getOrderByComparator() {
+		return new OrderByComparator( orderBy );
+	}
+
+	@Override
+	public String toString() {
+		return "MapQueryDescriptor [table=" + table + ", filter=" + filter + ", orderBy=" + orderBy + "]";
+	}
+
+	/**
+	 * A column the result of a query is sorted by.
+	 */
+	public static class SortField implements Serializable {
+
+		private final String column;
+		private final boolean ascending;
+
+		public SortField(String column, boolean ascending) {
+			this.column = column;
+			this.ascending = ascending;
+		}
+
+		public String getColumn() {
+			return column;
+		}
+
+		public boolean isAscending() {
+			return ascending;
+		}
+
+		@Override
+		public String toString() {
+			return column + ( ascending ? " asc" : " desc" );
+		}
+	}
+
+	/**
+	 * Compares entities by the given sort fields; {@code null} values come first in ascending order.
+	 */
+	private static class OrderByComparator implements Comparator<Map<String, Object>> {
+
+		private final List<SortField> orderBy;
+
+		private OrderByComparator(List<SortField> orderBy) {
+			this.orderBy = orderBy;
+		}
+
+		@Override
+		public int compare(Map<String, Object> entity1, Map<String, Object> entity2) {
+			for ( SortField sortField : orderBy ) {
+				int comparison = compareValues( entity1.get( sortField.getColumn() ), entity2.get( sortField.getColumn() ) );
+				if ( comparison != 0 ) {
+					return sortField.isAscending() ? comparison : -comparison;
+				}
+			}
+			return 0;
+		}
+
+		private int compareValues(Object value1, Object value2) {
+			if ( value1 == null ) {
+				return value2 == null ? 0 : -1;
+			}
+			else if ( value2 == null ) {
+				return 1;
+			}
+			return MapValueComparator.INSTANCE.compare( value1, value2 );
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.impl;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.map.index.impl.MapTableIndexes;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * A condition on the entities of one table of the map data store, created from the where clause of a query.
+ *
+ * @see MapQueryFilters
+ */
+public interface MapQueryFilter extends Serializable {
+
+	/**
+	 * Whether the given entity satisfies this filter.
+	 *
+	 * @param entity the record of the entity
+	 * @return {@code true} if the entity satisfies this filter, {@code false} otherwise
+	 */
+	boolean matches(Map<String, Object> entity);
+
+	/**
+	 * Narrows down the entities possibly satisfying this filter using the given secondary indexes. The candidates still
+	 * need to be checked with {@link #matches(Map)}.
+	 *
+	 * @param indexes the indexes of the table
+	 * @return the keys of the entities possibly satisfying this filter, or {@code null} if the whole table needs to be
+	 * scanned
+	 */
+	Set<EntityKey> getCandidates(MapTableIndexes indexes);
+}
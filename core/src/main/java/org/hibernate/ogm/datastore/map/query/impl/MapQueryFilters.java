@@ -0,0 +1,371 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.hibernate.ogm.datastore.map.index.impl.MapTableIndexes;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * Creates the {@link MapQueryFilter}s supported by the map data store.
+ * <p>
+ * As in SQL, an entity without a value for a column doesn't satisfy any comparison on that column.
+ */
+public final class MapQueryFilters {
+
+	private MapQueryFilters() {
+	}
+
+	public static MapQueryFilter all() {
+		return AllFilter.INSTANCE;
+	}
+
+	public static MapQueryFilter equalTo(String column, Object value) {
+		return new EqualToFilter( column, value );
+	}
+
+	/**
+	 * @param column the column to compare
+	 * @param lower the lower bound of the range; {@code null} if the range has no lower bound
+	 * @param lowerInclusive whether the lower bound is part of the range
+	 * @param upper the upper bound of the range; {@code null} if the range has no upper bound
+	 * @param upperInclusive whether the upper bound is part of the range
+	 * @return a filter matching the entities with a column value within the given range
+	 */
+	public static MapQueryFilter range(String column, Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+		return new RangeFilter( column, lower, lowerInclusive, upper, upperInclusive );
+	}
+
+	public static MapQueryFilter in(String column, List<Object> values) {
+		return new InFilter( column, values );
+	}
+
+	public static MapQueryFilter isNull(String column) {
+		return new IsNullFilter( column );
+	}
+
+	public static MapQueryFilter like(String column, Pattern pattern) {
+		return new LikeFilter( column, pattern );
+	}
+
+	public static MapQueryFilter not(MapQueryFilter filter) {
+		return new NotFilter( filter );
+	}
+
+	public static MapQueryFilter and(List<MapQueryFilter> filters) {
+		return new AndFilter( filters );
+	}
+
+	public static MapQueryFilter or(List<MapQueryFilter> filters) {
+		return new OrFilter( filters );
+	}
+
+	private static final class AllFilter implements MapQueryFilter {
+
+		private static final AllFilter INSTANCE = new AllFilter();
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			return true;
+		}
+
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			return null;
+		}
+
+		private Object readResolve() {
+			return INSTANCE;
+		}
+
+		@Override
+		public String toString() {
+			return "ALL";
+		}
+	}
+
+	private static final class EqualToFilter implements MapQueryFilter {
+
+		private final String column;
+		private final Object value;
+
+		private EqualToFilter(String column, Object value) {
+			this.column = column;
+			this.value = value;
+		}
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			Object actual = entity.get( column );
+			return actual != null && MapValueComparator.isEqual( actual, value );
+		}
+
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			return indexes.getEqual( column, value );
+		}
+
+		@Override
+		public String toString() {
+			return column + " = " + value;
+		}
+	}
+
+	private static final class RangeFilter implements MapQueryFilter {
+
+		private final String column;
+		private final Object lower;
+		private final boolean lowerInclusive;
+		private final Object upper;
+		private final boolean upperInclusive;
+
+		private RangeFilter(String column, Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive) {
+			this.column = column;
+			this.lower = lower;
+			this.lowerInclusive = lowerInclusive;
+			this.upper = upper;
+			this.upperInclusive = upperInclusive;
+		}
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			Object actual = entity.get( column );
+			if ( actual == null ) {
+				return false;
+			}
+			if ( lower != null ) {
+				int comparison = MapValueComparator.INSTANCE.compare( actual, lower );
+				if ( comparison < 0 || ( comparison == 0 && !lowerInclusive ) ) {
+					return false;
+				}
+			}
+			if ( upper != null ) {
+				int comparison = MapValueComparator.INSTANCE.compare( actual, upper );
+				if ( comparison > 0 || ( comparison == 0 && !upperInclusive ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			return indexes.getRange( column, lower, lowerInclusive, upper, upperInclusive );
+		}
+
+		@Override
+		public String toString() {
+			return column + " in " + ( lowerInclusive ? "[" : "(" ) + lower + ", " + upper + ( upperInclusive ? "]" : ")" );
+		}
+	}
+
+	private static final class InFilter implements MapQueryFilter {
+
+		private final String column;
+		private final List<Object> values;
+
+		private InFilter(String column, List<Object> values) {
+			this.column = column;
+			this.values = new ArrayList<Object>( values );
+		}
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			Object actual = entity.get( column );
+			if ( actual == null ) {
+				return false;
+			}
+			for ( Object value : values ) {
+				if ( MapValueComparator.isEqual( actual, value ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			Set<EntityKey> candidates = new HashSet<EntityKey>();
+			for ( Object value : values ) {
+				Set<EntityKey> keys = indexes.getEqual( column, value );
+				if ( keys == null ) {
+					return null;
+				}
+				candidates.addAll( keys );
+			}
+			return candidates;
+		}
+
+		@Override
+		public String toString() {
+			return column + " in " + values;
+		}
+	}
+
+	private static final class IsNullFilter implements MapQueryFilter {
+
+		private final String column;
+
+		private IsNullFilter(String column) {
+			this.column = column;
+		}
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			return entity.get( column ) == null;
+		}
+
+		/**
+		 * {@code null} values are not indexed.
+		 */
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			return null;
+		}
+
+		@Override
+		public String toString() {
+			return column + " is null";
+		}
+	}
+
+	private static final class LikeFilter implements MapQueryFilter {
+
+		private final String column;
+		private final Pattern pattern;
+
+		private LikeFilter(String column, Pattern pattern) {
+			this.column = column;
+			this.pattern = pattern;
+		}
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			Object actual = entity.get( column );
+			return actual != null && pattern.matcher( actual.toString() ).matches();
+		}
+
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			return null;
+		}
+
+		@Override
+		public String toString() {
+			return column + " like " + pattern;
+		}
+	}
+
+	private static final class NotFilter implements MapQueryFilter {
+
+		private final MapQueryFilter filter;
+
+		private NotFilter(MapQueryFilter filter) {
+			this.filter = filter;
+		}
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			return !filter.matches( entity );
+		}
+
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			return null;
+		}
+
+		@Override
+		public String toString() {
+			return "not (" + filter + ")";
+		}
+	}
+
+	private static final class AndFilter implements MapQueryFilter {
+
+		private final List<MapQueryFilter> filters;
+
+		private AndFilter(List<MapQueryFilter> filters) {
+			this.filters = new ArrayList<MapQueryFilter>( filters );
+		}
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			for ( MapQueryFilter filter : filters ) {
+				if ( !filter.matches( entity ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Any of the filters narrows down the candidates, so the most selective one is used.
+		 */
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			Set<EntityKey> candidates = null;
+			for ( MapQueryFilter filter : filters ) {
+				Set<EntityKey> keys = filter.getCandidates( indexes );
+				if ( keys != null && ( candidates == null || keys.size() < candidates.size() ) ) {
+					candidates = keys;
+				}
+			}
+			return candidates;
+		}
+
+		@Override
+		public String toString() {
+			return "and " + filters;
+		}
+	}
+
+	private static final class OrFilter implements MapQueryFilter {
+
+		private final List<MapQueryFilter> filters;
+
+		private OrFilter(List<MapQueryFilter> filters) {
+			this.filters = new ArrayList<MapQueryFilter>( filters );
+		}
+
+		@Override
+		public boolean matches(Map<String, Object> entity) {
+			for ( MapQueryFilter filter : filters ) {
+				if ( filter.matches( entity ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * The candidates of all the filters are needed; if one of them requires a scan, so does the disjunction.
+		 */
+		@Override
+		public Set<EntityKey> getCandidates(MapTableIndexes indexes) {
+			Set<EntityKey> candidates = new HashSet<EntityKey>();
+			for ( MapQueryFilter filter : filters ) {
+				Set<EntityKey> keys = filter.getCandidates( indexes );
+				if ( keys == null ) {
+					return null;
+				}
+				candidates.addAll( keys );
+			}
+			return candidates;
+		}
+
+		@Override
+		public String toString() {
+			return "or " + filters;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.impl;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Compares the column values of the entities stored in the map data store. Numbers of different types are compared by
+ * their numeric value, all other values must be {@link Comparable}.
+ */
+public final class MapValueComparator implements Comparator<Object>, Serializable {
+
+	public static final MapValueComparator INSTANCE = new MapValueComparator();
+
+	private MapValueComparator() {
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public int compare(Object value1, Object value2) {
+		if ( value1 instanceof Number && value2 instanceof Number && value1.getClass() != value2.getClass() ) {
+			return compareNumbers( (Number) value1, (Number) value2 );
+		}
+		return ( (Comparable<Object>) value1 ).compareTo( value2 );
+	}
+
+	/**
+	 * Whether the given values are equal, also comparing arrays by their elements and numbers of different types by
+	 * their numeric value.
+	 */
+	public static boolean isEqual(Object value1, Object value2) {
+		if ( value1 instanceof Number && value2 instanceof Number && value1.getClass() != value2.getClass() ) {
+			return compareNumbers( (Number) value1, (Number) value2 ) == 0;
+		}
+		return Objects.deepEquals( value1, value2 );
+	}
+
+	/**
+	 * Whether the given value can be compared with other values of the same type.
+	 */
+	public static boolean isComparable(Object value) {
+		return value instanceof Comparable;
+	}
+
+	private static int compareNumbers(Number number1, Number number2) {
+		if ( isIntegral( number1 ) && isIntegral( number2 ) ) {
+			return Long.compare( number1.longValue(), number2.longValue() );
+		}
+		return Double.compare( number1.doubleValue(), number2.doubleValue() );
+	}
+
+	private static boolean isIntegral(Number number) {
+		return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+	}
+
+	private Object readResolve() {
+		return INSTANCE;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate;
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate.Type;
+import org.hibernate.hql.ast.spi.predicate.ConjunctionPredicate;
+import org.hibernate.hql.ast.spi.predicate.DisjunctionPredicate;
+import org.hibernate.hql.ast.spi.predicate.InPredicate;
+import org.hibernate.hql.ast.spi.predicate.IsNullPredicate;
+import org.hibernate.hql.ast.spi.predicate.LikePredicate;
+import org.hibernate.hql.ast.spi.predicate.NegationPredicate;
+import org.hibernate.hql.ast.spi.predicate.PredicateFactory;
+import org.hibernate.hql.ast.spi.predicate.RangePredicate;
+import org.hibernate.hql.ast.spi.predicate.RootPredicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapComparisonPredicate;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapConjunctionPredicate;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapDisjunctionPredicate;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapInPredicate;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapIsNullPredicate;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapLikePredicate;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapNegationPredicate;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapRangePredicate;
+import org.hibernate.ogm.datastore.map.query.parsing.predicate.impl.MapRootPredicate;
+
+/**
+ * Factory for {@link org.hibernate.hql.ast.spi.predicate.Predicate}s creating {@link MapQueryFilter}s.
+ */
+public class MapPredicateFactory implements PredicateFactory<MapQueryFilter> {
+
+	private final MapPropertyHelper propertyHelper;
+
+	public MapPredicateFactory(MapPropertyHelper propertyHelper) {
+		this.propertyHelper = propertyHelper;
+	}
+
+	@Override
+	public RootPredicate<MapQueryFilter> getRootPredicate(String entityType) {
+		return new MapRootPredicate();
+	}
+
+	@Override
+	public ComparisonPredicate<MapQueryFilter> getComparisonPredicate(String entityType, Type comparisonType, List<String> propertyPath, Object value) {
+		String columnName = columnName( entityType, propertyPath );
+		Object backendValue = propertyHelper.convertToBackendType( entityType, propertyPath, value );
+		return new MapComparisonPredicate( columnName, comparisonType, backendValue );
+	}
+
+	@Override
+	public RangePredicate<MapQueryFilter> getRangePredicate(String entityType, List<String> propertyPath, Object lowerValue, Object upperValue) {
+		String columnName = columnName( entityType, propertyPath );
+		Object backendLowerValue = propertyHelper.convertToBackendType( entityType, propertyPath, lowerValue );
+		Object backendUpperValue = propertyHelper.convertToBackendType( entityType, propertyPath, upperValue );
+		return new MapRangePredicate( columnName, backendLowerValue, backendUpperValue );
+	}
+
+	@Override
+	public NegationPredicate<MapQueryFilter> getNegationPredicate() {
+		return new MapNegationPredicate();
+	}
+
+	@Override
+	public DisjunctionPredicate<MapQueryFilter> getDisjunctionPredicate() {
+		return new MapDisjunctionPredicate();
+	}
+
+	@Override
+	public ConjunctionPredicate<MapQueryFilter> getConjunctionPredicate() {
+		return new MapConjunctionPredicate();
+	}
+
+	@Override
+	public InPredicate<MapQueryFilter> getInPredicate(String entityType, List<String> propertyPath, List<Object> typedElements) {
+		String columnName = columnName( entityType, propertyPath );
+		List<Object> backendElements = new ArrayList<Object>( typedElements.size() );
+		for ( Object typedElement : typedElements ) {
+			backendElements.add( propertyHelper.convertToBackendType( entityType, propertyPath, typedElement ) );
+		}
+		return new MapInPredicate( columnName, backendElements );
+	}
+
+	@Override
+	public IsNullPredicate<MapQueryFilter> getIsNullPredicate(String entityType, List<String> propertyPath) {
+		String columnName = columnName( entityType, propertyPath );
+		return new MapIsNullPredicate( columnName );
+	}
+
+	@Override
+	public LikePredicate<MapQueryFilter> getLikePredicate(String entityType, List<String> propertyPath, String patternValue, Character escapeCharacter) {
+		String columnName = columnName( entityType, propertyPath );
+		return new MapLikePredicate( columnName, patternValue, escapeCharacter );
+	}
+
+	private String columnName(String entityType, List<String> propertyPath) {
+		return propertyHelper.getColumnName( entityType, propertyPath );
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.impl;
+
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.hql.ast.spi.PropertyHelper;
+import org.hibernate.ogm.query.parsing.impl.ParserPropertyHelper;
+import org.hibernate.ogm.util.impl.StringHelper;
+
+/**
+ * Property helper dealing with the map data store.
+ */
+public class MapPropertyHelper extends ParserPropertyHelper implements PropertyHelper {
+
+	public MapPropertyHelper(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames) {
+		super( sessionFactory, entityNames );
+	}
+
+	/**
+	 * Returns the name of the column of the entity record holding the given property. Associations and element
+	 * collections are stored separately from the entity, so their properties cannot be queried.
+	 */
+	public String getColumnName(String entityType, List<String> propertyPath) {
+		if ( isNestedProperty( propertyPath ) && isAssociation( entityType, propertyPath ) ) {
+			throw new UnsupportedOperationException( "Queries on the properties of associations are not supported by the map data store: "
+					+ StringHelper.join( propertyPath, "." ) );
+		}
+		return getColumn( getPersister( entityType ), propertyPath );
+	}
+}
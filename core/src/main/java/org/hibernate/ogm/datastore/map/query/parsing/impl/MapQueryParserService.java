@@ -0,0 +1,69 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.impl;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.QueryParser;
+import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.ogm.query.spi.BaseQueryParserService;
+import org.hibernate.ogm.query.spi.QueryParserService;
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+import org.hibernate.ogm.service.impl.SessionFactoryEntityNamesResolver;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * A {@link QueryParserService} implementation which creates queries evaluated by the map data store itself, in form
+ * of {@link org.hibernate.ogm.datastore.map.query.impl.MapQueryDescriptor}s.
+ */
+public class MapQueryParserService extends BaseQueryParserService {
+
+	private static final Log log = LoggerFactory.make();
+
+	private volatile SessionFactoryEntityNamesResolver entityNamesResolver;
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters) {
+		QueryParser queryParser = new QueryParser();
+		MapProcessingChain processingChain = createProcessingChain( sessionFactory, unwrap( namedParameters ) );
+
+		MapQueryParsingResult result = queryParser.parseQuery( queryString, processingChain );
+		log.debugf( "Created query: %1$s (map query: %2$s)", queryString, result );
+
+		return result;
+	}
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
+		throw new UnsupportedOperationException( "The map data store does not support parameterized queries. Parameter values " +
+				"must be passed to the query parser." );
+	}
+
+	@Override
+	public boolean supportsParameters() {
+		return false;
+	}
+
+	private MapProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, Map<String, Object> namedParameters) {
+		EntityNamesResolver entityNamesResolver = getDefinedEntityNames( sessionFactory );
+
+		return new MapProcessingChain(
+				sessionFactory,
+				entityNamesResolver,
+				namedParameters );
+	}
+
+	private EntityNamesResolver getDefinedEntityNames(SessionFactory sessionFactory) {
+		if ( entityNamesResolver == null ) {
+			entityNamesResolver = new SessionFactoryEntityNamesResolver( sessionFactory );
+		}
+		return entityNamesResolver;
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryDescriptor;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryDescriptor.SortField;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+
+/**
+ * The result of walking a query parse tree using a {@link MapQueryRendererDelegate}.
+ */
+public class MapQueryParsingResult implements QueryParsingResult {
+
+	private final Class<?> entityType;
+	private final String tableName;
+	private final MapQueryFilter filter;
+	private final List<String> projections;
+	private final List<SortField> orderBy;
+
+	public MapQueryParsingResult(Class<?> entityType, String tableName, MapQueryFilter filter, List<String> projections, List<SortField> orderBy) {
+		this.entityType = entityType;
+		this.tableName = tableName;
+		this.filter = filter;
+		this.projections = new ArrayList<String>( projections );
+		this.orderBy = orderBy;
+	}
+
+	public Class<?> getEntityType() {
+		return entityType;
+	}
+
+	public MapQueryFilter getFilter() {
+		return filter;
+	}
+
+	@Override
+	public Object getQueryObject() {
+		return new MapQueryDescriptor( tableName, filter, orderBy );
+	}
+
+	@Override
+	public List<String> getColumnNames() {
+		return projections;
+	}
+
+	@Override
+	public String toString() {
+		return "MapQueryParsingResult [entityType=" + entityType.getSimpleName() + ", filter=" + filter + ", projections=" + projections + ", orderBy=" + orderBy + "]";
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.ast.origin.hql.resolve.path.PropertyPath;
+import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.hql.ast.spi.SingleEntityQueryBuilder;
+import org.hibernate.hql.ast.spi.SingleEntityQueryRendererDelegate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryDescriptor.SortField;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+
+/**
+ * Parser delegate which creates queries against the map data store in form of {@link MapQueryFilter}s.
+ */
+public class MapQueryRendererDelegate extends SingleEntityQueryRendererDelegate<MapQueryFilter, MapQueryParsingResult> {
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final MapPropertyHelper propertyHelper;
+	private final List<SortField> orderBy = new ArrayList<SortField>();
+
+	public MapQueryRendererDelegate(SessionFactoryImplementor sessionFactory, EntityNamesResolver entityNames, MapPropertyHelper propertyHelper, Map<String, Object> namedParameters) {
+		super(
+				propertyHelper,
+				entityNames,
+				SingleEntityQueryBuilder.getInstance( new MapPredicateFactory( propertyHelper ), propertyHelper ),
+				namedParameters );
+
+		this.sessionFactory = sessionFactory;
+		this.propertyHelper = propertyHelper;
+	}
+
+	@Override
+	public MapQueryParsingResult getResult() {
+		OgmEntityPersister entityPersister = (OgmEntityPersister) sessionFactory.getEntityPersister( targetType.getName() );
+
+		return new MapQueryParsingResult(
+				targetType,
+				entityPersister.getTableName(),
+				builder.build(),
+				projections,
+				orderBy
+		);
+	}
+
+	@Override
+	public void setPropertyPath(PropertyPath propertyPath) {
+		if ( status == Status.DEFINING_SELECT ) {
+			List<String> pathWithoutAlias = resolveAlias( propertyPath );
+			if ( propertyHelper.isSimpleProperty( pathWithoutAlias ) ) {
+				projections.add( propertyHelper.getColumnName( targetTypeName, pathWithoutAlias ) );
+			}
+			else if ( propertyHelper.isNestedProperty( pathWithoutAlias ) ) {
+				if ( propertyHelper.isEmbeddedProperty( targetTypeName, pathWithoutAlias )
+						&& propertyHelper.findAssociationPath( targetTypeName, pathWithoutAlias ) == null ) {
+					projections.add( propertyHelper.getColumnName( targetTypeName, pathWithoutAlias ) );
+				}
+				else {
+					throw new UnsupportedOperationException( "Selecting associated properties not yet implemented." );
+				}
+			}
+		}
+		else {
+			this.propertyPath = propertyPath;
+		}
+	}
+
+	@Override
+	protected void addSortField(PropertyPath propertyPath, String collateName, boolean isAscending) {
+		String columnName = propertyHelper.getColumnName( targetTypeName, propertyPath.getNodeNamesWithoutAlias() );
+		orderBy.add( new SortField( columnName, isAscending ) );
+	}
+}
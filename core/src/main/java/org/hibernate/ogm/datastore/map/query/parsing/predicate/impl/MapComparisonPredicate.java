@@ -0,0 +1,72 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.predicate.impl;
+
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.equalTo;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.isNull;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.not;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.or;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.range;
+
+import java.util.Arrays;
+
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate;
+import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+
+/**
+ * Map-based implementation of {@link ComparisonPredicate}.
+ */
+public class MapComparisonPredicate extends ComparisonPredicate<MapQueryFilter> implements NegatablePredicate<MapQueryFilter> {
+
+	public MapComparisonPredicate(String propertyName, ComparisonPredicate.Type comparisonType, Object value) {
+		super( propertyName, comparisonType, value );
+	}
+
+	@Override
+	protected MapQueryFilter getStrictlyLessQuery() {
+		return range( propertyName, null, false, value, false );
+	}
+
+	@Override
+	protected MapQueryFilter getLessOrEqualsQuery() {
+		return range( propertyName, null, false, value, true );
+	}
+
+	@Override
+	protected MapQueryFilter getEqualsQuery() {
+		return equalTo( propertyName, value );
+	}
+
+	@Override
+	protected MapQueryFilter getGreaterOrEqualsQuery() {
+		return range( propertyName, value, true, null, false );
+	}
+
+	@Override
+	protected MapQueryFilter getStrictlyGreaterQuery() {
+		return range( propertyName, value, false, null, false );
+	}
+
+	@Override
+	public MapQueryFilter getNegatedQuery() {
+		switch ( type ) {
+			case LESS:
+				return getGreaterOrEqualsQuery();
+			case LESS_OR_EQUAL:
+				return getStrictlyGreaterQuery();
+			case EQUALS:
+				return not( or( Arrays.asList( equalTo( propertyName, value ), isNull( propertyName ) ) ) );
+			case GREATER_OR_EQUAL:
+				return getStrictlyLessQuery();
+			case GREATER:
+				return getLessOrEqualsQuery();
+			default:
+				throw new UnsupportedOperationException( "Unsupported comparison type: " + type );
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.predicate.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.hql.ast.spi.predicate.DisjunctionPredicate;
+import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.hql.ast.spi.predicate.Predicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters;
+
+/**
+ * Map-based implementation of {@link DisjunctionPredicate}.
+ */
+public class MapDisjunctionPredicate extends DisjunctionPredicate<MapQueryFilter> implements NegatablePredicate<MapQueryFilter> {
+
+	@Override
+	public MapQueryFilter getQuery() {
+		List<MapQueryFilter> elements = new ArrayList<MapQueryFilter>();
+
+		for ( Predicate<MapQueryFilter> child : children ) {
+			elements.add( child.getQuery() );
+		}
+
+		return MapQueryFilters.or( elements );
+	}
+
+	@Override
+	public MapQueryFilter getNegatedQuery() {
+		List<MapQueryFilter> elements = new ArrayList<MapQueryFilter>();
+
+		for ( Predicate<MapQueryFilter> child : children ) {
+			elements.add( ( (NegatablePredicate<MapQueryFilter>) child ).getNegatedQuery() );
+		}
+
+		return MapQueryFilters.and( elements );
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.predicate.impl;
+
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.in;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.isNull;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.not;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.or;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.hql.ast.spi.predicate.InPredicate;
+import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+
+/**
+ * Map-based implementation of {@link InPredicate}.
+ */
+public class MapInPredicate extends InPredicate<MapQueryFilter> implements NegatablePredicate<MapQueryFilter> {
+
+	public MapInPredicate(String propertyName, List<Object> values) {
+		super( propertyName, values );
+	}
+
+	@Override
+	public MapQueryFilter getQuery() {
+		return in( propertyName, values );
+	}
+
+	@Override
+	public MapQueryFilter getNegatedQuery() {
+		return not( or( Arrays.asList( in( propertyName, values ), isNull( propertyName ) ) ) );
+	}
+}
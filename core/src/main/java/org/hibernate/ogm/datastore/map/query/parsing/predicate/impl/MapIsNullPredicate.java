@@ -0,0 +1,34 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.predicate.impl;
+
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.isNull;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.not;
+
+import org.hibernate.hql.ast.spi.predicate.IsNullPredicate;
+import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+
+/**
+ * Map-based implementation of {@link IsNullPredicate}.
+ */
+public class MapIsNullPredicate extends IsNullPredicate<MapQueryFilter> implements NegatablePredicate<MapQueryFilter> {
+
+	public MapIsNullPredicate(String propertyName) {
+		super( propertyName );
+	}
+
+	@Override
+	public MapQueryFilter getQuery() {
+		return isNull( propertyName );
+	}
+
+	@Override
+	public MapQueryFilter getNegatedQuery() {
+		return not( isNull( propertyName ) );
+	}
+}
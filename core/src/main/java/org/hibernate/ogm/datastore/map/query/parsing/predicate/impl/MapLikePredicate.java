@@ -0,0 +1,45 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.predicate.impl;
+
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.isNull;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.like;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.not;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.or;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.hibernate.hql.ast.spi.predicate.LikePredicate;
+import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+import org.hibernate.ogm.util.parser.impl.LikeExpressionToRegExpConverter;
+
+/**
+ * Map-based implementation of {@link LikePredicate}.
+ */
+public class MapLikePredicate extends LikePredicate<MapQueryFilter> implements NegatablePredicate<MapQueryFilter> {
+
+	private final Pattern pattern;
+
+	public MapLikePredicate(String propertyName, String patternValue, Character escapeCharacter) {
+		super( propertyName, patternValue, escapeCharacter );
+
+		LikeExpressionToRegExpConverter converter = new LikeExpressionToRegExpConverter( escapeCharacter );
+		pattern = converter.getRegExpFromLikeExpression( patternValue );
+	}
+
+	@Override
+	public MapQueryFilter getQuery() {
+		return like( propertyName, pattern );
+	}
+
+	@Override
+	public MapQueryFilter getNegatedQuery() {
+		return not( or( Arrays.asList( like( propertyName, pattern ), isNull( propertyName ) ) ) );
+	}
+}
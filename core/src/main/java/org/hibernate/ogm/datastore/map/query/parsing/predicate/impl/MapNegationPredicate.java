@@ -0,0 +1,27 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.predicate.impl;
+
+import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.hql.ast.spi.predicate.NegationPredicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+
+/**
+ * Map-based implementation of {@link NegationPredicate}.
+ */
+public class MapNegationPredicate extends NegationPredicate<MapQueryFilter> implements NegatablePredicate<MapQueryFilter> {
+
+	@Override
+	public MapQueryFilter getQuery() {
+		return ( (NegatablePredicate<MapQueryFilter>) getChild() ).getNegatedQuery();
+	}
+
+	@Override
+	public MapQueryFilter getNegatedQuery() {
+		return getChild().getQuery();
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.predicate.impl;
+
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.or;
+import static org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters.range;
+
+import java.util.Arrays;
+
+import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.hql.ast.spi.predicate.RangePredicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+
+/**
+ * Map-based implementation of {@link RangePredicate}.
+ */
+public class MapRangePredicate extends RangePredicate<MapQueryFilter> implements NegatablePredicate<MapQueryFilter> {
+
+	public MapRangePredicate(String propertyName, Object lower, Object upper) {
+		super( propertyName, lower, upper );
+	}
+
+	@Override
+	public MapQueryFilter getQuery() {
+		return range( propertyName, lower, true, upper, true );
+	}
+
+	@Override
+	public MapQueryFilter getNegatedQuery() {
+		return or( Arrays.asList(
+				range( propertyName, null, false, lower, false ),
+				range( propertyName, upper, false, null, false )
+		) );
+	}
+}
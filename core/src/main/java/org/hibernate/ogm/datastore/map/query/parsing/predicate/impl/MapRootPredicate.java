@@ -0,0 +1,22 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.query.parsing.predicate.impl;
+
+import org.hibernate.hql.ast.spi.predicate.RootPredicate;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilter;
+import org.hibernate.ogm.datastore.map.query.impl.MapQueryFilters;
+
+/**
+ * Map-based implementation of {@link RootPredicate}.
+ */
+public class MapRootPredicate extends RootPredicate<MapQueryFilter> {
+
+	@Override
+	public MapQueryFilter getQuery() {
+		return child == null ? MapQueryFilters.all() : child.getQuery();
+	}
+}
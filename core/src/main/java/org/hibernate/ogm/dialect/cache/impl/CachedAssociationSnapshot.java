@@ -0,0 +1,48 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * The snapshot of an association served from the {@link TupleCache}. Each access to a row returns a new tuple, the
+ * cached rows are shared by all the sessions.
+ */
+final class CachedAssociationSnapshot implements AssociationSnapshot {
+
+	private final Map<RowKey, Map<String, Object>> rows;
+
+	CachedAssociationSnapshot(Map<RowKey, Map<String, Object>> rows) {
+		this.rows = rows;
+	}
+
+	@Override
+	public Tuple get(RowKey rowKey) {
+		Map<String, Object> row = rows.get( rowKey );
+		return row != null ? new Tuple( new MapTupleSnapshot( row ) ) : null;
+	}
+
+	@Override
+	public boolean containsKey(RowKey rowKey) {
+		return rows.containsKey( rowKey );
+	}
+
+	@Override
+	public int size() {
+		return rows.size();
+	}
+
+	@Override
+	public Iterable<RowKey> getRowKeys() {
+		return rows.keySet();
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.cache.impl;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * The snapshot of a tuple served from the {@link TupleCache}. Keeps the key and context the tuple was read with, so
+ * the tuple can be read from the datastore before it is written.
+ */
+final class CachedTupleSnapshot implements TupleSnapshot {
+
+	private final Map<String, Object> values;
+	private final EntityKey key;
+	private final TupleContext tupleContext;
+
+	CachedTupleSnapshot(Map<String, Object> values, EntityKey key, TupleContext tupleContext) {
+		this.values = values;
+		this.key = key;
+		this.tupleContext = tupleContext;
+	}
+
+	@Override
+	public Object get(String column) {
+		return values.get( column );
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return values.isEmpty();
+	}
+
+	@Override
+	public Set<String> getColumnNames() {
+		return values.keySet();
+	}
+
+	EntityKey getKey() {
+		return key;
+	}
+
+	TupleContext getTupleContext() {
+		return tupleContext;
+	}
+}
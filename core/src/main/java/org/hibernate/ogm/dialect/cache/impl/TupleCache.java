@@ -0,0 +1,256 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.cache.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.ogm.stat.TupleCacheStatistics;
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Manageable;
+
+/**
+ * A bounded cache of the state of tuples and associations, keyed by their {@code EntityKey} respectively
+ * {@code AssociationKey}. The LIRS eviction policy is used, i.e. when the cache is full, the entries which are accessed
+ * least frequently are evicted first, as opposed to those which merely have not been accessed most recently.
+ * <p>
+ * Entries are put into the cache after reading them from the datastore and removed when they are written. As a read
+ * may race with a write of the same entry in another thread, each invalidation increments the generation of the key;
+ * an entry read from the datastore is only put into the cache if its key has not been invalidated since the read
+ * started. The generations are kept in a fixed number of stripes, so keys sharing a stripe merely prevent each other
+ * from being cached while one of them is written.
+ * <p>
+ * Registered as MBean by the JMX service of Hibernate ORM, if enabled.
+ *
+ * @see TupleCachingGridDialect
+ */
+public class TupleCache implements TupleCacheStatistics, Service, Manageable {
+
+	/**
+	 * Number of generation counters, a power of two
+	 */
+	private static final int GENERATION_STRIPES = 1024;
+
+	private final int maxEntries;
+	private final BoundedConcurrentHashMap<Object, CacheEntry> entries;
+
+	/**
+	 * The generations of the keys, incremented by each invalidation of a key of the stripe
+	 */
+	private final AtomicLongArray generations = new AtomicLongArray( GENERATION_STRIPES );
+
+	/**
+	 * The generation of all the keys, incremented when all the entries are invalidated
+	 */
+	private final AtomicLong globalGeneration = new AtomicLong();
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong putCount = new AtomicLong();
+	private final AtomicLong invalidationCount = new AtomicLong();
+	private final AtomicLong expirationCount = new AtomicLong();
+
+	public TupleCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = maxEntries > 0 ? new BoundedConcurrentHashMap<Object, CacheEntry>( maxEntries, 20, BoundedConcurrentHashMap.Eviction.LIRS ) : null;
+	}
+
+	/**
+	 * Whether the cache is enabled, i.e. its maximum number of entries is greater than {@code 0}.
+	 */
+	public boolean isEnabled() {
+		return entries != null;
+	}
+
+	/**
+	 * Returns the current generation of the given key, to be obtained before reading its entry from the datastore and
+	 * passed to {@link #put(Object, Object, List, long, long)} afterwards.
+	 *
+	 * @param key the entity or association key
+	 */
+	public long getGeneration(Object key) {
+		// both counters only grow, so their sum changes whenever one of them does
+		return globalGeneration.get() + generations.get( stripe( key ) );
+	}
+
+	/**
+	 * Returns the cached state for the given key.
+	 *
+	 * @param key the entity or association key
+	 * @param columns the columns to be read, the state is only returned if it was read for the same columns
+	 * @return the cached state or {@code null} if the cache has no valid entry for the given key and columns
+	 */
+	public Object get(Object key, List<String> columns) {
+		CacheEntry entry = entries.get( key );
+
+		if ( entry == null || !entry.isReadFor( columns ) ) {
+			missCount.incrementAndGet();
+			return null;
+		}
+		if ( entry.isExpired() ) {
+			entries.remove( key, entry );
+			expirationCount.incrementAndGet();
+			missCount.incrementAndGet();
+			return null;
+		}
+
+		hitCount.incrementAndGet();
+		return entry.value;
+	}
+
+	/**
+	 * Puts the given state into the cache, unless the key has been invalidated since the given generation was obtained.
+	 *
+	 * @param key the entity or association key
+	 * @param value the state read from the datastore; must not be altered afterwards
+	 * @param columns the columns which have been read
+	 * @param timeToLive the time after which the entry expires in milliseconds, {@code 0} if it never expires
+	 * @param readGeneration the generation of the key obtained before reading the state from the datastore
+	 */
+	public void put(Object key, Object value, List<String> columns, long timeToLive, long readGeneration) {
+		if ( getGeneration( key ) != readGeneration ) {
+			return;
+		}
+
+		CacheEntry entry = new CacheEntry( value, columns, timeToLive );
+		entries.put( key, entry );
+		putCount.incrementAndGet();
+
+		// an invalidation may have happened between the check above and the put
+		if ( getGeneration( key ) != readGeneration ) {
+			entries.remove( key, entry );
+		}
+	}
+
+	/**
+	 * Removes the entry with the given key, as the tuple or association is written.
+	 *
+	 * @param key the entity or association key
+	 */
+	public void invalidate(Object key) {
+		generations.incrementAndGet( stripe( key ) );
+		if ( entries.remove( key ) != null ) {
+			invalidationCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Removes all the entries, e.g. after the execution of a native update query whose effects are unknown.
+	 */
+	public void invalidateAll() {
+		globalGeneration.incrementAndGet();
+		int size = entries.size();
+		entries.clear();
+		invalidationCount.addAndGet( size );
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	@Override
+	public long getPutCount() {
+		return putCount.get();
+	}
+
+	@Override
+	public long getInvalidationCount() {
+		return invalidationCount.get();
+	}
+
+	@Override
+	public long getExpirationCount() {
+		return expirationCount.get();
+	}
+
+	@Override
+	public int getSize() {
+		return entries != null ? entries.size() : 0;
+	}
+
+	@Override
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	@Override
+	public void clear() {
+		if ( entries != null ) {
+			globalGeneration.incrementAndGet();
+			entries.clear();
+		}
+
+		hitCount.set( 0 );
+		missCount.set( 0 );
+		putCount.set( 0 );
+		invalidationCount.set( 0 );
+		expirationCount.set( 0 );
+	}
+
+	private static int stripe(Object key) {
+		int hash = key.hashCode();
+		// spread the higher bits, as the keys' hash codes may differ in them only
+		hash ^= ( hash >>> 16 );
+		return hash & ( GENERATION_STRIPES - 1 );
+	}
+
+	@Override
+	public String getManagementDomain() {
+		return null;
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		return TupleCacheStatistics.class.getName();
+	}
+
+	@Override
+	public Object getManagementBean() {
+		try {
+			return new StandardMBean( this, TupleCacheStatistics.class, true );
+		}
+		catch (NotCompliantMBeanException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static class CacheEntry {
+
+		private final Object value;
+		private final List<String> columns;
+		private final long created;
+		private final long timeToLive;
+
+		private CacheEntry(Object value, List<String> columns, long timeToLive) {
+			this.value = value;
+			this.columns = columns;
+			this.created = System.nanoTime();
+			this.timeToLive = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+		}
+
+		private boolean isReadFor(List<String> columns) {
+			// the selectable columns of a given entity type are shared by all the contexts created for it
+			return this.columns == columns || ( this.columns != null && this.columns.equals( columns ) );
+		}
+
+		private boolean isExpired() {
+			return timeToLive > 0 && System.nanoTime() - created >= timeToLive;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.cache.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link TupleCache} service.
+ */
+@SuppressWarnings("rawtypes")
+public class TupleCacheInitiator implements StandardServiceInitiator<TupleCache> {
+
+	public static final TupleCacheInitiator INSTANCE = new TupleCacheInitiator();
+
+	private TupleCacheInitiator() {
+	}
+
+	@Override
+	public Class<TupleCache> getServiceInitiated() {
+		return TupleCache.class;
+	}
+
+	@Override
+	public TupleCache initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		int maxEntries = new ConfigurationPropertyReader( configurationValues )
+				.property( OgmProperties.TUPLE_CACHE_MAX_ENTRIES, int.class )
+				.withDefault( 0 )
+				.getValue();
+
+		return new TupleCache( maxEntries );
+	}
+}
@@ -0,0 +1,566 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.cache.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.transaction.Synchronization;
+
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.dialect.impl.AssociationContextImpl;
+import org.hibernate.ogm.dialect.impl.ForwardingGridDialect;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.RowKey;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.options.shared.impl.TupleCachingOption;
+import org.hibernate.ogm.options.spi.OptionsContext;
+
+/**
+ * A wrapper dialect which serves the tuples and associations of entities marked with {@code @TupleCaching} from the
+ * {@link TupleCache}, reading them from the datastore only upon a cache miss. Only used if the cache is enabled.
+ * <p>
+ * Writes are not applied to the cache but invalidate the written entries, as they may be queued until the end of the
+ * flush and may fail; the entries written by a batch are invalidated once more after its execution. As the writes only
+ * become visible to other transactions upon commit, the entries written by a transaction are invalidated once more
+ * after its completion, be it a commit or a rollback; until then, the reads of the writing transaction are not put into
+ * the cache, nor are the entries it wrote served from the cache. Tuples and
+ * associations served from the cache have a snapshot of their own, which the wrapped dialect does not know about. Before
+ * they are written, they are read from the datastore again and the changes applied to them are replayed on the result.
+ * <p>
+ * Query results are not cached.
+ *
+ * @see org.hibernate.ogm.dialect.impl.GridDialectInitiator
+ */
+public class TupleCachingGridDialect extends ForwardingGridDialect<Serializable> {
+
+	private final TupleCache cache;
+	private final EventContextManager eventContext;
+	private final boolean batchable;
+
+	/**
+	 * The writes of the transaction running in the current thread, if any; a transaction is bound to a single thread at
+	 * a time.
+	 */
+	private final ThreadLocal<TransactionWrites> transactionWrites = new ThreadLocal<>();
+
+	public TupleCachingGridDialect(GridDialect gridDialect, TupleCache cache, EventContextManager eventContext) {
+		super( gridDialect );
+		this.cache = cache;
+		this.eventContext = eventContext;
+		this.batchable = GridDialects.hasFacet( gridDialect, BatchableGridDialect.class );
+	}
+
+	@Override
+	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		Long timeToLive = getTimeToLive( tupleContext.getOptionsContext() );
+		TransactionWrites writes = getTransactionWrites();
+		if ( timeToLive == null || isPending( key ) || ( writes != null && writes.contains( key ) ) ) {
+			return super.getTuple( key, tupleContext );
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<String, Object> values = (Map<String, Object>) cache.get( key, tupleContext.getSelectableColumns() );
+		if ( values != null ) {
+			return new Tuple( new CachedTupleSnapshot( values, key, tupleContext ) );
+		}
+
+		long generation = cache.getGeneration( key );
+		Tuple tuple = super.getTuple( key, tupleContext );
+		if ( tuple != null && writes == null ) {
+			cache.put( key, toValues( tuple ), tupleContext.getSelectableColumns(), timeToLive, generation );
+		}
+		return tuple;
+	}
+
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		Long timeToLive = getTimeToLive( tupleContext.getOptionsContext() );
+		if ( timeToLive == null ) {
+			return super.getTuples( keys, tupleContext );
+		}
+
+		TransactionWrites writes = getTransactionWrites();
+		List<Tuple> tuples = new ArrayList<>( keys.length );
+		List<Integer> misses = new ArrayList<>();
+		for ( int i = 0; i < keys.length; i++ ) {
+			boolean uncached = isPending( keys[i] ) || ( writes != null && writes.contains( keys[i] ) );
+			@SuppressWarnings("unchecked")
+			Map<String, Object> values = uncached ? null : (Map<String, Object>) cache.get( keys[i], tupleContext.getSelectableColumns() );
+			if ( values != null ) {
+				tuples.add( new Tuple( new CachedTupleSnapshot( values, keys[i], tupleContext ) ) );
+			}
+			else {
+				tuples.add( null );
+				misses.add( i );
+			}
+		}
+
+		if ( misses.isEmpty() ) {
+			return tuples;
+		}
+
+		EntityKey[] missingKeys = new EntityKey[misses.size()];
+		for ( int i = 0; i < missingKeys.length; i++ ) {
+			missingKeys[i] = keys[misses.get( i )];
+		}
+
+		long[] generations = getGenerations( missingKeys );
+		List<Tuple> loaded = super.getTuples( missingKeys, tupleContext );
+		for ( int i = 0; i < missingKeys.length; i++ ) {
+			Tuple tuple = loaded.get( i );
+			tuples.set( misses.get( i ), tuple );
+			if ( tuple != null && writes == null && !isPending( missingKeys[i] ) ) {
+				cache.put( missingKeys[i], toValues( tuple ), tupleContext.getSelectableColumns(), timeToLive, generations[i] );
+			}
+		}
+		return tuples;
+	}
+
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		try {
+			super.insertOrUpdateTuple( key, toDatastoreTuple( tuple ), tupleContext );
+		}
+		finally {
+			invalidate( key, tupleContext.getOptionsContext() );
+		}
+	}
+
+	@Override
+	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		try {
+			super.removeTuple( key, tupleContext );
+		}
+		finally {
+			invalidate( key, tupleContext.getOptionsContext() );
+		}
+	}
+
+	@Override
+	public boolean updateTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, Tuple tuple, TupleContext tupleContext) {
+		try {
+			return super.updateTupleWithOptimisticLock( entityKey, oldLockState, toDatastoreTuple( tuple ), tupleContext );
+		}
+		finally {
+			invalidate( entityKey, tupleContext.getOptionsContext() );
+		}
+	}
+
+	@Override
+	public boolean removeTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, TupleContext tupleContext) {
+		try {
+			return super.removeTupleWithOptimisticLock( entityKey, oldLockState, tupleContext );
+		}
+		finally {
+			invalidate( entityKey, tupleContext.getOptionsContext() );
+		}
+	}
+
+	@Override
+	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		Long timeToLive = getTimeToLive( associationContext.getAssociationTypeContext().getOptionsContext() );
+		TransactionWrites writes = getTransactionWrites();
+		if ( timeToLive == null || ( writes != null && writes.contains( key ) ) ) {
+			return super.getAssociation( key, toDatastoreContext( associationContext ) );
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<RowKey, Map<String, Object>> rows = (Map<RowKey, Map<String, Object>>) cache.get( key, null );
+		if ( rows != null ) {
+			return new Association( new CachedAssociationSnapshot( rows ) );
+		}
+
+		long generation = cache.getGeneration( key );
+		Association association = super.getAssociation( key, toDatastoreContext( associationContext ) );
+		if ( association != null && writes == null ) {
+			cache.put( key, toRows( association ), null, timeToLive, generation );
+		}
+		return association;
+	}
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		TransactionWrites writes = getTransactionWrites();
+		List<Association> associations = new ArrayList<>( keys.length );
+		List<Integer> misses = new ArrayList<>();
+		for ( int i = 0; i < keys.length; i++ ) {
+			Long timeToLive = getTimeToLive( associationContexts[i].getAssociationTypeContext().getOptionsContext() );
+			boolean uncached = timeToLive == null || ( writes != null && writes.contains( keys[i] ) );
+			@SuppressWarnings("unchecked")
+			Map<RowKey, Map<String, Object>> rows = uncached ? null : (Map<RowKey, Map<String, Object>>) cache.get( keys[i], null );
+			if ( rows != null ) {
+				associations.add( new Association( new CachedAssociationSnapshot( rows ) ) );
+			}
+			else {
+				associations.add( null );
+				misses.add( i );
+			}
+		}
+
+		if ( misses.isEmpty() ) {
+			return associations;
+		}
+
+		AssociationKey[] missingKeys = new AssociationKey[misses.size()];
+		AssociationContext[] missingContexts = new AssociationContext[misses.size()];
+		for ( int i = 0; i < missingKeys.length; i++ ) {
+			missingKeys[i] = keys[misses.get( i )];
+			missingContexts[i] = toDatastoreContext( associationContexts[misses.get( i )] );
+		}
+
+		long[] generations = getGenerations( missingKeys );
+		List<Association> loaded = super.getAssociations( missingKeys, missingContexts );
+		for ( int i = 0; i < missingKeys.length; i++ ) {
+			Association association = loaded.get( i );
+			associations.set( misses.get( i ), association );
+
+			Long timeToLive = getTimeToLive( missingContexts[i].getAssociationTypeContext().getOptionsContext() );
+			if ( association != null && timeToLive != null && writes == null ) {
+				cache.put( missingKeys[i], toRows( association ), null, timeToLive, generations[i] );
+			}
+		}
+		return associations;
+	}
+
+	private long[] getGenerations(Object[] keys) {
+		long[] generations = new long[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			generations[i] = cache.getGeneration( keys[i] );
+		}
+		return generations;
+	}
+
+	@Override
+	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
+		return super.createAssociation( key, toDatastoreContext( associationContext ) );
+	}
+
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		try {
+			AssociationContext datastoreContext = toDatastoreContext( associationContext );
+			super.insertOrUpdateAssociation( key, toDatastoreAssociation( key, association, datastoreContext ), datastoreContext );
+		}
+		finally {
+			invalidate( key, associationContext.getAssociationTypeContext().getOptionsContext() );
+		}
+	}
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		try {
+			super.removeAssociation( key, toDatastoreContext( associationContext ) );
+		}
+		finally {
+			invalidate( key, associationContext.getAssociationTypeContext().getOptionsContext() );
+		}
+	}
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			super.executeBatch( queue );
+			return;
+		}
+
+		// the queued writes are only applied now, so entries read since they were queued may be stale
+		OperationsQueue newQueue = new OperationsQueue();
+		List<Operation> operations = new ArrayList<>( queue.size() );
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				newQueue.add( (InsertOrUpdateTupleOperation) operation );
+			}
+			else {
+				newQueue.add( operation );
+			}
+			operations.add( operation );
+			operation = queue.poll();
+		}
+
+		try {
+			super.executeBatch( newQueue );
+		}
+		finally {
+			for ( Operation executed : operations ) {
+				invalidate( executed );
+			}
+		}
+	}
+
+	@Override
+	public int executeBackendUpdateQuery(BackendQuery<Serializable> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		try {
+			return super.executeBackendUpdateQuery( query, queryParameters, tupleContext );
+		}
+		finally {
+			// the entries affected by a native update are unknown
+			cache.invalidateAll();
+			registerWrite( null );
+		}
+	}
+
+	private Long getTimeToLive(OptionsContext optionsContext) {
+		return optionsContext.getUnique( TupleCachingOption.class );
+	}
+
+	/**
+	 * Whether the given key is written by an operation queued in the current flush; the wrapped dialect may then
+	 * return the pending state, which must neither be cached nor be hidden by a cached entry.
+	 */
+	private boolean isPending(EntityKey key) {
+		return batchable && eventContext.isActive() && eventContext.get( OperationsQueue.class ).contains( key );
+	}
+
+	private void invalidate(EntityKey key, OptionsContext optionsContext) {
+		if ( getTimeToLive( optionsContext ) != null ) {
+			cache.invalidate( key );
+			registerWrite( key );
+		}
+	}
+
+	private void invalidate(AssociationKey key, OptionsContext optionsContext) {
+		if ( getTimeToLive( optionsContext ) != null ) {
+			cache.invalidate( key );
+			registerWrite( key );
+			// the association may be stored within the document of the owning entity
+			if ( key.getEntityKey() != null ) {
+				cache.invalidate( key.getEntityKey() );
+				registerWrite( key.getEntityKey() );
+			}
+		}
+	}
+
+	/**
+	 * Returns the writes of the transaction running in the current thread, or {@code null} if it didn't write any
+	 * cached entries yet.
+	 */
+	private TransactionWrites getTransactionWrites() {
+		TransactionWrites writes = transactionWrites.get();
+		if ( writes != null && writes.completed ) {
+			transactionWrites.remove();
+			return null;
+		}
+		return writes;
+	}
+
+	/**
+	 * Records the given key as written by the current transaction, so its entry gets invalidated once more upon
+	 * completion of the transaction.
+	 *
+	 * @param key the written entity or association key, {@code null} if the written entries are unknown
+	 */
+	private void registerWrite(Object key) {
+		// writes are issued within flushes, the session is unknown for the few that are not
+		if ( !eventContext.isActive() ) {
+			return;
+		}
+
+		TransactionWrites writes = getTransactionWrites();
+		if ( writes == null ) {
+			writes = new TransactionWrites();
+			eventContext.get( SessionImplementor.class )
+					.getTransactionCoordinator()
+					.getLocalSynchronizations()
+					.registerSynchronization( writes );
+			transactionWrites.set( writes );
+		}
+		writes.add( key );
+	}
+
+	private void invalidate(Operation operation) {
+		if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			InsertOrUpdateTupleOperation insertOrUpdateTuple = (InsertOrUpdateTupleOperation) operation;
+			invalidate( insertOrUpdateTuple.getEntityKey(), insertOrUpdateTuple.getTupleContext().getOptionsContext() );
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			RemoveTupleOperation removeTuple = (RemoveTupleOperation) operation;
+			invalidate( removeTuple.getEntityKey(), removeTuple.getTupleContext().getOptionsContext() );
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			InsertOrUpdateAssociationOperation insertOrUpdateAssociation = (InsertOrUpdateAssociationOperation) operation;
+			invalidate( insertOrUpdateAssociation.getAssociationKey(), insertOrUpdateAssociation.getContext().getAssociationTypeContext().getOptionsContext() );
+		}
+		else if ( operation instanceof RemoveAssociationOperation ) {
+			RemoveAssociationOperation removeAssociation = (RemoveAssociationOperation) operation;
+			invalidate( removeAssociation.getAssociationKey(), removeAssociation.getContext().getAssociationTypeContext().getOptionsContext() );
+		}
+	}
+
+	/**
+	 * Returns a tuple based on the snapshot of the wrapped dialect, with the changes of the given tuple applied, if the
+	 * given tuple has been served from the cache.
+	 */
+	private Tuple toDatastoreTuple(Tuple tuple) {
+		if ( tuple == null || !( tuple.getSnapshot() instanceof CachedTupleSnapshot ) ) {
+			return tuple;
+		}
+
+		CachedTupleSnapshot snapshot = (CachedTupleSnapshot) tuple.getSnapshot();
+		Tuple datastoreTuple = super.getTuple( snapshot.getKey(), snapshot.getTupleContext() );
+
+		// removed from the datastore in the meantime, the changes are based on the cached state
+		if ( datastoreTuple == null ) {
+			datastoreTuple = super.createTuple( snapshot.getKey(), snapshot.getTupleContext() );
+			for ( String column : snapshot.getColumnNames() ) {
+				datastoreTuple.put( column, snapshot.get( column ) );
+			}
+		}
+
+		for ( TupleOperation operation : tuple.getOperations() ) {
+			switch ( operation.getType() ) {
+				case PUT:
+				case PUT_NULL:
+					datastoreTuple.put( operation.getColumn(), operation.getValue() );
+					break;
+				case REMOVE:
+					datastoreTuple.remove( operation.getColumn() );
+					break;
+			}
+		}
+
+		return datastoreTuple;
+	}
+
+	/**
+	 * Returns a context with an entity tuple based on the snapshot of the wrapped dialect, if the entity tuple of the
+	 * given context has been served from the cache.
+	 */
+	private AssociationContext toDatastoreContext(AssociationContext associationContext) {
+		Tuple entityTuple = associationContext.getEntityTuple();
+		if ( entityTuple == null || !( entityTuple.getSnapshot() instanceof CachedTupleSnapshot ) ) {
+			return associationContext;
+		}
+
+		return new AssociationContextImpl( (AssociationContextImpl) associationContext, toDatastoreTuple( entityTuple ) );
+	}
+
+	/**
+	 * Returns an association based on the snapshot of the wrapped dialect, with the changes of the given association
+	 * applied, if the given association has been served from the cache.
+	 */
+	private Association toDatastoreAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		if ( !( association.getSnapshot() instanceof CachedAssociationSnapshot ) ) {
+			return association;
+		}
+
+		Association datastoreAssociation = super.getAssociation( key, associationContext );
+
+		// removed from the datastore in the meantime, the changes are based on the cached state
+		if ( datastoreAssociation == null ) {
+			datastoreAssociation = super.createAssociation( key, associationContext );
+			AssociationSnapshot snapshot = association.getSnapshot();
+			for ( RowKey rowKey : snapshot.getRowKeys() ) {
+				datastoreAssociation.put( rowKey, snapshot.get( rowKey ) );
+			}
+		}
+
+		for ( AssociationOperation operation : association.getOperations() ) {
+			switch ( operation.getType() ) {
+				case CLEAR:
+					datastoreAssociation.clear();
+					break;
+				case PUT:
+					datastoreAssociation.put( operation.getKey(), operation.getValue() );
+					break;
+				case REMOVE:
+					datastoreAssociation.remove( operation.getKey() );
+					break;
+			}
+		}
+
+		return datastoreAssociation;
+	}
+
+	private static Map<String, Object> toValues(Tuple tuple) {
+		Map<String, Object> values = new HashMap<>();
+		for ( String column : tuple.getColumnNames() ) {
+			values.put( column, tuple.get( column ) );
+		}
+		return Collections.unmodifiableMap( values );
+	}
+
+	private static Map<RowKey, Map<String, Object>> toRows(Association association) {
+		Map<RowKey, Map<String, Object>> rows = new HashMap<>();
+		for ( RowKey rowKey : association.getKeys() ) {
+			rows.put( rowKey, toValues( association.get( rowKey ) ) );
+		}
+		return Collections.unmodifiableMap( rows );
+	}
+
+	/**
+	 * The cached entries written by a transaction, invalidated once more after its completion.
+	 */
+	private class TransactionWrites implements Synchronization {
+
+		private final Set<Object> keys = Collections.newSetFromMap( new ConcurrentHashMap<Object, Boolean>() );
+		private volatile boolean all;
+		private volatile boolean completed;
+
+		private void add(Object key) {
+			if ( key == null ) {
+				all = true;
+			}
+			else {
+				keys.add( key );
+			}
+		}
+
+		private boolean contains(Object key) {
+			return all || keys.contains( key );
+		}
+
+		@Override
+		public void beforeCompletion() {
+			// nothing to do
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			completed = true;
+			if ( all ) {
+				cache.invalidateAll();
+			}
+			else {
+				for ( Object key : keys ) {
+					cache.invalidate( key );
+				}
+			}
+			// the transaction may be completed by another thread, e.g. upon a timeout
+			if ( transactionWrites.get() == this ) {
+				transactionWrites.remove();
+			}
+		}
+	}
+}
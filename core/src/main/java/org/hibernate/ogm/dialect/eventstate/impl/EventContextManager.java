@@ -14,6 +14,7 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.cache.impl.TupleCachingGridDialect;
 import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
 import org.hibernate.ogm.dialect.impl.GridDialects;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -54,8 +55,9 @@ public EventContextManager() {
 	public static boolean isEventContextRequired(Map<Object, Object> settings, SessionFactoryServiceRegistry serviceRegistry) {
 		GridDialect gridDialect = serviceRegistry.getService( GridDialect.class );
 		BatchOperationsDelegator batchDelegator = GridDialects.getDelegateOrNull( gridDialect, BatchOperationsDelegator.class );
+		TupleCachingGridDialect tupleCachingDialect = GridDialects.getDelegateOrNull( gridDialect, TupleCachingGridDialect.class );
 
-		return settings.get( OgmProperties.ERROR_HANDLER ) != null || batchDelegator != null;
+		return settings.get( OgmProperties.ERROR_HANDLER ) != null || batchDelegator != null || tupleCachingDialect != null;
 	}
 
 	void onEventBegin(EventSource session) {
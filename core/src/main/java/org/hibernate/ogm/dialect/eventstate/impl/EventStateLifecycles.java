@@ -12,9 +12,8 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.ogm.compensation.impl.ErrorHandlerEnabledTransactionCoordinatorDecorator;
 import org.hibernate.ogm.compensation.impl.OperationCollector;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
-import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
-import org.hibernate.ogm.dialect.impl.GridDialects;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 
 /**
@@ -75,7 +74,9 @@ public void onFinish(OperationsQueue operationsQueue, SessionImplementor session
 					.getServiceRegistry()
 					.getService( GridDialect.class );
 
-			GridDialects.getDelegateOrNull( gridDialect, BatchOperationsDelegator.class ).executeBatch( operationsQueue );
+			// the batch delegator is wrapped by ForwardingGridDialects only, which pass the batch on to it; invoking the
+			// outermost dialect lets wrappers such as the tuple cache take note of the executed operations
+			( (BatchableGridDialect) gridDialect ).executeBatch( operationsQueue );
 			operationsQueue.close();
 		}
 	}
@@ -36,6 +36,10 @@ public AssociationContextImpl(AssociationContextImpl original, OperationsQueue o
 		this( original.associationTypeContext, original.entityTuple, operationsQueue, original.transactionContext );
 	}
 
+	public AssociationContextImpl(AssociationContextImpl original, Tuple entityTuple) {
+		this( original.associationTypeContext, entityTuple, original.operationsQueue, original.transactionContext );
+	}
+
 	private AssociationContextImpl(AssociationTypeContext associationTypeContext,
 			Tuple entityTuple,
 			OperationsQueue operationsQueue,
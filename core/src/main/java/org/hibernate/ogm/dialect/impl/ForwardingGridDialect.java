@@ -16,6 +16,7 @@
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -23,6 +24,8 @@
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
@@ -56,7 +59,7 @@
  *
  * @author Gunnar Morling
  */
-public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect {
+public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect, MultigetAssociationGridDialect, PartitionedScanGridDialect {
 
 	private final GridDialect gridDialect;
 	private final BatchableGridDialect batchableGridDialect;
@@ -65,6 +68,8 @@
 	private final IdentityColumnAwareGridDialect identityColumnAwareGridDialect;
 	private final OptimisticLockingAwareGridDialect optimisticLockingAwareGridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultigetAssociationGridDialect multigetAssociationGridDialect;
+	private final PartitionedScanGridDialect partitionedScanGridDialect;
 
 	@SuppressWarnings("unchecked")
 	public ForwardingGridDialect(GridDialect gridDialect) {
@@ -77,6 +82,8 @@ public ForwardingGridDialect(GridDialect gridDialect) {
 		this.identityColumnAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, IdentityColumnAwareGridDialect.class );
 		this.optimisticLockingAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, OptimisticLockingAwareGridDialect.class );
 		this.multigetGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetAssociationGridDialect.class );
+		this.partitionedScanGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, PartitionedScanGridDialect.class );
 	}
 
 	/**
@@ -246,6 +253,34 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		return multigetGridDialect.getTuples( keys, tupleContext );
 	}
 
+	/*
+	 * @see org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect
+	 */
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		return multigetAssociationGridDialect.getAssociations( keys, associationContexts );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect
+	 */
+
+	@Override
+	public List<TuplePartition> getTuplePartitions(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, int maxPartitions) {
+		return partitionedScanGridDialect.getTuplePartitions( entityKeyMetadata, tupleContext, maxPartitions );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
+		partitionedScanGridDialect.forEachTuple( consumer, tupleContext, entityKeyMetadata, partition );
+	}
+
+	@Override
+	public void closePartitions(List<TuplePartition> partitions) {
+		partitionedScanGridDialect.closePartitions( partitions );
+	}
+
 	/*
 	 * @see org.hibernate.service.spi.ServiceRegistryAwareService
 	 */
@@ -14,9 +14,12 @@
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.compensation.impl.InvocationCollectingGridDialect;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.cache.impl.TupleCache;
+import org.hibernate.ogm.dialect.cache.impl.TupleCachingGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.stat.spi.GridDialectStatisticsImplementor;
 import org.hibernate.ogm.util.configurationreader.impl.DefaultClassPropertyReaderContext;
 import org.hibernate.ogm.util.configurationreader.impl.Instantiator;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
@@ -51,13 +54,15 @@ public GridDialect initiateService(Map configurationValues, ServiceRegistryImple
 
 		boolean errorHandlerConfigured = configurationValues.containsKey( OgmProperties.ERROR_HANDLER );
 		EventContextManager eventContext = registry.getService( EventContextManager.class );
+		GridDialectStatisticsImplementor statistics = registry.getService( GridDialectStatisticsImplementor.class );
+		TupleCache tupleCache = registry.getService( TupleCache.class );
 
 		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader( configurationValues, registry.getService( ClassLoaderService.class ) );
 
 		return ( (DefaultClassPropertyReaderContext<GridDialect>) propertyReader.property( OgmProperties.GRID_DIALECT, GridDialect.class )
 				.instantiate() )
 				.withDefaultImplementation( registry.getService( DatastoreProvider.class ).getDefaultDialect() )
-				.withInstantiator( new GridDialectInstantiator( datastore, errorHandlerConfigured, eventContext ) )
+				.withInstantiator( new GridDialectInstantiator( datastore, errorHandlerConfigured, eventContext, statistics, tupleCache ) )
 				.getValue();
 	}
 
@@ -66,11 +71,16 @@ private static class GridDialectInstantiator implements Instantiator<GridDialect
 		private final DatastoreProvider datastore;
 		private final boolean errorHandlerConfigured;
 		private final EventContextManager eventContext;
+		private final GridDialectStatisticsImplementor statistics;
+		private final TupleCache tupleCache;
 
-		public GridDialectInstantiator(DatastoreProvider datastore, boolean errorHandlerConfigured, EventContextManager eventContext) {
+		public GridDialectInstantiator(DatastoreProvider datastore, boolean errorHandlerConfigured, EventContextManager eventContext,
+				GridDialectStatisticsImplementor statistics, TupleCache tupleCache) {
 			this.datastore = datastore;
 			this.errorHandlerConfigured = errorHandlerConfigured;
 			this.eventContext = eventContext;
+			this.statistics = statistics;
+			this.tupleCache = tupleCache;
 		}
 
 		@Override
@@ -96,12 +106,21 @@ public GridDialect newInstance(Class<? extends GridDialect> clazz) {
 					gridDialect = new InvocationCollectingGridDialect( gridDialect, eventContext );
 				}
 
+				// inside of the batch delegator, so queued operations are recorded when the batch gets executed
+				if ( statistics.isStatisticsEnabled() ) {
+					gridDialect = new StatisticsCollectingGridDialect( gridDialect, statistics );
+				}
+
 				if ( GridDialects.hasFacet( gridDialect, BatchableGridDialect.class ) ) {
 					BatchableGridDialect batchable = (BatchableGridDialect) gridDialect;
 					gridDialect = new BatchOperationsDelegator( batchable, eventContext );
 				}
 
 				log.useGridDialect( gridDialect.getClass() );
+				// outside of the statistics wrapper, only reads hitting the datastore are recorded
+				if ( tupleCache.isEnabled() ) {
+					gridDialect = new TupleCachingGridDialect( gridDialect, tupleCache, eventContext );
+				}
 				if ( GridDialectLogger.activationNeeded() ) {
 					gridDialect = new GridDialectLogger( gridDialect );
 					log.info( "Grid dialect logs are active" );
@@ -97,6 +97,14 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return super.getAssociation( key, associationContext );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Reading associations with keys %1$s from datastore", Arrays.toString( keys ) );
+		}
+		return super.getAssociations( keys, associationContexts );
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		log.tracef( "Creating association with key %1$s", key );
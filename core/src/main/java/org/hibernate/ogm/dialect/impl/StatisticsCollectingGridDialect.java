@@ -0,0 +1,345 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.EntityMetadataInformation;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.stat.spi.GridDialectStatisticsImplementor;
+
+/**
+ * A wrapper dialect which records the number, duration and failures of the calls performed on the real dialect in
+ * the {@link GridDialectStatisticsImplementor}. Only used if statistics are enabled.
+ *
+ * @see GridDialectInitiator
+ */
+public class StatisticsCollectingGridDialect extends ForwardingGridDialect<Serializable> {
+
+	private final GridDialectStatisticsImplementor statistics;
+
+	public StatisticsCollectingGridDialect(GridDialect gridDialect, GridDialectStatisticsImplementor statistics) {
+		super( gridDialect );
+		this.statistics = statistics;
+	}
+
+	@Override
+	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			Tuple result = super.getTuple( key, tupleContext );
+			succeeded( "getTuple", key.getTable(), start, result != null ? 1 : 0 );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "getTuple", key.getTable(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			List<Tuple> result = super.getTuples( keys, tupleContext );
+			succeeded( "getTuples", keys.length > 0 ? keys[0].getTable() : null, start, countNonNull( result ) );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "getTuples", keys.length > 0 ? keys[0].getTable() : null, start );
+			throw e;
+		}
+	}
+
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			super.insertOrUpdateTuple( key, tuple, tupleContext );
+			succeeded( "insertOrUpdateTuple", key.getTable(), start, 1 );
+		}
+		catch (RuntimeException e) {
+			failed( "insertOrUpdateTuple", key.getTable(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public void insertTuple(EntityKeyMetadata entityKeyMetadata, Tuple tuple, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			super.insertTuple( entityKeyMetadata, tuple, tupleContext );
+			succeeded( "insertTuple", entityKeyMetadata.getTable(), start, 1 );
+		}
+		catch (RuntimeException e) {
+			failed( "insertTuple", entityKeyMetadata.getTable(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean updateTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, Tuple tuple, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			boolean result = super.updateTupleWithOptimisticLock( entityKey, oldLockState, tuple, tupleContext );
+			succeeded( "updateTupleWithOptimisticLock", entityKey.getTable(), start, result ? 1 : 0 );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "updateTupleWithOptimisticLock", entityKey.getTable(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			super.removeTuple( key, tupleContext );
+			succeeded( "removeTuple", key.getTable(), start, 1 );
+		}
+		catch (RuntimeException e) {
+			failed( "removeTuple", key.getTable(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean removeTupleWithOptimisticLock(EntityKey entityKey, Tuple oldLockState, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			boolean result = super.removeTupleWithOptimisticLock( entityKey, oldLockState, tupleContext );
+			succeeded( "removeTupleWithOptimisticLock", entityKey.getTable(), start, result ? 1 : 0 );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "removeTupleWithOptimisticLock", entityKey.getTable(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		long start = System.nanoTime();
+		try {
+			Association result = super.getAssociation( key, associationContext );
+			succeeded( "getAssociation", key.getMetadata().getCollectionRole(), start, result != null ? 1 : 0 );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "getAssociation", key.getMetadata().getCollectionRole(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		long start = System.nanoTime();
+		try {
+			List<Association> result = super.getAssociations( keys, associationContexts );
+			succeeded( "getAssociations", keys.length > 0 ? keys[0].getMetadata().getCollectionRole() : null, start, countNonNull( result ) );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "getAssociations", keys.length > 0 ? keys[0].getMetadata().getCollectionRole() : null, start );
+			throw e;
+		}
+	}
+
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		long start = System.nanoTime();
+		try {
+			super.insertOrUpdateAssociation( key, association, associationContext );
+			succeeded( "insertOrUpdateAssociation", key.getMetadata().getCollectionRole(), start, 1 );
+		}
+		catch (RuntimeException e) {
+			failed( "insertOrUpdateAssociation", key.getMetadata().getCollectionRole(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		long start = System.nanoTime();
+		try {
+			super.removeAssociation( key, associationContext );
+			succeeded( "removeAssociation", key.getMetadata().getCollectionRole(), start, 1 );
+		}
+		catch (RuntimeException e) {
+			failed( "removeAssociation", key.getMetadata().getCollectionRole(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public Number nextValue(NextValueRequest request) {
+		long start = System.nanoTime();
+		try {
+			Number result = super.nextValue( request );
+			succeeded( "nextValue", request.getKey().getTable(), start, 1 );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "nextValue", request.getKey().getTable(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		long start = System.nanoTime();
+		try {
+			super.forEachTuple( consumer, tupleContext, entityKeyMetadata );
+			succeeded( "forEachTuple", entityKeyMetadata.getTable(), start, 0 );
+		}
+		catch (RuntimeException e) {
+			failed( "forEachTuple", entityKeyMetadata.getTable(), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		// the queue is emptied by the execution, so the targets are counted beforehand
+		Map<String, Integer> operationsPerTarget = countOperationsPerTarget( queue );
+		long start = System.nanoTime();
+		try {
+			super.executeBatch( queue );
+			for ( Map.Entry<String, Integer> operations : operationsPerTarget.entrySet() ) {
+				succeeded( "executeBatch", operations.getKey(), start, operations.getValue() );
+			}
+		}
+		catch (RuntimeException e) {
+			for ( String target : operationsPerTarget.keySet() ) {
+				failed( "executeBatch", target, start );
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Counts the queued operations per entity table or association role. The queue can only be polled, so the
+	 * operations are put back in their original order.
+	 */
+	private static Map<String, Integer> countOperationsPerTarget(OperationsQueue queue) {
+		Map<String, Integer> operationsPerTarget = new LinkedHashMap<String, Integer>();
+		if ( queue.isClosed() ) {
+			return operationsPerTarget;
+		}
+		List<Operation> operations = new ArrayList<Operation>( queue.size() );
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			operations.add( operation );
+			String target = getTarget( operation );
+			Integer count = operationsPerTarget.get( target );
+			operationsPerTarget.put( target, count == null ? 1 : count + 1 );
+			operation = queue.poll();
+		}
+		for ( Operation queued : operations ) {
+			if ( queued instanceof InsertOrUpdateTupleOperation ) {
+				queue.add( (InsertOrUpdateTupleOperation) queued );
+			}
+			else {
+				queue.add( queued );
+			}
+		}
+		return operationsPerTarget;
+	}
+
+	private static String getTarget(Operation operation) {
+		if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			return ( (InsertOrUpdateTupleOperation) operation ).getEntityKey().getTable();
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			return ( (RemoveTupleOperation) operation ).getEntityKey().getTable();
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			return ( (InsertOrUpdateAssociationOperation) operation ).getAssociationKey().getMetadata().getCollectionRole();
+		}
+		else if ( operation instanceof RemoveAssociationOperation ) {
+			return ( (RemoveAssociationOperation) operation ).getAssociationKey().getMetadata().getCollectionRole();
+		}
+		return null;
+	}
+
+	@Override
+	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<Serializable> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			ClosableIterator<Tuple> result = super.executeBackendQuery( query, queryParameters, tupleContext );
+			succeeded( "executeBackendQuery", getTable( query ), start, 0 );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "executeBackendQuery", getTable( query ), start );
+			throw e;
+		}
+	}
+
+	@Override
+	public int executeBackendUpdateQuery(BackendQuery<Serializable> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		long start = System.nanoTime();
+		try {
+			int result = super.executeBackendUpdateQuery( query, queryParameters, tupleContext );
+			succeeded( "executeBackendUpdateQuery", getTable( query ), start, result );
+			return result;
+		}
+		catch (RuntimeException e) {
+			failed( "executeBackendUpdateQuery", getTable( query ), start );
+			throw e;
+		}
+	}
+
+	private void succeeded(String operation, String target, long start, int rowCount) {
+		statistics.recordOperation( operation, target, System.nanoTime() - start, rowCount, false );
+	}
+
+	private void failed(String operation, String target, long start) {
+		statistics.recordOperation( operation, target, System.nanoTime() - start, 0, true );
+	}
+
+	private static String getTable(BackendQuery<?> query) {
+		EntityMetadataInformation entityMetadata = query.getSingleEntityMetadataInformationOrNull();
+		return entityMetadata != null ? entityMetadata.getEntityKeyMetadata().getTable() : null;
+	}
+
+	private static int countNonNull(List<?> elements) {
+		if ( elements == null ) {
+			return 0;
+		}
+		int count = 0;
+		for ( Object element : elements ) {
+			if ( element != null ) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
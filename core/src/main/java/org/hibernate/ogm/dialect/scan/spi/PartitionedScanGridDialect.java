@@ -0,0 +1,59 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.scan.spi;
+
+import java.util.List;
+
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+
+/**
+ * A {@link GridDialect} facet representing dialects that can split the tuples of an entity type into independent
+ * partitions, so that the tuples can be iterated by several threads in parallel instead of using a single cursor
+ * as {@link GridDialect#forEachTuple(ModelConsumer, TupleContext, EntityKeyMetadata)} does.
+ * <p>
+ * Used by the mass indexer.
+ */
+public interface PartitionedScanGridDialect extends GridDialect {
+
+	/**
+	 * Splits the tuples of an entity type into partitions which don't overlap and which together contain all the
+	 * tuples of the entity type.
+	 *
+	 * @param entityKeyMetadata the key metadata of the entity type
+	 * @param tupleContext the tuple context of the entity type
+	 * @param maxPartitions the maximum number of partitions the caller wants to iterate over in parallel; the dialect
+	 * may return less partitions if the datastore cannot be split further
+	 * @return the partitions, at least one
+	 */
+	List<TuplePartition> getTuplePartitions(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, int maxPartitions);
+
+	/**
+	 * Invokes the consumer for each tuple of the given partition.
+	 * <p>
+	 * Different partitions may be iterated concurrently, the consumer must be thread-safe in that case. Each
+	 * partition returned by {@link #getTuplePartitions(EntityKeyMetadata, TupleContext, int)} can be iterated at most
+	 * once.
+	 *
+	 * @param consumer the consumer invoked for each tuple
+	 * @param tupleContext the tuple context of the entity type
+	 * @param entityKeyMetadata the key metadata of the entity type
+	 * @param partition one of the partitions returned for the entity type
+	 */
+	void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition);
+
+	/**
+	 * Releases the resources held by the given partitions, such as the server-side cursors some dialects open when
+	 * creating the partitions. Must be invoked once the partitions are not iterated anymore, including the partitions
+	 * which have not been iterated at all.
+	 *
+	 * @param partitions the partitions returned by {@link #getTuplePartitions(EntityKeyMetadata, TupleContext, int)}
+	 */
+	void closePartitions(List<TuplePartition> partitions);
+}
@@ -0,0 +1,17 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.scan.spi;
+
+/**
+ * A subset of the tuples of an entity type, as returned by
+ * {@link PartitionedScanGridDialect#getTuplePartitions(org.hibernate.ogm.model.key.spi.EntityKeyMetadata, org.hibernate.ogm.dialect.spi.TupleContext, int)}.
+ * <p>
+ * The content of a partition is specific to the dialect which created it, e.g. a range of tokens or the identifier
+ * of a node of the cluster; callers should only pass it back to the same dialect.
+ */
+public interface TuplePartition {
+}
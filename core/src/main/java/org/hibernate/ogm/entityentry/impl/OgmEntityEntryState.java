@@ -26,8 +26,9 @@ public class OgmEntityEntryState implements EntityEntryExtraState {
 	private Tuple tuple;
 
 	/**
-	 * The {@link Tuple} representing the given entity, as loaded from the datastore. May be {@code null} in case the
-	 * loading code failed to set it.
+	 * The {@link Tuple} representing the given entity, as loaded from the datastore or inserted by the session. Its
+	 * snapshot represents the state as loaded, while the changes written by the session since then are applied to it
+	 * upon each update. May be {@code null} in case the loading code failed to set it.
 	 *
 	 * @return the tuple representing the given entity
 	 */
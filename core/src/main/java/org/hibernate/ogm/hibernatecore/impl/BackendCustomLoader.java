@@ -16,6 +16,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
+import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.loader.custom.CustomLoader;
@@ -33,6 +34,10 @@
 import org.hibernate.ogm.loader.nativeloader.impl.BackendCustomQuery;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.impl.StreamingOptions;
+import org.hibernate.ogm.query.impl.StreamingResultIterator;
+import org.hibernate.ogm.query.impl.StreamingResultIterator.ChunkLoader;
+import org.hibernate.ogm.query.impl.StreamingScrollableResults;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.type.spi.TypeTranslator;
 import org.hibernate.type.Type;
@@ -48,6 +53,7 @@ public class BackendCustomLoader extends CustomLoader {
 	private final CustomQuery customQuery;
 	private final TypeTranslator typeTranslator;
 	private final BackendCustomLoaderContext<?> loaderContext;
+	private final StreamingOptions streamingOptions;
 
 	public BackendCustomLoader(BackendCustomQuery<?> customQuery, SessionFactoryImplementor factory) {
 		super( customQuery, factory );
@@ -55,6 +61,7 @@ public BackendCustomLoader(BackendCustomQuery<?> customQuery, SessionFactoryImpl
 		this.customQuery = customQuery;
 		this.typeTranslator = factory.getServiceRegistry().getService( TypeTranslator.class );
 		this.loaderContext = getLoaderContext( customQuery, factory );
+		this.streamingOptions = StreamingOptions.getInstance( factory );
 	}
 
 	@Override
@@ -100,23 +107,64 @@ protected List<?> list(SessionImplementor session, org.hibernate.engine.spi.Quer
 		}
 	}
 
+	/**
+	 * Executes the query, returning scrollable results which are loaded chunk by chunk while scrolling through them.
+	 *
+	 * @param session the session
+	 * @param queryParameters the query parameters
+	 * @return forward-only scrollable results
+	 */
+	public ScrollableResults scroll(final SessionImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters) {
+		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		final Type[] resultTypes = getResultTypes( session.getFactory() );
+
+		ChunkLoader chunkLoader = new ChunkLoader() {
+
+			@Override
+			public List<?> load(List<Tuple> chunk) {
+				if ( isEntityQuery() ) {
+					return listOfEntities( session, resultTypes, chunk.iterator() );
+				}
+				else {
+					return listOfArrays( session, chunk.iterator() );
+				}
+			}
+		};
+
+		StreamingResultIterator results = new StreamingResultIterator(
+				tuples,
+				chunkLoader,
+				session,
+				streamingOptions.getFetchSize( queryParameters ),
+				streamingOptions.isEvictAfterChunk()
+		);
+
+		return new StreamingScrollableResults( results, resultTypes );
+	}
+
+	private Type[] getResultTypes(SessionFactoryImplementor factory) {
+		Type[] resultTypes = new Type[customQuery.getCustomQueryReturns().size()];
+		int i = 0;
+		for ( Return queryReturn : customQuery.getCustomQueryReturns() ) {
+			if ( queryReturn instanceof RootReturn ) {
+				resultTypes[i++] = factory.getTypeResolver().getTypeFactory().manyToOne( ( (RootReturn) queryReturn ).getEntityName() );
+			}
+			else {
+				resultTypes[i++] = ( (ScalarReturn) queryReturn ).getType();
+			}
+		}
+		return resultTypes;
+	}
+
 	// At the moment we only support the case where one entity type is returned
-	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
+	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, Iterator<Tuple> tuples) {
 		Class<?> returnedClass = resultTypes[0].getReturnedClass();
 		TupleBasedEntityLoader loader = getLoader( session, returnedClass );
 		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( getTuplesAsList( tuples ) );
+		ogmLoadingContext.setTupleIterator( tuples );
 		return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
 	}
 
-	private List<Tuple> getTuplesAsList(ClosableIterator<Tuple> tuples) {
-		List<Tuple> tuplesAsList = new ArrayList<>();
-		while ( tuples.hasNext() ) {
-			tuplesAsList.add( tuples.next() );
-		}
-		return tuplesAsList;
-	}
-
 	private List<Object> listOfArrays(SessionImplementor session, Iterator<Tuple> tuples) {
 		List<Object> results = new ArrayList<Object>();
 		while ( tuples.hasNext() ) {
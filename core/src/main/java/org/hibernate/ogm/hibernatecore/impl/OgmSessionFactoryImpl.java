@@ -52,9 +52,13 @@
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.metadata.CollectionMetadata;
 import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.dialect.cache.impl.TupleCache;
 import org.hibernate.ogm.engine.spi.OgmSessionBuilderImplementor;
 import org.hibernate.ogm.engine.spi.OgmSessionFactoryImplementor;
 import org.hibernate.ogm.exception.NotSupportedException;
+import org.hibernate.ogm.stat.GridDialectStatistics;
+import org.hibernate.ogm.stat.TupleCacheStatistics;
+import org.hibernate.ogm.stat.spi.GridDialectStatisticsImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -348,6 +352,16 @@ public Statistics getStatistics() {
 		return delegate.getStatistics();
 	}
 
+	@Override
+	public GridDialectStatistics getGridDialectStatistics() {
+		return delegate.getServiceRegistry().getService( GridDialectStatisticsImplementor.class );
+	}
+
+	@Override
+	public TupleCacheStatistics getTupleCacheStatistics() {
+		return delegate.getServiceRegistry().getService( TupleCache.class );
+	}
+
 	@Override
 	public void close() throws HibernateException {
 		delegate.close();
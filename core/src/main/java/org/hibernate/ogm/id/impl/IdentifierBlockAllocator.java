@@ -0,0 +1,160 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.id.impl;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Hands out identifiers from blocks of values reserved on the datastore (hi/lo allocation).
+ * <p>
+ * A block of {@code blockSize} values is reserved with a single {@link org.hibernate.ogm.dialect.spi.NextValueRequest}
+ * whose increment is the block size; the values of the block are then handed out without any locking. When only a
+ * quarter of the current block is left, the next block is reserved in the background by the
+ * {@link IdentifierBlockPrefetcher} of the session factory so that threads do not have to
+ * wait for the datastore when the current block is exhausted. At most one reservation is pending at any time and
+ * its block is the next one handed out, so no block is reserved in vain.
+ * <p>
+ * Values of a block which are not used before shutdown are lost, leaving gaps in the sequence.
+ */
+public class IdentifierBlockAllocator {
+
+	private static final Log log = LoggerFactory.make();
+
+	/**
+	 * Reserves blocks of values on the datastore.
+	 */
+	public interface BlockSource {
+
+		/**
+		 * Reserves a block in the calling thread.
+		 *
+		 * @return the first value of the reserved block
+		 */
+		long reserveBlock();
+
+		/**
+		 * Starts reserving a block in another thread.
+		 *
+		 * @return the future first value of the reserved block
+		 */
+		Future<Long> reserveBlockInBackground();
+	}
+
+	private final int blockSize;
+	private final int prefetchThreshold;
+
+	private final AtomicReference<Block> currentBlock = new AtomicReference<Block>();
+	private final AtomicReference<Future<Long>> nextBlock = new AtomicReference<Future<Long>>();
+	private final Object prefetchLock = new Object();
+
+	public IdentifierBlockAllocator(int blockSize) {
+		this.blockSize = blockSize;
+		this.prefetchThreshold = Math.max( 1, blockSize / 4 );
+	}
+
+	/**
+	 * Returns the next value, reserving a new block if needed.
+	 *
+	 * @param source used to reserve new blocks
+	 * @return the next value
+	 */
+	public long next(BlockSource source) {
+		while ( true ) {
+			Block block = currentBlock.get();
+			if ( block != null ) {
+				long value = block.next.getAndIncrement();
+				if ( value < block.end ) {
+					if ( block.end - value - 1 == prefetchThreshold ) {
+						prefetch( source );
+					}
+					return value;
+				}
+			}
+			replaceBlock( block, source );
+		}
+	}
+
+	private synchronized void replaceBlock(Block exhausted, BlockSource source) {
+		if ( currentBlock.get() != exhausted ) {
+			// Another thread did it already
+			return;
+		}
+
+		Long start = null;
+		Future<Long> prefetched = nextBlock.getAndSet( null );
+		if ( prefetched != null ) {
+			start = await( prefetched );
+		}
+		if ( start == null ) {
+			start = source.reserveBlock();
+		}
+		currentBlock.set( new Block( start, blockSize ) );
+	}
+
+	private void prefetch(BlockSource source) {
+		// Submitting under a lock rather than cancelling the losing future: a reservation which has started can't be
+		// undone and its block would be lost
+		synchronized ( prefetchLock ) {
+			if ( nextBlock.get() == null ) {
+				try {
+					nextBlock.set( source.reserveBlockInBackground() );
+				}
+				catch (RejectedExecutionException e) {
+					// Shutting down, the next block will be reserved from the calling thread if needed
+					log.debugf( e, "Unable to prefetch the next block of %d identifiers", blockSize );
+				}
+			}
+		}
+	}
+
+	private Long await(Future<Long> prefetched) {
+		boolean interrupted = false;
+		try {
+			while ( true ) {
+				try {
+					return prefetched.get();
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+				catch (ExecutionException e) {
+					// The block will be reserved again from the calling thread, raising the error if it persists
+					log.debugf( e.getCause(), "Unable to reserve the next block of %d identifiers in the background", blockSize );
+					return null;
+				}
+				catch (CancellationException e) {
+					// The reservation has been discarded on shutdown before it started, nothing has been reserved
+					return null;
+				}
+			}
+		}
+		finally {
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static final class Block {
+
+		private final long end;
+		private final AtomicLong next;
+
+		private Block(long start, int size) {
+			this.end = start + size;
+			this.next = new AtomicLong( start );
+		}
+	}
+}
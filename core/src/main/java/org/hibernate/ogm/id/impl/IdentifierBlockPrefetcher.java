@@ -0,0 +1,61 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.id.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Runs the background reservations of identifier blocks for the generators of one session factory.
+ * <p>
+ * Its thread is only kept alive while there is work to do, and it is shut down together with the session factory;
+ * the reservations still queued at that time are cancelled, the allocators then reserve their blocks themselves.
+ *
+ * @see IdentifierBlockAllocator
+ */
+public class IdentifierBlockPrefetcher implements Service, Stoppable {
+
+	private final ThreadPoolExecutor executor;
+
+	public IdentifierBlockPrefetcher() {
+		executor = new ThreadPoolExecutor( 1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread( runnable, "Hibernate OGM identifier block prefetch" );
+				thread.setDaemon( true );
+				return thread;
+			}
+		} );
+		executor.allowCoreThreadTimeOut( true );
+	}
+
+	/**
+	 * Submits the reservation of a block.
+	 *
+	 * @param reservation the task returning the first value of the reserved block
+	 * @return the future result of the reservation
+	 */
+	public Future<Long> submit(Callable<Long> reservation) {
+		return executor.submit( reservation );
+	}
+
+	@Override
+	public void stop() {
+		// The reservations which have not started yet are cancelled so that no thread waits for them forever
+		for ( Runnable pending : executor.shutdownNow() ) {
+			( (Future<?>) pending ).cancel( false );
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.id.impl;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+
+/**
+ * Contributes the {@link IdentifierBlockPrefetcher} of the session factory.
+ */
+public class IdentifierBlockPrefetcherInitiator implements SessionFactoryServiceInitiator<IdentifierBlockPrefetcher> {
+
+	public static final IdentifierBlockPrefetcherInitiator INSTANCE = new IdentifierBlockPrefetcherInitiator();
+
+	private IdentifierBlockPrefetcherInitiator() {
+	}
+
+	@Override
+	public IdentifierBlockPrefetcher initiateService(SessionFactoryImplementor sessionFactory, SessionFactoryOptions sessionFactoryOptions, ServiceRegistryImplementor registry) {
+		return new IdentifierBlockPrefetcher();
+	}
+
+	@Override
+	public Class<IdentifierBlockPrefetcher> getServiceInitiated() {
+		return IdentifierBlockPrefetcher.class;
+	}
+}
@@ -10,12 +10,17 @@
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.cfg.Environment;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.Configurable;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -25,11 +30,13 @@
 import org.hibernate.id.enhanced.TableGenerator;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jdbc.AbstractReturningWork;
+import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.impl.OgmDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.id.spi.PersistentNoSqlIdentifierGenerator;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.type.Type;
 
@@ -52,11 +59,20 @@ public abstract class OgmGeneratorBase implements PersistentNoSqlIdentifierGener
 	public static final String INCREMENT_PARAM = TableGenerator.INCREMENT_PARAM;
 	public static final int DEFAULT_INCREMENT_SIZE = TableGenerator.DEFAULT_INCREMENT_SIZE;
 
+	/**
+	 * Generator parameter for the number of identifiers reserved at once when no pooled optimizer is used; overrides
+	 * {@link OgmProperties#ID_BLOCK_SIZE}.
+	 */
+	public static final String BLOCK_SIZE_PARAM = "block_size";
+	public static final int DEFAULT_BLOCK_SIZE = 1;
+
 	private Type identifierType;
 	private Optimizer optimizer;
+	private IdentifierBlockAllocator blockAllocator;
 
 	private int initialValue;
 	private int incrementSize;
+	private int blockSize;
 
 	private GridDialect gridDialect;
 
@@ -82,6 +98,12 @@ public void configure(Type type, Properties params, ServiceRegistry serviceRegis
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
 
+		// without optimizer each value would cost a round trip to the datastore, reserve them by blocks instead
+		blockSize = determineBlockSize( params, serviceRegistry );
+		if ( OptimizerFactory.NONE.equals( optimizationStrategy ) && blockSize > 1 ) {
+			blockAllocator = new IdentifierBlockAllocator( blockSize );
+		}
+
 		gridDialect = ( (OgmDialect) serviceRegistry.getService( JdbcEnvironment.class ).getDialect() ).getGridDialect();
 	}
 
@@ -112,32 +134,76 @@ protected GridDialect getGridDialect() {
 	}
 
 	@Override
-	public synchronized Serializable generate(final SessionImplementor session, Object obj) {
-		return optimizer.generate(
-				new AccessCallback() {
+	public Serializable generate(final SessionImplementor session, Object obj) {
+		if ( blockAllocator != null ) {
+			return generateFromBlock( session );
+		}
+
+		synchronized ( this ) {
+			return optimizer.generate(
+					new AccessCallback() {
+						@Override
+						public IntegralDataTypeHolder getNextValue() {
+							return (IntegralDataTypeHolder) doWorkInIsolationTransaction(
+									session,
+									optimizer.applyIncrementSizeToSourceValues() ? incrementSize : 1
+							);
+						}
+
+						@Override
+						public String getTenantIdentifier() {
+							return session.getTenantIdentifier();
+						}
+					}
+			);
+		}
+	}
+
+	private Serializable generateFromBlock(final SessionImplementor session) {
+		long value = blockAllocator.next(
+				new IdentifierBlockAllocator.BlockSource() {
+
 					@Override
-					public IntegralDataTypeHolder getNextValue() {
-						return (IntegralDataTypeHolder) doWorkInIsolationTransaction( session );
+					public long reserveBlock() {
+						return ( (IntegralDataTypeHolder) doWorkInIsolationTransaction( session, blockSize ) ).makeValue().longValue();
 					}
 
 					@Override
-					public String getTenantIdentifier() {
-						return session.getTenantIdentifier();
+					public Future<Long> reserveBlockInBackground() {
+						// the key and the isolation delegate are resolved in the session thread, the background
+						// thread only runs the isolated work
+						final IsolationDelegate isolationDelegate = session.getTransactionCoordinator().createIsolationDelegate();
+						final IdSourceKey key = getGeneratorKey( session );
+						IdentifierBlockPrefetcher prefetcher = session.getFactory().getServiceRegistry().getService( IdentifierBlockPrefetcher.class );
+						return prefetcher.submit( new Callable<Long>() {
+
+							@Override
+							public Long call() throws Exception {
+								return ( (IntegralDataTypeHolder) doWorkInIsolationTransaction( isolationDelegate, key, blockSize ) ).makeValue().longValue();
+							}
+						} );
 					}
 				}
 		);
+
+		IntegralDataTypeHolder holder = IdentifierGeneratorHelper.getIntegralDataTypeHolder( identifierType.getReturnedClass() );
+		holder.initialize( value );
+		return holder.makeValue();
+	}
+
+	private Serializable doWorkInIsolationTransaction(SessionImplementor session, int increment) throws HibernateException {
+		return doWorkInIsolationTransaction( session.getTransactionCoordinator().createIsolationDelegate(), getGeneratorKey( session ), increment );
 	}
 
 	//copied and altered from TransactionHelper
-	private Serializable doWorkInIsolationTransaction(final SessionImplementor session)
+	private Serializable doWorkInIsolationTransaction(IsolationDelegate isolationDelegate, final IdSourceKey key, final int increment)
 			throws HibernateException {
 		class Work extends AbstractReturningWork<IntegralDataTypeHolder> {
-			private final SessionImplementor localSession = session;
 
 			@Override
 			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
 				try {
-					return doWorkInCurrentTransactionIfAny( localSession );
+					return doWorkInCurrentTransactionIfAny( key, increment );
 				}
 				catch ( RuntimeException sqle ) {
 					throw new HibernateException( "Could not get or update next value", sqle );
@@ -147,17 +213,15 @@ public IntegralDataTypeHolder execute(Connection connection) throws SQLException
 		//we want to work out of transaction
 		boolean workInTransaction = false;
 		Work work = new Work();
-		Serializable generatedValue = session.getTransactionCoordinator().createIsolationDelegate().delegateWork( work, workInTransaction );
+		Serializable generatedValue = isolationDelegate.delegateWork( work, workInTransaction );
 		return generatedValue;
 	}
 
-	private IntegralDataTypeHolder doWorkInCurrentTransactionIfAny(SessionImplementor session) {
-		IdSourceKey key = getGeneratorKey( session );
-
+	private IntegralDataTypeHolder doWorkInCurrentTransactionIfAny(IdSourceKey key, int increment) {
 		Number nextValue = gridDialect.nextValue(
 				new NextValueRequest(
 						key,
-						optimizer.applyIncrementSizeToSourceValues() ? incrementSize : 1,
+						increment,
 						initialValue
 				)
 		);
@@ -172,6 +236,18 @@ private int determineIncrementSize(Properties params) {
 		return ConfigurationHelper.getInt( INCREMENT_PARAM, params, DEFAULT_INCREMENT_SIZE );
 	}
 
+	private int determineBlockSize(Properties params, ServiceRegistry serviceRegistry) {
+		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader(
+				serviceRegistry.getService( ConfigurationService.class ).getSettings(),
+				serviceRegistry.getService( ClassLoaderService.class )
+		);
+		int defaultBlockSize = propertyReader.property( OgmProperties.ID_BLOCK_SIZE, int.class )
+				.withDefault( DEFAULT_BLOCK_SIZE )
+				.getValue();
+
+		return ConfigurationHelper.getInt( BLOCK_SIZE_PARAM, params, defaultBlockSize );
+	}
+
 	private int determineInitialValue(Properties params) {
 		return ConfigurationHelper.getInt( INITIAL_PARAM, params, DEFAULT_INITIAL_VALUE );
 	}
@@ -27,6 +27,7 @@
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -43,11 +44,16 @@
  * Otherwise, to add a tuple, use addTuple.
  * To read the current tuple, use getTuple()
  * To move forward, use next() (throws a SQLException, I know that sucks)
+ * <p>
+ * When created from an iterator (see {@link #setTuples(Iterator)}) the result set is forward-only: tuples are pulled
+ * from the iterator one at a time and are not retained, so {@link #beforeFirst()} is not supported.
  *
  * @author Emmanuel Bernard
  */
 public class TupleAsMapResultSet implements ResultSet {
 	private List<Tuple> tuples = new ArrayList<Tuple>();
+	private Iterator<Tuple> tupleIterator;
+	private Tuple current;
 	private int index = -1;
 
 	/**
@@ -66,6 +72,17 @@ public void addTuple(Tuple tuple) {
 	 */
 	public void setTuples(List<Tuple> tuples) {
 		this.tuples = tuples;
+		this.tupleIterator = null;
+	}
+
+	/**
+	 * Set the tuples as an iterator; the tuples will be consumed lazily while moving along the result set.
+	 *
+	 * @param tuples the iterator over the new tuples
+	 */
+	public void setTuples(Iterator<Tuple> tuples) {
+		this.tuples = null;
+		this.tupleIterator = tuples;
 	}
 
 	/**
@@ -74,14 +91,25 @@ public void setTuples(List<Tuple> tuples) {
 	 * @return the current tuple
 	 */
 	public Tuple getTuple() {
-		return tuples.get( index );
+		return current;
 	}
 
 	@Override
 	public boolean next() throws SQLException {
+		if ( tupleIterator != null ) {
+			if ( tupleIterator.hasNext() ) {
+				current = tupleIterator.next();
+				index++;
+				return true;
+			}
+			current = null;
+			return false;
+		}
+
 		int currentIndex = index + 1;
 		if ( currentIndex < tuples.size() ) {
 			index = currentIndex;
+			current = tuples.get( index );
 			return true;
 		}
 		else {
@@ -91,7 +119,11 @@ public boolean next() throws SQLException {
 
 	@Override
 	public void beforeFirst() throws SQLException {
+		if ( tupleIterator != null ) {
+			throw new SQLException( "Result set backed by an iterator is forward-only" );
+		}
 		index = -1;
+		current = null;
 	}
 
 	@Override
@@ -104,7 +136,11 @@ public <T> T unwrap(Class<T> iface) throws SQLException {
 
 	@Override
 	public void close() throws SQLException {
-		tuples.clear();
+		if ( tuples != null ) {
+			tuples.clear();
+		}
+		tupleIterator = null;
+		current = null;
 	}
 
 	@Override
@@ -7,6 +7,7 @@
 package org.hibernate.ogm.loader.impl;
 
 import java.io.Serializable;
+import java.util.Arrays;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -18,16 +19,43 @@
  * @author Emmanuel Bernard
  */
 public class OgmBasicCollectionLoader extends OgmLoader implements CollectionInitializer {
+
+	private final int batchSize;
+
 	public OgmBasicCollectionLoader(OgmCollectionPersister collectionPersister) {
 		super( new OgmCollectionPersister[] { collectionPersister } );
+		this.batchSize = collectionPersister.getBatchSize();
 	}
 
 	@Override
 	public void initialize(Serializable id, SessionImplementor session)
 	throws HibernateException {
+		if ( batchSize > 1 ) {
+			Serializable[] ids = getCollectionBatch( id, session );
+			if ( ids.length > 1 ) {
+				loadCollectionBatch( session, ids, getKeyType() );
+				return;
+			}
+		}
 		loadCollection( session, id, getKeyType() );
 	}
 
+	/**
+	 * Returns the given id and the ids of other uninitialized collections of the same role registered in the batch
+	 * fetch queue, up to the batch size of the collection.
+	 */
+	private Serializable[] getCollectionBatch(Serializable id, SessionImplementor session) {
+		Serializable[] batch = session.getPersistenceContext()
+				.getBatchFetchQueue()
+				.getCollectionBatch( getCollectionPersisters()[0], id, batchSize );
+
+		int size = 0;
+		while ( size < batch.length && batch[size] != null ) {
+			size++;
+		}
+		return size == batch.length ? batch : Arrays.copyOf( batch, size );
+	}
+
 	protected Type getKeyType() {
 		return getCollectionPersisters()[0].getKeyType();
 	}
@@ -32,12 +32,15 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.loader.entity.UniqueEntityLoader;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
 import org.hibernate.ogm.jdbc.impl.TupleAsMapResultSet;
 import org.hibernate.ogm.loader.entity.impl.BatchableEntityLoader;
 import org.hibernate.ogm.model.impl.EntityKeyBuilder;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
@@ -76,6 +79,7 @@ public class OgmLoader implements UniqueEntityLoader, BatchableEntityLoader, Tup
 	private final CollectionAliases[] collectionAliases;
 	private final GridDialect gridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultigetAssociationGridDialect multigetAssociationGridDialect;
 	private final int batchSize;
 
 	/**
@@ -93,6 +97,7 @@ public OgmLoader(OgmCollectionPersister[] collectionPersisters) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = serviceRegistry.getService( MultigetAssociationGridDialect.class );
 
 		//NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -120,6 +125,7 @@ public OgmLoader(OgmEntityPersister[] entityPersisters, int batchSize) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = serviceRegistry.getService( MultigetAssociationGridDialect.class );
 
 		// NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -253,6 +259,40 @@ public final void loadCollection(
 
 	}
 
+	/**
+	 * Called by subclasses that batch initialize collections
+	 *
+	 * @param session the session
+	 * @param ids the collection identifiers
+	 * @param type collection type
+	 * @throws HibernateException if an error occurs
+	 */
+	public final void loadCollectionBatch(
+		final SessionImplementor session,
+		final Serializable[] ids,
+		final Type type) throws HibernateException {
+
+		if ( log.isDebugEnabled() ) {
+			log.debug(
+					"batch loading collection: " +
+					MessageHelper.collectionInfoString( getCollectionPersisters()[0], ids, getFactory() )
+				);
+		}
+
+		Type[] idTypes = new Type[ids.length];
+		Arrays.fill( idTypes, type );
+		QueryParameters qp = new QueryParameters( idTypes, ids, ids );
+		doQueryAndInitializeNonLazyCollections(
+				session,
+				qp,
+				OgmLoadingContext.EMPTY_CONTEXT,
+				true
+			);
+
+		log.debug( "done batch load" );
+
+	}
+
 	OgmEntityPersister[] getEntityPersisters() {
 		return entityPersisters;
 	}
@@ -427,7 +467,8 @@ private void preLoadBatchFetchingQueue(SessionImplementor session, TupleAsMapRes
 	}
 
 	private boolean loadSeveralIds(QueryParameters qp) {
-		return qp.getPositionalParameterValues().length > 1;
+		// a collection initializer gets several ids when it loads a batch of collections
+		return entityPersisters.length > 0 && qp.getPositionalParameterValues().length > 1;
 	}
 
 	/**
@@ -597,28 +638,60 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 				throw new AssertionFailure( "Found an unexpected number of collection persisters: " + getCollectionPersisters().length );
 			}
 			final OgmCollectionPersister persister = (OgmCollectionPersister) getCollectionPersisters()[0];
-			Object owner = session.getPersistenceContext().getCollectionOwner( id, persister );
-
-			AssociationPersister associationPersister = new AssociationPersister(
-					persister.getOwnerEntityPersister().getMappedClass()
-				)
-				.gridDialect( gridDialect )
-				.key( id, persister.getKeyGridType() )
-				.associationKeyMetadata( persister.getAssociationKeyMetadata() )
-				.associationTypeContext( persister.getAssociationTypeContext() )
-				.hostingEntity( owner )
-				.session( session );
-
-			Association assoc = associationPersister.getAssociationOrNull();
-			if ( assoc != null ) {
-				for ( RowKey rowKey : assoc.getKeys() ) {
-					resultset.addTuple( assoc.get( rowKey ) );
+			final Serializable[] collectionKeys = qp.getCollectionKeys();
+			if ( collectionKeys.length > 1 ) {
+				// batch initialization of the collections of several owners
+				AssociationPersister[] associationPersisters = new AssociationPersister[collectionKeys.length];
+				for ( int index = 0; index < collectionKeys.length; index++ ) {
+					associationPersisters[index] = getAssociationPersister( persister, collectionKeys[index], session );
 				}
+				if ( multigetAssociationGridDialect != null ) {
+					AssociationKey[] keys = new AssociationKey[associationPersisters.length];
+					AssociationContext[] associationContexts = new AssociationContext[associationPersisters.length];
+					for ( int index = 0; index < associationPersisters.length; index++ ) {
+						keys[index] = associationPersisters[index].getAssociationKey();
+						associationContexts[index] = associationPersisters[index].getAssociationContext();
+					}
+					for ( Association assoc : multigetAssociationGridDialect.getAssociations( keys, associationContexts ) ) {
+						addAssociationRows( resultset, assoc );
+					}
+				}
+				else {
+					for ( AssociationPersister associationPersister : associationPersisters ) {
+						addAssociationRows( resultset, associationPersister.getAssociationOrNull() );
+					}
+				}
+			}
+			else {
+				AssociationPersister associationPersister = getAssociationPersister( persister, id, session );
+				addAssociationRows( resultset, associationPersister.getAssociationOrNull() );
 			}
 		}
 		return resultset;
 	}
 
+	private AssociationPersister getAssociationPersister(OgmCollectionPersister persister, Serializable id, SessionImplementor session) {
+		Object owner = session.getPersistenceContext().getCollectionOwner( id, persister );
+
+		return new AssociationPersister(
+				persister.getOwnerEntityPersister().getMappedClass()
+			)
+			.gridDialect( gridDialect )
+			.key( id, persister.getKeyGridType() )
+			.associationKeyMetadata( persister.getAssociationKeyMetadata() )
+			.associationTypeContext( persister.getAssociationTypeContext() )
+			.hostingEntity( owner )
+			.session( session );
+	}
+
+	private void addAssociationRows(TupleAsMapResultSet resultset, Association assoc) {
+		if ( assoc != null ) {
+			for ( RowKey rowKey : assoc.getKeys() ) {
+				resultset.addTuple( assoc.get( rowKey ) );
+			}
+		}
+	}
+
 	private Object getResultColumnOrRow(Object[] row) {
 		//getResultColumnOrRow
 		//today we don't use this to apply the result transformer and we don't have operations to do like other loaders
@@ -9,6 +9,7 @@
 import org.hibernate.ogm.jdbc.impl.TupleAsMapResultSet;
 import org.hibernate.ogm.model.spi.Tuple;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -43,4 +44,21 @@ public void setTuples(List<Tuple> tuples) {
 			this.resultSet = tupleResultSet;
 		}
 	}
+
+	/**
+	 * Use the given iterator as source of the tuples to load; The tuples are consumed while loading, so the whole
+	 * result doesn't need to be kept in memory.
+	 *
+	 * @param tuples the iterator over the tuples to load
+	 */
+	public void setTupleIterator(Iterator<Tuple> tuples) {
+		if ( tuples == null ) {
+			this.resultSet = null;
+		}
+		else {
+			TupleAsMapResultSet tupleResultSet = new TupleAsMapResultSet();
+			tupleResultSet.setTuples( tuples );
+			this.resultSet = tupleResultSet;
+		}
+	}
 }
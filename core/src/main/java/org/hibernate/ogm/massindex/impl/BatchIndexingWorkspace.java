@@ -6,13 +6,20 @@
  */
 package org.hibernate.ogm.massindex.impl;
 
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.search.backend.spi.BatchBackend;
 import org.hibernate.search.batchindexing.MassIndexerProgressMonitor;
@@ -52,10 +59,16 @@ public class BatchIndexingWorkspace implements Runnable {
 
 	private final String tenantId;
 
+	// parallelism and size of the loading batches
+	private final int threadsToLoadObjects;
+	private final int batchSizeToLoadObjects;
+
 	public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
-			SessionFactoryImplementor sessionFactory, Class<?> entityType, CacheMode cacheMode, CountDownLatch endAllSignal,
-			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
+			SessionFactoryImplementor sessionFactory, Class<?> entityType, int threadsToLoadObjects, int batchSizeToLoadObjects,
+			CacheMode cacheMode, CountDownLatch endAllSignal, MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
 		this.gridDialect = gridDialect;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
 		this.indexedType = entityType;
 		this.tenantId = tenantId;
 		this.searchIntegrator = search.unwrap( ExtendedSearchIntegrator.class );
@@ -69,19 +82,119 @@ public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
 	@Override
 	public void run() {
 		ErrorHandler errorHandler = searchIntegrator.getErrorHandler();
+		ExecutorService consumers = Executors.newFixedThreadPool( threadsToLoadObjects, "entityloader" );
+		ExecutorService producers = null;
+		PartitionedScanGridDialect partitionedScanGridDialect = null;
+		List<TuplePartition> partitions = null;
 		try {
 			OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getEntityPersister( indexedType.getName() );
 			final EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
+			final TupleContext tupleContext = persister.getTupleContext( null );
+
+			partitionedScanGridDialect = sessionFactory.getServiceRegistry().getService( PartitionedScanGridDialect.class );
+			partitions = partitionedScanGridDialect == null
+					? null
+					: partitionedScanGridDialect.getTuplePartitions( keyMetadata, tupleContext, threadsToLoadObjects );
+			int numberOfProducers = partitions == null ? 1 : partitions.size();
+
+			// a few batches per consumer are enough to keep them busy and limit the number of tuples kept in memory
+			final ProducerConsumerQueue<List<Tuple>> batches = new ProducerConsumerQueue<List<Tuple>>( 2 * threadsToLoadObjects, numberOfProducers );
+			final SessionAwareRunnable indexer = new TupleIndexer( indexedType, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
+			final OptionallyWrapInJTATransaction consumer = new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, indexer );
+			for ( int i = 0; i < threadsToLoadObjects; i++ ) {
+				consumers.execute( new TupleBatchConsumer( batches, consumer, errorHandler ) );
+			}
 
-			final SessionAwareRunnable consumer = new TupleIndexer( indexedType, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
-			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleContext( null ), keyMetadata );
+			if ( partitions == null ) {
+				TupleBatcher producer = new TupleBatcher( indexedType, batches, batchSizeToLoadObjects );
+				try {
+					gridDialect.forEachTuple( producer, tupleContext, keyMetadata );
+					producer.flush();
+				}
+				finally {
+					batches.producerStopping();
+				}
+			}
+			else {
+				log.debugf( "Iterating over %d partitions of entity type %s", partitions.size(), indexedType.getName() );
+				producers = Executors.newFixedThreadPool( Math.min( numberOfProducers, threadsToLoadObjects ), "tupleproducer" );
+				for ( TuplePartition partition : partitions ) {
+					producers.execute( new PartitionScanner( partitionedScanGridDialect, partition, tupleContext, keyMetadata, batches, errorHandler ) );
+				}
+			}
 		}
 		catch ( RuntimeException re ) {
 			// being this an async thread we want to make sure everything is somehow reported
 			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), re );
 		}
 		finally {
+			if ( producers != null ) {
+				producers.shutdown();
+				awaitTermination( producers );
+			}
+			if ( partitions != null ) {
+				closePartitions( partitionedScanGridDialect, partitions, errorHandler );
+			}
+			consumers.shutdown();
+			awaitTermination( consumers );
 			endAllSignal.countDown();
 		}
 	}
+
+	private void closePartitions(PartitionedScanGridDialect partitionedScanGridDialect, List<TuplePartition> partitions, ErrorHandler errorHandler) {
+		try {
+			partitionedScanGridDialect.closePartitions( partitions );
+		}
+		catch ( RuntimeException re ) {
+			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), re );
+		}
+	}
+
+	private void awaitTermination(ExecutorService executor) {
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch ( InterruptedException e ) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Iterates over one partition of the tuples of the indexed type, several instances run in parallel.
+	 */
+	private class PartitionScanner implements Runnable {
+
+		private final PartitionedScanGridDialect gridDialect;
+		private final TuplePartition partition;
+		private final TupleContext tupleContext;
+		private final EntityKeyMetadata keyMetadata;
+		private final ProducerConsumerQueue<List<Tuple>> batches;
+		private final ErrorHandler errorHandler;
+
+		public PartitionScanner(PartitionedScanGridDialect gridDialect, TuplePartition partition, TupleContext tupleContext,
+				EntityKeyMetadata keyMetadata, ProducerConsumerQueue<List<Tuple>> batches, ErrorHandler errorHandler) {
+			this.gridDialect = gridDialect;
+			this.partition = partition;
+			this.tupleContext = tupleContext;
+			this.keyMetadata = keyMetadata;
+			this.batches = batches;
+			this.errorHandler = errorHandler;
+		}
+
+		@Override
+		public void run() {
+			TupleBatcher producer = new TupleBatcher( indexedType, batches, batchSizeToLoadObjects );
+			try {
+				gridDialect.forEachTuple( producer, tupleContext, keyMetadata, partition );
+				producer.flush();
+			}
+			catch ( RuntimeException re ) {
+				errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), re );
+			}
+			finally {
+				batches.producerStopping();
+			}
+		}
+	}
 }
@@ -45,6 +45,8 @@ public class OgmMassIndexer implements MassIndexerWithTenant {
 	private boolean purgeAllOnStart = true;
 	private String tenantId;
 	private int typesToIndexInParallel = 1;
+	private int threadsToLoadObjects = 6;
+	private int batchSizeToLoadObjects = 10;
 
 	private final Set<Class<?>> rootEntities;
 
@@ -62,7 +64,8 @@ private MassIndexerProgressMonitor createMonitor(ExtendedSearchIntegrator search
 
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
-		log.unsupportedIndexerConfigurationOption( "threadsToLoadObjects" );
+		atLeastOneValidation( numberOfThreads );
+		this.threadsToLoadObjects = numberOfThreads;
 		return this;
 	}
 
@@ -74,7 +77,10 @@ public MassIndexerWithTenant tenantIdentifier(String tenantIdentifier) {
 
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
-		log.unsupportedIndexerConfigurationOption( "batchSizeToLoadObjects" );
+		if ( batchSize < 1 ) {
+			throw log.massIndexerOptionMustBeAtLeastOne( "batchSizeToLoadObjects", batchSize );
+		}
+		this.batchSizeToLoadObjects = batchSize;
 		return this;
 	}
 
@@ -157,8 +163,8 @@ public void startAndWait() throws InterruptedException {
 	}
 
 	protected BatchCoordinator createCoordinator() {
-		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, cacheMode, optimizeOnFinish,
-				purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
+		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, threadsToLoadObjects,
+				batchSizeToLoadObjects, cacheMode, optimizeOnFinish, purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
 	}
 
 	private void atLeastOneValidation(int numberOfThreads) {
@@ -0,0 +1,53 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.List;
+
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.search.exception.ErrorHandler;
+import org.hibernate.search.util.logging.impl.Log;
+import org.hibernate.search.util.logging.impl.LoggerFactory;
+
+/**
+ * Component of batch-indexing pipeline, using chained producer-consumers.
+ * <p>
+ * Takes the batches of tuples created by the {@link TupleBatcher} from the queue and indexes them until the producer
+ * has finished; several instances run in parallel.
+ */
+public class TupleBatchConsumer implements Runnable {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final ProducerConsumerQueue<List<Tuple>> source;
+	private final OptionallyWrapInJTATransaction indexer;
+	private final ErrorHandler errorHandler;
+
+	public TupleBatchConsumer(ProducerConsumerQueue<List<Tuple>> source, OptionallyWrapInJTATransaction indexer, ErrorHandler errorHandler) {
+		this.source = source;
+		this.indexer = indexer;
+		this.errorHandler = errorHandler;
+	}
+
+	@Override
+	public void run() {
+		try {
+			List<Tuple> batch = source.take();
+			while ( batch != null ) {
+				indexer.consume( batch );
+				batch = source.take();
+			}
+		}
+		catch (InterruptedException e) {
+			// just quit
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException re) {
+			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), re );
+		}
+	}
+}
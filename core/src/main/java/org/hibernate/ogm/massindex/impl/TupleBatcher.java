@@ -0,0 +1,72 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+
+/**
+ * Component of batch-indexing pipeline, using chained producer-consumers.
+ * <p>
+ * Groups the tuples returned by {@link org.hibernate.ogm.dialect.spi.GridDialect#forEachTuple} in batches and puts
+ * them in the queue read by the {@link TupleBatchConsumer}s. The datastore is not read faster than the tuples can be
+ * indexed: the iteration blocks while the queue is full.
+ */
+public class TupleBatcher implements ModelConsumer {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final Class<?> indexedType;
+	private final ProducerConsumerQueue<List<Tuple>> destination;
+	private final int batchSize;
+
+	private List<Tuple> batch;
+
+	public TupleBatcher(Class<?> indexedType, ProducerConsumerQueue<List<Tuple>> destination, int batchSize) {
+		this.indexedType = indexedType;
+		this.destination = destination;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public synchronized void consume(Tuple tuple) {
+		if ( batch == null ) {
+			batch = new ArrayList<Tuple>( batchSize );
+		}
+		batch.add( tuple );
+		if ( batch.size() == batchSize ) {
+			enqueueBatch();
+		}
+	}
+
+	/**
+	 * Enqueues the last, incomplete, batch; to be called once the iteration over the tuples is finished.
+	 */
+	public synchronized void flush() {
+		if ( batch != null ) {
+			enqueueBatch();
+		}
+	}
+
+	private void enqueueBatch() {
+		try {
+			destination.put( batch );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.interruptedMassIndexing( indexedType.getName(), e );
+		}
+		finally {
+			batch = null;
+		}
+	}
+}
@@ -8,7 +8,6 @@
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -44,8 +43,8 @@
 /**
  * Component of batch-indexing pipeline, using chained producer-consumers.
  * <p>
- * This Runnable will consume {@link Tuple} objects taken one-by-one and it will create an {@link AddLuceneWork} for the
- * corresponding entity.
+ * This Runnable will consume batches of {@link Tuple} objects: the entities of a batch are loaded together using a
+ * single session and transaction and an {@link AddLuceneWork} is created for each of them.
  *
  * @author Sanne Grinovero
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
@@ -78,16 +77,18 @@ public TupleIndexer(Class<?> indexedType, MassIndexerProgressMonitor monitor,
 		serviceManager = searchIntegrator.getServiceManager();
 	}
 
-	private void index(Session session, Object entity) {
+	private void index(Session session, List<Object> entities) {
 		try {
 			final InstanceInitializer sessionInitializer = new HibernateSessionLoadingInitializer(
 					(SessionImplementor) session );
 			final ConversionContext contextualBridge = new ContextualExceptionBridgeHelper();
 
-			// trick to attach the objects to session:
-			session.buildLockRequest( LockOptions.NONE ).lock( entity );
-			index( entity, session, sessionInitializer, contextualBridge );
-			monitor.documentsBuilt( 1 );
+			for ( Object entity : entities ) {
+				// trick to attach the objects to session:
+				session.buildLockRequest( LockOptions.NONE ).lock( entity );
+				index( entity, session, sessionInitializer, contextualBridge );
+				monitor.documentsBuilt( 1 );
+			}
 			session.clear();
 		}
 		catch ( InterruptedException e ) {
@@ -180,11 +181,13 @@ private void close(Session upperSession, Session session) {
 	}
 
 	@Override
-	public void run(Session upperSession, Tuple tuple) {
+	public void run(Session upperSession, List<Tuple> tuples) {
 		Session session = openSession( upperSession );
 		try {
 			Transaction transaction = beginTransaction( session );
-			index( session, entity( session, tuple ) );
+			List<Object> entities = entities( session, tuples );
+			monitor.entitiesLoaded( entities.size() );
+			index( session, entities );
 			transaction.commit();
 		}
 		catch ( Throwable e ) {
@@ -196,16 +199,14 @@ public void run(Session upperSession, Tuple tuple) {
 		}
 	}
 
-	private Object entity(Session session, Tuple tuple) {
+	private List<Object> entities(Session session, List<Tuple> tuples) {
 		SessionImplementor sessionImplementor = (SessionImplementor) session;
 		OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getEntityPersister( indexedType.getName() );
 
 		TupleBasedEntityLoader loader = (TupleBasedEntityLoader) persister.getAppropriateLoader( LockOptions.READ, sessionImplementor );
 
 		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( Collections.singletonList( tuple ) );
-		List<Object> entities = loader.loadEntitiesFromTuples( sessionImplementor, LockOptions.NONE, ogmLoadingContext );
-
-		return entities.get( 0 );
+		ogmLoadingContext.setTuples( tuples );
+		return loader.loadEntitiesFromTuples( sessionImplementor, LockOptions.NONE, ogmLoadingContext );
 	}
 }
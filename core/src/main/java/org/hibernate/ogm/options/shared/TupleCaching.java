@@ -0,0 +1,47 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.options.shared;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.ogm.options.shared.impl.TupleCachingConverter;
+import org.hibernate.ogm.options.spi.MappingOption;
+import org.hibernate.ogm.util.Experimental;
+
+/**
+ * Marks an entity whose tuples and associations are kept in the tuple cache of the session factory once read, so
+ * further reads are served without accessing the datastore. Only has an effect if the cache is enabled via
+ * {@code hibernate.ogm.datastore.tuple_cache.max_entries}.
+ * <p>
+ * Entries are invalidated upon writes done through Hibernate OGM, but not upon changes applied to the datastore by
+ * other means; this is best suited for reference data which rarely changes.
+ */
+@Experimental
+@Target(TYPE)
+@Retention(RUNTIME)
+@MappingOption(TupleCachingConverter.class)
+public @interface TupleCaching {
+
+	/**
+	 * Specifies the time after which a cached entry expires and is read from the datastore again.
+	 *
+	 * @return the time to live of the cached entries, {@code 0} if they never expire
+	 */
+	long timeToLive() default 0;
+
+	/**
+	 * Specifies the unit of {@link #timeToLive()}.
+	 *
+	 * @return the unit of the time to live
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,23 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.options.shared.impl;
+
+import org.hibernate.ogm.options.shared.TupleCaching;
+import org.hibernate.ogm.options.spi.AnnotationConverter;
+import org.hibernate.ogm.options.spi.OptionValuePair;
+
+/**
+ * Converts {@link TupleCaching} annotations into an equivalent option value pair.
+ */
+public class TupleCachingConverter implements AnnotationConverter<TupleCaching> {
+
+	@Override
+	public OptionValuePair<?> convert(TupleCaching annotation) {
+		Long timeToLive = annotation.timeUnit().toMillis( annotation.timeToLive() );
+		return OptionValuePair.getInstance( new TupleCachingOption(), timeToLive );
+	}
+}
@@ -0,0 +1,16 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.options.shared.impl;
+
+import org.hibernate.ogm.options.spi.UniqueOption;
+
+/**
+ * Option for caching the tuples and associations of an entity. The value is the time to live of the cached entries in
+ * milliseconds, {@code 0} if they never expire; entities without this option are not cached.
+ */
+public class TupleCachingOption extends UniqueOption<Long> {
+}
@@ -9,8 +9,12 @@
 import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
@@ -29,9 +33,12 @@
 import org.hibernate.loader.collection.CollectionInitializer;
 import org.hibernate.mapping.Collection;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.jdbc.impl.TupleAsMapResultSet;
 import org.hibernate.ogm.loader.impl.OgmBasicCollectionLoader;
 import org.hibernate.ogm.model.impl.DefaultAssociatedEntityKeyMetadata;
@@ -86,6 +93,8 @@ public class OgmCollectionPersister extends AbstractCollectionPersister implemen
 	private final GridType gridTypeOfAssociatedId;
 	private final AssociationType associationType;
 	private final GridDialect gridDialect;
+	private final MultigetGridDialect multigetGridDialect;
+	private final MultigetAssociationGridDialect multigetAssociationGridDialect;
 	private final AssociationKeyMetadata associationKeyMetadata;
 
 	/**
@@ -113,6 +122,8 @@ public OgmCollectionPersister(final Collection collection, final CollectionRegio
 		ServiceRegistry registry = factory.getServiceRegistry();
 		final TypeTranslator typeTranslator = registry.getService( TypeTranslator.class );
 		this.gridDialect = registry.getService( GridDialect.class );
+		this.multigetGridDialect = registry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = registry.getService( MultigetAssociationGridDialect.class );
 
 		keyGridType = typeTranslator.getType( getKeyType() );
 		elementGridType = typeTranslator.getType( getElementType() );
@@ -322,6 +333,7 @@ protected int doUpdateRows(Serializable key, PersistentCollection collection, Se
 		int i = 0;
 		Iterator<?> entries = collection.entries( this );
 		AssociationPersister associationPersister = getAssociationPersister( collection.getOwner(), key, session );
+		InverseSideUpdates inverseSideUpdates = new InverseSideUpdates( session );
 
 		while ( entries.hasNext() ) {
 			Object entry = entries.next();
@@ -335,7 +347,7 @@ protected int doUpdateRows(Serializable key, PersistentCollection collection, Se
 
 				// update the matching element
 				// FIXME update the associated entity key data
-				updateInverseSideOfAssociationNavigation( session, entry, associationPersister.getAssociationKey(), assocEntryTuple, Action.REMOVE, assocEntryKey );
+				inverseSideUpdates.record( entry, associationPersister.getAssociationKey(), assocEntryTuple, Action.REMOVE, assocEntryKey );
 
 				getElementGridType().nullSafeSet(
 						assocEntryTuple,
@@ -347,13 +359,15 @@ protected int doUpdateRows(Serializable key, PersistentCollection collection, Se
 				// put back entry tuple to actually apply changes to the store
 				associationPersister.getAssociation().put( assocEntryKey, assocEntryTuple );
 
-				updateInverseSideOfAssociationNavigation( session, entry, associationPersister.getAssociationKey(), assocEntryTuple, Action.ADD, assocEntryKey );
+				inverseSideUpdates.record( entry, associationPersister.getAssociationKey(), assocEntryTuple, Action.ADD, assocEntryKey );
 
 				count++;
 			}
 			i++;
 		}
 
+		inverseSideUpdates.flush();
+
 		// need to put the data back in the cache
 		associationPersister.flushToDatastore();
 
@@ -504,6 +518,7 @@ public void deleteRows(PersistentCollection collection, Serializable id, Session
 			// delete all the deleted entries
 			Iterator<?> deletes = collection.getDeletes( this, !deleteByIndex );
 			if ( deletes.hasNext() ) {
+				InverseSideUpdates inverseSideUpdates = new InverseSideUpdates( session );
 				int count = 0;
 				while ( deletes.hasNext() ) {
 					Object entry = deletes.next();
@@ -514,12 +529,13 @@ public void deleteRows(PersistentCollection collection, Serializable id, Session
 						throw new AssertionFailure( "Deleting a collection tuple that is not present: " + "table {" + getTableName() + "} collectionKey {" + id + "} entry {" + entry + "}" );
 					}
 					// delete the tuple
-					updateInverseSideOfAssociationNavigation( session, entry, associationPersister.getAssociationKey(), assocEntryTuple, Action.REMOVE, assocEntryKey );
+					inverseSideUpdates.record( entry, associationPersister.getAssociationKey(), assocEntryTuple, Action.REMOVE, assocEntryKey );
 					associationPersister.getAssociation().remove( assocEntryKey );
 
 					count++;
 				}
 
+				inverseSideUpdates.flush();
 				associationPersister.flushToDatastore();
 
 				if ( log.isDebugEnabled() ) {
@@ -547,6 +563,7 @@ public void insertRows(PersistentCollection collection, Serializable id, Session
 			// insert all the new entries
 			collection.preInsert( this );
 			Iterator<?> entries = collection.entries( this );
+			InverseSideUpdates inverseSideUpdates = new InverseSideUpdates( session );
 			int i = 0;
 			int count = 0;
 			while ( entries.hasNext() ) {
@@ -554,13 +571,14 @@ public void insertRows(PersistentCollection collection, Serializable id, Session
 				if ( collection.needsInserting( entry, i, elementType ) ) {
 					// TODO: copy/paste from recreate()
 					RowKeyAndTuple associationRow = createAndPutAssociationRowForInsert( id, collection, associationPersister, session, i, entry );
-					updateInverseSideOfAssociationNavigation( session, entry, associationPersister.getAssociationKey(), associationRow.tuple, Action.ADD, associationRow.key );
+					inverseSideUpdates.record( entry, associationPersister.getAssociationKey(), associationRow.tuple, Action.ADD, associationRow.key );
 					collection.afterRowInsert( this, entry, i );
 					count++;
 				}
 				i++;
 			}
 
+			inverseSideUpdates.flush();
 			associationPersister.flushToDatastore();
 
 			if ( log.isDebugEnabled() ) {
@@ -585,6 +603,7 @@ public void recreate(PersistentCollection collection, Serializable id, SessionIm
 			Iterator<?> entries = collection.entries( this );
 			if ( entries.hasNext() ) {
 				collection.preInsert( this );
+				InverseSideUpdates inverseSideUpdates = new InverseSideUpdates( session );
 				int i = 0;
 				int count = 0;
 				while ( entries.hasNext() ) {
@@ -592,13 +611,14 @@ public void recreate(PersistentCollection collection, Serializable id, SessionIm
 					if ( collection.entryExists( entry, i ) ) {
 						// TODO: copy/paste from insertRows()
 						RowKeyAndTuple keyAndTuple = createAndPutAssociationRowForInsert( id, collection, associationPersister, session, i, entry );
-						updateInverseSideOfAssociationNavigation( session, entry, associationPersister.getAssociationKey(), keyAndTuple.tuple, Action.ADD, keyAndTuple.key );
+						inverseSideUpdates.record( entry, associationPersister.getAssociationKey(), keyAndTuple.tuple, Action.ADD, keyAndTuple.key );
 						collection.afterRowInsert( this, entry, i );
 						count++;
 					}
 					i++;
 				}
 
+				inverseSideUpdates.flush();
 				associationPersister.flushToDatastore();
 
 				if ( log.isDebugEnabled() ) {
@@ -614,76 +634,249 @@ public void recreate(PersistentCollection collection, Serializable id, SessionIm
 		}
 	}
 
-	private void updateInverseSideOfAssociationNavigation(SessionImplementor session, Object entity, AssociationKey associationKey, Tuple associationRow, Action action, RowKey rowKey) {
-		if ( associationType == AssociationType.EMBEDDED_FK_TO_ENTITY ) {
-			// update the associated object
-			Serializable entityId = (Serializable) gridTypeOfAssociatedId.nullSafeGet( associationRow, getElementColumnNames(), session, null );
-			OgmEntityPersister persister = (OgmEntityPersister) getElementPersister();
-			final EntityKey entityKey = EntityKeyBuilder.fromPersister( persister, entityId, session );
+	/**
+	 * Gathers the changes to be applied to the inverse side of the association navigation while a collection action
+	 * iterates over its rows and applies them at once. Each associated entity and each inverse association is read
+	 * and written only once per action, using multi-get reads if supported by the dialect.
+	 */
+	private class InverseSideUpdates {
 
-			final Tuple entityTuple = gridDialect.getTuple( entityKey, persister.getTupleContext( session ) );
-			// the entity tuple could already be gone (not 100% sure this can happen but that feels right)
-			if ( entityTuple == null ) {
-				return;
-			}
-			if ( action == Action.ADD ) {
-				for ( String columnName : associationKey.getColumnNames() ) {
-					entityTuple.put( columnName, associationRow.get( columnName ) );
+		private final SessionImplementor session;
+		private final Map<EntityKey, List<EntityTupleChange>> entityTupleChanges = new LinkedHashMap<EntityKey, List<EntityTupleChange>>();
+		private final Map<AssociationKey, InverseAssociationChanges> inverseAssociationChanges = new LinkedHashMap<AssociationKey, InverseAssociationChanges>();
+
+		private InverseSideUpdates(SessionImplementor session) {
+			this.session = session;
+		}
+
+		/**
+		 * Records the change of the inverse side resulting from adding or removing the given association row. The
+		 * values of the row are copied, so it may be altered afterwards.
+		 */
+		private void record(Object entity, AssociationKey associationKey, Tuple associationRow, Action action, RowKey rowKey) {
+			if ( associationType == AssociationType.EMBEDDED_FK_TO_ENTITY ) {
+				// update the associated object
+				Serializable entityId = (Serializable) gridTypeOfAssociatedId.nullSafeGet( associationRow, getElementColumnNames(), session, null );
+				OgmEntityPersister persister = (OgmEntityPersister) getElementPersister();
+				EntityKey entityKey = EntityKeyBuilder.fromPersister( persister, entityId, session );
+
+				if ( action == Action.ADD ) {
+					String[] columnNames = associationKey.getColumnNames();
+					Object[] columnValues = new Object[columnNames.length];
+					for ( int i = 0; i < columnNames.length; i++ ) {
+						columnValues[i] = associationRow.get( columnNames[i] );
+					}
+					addEntityTupleChange( entityKey, new EntityTupleChange( action, columnNames, columnValues ) );
+				}
+				else if ( action == Action.REMOVE ) {
+					if ( hasIdentifier ) {
+						throw new AssertionFailure( "A true OneToMany with an identifier for the collection: " + getRole() );
+					}
+					addEntityTupleChange( entityKey, new EntityTupleChange( action, null, null ) );
+				}
+				else {
+					throw new AssertionFailure( "Unknown action type: " + action );
 				}
 			}
-			else if ( action == Action.REMOVE ) {
-				if ( hasIdentifier ) {
-					throw new AssertionFailure( "A true OneToMany with an identifier for the collection: " + getRole() );
+			else if ( associationType == AssociationType.ASSOCIATION_TABLE_TO_ENTITY ) {
+				String[] elementColumnNames = getElementColumnNames();
+				Object[] elementColumnValues = LogicalPhysicalConverterHelper.getColumnValuesFromResultset( associationRow, elementColumnNames );
+				Serializable entityId = (Serializable) gridTypeOfAssociatedId.nullSafeGet( associationRow, getElementColumnNames(), session, null );
+
+				if ( inverseCollectionPersister == null ) {
+					return;
+				}
+
+				if ( entity == null ) {
+					entity = session.getPersistenceContext().getEntity( session.generateEntityKey( entityId, getElementPersister() ) );
+				}
+
+				AssociationPersister associationPersister = inverseCollectionPersister.getAssociationPersister( entity, elementColumnValues, session );
+
+				// TODO what happens when a row should be *updated* ?: I suspect ADD works OK as it's a put()
+				if ( action == Action.ADD ) {
+					RowKey inverseRowKey = getInverseRowKey( associationRow );
+
+					Tuple inverseAssociationRow = new Tuple();
+					for ( String columnName : inverseRowKey.getColumnNames() ) {
+						inverseAssociationRow.put( columnName, associationRow.get( columnName ) );
+					}
+					addInverseAssociationChange( associationPersister, new InverseAssociationRowChange( action, inverseRowKey, inverseAssociationRow ) );
+				}
+				else if ( action == Action.REMOVE ) {
+					// we try and match the whole tuple as it should be on both sides of the navigation
+					if ( rowKey == null ) {
+						throw new AssertionFailure( "Deleting a collection tuple that is not present: " + "table {"
+								+ getTableName() + "} key column names {" + Arrays.toString( elementColumnNames )
+								+ "} key column values {" + Arrays.toString( elementColumnValues ) + "}" );
+					}
+
+					RowKey inverseRowKey = getInverseRowKey( associationRow );
+					addInverseAssociationChange( associationPersister, new InverseAssociationRowChange( action, inverseRowKey, null ) );
+				}
+				else {
+					throw new AssertionFailure( "Unknown action type: " + action );
 				}
-				keyGridType.nullSafeSet( entityTuple, null, getKeyColumnNames(), session );
 			}
-			else {
-				throw new AssertionFailure( "Unknown action type: " + action );
+		}
+
+		private void addEntityTupleChange(EntityKey entityKey, EntityTupleChange change) {
+			List<EntityTupleChange> changes = entityTupleChanges.get( entityKey );
+			if ( changes == null ) {
+				changes = new ArrayList<EntityTupleChange>();
+				entityTupleChanges.put( entityKey, changes );
 			}
-			gridDialect.insertOrUpdateTuple( entityKey, entityTuple, persister.getTupleContext( session ) );
+			changes.add( change );
 		}
-		else if ( associationType == AssociationType.ASSOCIATION_TABLE_TO_ENTITY ) {
-			String[] elementColumnNames = getElementColumnNames();
-			Object[] elementColumnValues = LogicalPhysicalConverterHelper.getColumnValuesFromResultset( associationRow, elementColumnNames );
-			Serializable entityId = (Serializable) gridTypeOfAssociatedId.nullSafeGet( associationRow, getElementColumnNames(), session, null );
 
-			if ( inverseCollectionPersister == null ) {
+		private void addInverseAssociationChange(AssociationPersister associationPersister, InverseAssociationRowChange change) {
+			AssociationKey inverseAssociationKey = associationPersister.getAssociationKey();
+			InverseAssociationChanges changes = inverseAssociationChanges.get( inverseAssociationKey );
+			if ( changes == null ) {
+				changes = new InverseAssociationChanges( associationPersister );
+				inverseAssociationChanges.put( inverseAssociationKey, changes );
+			}
+			changes.rowChanges.add( change );
+		}
+
+		/**
+		 * Writes the recorded changes to the datastore.
+		 */
+		private void flush() {
+			flushEntityTupleChanges();
+			flushInverseAssociationChanges();
+		}
+
+		private void flushEntityTupleChanges() {
+			if ( entityTupleChanges.isEmpty() ) {
 				return;
 			}
 
-			if ( entity == null ) {
-				entity = session.getPersistenceContext().getEntity( session.generateEntityKey( entityId, getElementPersister() ) );
+			OgmEntityPersister persister = (OgmEntityPersister) getElementPersister();
+			TupleContext tupleContext = persister.getTupleContext( session );
+			EntityKey[] entityKeys = entityTupleChanges.keySet().toArray( new EntityKey[entityTupleChanges.size()] );
+			List<Tuple> entityTuples = getEntityTuples( entityKeys, tupleContext );
+
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				Tuple entityTuple = entityTuples.get( i );
+				// the entity tuple could already be gone (not 100% sure this can happen but that feels right)
+				if ( entityTuple == null ) {
+					continue;
+				}
+				for ( EntityTupleChange change : entityTupleChanges.get( entityKeys[i] ) ) {
+					if ( change.action == Action.ADD ) {
+						for ( int j = 0; j < change.columnNames.length; j++ ) {
+							entityTuple.put( change.columnNames[j], change.columnValues[j] );
+						}
+					}
+					else {
+						keyGridType.nullSafeSet( entityTuple, null, getKeyColumnNames(), session );
+					}
+				}
+				gridDialect.insertOrUpdateTuple( entityKeys[i], entityTuple, tupleContext );
 			}
 
-			AssociationPersister associationPersister = inverseCollectionPersister.getAssociationPersister( entity, elementColumnValues, session );
+			entityTupleChanges.clear();
+		}
 
-			// TODO what happens when a row should be *updated* ?: I suspect ADD works OK as it's a put()
-			if ( action == Action.ADD ) {
-				RowKey inverseRowKey = getInverseRowKey( associationRow );
+		private List<Tuple> getEntityTuples(EntityKey[] entityKeys, TupleContext tupleContext) {
+			if ( multigetGridDialect != null && entityKeys.length > 1 ) {
+				return multigetGridDialect.getTuples( entityKeys, tupleContext );
+			}
 
-				Tuple inverseAssociationRow = new Tuple();
-				associationPersister.getAssociation().put( inverseRowKey, inverseAssociationRow );
-				for ( String columnName : inverseRowKey.getColumnNames() ) {
-					inverseAssociationRow.put( columnName, associationRow.get( columnName ) );
-				}
-				associationPersister.getAssociation().put( inverseRowKey, inverseAssociationRow );
-			}
-			else if ( action == Action.REMOVE ) {
-				// we try and match the whole tuple as it should be on both sides of the navigation
-				if ( rowKey == null ) {
-					throw new AssertionFailure( "Deleting a collection tuple that is not present: " + "table {"
-							+ getTableName() + "} key column names {" + Arrays.toString( elementColumnNames )
-							+ "} key column values {" + Arrays.toString( elementColumnValues ) + "}" );
+			List<Tuple> entityTuples = new ArrayList<Tuple>( entityKeys.length );
+			for ( EntityKey entityKey : entityKeys ) {
+				entityTuples.add( gridDialect.getTuple( entityKey, tupleContext ) );
+			}
+			return entityTuples;
+		}
+
+		private void flushInverseAssociationChanges() {
+			if ( inverseAssociationChanges.isEmpty() ) {
+				return;
+			}
+
+			if ( multigetAssociationGridDialect != null && inverseAssociationChanges.size() > 1 ) {
+				loadInverseAssociations();
+			}
+
+			for ( InverseAssociationChanges changes : inverseAssociationChanges.values() ) {
+				Association association = changes.associationPersister.getAssociation();
+				for ( InverseAssociationRowChange change : changes.rowChanges ) {
+					if ( change.action == Action.ADD ) {
+						association.put( change.rowKey, change.row );
+					}
+					else {
+						association.remove( change.rowKey );
+					}
 				}
+				changes.associationPersister.flushToDatastore();
+			}
 
-				RowKey inverseRowKey = getInverseRowKey( associationRow );
-				associationPersister.getAssociation().remove( inverseRowKey );
+			inverseAssociationChanges.clear();
+		}
+
+		/**
+		 * Loads all the inverse associations to be updated at once; they all belong to the same collection role.
+		 */
+		private void loadInverseAssociations() {
+			int size = inverseAssociationChanges.size();
+			AssociationKey[] associationKeys = new AssociationKey[size];
+			AssociationContext[] associationContexts = new AssociationContext[size];
+			AssociationPersister[] associationPersisters = new AssociationPersister[size];
+
+			int i = 0;
+			for ( Map.Entry<AssociationKey, InverseAssociationChanges> entry : inverseAssociationChanges.entrySet() ) {
+				associationKeys[i] = entry.getKey();
+				associationPersisters[i] = entry.getValue().associationPersister;
+				associationContexts[i] = associationPersisters[i].getAssociationContext();
+				i++;
 			}
-			else {
-				throw new AssertionFailure( "Unknown action type: " + action );
+
+			List<Association> associations = multigetAssociationGridDialect.getAssociations( associationKeys, associationContexts );
+			for ( int j = 0; j < size; j++ ) {
+				Association association = associations.get( j );
+				if ( association == null ) {
+					association = gridDialect.createAssociation( associationKeys[j], associationContexts[j] );
+				}
+				associationPersisters[j].association( association );
 			}
+		}
+	}
 
-			associationPersister.flushToDatastore();
+	private static class EntityTupleChange {
+
+		private final Action action;
+		private final String[] columnNames;
+		private final Object[] columnValues;
+
+		private EntityTupleChange(Action action, String[] columnNames, Object[] columnValues) {
+			this.action = action;
+			this.columnNames = columnNames;
+			this.columnValues = columnValues;
+		}
+	}
+
+	private static class InverseAssociationChanges {
+
+		private final AssociationPersister associationPersister;
+		private final List<InverseAssociationRowChange> rowChanges = new ArrayList<InverseAssociationRowChange>();
+
+		private InverseAssociationChanges(AssociationPersister associationPersister) {
+			this.associationPersister = associationPersister;
+		}
+	}
+
+	private static class InverseAssociationRowChange {
+
+		private final Action action;
+		private final RowKey rowKey;
+		private final Tuple row;
+
+		private InverseAssociationRowChange(Action action, RowKey rowKey, Tuple row) {
+			this.action = action;
+			this.rowKey = rowKey;
+			this.row = row;
 		}
 	}
 
@@ -720,10 +913,9 @@ public void remove(Serializable id, SessionImplementor session) throws Hibernate
 			if ( association != null ) {
 				// shortcut to avoid loop if we can
 				if ( associationType != AssociationType.OTHER ) {
+					InverseSideUpdates inverseSideUpdates = new InverseSideUpdates( session );
 					for ( RowKey assocEntryKey : association.getKeys() ) {
-						// we unfortunately cannot mass change the update of the associated entity
-						updateInverseSideOfAssociationNavigation(
-								session,
+						inverseSideUpdates.record(
 								null,
 								associationPersister.getAssociationKey(),
 								association.get( assocEntryKey ),
@@ -731,6 +923,7 @@ public void remove(Serializable id, SessionImplementor session) throws Hibernate
 								assocEntryKey
 								);
 					}
+					inverseSideUpdates.flush();
 				}
 				association.clear();
 
@@ -582,11 +582,16 @@ public Object[] getDatabaseSnapshot(Serializable id, SessionImplementor session)
 		}
 
 		//snapshot is a Map in the end
-		final Tuple resultset = getResultsetById( id, session );
+		// the tuple as last written by this session, if the entity was loaded or inserted through it
+		Tuple resultset = getSessionTuple( id, session );
 
-		//if there is no resulting row, return null
-		if ( resultset == null || resultset.getSnapshot().isEmpty() ) {
-			return null;
+		if ( resultset == null ) {
+			resultset = getResultsetById( id, session );
+
+			//if there is no resulting row, return null
+			if ( resultset == null || resultset.getSnapshot().isEmpty() ) {
+				return null;
+			}
 		}
 		//otherwise return the "hydrated" state (ie. associations are not resolved)
 		GridType[] types = gridPropertyTypes;
@@ -1133,17 +1138,13 @@ else if ( ! isModifiableEntity( entry ) ) {
 				final EntityKey key = EntityKeyBuilder.fromPersister( this, id, session );
 				Tuple resultset = null;
 
-				if ( mightRequireInverseAssociationManagement || usesNonAtomicOptimisticLocking ) {
-					resultset = gridDialect.getTuple( key, getTupleContext( session ) );
+				// the optimistic locking check needs the current state of the datastore; otherwise the tuple as last
+				// written by this session is used, also for removing the entity from the inverse side of associations
+				if ( !usesNonAtomicOptimisticLocking ) {
+					resultset = getSessionTuple( entry );
 				}
-				else {
-					OgmEntityEntryState extraState = entry.getExtraState( OgmEntityEntryState.class );
-					if ( extraState != null ) {
-						resultset = extraState.getTuple();
-					}
-					if ( resultset == null ) {
-						resultset = gridDialect.getTuple( key, getTupleContext( session ) );
-					}
+				if ( resultset == null ) {
+					resultset = gridDialect.getTuple( key, getTupleContext( session ) );
 				}
 
 				final boolean useVersion = j == 0 && isVersioned();
@@ -1227,6 +1228,10 @@ resultset, getPropertyColumnNames( i ), session, object
 				if ( mightRequireInverseAssociationManagement ) {
 					addToInverseAssociations( resultset, j, id, session );
 				}
+
+				if ( entry != null ) {
+					OgmEntityEntryState.getStateFor( session, object ).setTuple( resultset );
+				}
 			}
 		}
 	}
@@ -1465,9 +1470,15 @@ public void delete(Serializable id, Object version, Object object, SessionImplem
 		Object[] loadedState = getLoadedState( id, session );
 		Tuple currentState = null;
 
-		if ( mightRequireInverseAssociationManagement || usesNonAtomicOptimisticLocking ) {
+		if ( usesNonAtomicOptimisticLocking ) {
 			currentState = gridDialect.getTuple( key, getTupleContext( session ) );
 		}
+		else if ( mightRequireInverseAssociationManagement ) {
+			currentState = getSessionTuple( session.getPersistenceContext().getEntry( object ) );
+			if ( currentState == null ) {
+				currentState = gridDialect.getTuple( key, getTupleContext( session ) );
+			}
+		}
 
 		if ( usesNonAtomicOptimisticLocking ) {
 			checkOptimisticLockingState( id, key, object, loadedState, version, session, currentState );
@@ -1528,6 +1539,34 @@ public void delete(Serializable id, Object version, Object object, SessionImplem
 		}
 	}
 
+	/**
+	 * Returns the tuple of the given entity as last written by the session, if the entity has been loaded or inserted
+	 * through the session; its snapshot represents the state as loaded, its current state includes the changes written
+	 * by the session since then.
+	 *
+	 * @return the tuple of the entity or {@code null} if it is not known to the session, in which case it must be read
+	 * from the datastore
+	 */
+	private static Tuple getSessionTuple(EntityEntry entry) {
+		if ( entry == null ) {
+			return null;
+		}
+
+		OgmEntityEntryState extraState = entry.getExtraState( OgmEntityEntryState.class );
+		return extraState != null ? extraState.getTuple() : null;
+	}
+
+	private Tuple getSessionTuple(Serializable id, SessionImplementor session) {
+		org.hibernate.engine.spi.EntityKey key = session.generateEntityKey( id, this );
+
+		Object entity = session.getPersistenceContext().getEntity( key );
+		if ( entity != null ) {
+			return getSessionTuple( session.getPersistenceContext().getEntry( entity ) );
+		}
+
+		return null;
+	}
+
 	private Object[] getLoadedState(Serializable id, SessionImplementor session) {
 		org.hibernate.engine.spi.EntityKey key = session.generateEntityKey( id, this );
 
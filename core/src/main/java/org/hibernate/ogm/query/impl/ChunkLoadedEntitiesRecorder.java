@@ -0,0 +1,75 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Records the entities loaded from the datastore while a {@link StreamingResultIterator} converts a chunk of tuples, so
+ * that exactly these entities can be evicted once the iteration moves on to the next chunk. Entities which were
+ * already managed by the session are not loaded again, so they are not recorded.
+ * <p>
+ * Chunks are converted in the thread iterating over the results, so the recording is bound to the current thread.
+ * Registered if {@link org.hibernate.ogm.cfg.OgmProperties#QUERY_EVICT_AFTER_CHUNK} is enabled.
+ */
+public class ChunkLoadedEntitiesRecorder implements PostLoadEventListener {
+
+	private static final ThreadLocal<Recording> CURRENT_RECORDING = new ThreadLocal<Recording>();
+
+	@Override
+	public void onPostLoad(PostLoadEvent event) {
+		Recording recording = CURRENT_RECORDING.get();
+		if ( recording != null && recording.session == event.getSession() ) {
+			recording.entities.add( event.getEntity() );
+		}
+	}
+
+	/**
+	 * Starts recording the entities loaded by the given session in the current thread.
+	 *
+	 * @param session the session loading the chunk
+	 * @return the recording, to be passed to {@link #stop(Recording)} once the chunk is loaded
+	 */
+	static Recording start(SessionImplementor session) {
+		Recording recording = new Recording( session, CURRENT_RECORDING.get() );
+		CURRENT_RECORDING.set( recording );
+		return recording;
+	}
+
+	/**
+	 * Stops the given recording, resuming the one it interrupted if any.
+	 *
+	 * @param recording a recording returned by {@link #start(SessionImplementor)}
+	 * @return the entities loaded while recording
+	 */
+	static List<Object> stop(Recording recording) {
+		if ( recording.interrupted != null ) {
+			CURRENT_RECORDING.set( recording.interrupted );
+		}
+		else {
+			CURRENT_RECORDING.remove();
+		}
+		return recording.entities;
+	}
+
+	static final class Recording {
+
+		private final SessionImplementor session;
+		private final Recording interrupted;
+		private final List<Object> entities = new ArrayList<Object>();
+
+		private Recording(SessionImplementor session, Recording interrupted) {
+			this.session = session;
+			this.interrupted = interrupted;
+		}
+	}
+}
@@ -36,6 +36,7 @@
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.AbstractQueryImpl;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.ogm.OgmSession;
 import org.hibernate.ogm.query.NoSQLQuery;
 import org.hibernate.type.Type;
 
@@ -168,7 +169,12 @@ public ScrollableResults scroll() throws HibernateException {
 
 	@Override
 	public Iterator<?> iterate() throws HibernateException {
-		throw new UnsupportedOperationException( "SQL queries do not currently support iteration" );
+		// OGM sessions scroll through native queries chunk by chunk; other sessions don't stream, so the results are
+		// loaded at once rather than executing the query twice
+		if ( !( session instanceof OgmSession ) ) {
+			return list().iterator();
+		}
+		return ( (StreamingScrollableResults) scroll( ScrollMode.FORWARD_ONLY ) ).iterator();
 	}
 
 	@Override
@@ -16,6 +16,7 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
+import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
@@ -29,6 +30,7 @@
 import org.hibernate.ogm.loader.impl.TupleBasedEntityLoader;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.impl.StreamingResultIterator.ChunkLoader;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.ogm.type.spi.TypeTranslator;
 import org.hibernate.type.Type;
@@ -48,6 +50,7 @@ public class OgmQueryLoader extends QueryLoader {
 	private final List<String> scalarColumns;
 	private final Type[] queryReturnTypes;
 	private final TypeTranslator typeTranslator;
+	private final StreamingOptions streamingOptions;
 
 	public OgmQueryLoader(QueryTranslatorImpl queryTranslator, SessionFactoryImplementor factory, SelectClause selectClause, BackendQuery<?> query, List<String> scalarColumns) {
 		super( queryTranslator, factory, selectClause );
@@ -57,6 +60,7 @@ public OgmQueryLoader(QueryTranslatorImpl queryTranslator, SessionFactoryImpleme
 		this.scalarColumns = scalarColumns;
 		this.queryReturnTypes = selectClause.getQueryReturnTypes();
 		this.typeTranslator = factory.getServiceRegistry().getService( TypeTranslator.class );
+		this.streamingOptions = StreamingOptions.getInstance( factory );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -83,23 +87,58 @@ protected List<?> list(SessionImplementor session, org.hibernate.engine.spi.Quer
 		}
 	}
 
+	/**
+	 * Executes the query, returning scrollable results which are loaded chunk by chunk while scrolling through them.
+	 *
+	 * @param session the session
+	 * @param queryParameters the query parameters
+	 * @return forward-only scrollable results
+	 */
+	public ScrollableResults scroll(SessionImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters) {
+		return new StreamingScrollableResults( iterate( session, queryParameters ), queryReturnTypes );
+	}
+
+	/**
+	 * Executes the query, returning an iterator which loads the results chunk by chunk while iterating over them.
+	 *
+	 * @param session the session
+	 * @param queryParameters the query parameters
+	 * @return an iterator over the results
+	 */
+	public StreamingResultIterator iterate(final SessionImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters) {
+		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+
+		ChunkLoader chunkLoader = new ChunkLoader() {
+
+			@Override
+			public List<?> load(List<Tuple> chunk) {
+				if ( hasScalars ) {
+					return listOfArrays( session, chunk.iterator() );
+				}
+				else {
+					return listOfEntities( session, queryReturnTypes, chunk.iterator() );
+				}
+			}
+		};
+
+		return new StreamingResultIterator(
+				tuples,
+				chunkLoader,
+				session,
+				streamingOptions.getFetchSize( queryParameters ),
+				streamingOptions.isEvictAfterChunk()
+		);
+	}
+
 	// At the moment we only support the case where one entity type is returned
-	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
+	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, Iterator<Tuple> tuples) {
 		Class<?> returnedClass = resultTypes[0].getReturnedClass();
 		TupleBasedEntityLoader loader = getLoader( session, returnedClass );
 		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( getTuplesAsList( tuples ) );
+		ogmLoadingContext.setTupleIterator( tuples );
 		return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
 	}
 
-	private List<Tuple> getTuplesAsList(ClosableIterator<Tuple> tuples) {
-		List<Tuple> tuplesAsList = new ArrayList<>();
-		while ( tuples.hasNext() ) {
-			tuplesAsList.add( tuples.next() );
-		}
-		return tuplesAsList;
-	}
-
 	private List<Object> listOfArrays(SessionImplementor session, Iterator<Tuple> tuples) {
 		List<Object> results = new ArrayList<Object>();
 		while ( tuples.hasNext() ) {
@@ -51,7 +51,7 @@
  * Neo4j or {@code DBObject}-based queries for MongoDB.
  * <p>
  * Query conversion is done by invoking the dialect's query parser service. Results are loaded through OgmQueryLoader.
- * Depending on whether a store supports parameterized queries (Neo4j does, MongoDB doesn't) we either use one and the
+ * Depending on whether a store supports parameterized queries (e.g. Neo4j and MongoDB do) we either use one and the
  * same loader for a query executed several times with different parameter values or we create a new loader for each set
  * of parameter values.
  *
@@ -88,6 +88,8 @@ public class OgmQueryTranslator extends LegacyParserBridgeQueryTranslator {
 	 * Not all stores support parameterized queries. As a temporary measure, we therefore cache created queries per set
 	 * of parameter values. At one point, this should be replaced by caching the AST after validation but before the
 	 * actual Lucene query is created.
+	 * <p>
+	 * Only created if the store doesn't support parameterized queries.
 	 */
 	private final ConcurrentMap<CacheKey, QueryParsingResult> queryCache;
 
@@ -99,7 +101,7 @@ public OgmQueryTranslator(SessionFactoryImplementor sessionFactory, QueryParserS
 		this.sessionFactory = sessionFactory;
 		this.filters = filters;
 
-		queryCache = new BoundedConcurrentHashMap<CacheKey, QueryParsingResult>(
+		queryCache = queryParser.supportsParameters() ? null : new BoundedConcurrentHashMap<CacheKey, QueryParsingResult>(
 				100,
 				20,
 				BoundedConcurrentHashMap.Eviction.LIRS
@@ -125,8 +127,11 @@ protected void doCompile(Map replacements, boolean shallow) throws QueryExceptio
 
 	@Override
 	public List<?> list(SessionImplementor session, QueryParameters queryParameters) throws HibernateException {
-		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
-		return loaderToUse.list( session, queryParameters );
+		return getLoaderToUse( queryParameters ).list( session, queryParameters );
+	}
+
+	private OgmQueryLoader getLoaderToUse(QueryParameters queryParameters) {
+		return loader != null ? loader : getLoader( queryParameters );
 	}
 
 	private <T> OgmQueryLoader getLoader(QueryParameters queryParameters) {
@@ -196,12 +201,12 @@ private Map<String, Object> getNamedParameterValuesConvertedByGridType(QueryPara
 
 	@Override
 	public Iterator<?> iterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		return getLoaderToUse( queryParameters ).iterate( session, queryParameters );
 	}
 
 	@Override
 	public ScrollableResults scroll(QueryParameters queryParameters, SessionImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		return getLoaderToUse( queryParameters ).scroll( session, queryParameters );
 	}
 
 	@Override
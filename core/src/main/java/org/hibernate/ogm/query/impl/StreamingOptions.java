@@ -0,0 +1,68 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Settings applying to the chunk-wise iteration over query results via {@link StreamingResultIterator}.
+ *
+ * @see OgmProperties#QUERY_FETCH_SIZE
+ * @see OgmProperties#QUERY_EVICT_AFTER_CHUNK
+ */
+public class StreamingOptions {
+
+	private static final int DEFAULT_FETCH_SIZE = 100;
+
+	private final int defaultFetchSize;
+	private final boolean evictAfterChunk;
+
+	private StreamingOptions(int defaultFetchSize, boolean evictAfterChunk) {
+		this.defaultFetchSize = defaultFetchSize;
+		this.evictAfterChunk = evictAfterChunk;
+	}
+
+	public static StreamingOptions getInstance(SessionFactoryImplementor factory) {
+		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader(
+				factory.getServiceRegistry().getService( ConfigurationService.class ).getSettings()
+		);
+
+		int fetchSize = propertyReader.property( OgmProperties.QUERY_FETCH_SIZE, int.class )
+				.withDefault( DEFAULT_FETCH_SIZE )
+				.getValue();
+
+		boolean evictAfterChunk = propertyReader.property( OgmProperties.QUERY_EVICT_AFTER_CHUNK, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		return new StreamingOptions( fetchSize, evictAfterChunk );
+	}
+
+	/**
+	 * Returns the number of tuples to convert at once; that's the fetch size given for the query if present, the
+	 * configured default fetch size otherwise.
+	 *
+	 * @param queryParameters the parameters of the executed query
+	 * @return the number of tuples to convert at once
+	 */
+	public int getFetchSize(QueryParameters queryParameters) {
+		RowSelection rowSelection = queryParameters.getRowSelection();
+		if ( rowSelection != null && rowSelection.getFetchSize() != null && rowSelection.getFetchSize() > 0 ) {
+			return rowSelection.getFetchSize();
+		}
+		return defaultFetchSize;
+	}
+
+	public boolean isEvictAfterChunk() {
+		return evictAfterChunk;
+	}
+}
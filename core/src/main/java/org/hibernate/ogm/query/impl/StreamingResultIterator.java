@@ -0,0 +1,160 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.Session;
+import org.hibernate.engine.HibernateIterator;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.query.impl.ChunkLoadedEntitiesRecorder.Recording;
+
+/**
+ * Iterates over the results of a query, converting the tuples returned by the datastore into results chunk by chunk.
+ * <p>
+ * Only the tuples and the results of the current chunk are referenced by the iterator, so the memory needed to iterate
+ * over a query result is bounded by the size of the chunks rather than by the size of the result. Optionally, the
+ * entities of a chunk can be evicted from the session once the iteration moves on to the next chunk, so that the
+ * persistence context doesn't grow with the number of results either. Only the entities loaded by the chunk, as recorded
+ * by {@link ChunkLoadedEntitiesRecorder}, are evicted; entities which were already managed by the session before are
+ * kept, together with their pending changes.
+ * <p>
+ * The underlying backend cursor is closed once all the tuples have been consumed or when {@link #close()} is invoked.
+ */
+public class StreamingResultIterator implements HibernateIterator {
+
+	private final ClosableIterator<Tuple> tuples;
+	private final ChunkLoader chunkLoader;
+	private final SessionImplementor session;
+	private final int chunkSize;
+	private final boolean evictAfterChunk;
+
+	private List<?> chunk = Collections.emptyList();
+	private List<Object> loadedByChunk = Collections.emptyList();
+	private int position = 0;
+	private boolean closed = false;
+
+	/**
+	 * @param tuples the tuples returned by the datastore
+	 * @param chunkLoader converts a chunk of tuples into the corresponding results
+	 * @param session the session in which the results are loaded
+	 * @param chunkSize the maximum number of tuples converted at once
+	 * @param evictAfterChunk whether the entities of a chunk should be evicted from the session once the iteration
+	 * moves on to the next chunk
+	 */
+	public StreamingResultIterator(ClosableIterator<Tuple> tuples, ChunkLoader chunkLoader, SessionImplementor session, int chunkSize, boolean evictAfterChunk) {
+		this.tuples = tuples;
+		this.chunkLoader = chunkLoader;
+		this.session = session;
+		this.chunkSize = chunkSize > 0 ? chunkSize : 1;
+		this.evictAfterChunk = evictAfterChunk;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while ( position >= chunk.size() ) {
+			if ( closed ) {
+				return false;
+			}
+			loadNextChunk();
+		}
+		return true;
+	}
+
+	@Override
+	public Object next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		return chunk.get( position++ );
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException( "Removing elements is not supported" );
+	}
+
+	/**
+	 * Whether the last returned element is the last one of the result. Other than {@link #hasNext()} this does not
+	 * trigger the loading of the next chunk.
+	 *
+	 * @return {@code true} if there are no further results, {@code false} otherwise
+	 */
+	boolean isAtEnd() {
+		return position >= chunk.size() && ( closed || !tuples.hasNext() );
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			tuples.close();
+		}
+	}
+
+	private void loadNextChunk() {
+		if ( evictAfterChunk ) {
+			evictLoadedByChunk();
+		}
+
+		List<Tuple> tuplesOfChunk = new ArrayList<Tuple>( chunkSize );
+		while ( tuplesOfChunk.size() < chunkSize && tuples.hasNext() ) {
+			tuplesOfChunk.add( tuples.next() );
+		}
+
+		position = 0;
+		if ( tuplesOfChunk.isEmpty() ) {
+			chunk = Collections.emptyList();
+			close();
+		}
+		else if ( evictAfterChunk ) {
+			Recording recording = ChunkLoadedEntitiesRecorder.start( session );
+			try {
+				chunk = chunkLoader.load( tuplesOfChunk );
+			}
+			finally {
+				loadedByChunk = ChunkLoadedEntitiesRecorder.stop( recording );
+			}
+		}
+		else {
+			chunk = chunkLoader.load( tuplesOfChunk );
+		}
+	}
+
+	/**
+	 * Evicts the entities loaded by the previous chunk, be they results or entities loaded along with them, e.g. via
+	 * an eager association.
+	 */
+	private void evictLoadedByChunk() {
+		if ( session instanceof Session ) {
+			for ( Object entity : loadedByChunk ) {
+				// the entity may have been evicted already, e.g. by the cascade from another one
+				if ( session.getPersistenceContext().getEntry( entity ) != null ) {
+					( (Session) session ).evict( entity );
+				}
+			}
+		}
+		loadedByChunk = Collections.emptyList();
+	}
+
+	/**
+	 * Converts a chunk of tuples into query results, e.g. entities or scalar values.
+	 */
+	public interface ChunkLoader {
+
+		/**
+		 * @param tuples the tuples to convert
+		 * @return the results corresponding to the given tuples
+		 */
+		List<?> load(List<Tuple> tuples);
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ScrollableResults;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * Forward-only {@link ScrollableResults} backed by a {@link StreamingResultIterator}, i.e. the results are loaded chunk
+ * by chunk while scrolling through them.
+ */
+public class StreamingScrollableResults implements ScrollableResults {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final StreamingResultIterator results;
+	private final Type[] types;
+
+	private Object[] currentRow;
+	private int rowNumber = -1;
+
+	/**
+	 * @param results the iterator providing the results
+	 * @param types the types of the columns of a result row, may be {@code null} if not known
+	 */
+	public StreamingScrollableResults(StreamingResultIterator results, Type[] types) {
+		this.results = results;
+		this.types = types;
+	}
+
+	/**
+	 * Returns an iterator over the results not consumed yet.
+	 *
+	 * @return an iterator over the remaining results
+	 */
+	public Iterator<?> iterator() {
+		return results;
+	}
+
+	@Override
+	public boolean next() {
+		rowNumber++;
+		if ( results.hasNext() ) {
+			Object result = results.next();
+			currentRow = result instanceof Object[] ? (Object[]) result : new Object[] { result };
+			return true;
+		}
+		currentRow = null;
+		return false;
+	}
+
+	@Override
+	public boolean previous() {
+		throw log.scrollableResultsAreForwardOnly( "previous()" );
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw log.scrollableResultsAreForwardOnly( "scroll(" + positions + ")" );
+		}
+		boolean onRow = currentRow != null;
+		for ( int i = 0; i < positions; i++ ) {
+			onRow = next();
+			if ( !onRow ) {
+				break;
+			}
+		}
+		return onRow;
+	}
+
+	@Override
+	public boolean last() {
+		throw log.scrollableResultsAreForwardOnly( "last()" );
+	}
+
+	@Override
+	public boolean first() {
+		if ( rowNumber == -1 ) {
+			return next();
+		}
+		if ( rowNumber == 0 ) {
+			return currentRow != null;
+		}
+		throw log.scrollableResultsAreForwardOnly( "first()" );
+	}
+
+	@Override
+	public void beforeFirst() {
+		if ( rowNumber != -1 ) {
+			throw log.scrollableResultsAreForwardOnly( "beforeFirst()" );
+		}
+	}
+
+	@Override
+	public void afterLast() {
+		throw log.scrollableResultsAreForwardOnly( "afterLast()" );
+	}
+
+	@Override
+	public boolean isFirst() {
+		return rowNumber == 0 && currentRow != null;
+	}
+
+	@Override
+	public boolean isLast() {
+		return currentRow != null && results.isAtEnd();
+	}
+
+	@Override
+	public int getRowNumber() {
+		return rowNumber;
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		if ( rowNumber < this.rowNumber || rowNumber < 0 ) {
+			throw log.scrollableResultsAreForwardOnly( "setRowNumber(" + rowNumber + ")" );
+		}
+		return scroll( rowNumber - this.rowNumber );
+	}
+
+	@Override
+	public void close() {
+		currentRow = null;
+		results.close();
+	}
+
+	@Override
+	public Object[] get() {
+		return currentRow;
+	}
+
+	@Override
+	public Object get(int i) {
+		if ( currentRow == null ) {
+			throw new HibernateException( "No current row" );
+		}
+		return currentRow[i];
+	}
+
+	@Override
+	public Type getType(int i) {
+		if ( types == null ) {
+			throw new HibernateException( "The types of the query results are not known" );
+		}
+		return types[i];
+	}
+
+	@Override
+	public Integer getInteger(int col) {
+		return (Integer) get( col );
+	}
+
+	@Override
+	public Long getLong(int col) {
+		return (Long) get( col );
+	}
+
+	@Override
+	public Float getFloat(int col) {
+		return (Float) get( col );
+	}
+
+	@Override
+	public Boolean getBoolean(int col) {
+		return (Boolean) get( col );
+	}
+
+	@Override
+	public Double getDouble(int col) {
+		return (Double) get( col );
+	}
+
+	@Override
+	public Short getShort(int col) {
+		return (Short) get( col );
+	}
+
+	@Override
+	public Byte getByte(int col) {
+		return (Byte) get( col );
+	}
+
+	@Override
+	public Character getCharacter(int col) {
+		return (Character) get( col );
+	}
+
+	@Override
+	public byte[] getBinary(int col) {
+		return (byte[]) get( col );
+	}
+
+	@Override
+	public String getText(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public Blob getBlob(int col) {
+		return (Blob) get( col );
+	}
+
+	@Override
+	public Clob getClob(int col) {
+		return (Clob) get( col );
+	}
+
+	@Override
+	public String getString(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int col) {
+		return (BigDecimal) get( col );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int col) {
+		return (BigInteger) get( col );
+	}
+
+	@Override
+	public Date getDate(int col) {
+		return (Date) get( col );
+	}
+
+	@Override
+	public Locale getLocale(int col) {
+		return (Locale) get( col );
+	}
+
+	@Override
+	public Calendar getCalendar(int col) {
+		return (Calendar) get( col );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int col) {
+		return (TimeZone) get( col );
+	}
+}
@@ -16,6 +16,7 @@
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.integrator.spi.IntegratorService;
 import org.hibernate.jpa.event.spi.JpaIntegrator;
+import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.cfg.impl.Version;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagingAutoFlushEventListener;
@@ -25,6 +26,8 @@
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagingPersistEventListener;
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagingPersistEventListener.EventContextManagingPersistEventListenerDuplicationStrategy;
 import org.hibernate.ogm.dialect.impl.SessionFactoryLifecycleAwareDialectInitializer;
+import org.hibernate.ogm.query.impl.ChunkLoadedEntitiesRecorder;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.service.spi.SessionFactoryServiceRegistry;
 
 /**
@@ -55,6 +58,22 @@ private void doIntegrate(Metadata metadata, SessionFactoryImplementor sessionFac
 		sessionFactory.addObserver( new SessionFactoryLifecycleAwareDialectInitializer() );
 
 		attachEventContextManagingListenersIfRequired( serviceRegistry );
+		attachChunkLoadedEntitiesRecorderIfRequired( serviceRegistry );
+	}
+
+	private void attachChunkLoadedEntitiesRecorderIfRequired(SessionFactoryServiceRegistry serviceRegistry) {
+		ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader(
+				serviceRegistry.getService( ConfigurationService.class ).getSettings()
+		);
+		boolean evictAfterChunk = propertyReader.property( OgmProperties.QUERY_EVICT_AFTER_CHUNK, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		if ( evictAfterChunk ) {
+			serviceRegistry.getService( EventListenerRegistry.class )
+					.getEventListenerGroup( EventType.POST_LOAD )
+					.appendListener( new ChunkLoadedEntitiesRecorder() );
+		}
 	}
 
 	private void attachEventContextManagingListenersIfRequired(SessionFactoryServiceRegistry serviceRegistry) {
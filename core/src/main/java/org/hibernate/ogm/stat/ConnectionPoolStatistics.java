@@ -0,0 +1,51 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.stat;
+
+import javax.management.MXBean;
+
+import org.hibernate.ogm.util.Experimental;
+
+/**
+ * Statistics about the pool of connections used by a datastore provider to talk to its datastore, e.g. the HTTP
+ * connections of the CouchDB and remote Neo4j clients.
+ * <p>
+ * The values reflect the state of the pool at the time of invocation. They are exposed as MBean if JMX is enabled via
+ * {@code hibernate.jmx.enabled}.
+ */
+@Experimental
+@MXBean
+public interface ConnectionPoolStatistics {
+
+	/**
+	 * Returns the number of connections currently in use.
+	 *
+	 * @return the number of connections currently leased from the pool
+	 */
+	int getLeasedConnections();
+
+	/**
+	 * Returns the number of requests waiting for a connection to become available.
+	 *
+	 * @return the number of requests blocked until a connection is released to the pool
+	 */
+	int getPendingRequests();
+
+	/**
+	 * Returns the number of idle connections kept alive by the pool.
+	 *
+	 * @return the number of connections available for reuse
+	 */
+	int getAvailableConnections();
+
+	/**
+	 * Returns the maximum number of connections of the pool.
+	 *
+	 * @return the maximum number of connections the pool will open
+	 */
+	int getMaxConnections();
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.stat;
+
+import org.hibernate.ogm.util.Experimental;
+
+/**
+ * Statistics about one grid dialect operation targeting a given entity table or association role. Latencies are
+ * given in nanoseconds; percentiles are approximated with a relative error of at most 12.5%.
+ */
+@Experimental
+public interface GridDialectOperationStatistics {
+
+	/**
+	 * @return the name of the grid dialect method, e.g. {@code getTuple}
+	 */
+	String getOperation();
+
+	/**
+	 * @return the entity table or association role targeted by the operation; the empty string if the operation does
+	 * not target a specific table
+	 */
+	String getTarget();
+
+	/**
+	 * @return the number of invocations, including the failed ones
+	 */
+	long getCount();
+
+	/**
+	 * @return the number of invocations which raised an exception
+	 */
+	long getErrorCount();
+
+	/**
+	 * @return the number of tuples, associations or batched operations read or written, for operations where it is
+	 * known; {@code 0} otherwise
+	 */
+	long getRowCount();
+
+	/**
+	 * @return the total time spent in the operation
+	 */
+	long getTotalLatency();
+
+	/**
+	 * @return the mean time spent per invocation
+	 */
+	long getMeanLatency();
+
+	/**
+	 * @return the longest time spent in one invocation
+	 */
+	long getMaxLatency();
+
+	/**
+	 * @return the median of the time spent per invocation
+	 */
+	long getMedianLatency();
+
+	/**
+	 * @return the 95th percentile of the time spent per invocation
+	 */
+	long getLatency95thPercentile();
+
+	/**
+	 * @return the 99th percentile of the time spent per invocation
+	 */
+	long getLatency99thPercentile();
+}
@@ -0,0 +1,57 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.stat;
+
+import java.util.List;
+
+import javax.management.MXBean;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.util.Experimental;
+
+/**
+ * Statistics about the operations invoked on the grid dialect, i.e. the time spent accessing the datastore, broken
+ * down by operation and by the entity table or association role they target.
+ * <p>
+ * Statistics are collected if enabled via {@link OgmProperties#DATASTORE_STATISTICS}. They are exposed as MBean if JMX
+ * is enabled via {@code hibernate.jmx.enabled}.
+ *
+ * @see OgmProperties#DATASTORE_STATISTICS
+ */
+@Experimental
+@MXBean
+public interface GridDialectStatistics {
+
+	/**
+	 * Whether statistics are collected or not.
+	 *
+	 * @return {@code true} if statistics are collected, {@code false} otherwise
+	 */
+	boolean isStatisticsEnabled();
+
+	/**
+	 * Returns the statistics of all the operations invoked so far.
+	 *
+	 * @return the statistics of each operation invoked so far and the table or role it targeted
+	 */
+	List<GridDialectOperationStatistics> getOperationStatistics();
+
+	/**
+	 * Returns the statistics of the given operation.
+	 *
+	 * @param operation the name of the grid dialect method, e.g. {@code getTuple}
+	 * @param target the entity table or the association role targeted by the operation; the empty string for
+	 * operations not targeting a specific table, such as {@code executeBackendQuery} for queries returning several entity types
+	 * @return the statistics of the given operation or {@code null} if it has not been invoked so far
+	 */
+	GridDialectOperationStatistics getOperationStatistics(String operation, String target);
+
+	/**
+	 * Resets all the statistics.
+	 */
+	void clear();
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.stat;
+
+import javax.management.MXBean;
+
+import org.hibernate.ogm.util.Experimental;
+
+/**
+ * Statistics about the cache of tuples and associations kept in front of the grid dialect, enabled via
+ * {@code hibernate.ogm.datastore.tuple_cache.max_entries}.
+ * <p>
+ * The counters are accumulated since the creation of the session factory or the last invocation of {@link #clear()}.
+ * They are exposed as MBean if JMX is enabled via {@code hibernate.jmx.enabled}.
+ */
+@Experimental
+@MXBean
+public interface TupleCacheStatistics {
+
+	/**
+	 * Returns the number of reads served from the cache.
+	 *
+	 * @return the number of tuples and associations read from the cache
+	 */
+	long getHitCount();
+
+	/**
+	 * Returns the number of reads of cacheable entries which were not served from the cache.
+	 *
+	 * @return the number of cacheable tuples and associations read from the datastore
+	 */
+	long getMissCount();
+
+	/**
+	 * Returns the number of entries added to the cache.
+	 *
+	 * @return the number of tuples and associations put into the cache
+	 */
+	long getPutCount();
+
+	/**
+	 * Returns the number of entries removed from the cache because the tuple or association has been written.
+	 *
+	 * @return the number of invalidated entries
+	 */
+	long getInvalidationCount();
+
+	/**
+	 * Returns the number of entries found in the cache after their time to live had elapsed.
+	 *
+	 * @return the number of expired entries
+	 */
+	long getExpirationCount();
+
+	/**
+	 * Returns the number of entries currently in the cache.
+	 *
+	 * @return the number of cached tuples and associations
+	 */
+	int getSize();
+
+	/**
+	 * Returns the maximum number of entries of the cache.
+	 *
+	 * @return the number of entries beyond which the cache evicts the entries accessed least frequently
+	 */
+	int getMaxEntries();
+
+	/**
+	 * Removes all the entries from the cache and resets the counters.
+	 */
+	void clear();
+}
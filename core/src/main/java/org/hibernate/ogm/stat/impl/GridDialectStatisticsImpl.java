@@ -0,0 +1,112 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.stat.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
+
+import org.hibernate.ogm.stat.GridDialectOperationStatistics;
+import org.hibernate.ogm.stat.GridDialectStatistics;
+import org.hibernate.ogm.stat.spi.GridDialectStatisticsImplementor;
+import org.hibernate.service.spi.Manageable;
+
+/**
+ * Default implementation of {@link GridDialectStatisticsImplementor}. Registered as MBean by the JMX service of
+ * Hibernate ORM, if enabled.
+ */
+public class GridDialectStatisticsImpl implements GridDialectStatisticsImplementor, Manageable {
+
+	private static final String NO_TARGET = "";
+
+	private final boolean statisticsEnabled;
+
+	/**
+	 * Statistics by operation and target; Nested maps avoid the creation of a key object upon each invocation.
+	 */
+	private final ConcurrentMap<String, ConcurrentMap<String, OperationStatisticsImpl>> statistics = new ConcurrentHashMap<>();
+
+	public GridDialectStatisticsImpl(boolean statisticsEnabled) {
+		this.statisticsEnabled = statisticsEnabled;
+	}
+
+	@Override
+	public boolean isStatisticsEnabled() {
+		return statisticsEnabled;
+	}
+
+	@Override
+	public void recordOperation(String operation, String target, long latency, int rowCount, boolean failed) {
+		getOrCreateStatistics( operation, target != null ? target : NO_TARGET ).record( latency, rowCount, failed );
+	}
+
+	private OperationStatisticsImpl getOrCreateStatistics(String operation, String target) {
+		ConcurrentMap<String, OperationStatisticsImpl> byTarget = statistics.get( operation );
+		if ( byTarget == null ) {
+			byTarget = new ConcurrentHashMap<>();
+			ConcurrentMap<String, OperationStatisticsImpl> existing = statistics.putIfAbsent( operation, byTarget );
+			if ( existing != null ) {
+				byTarget = existing;
+			}
+		}
+
+		OperationStatisticsImpl operationStatistics = byTarget.get( target );
+		if ( operationStatistics == null ) {
+			operationStatistics = new OperationStatisticsImpl( operation, target );
+			OperationStatisticsImpl existing = byTarget.putIfAbsent( target, operationStatistics );
+			if ( existing != null ) {
+				operationStatistics = existing;
+			}
+		}
+
+		return operationStatistics;
+	}
+
+	@Override
+	public List<GridDialectOperationStatistics> getOperationStatistics() {
+		List<GridDialectOperationStatistics> result = new ArrayList<>();
+		for ( ConcurrentMap<String, OperationStatisticsImpl> byTarget : statistics.values() ) {
+			result.addAll( byTarget.values() );
+		}
+		return result;
+	}
+
+	@Override
+	public GridDialectOperationStatistics getOperationStatistics(String operation, String target) {
+		ConcurrentMap<String, OperationStatisticsImpl> byTarget = statistics.get( operation );
+		return byTarget != null ? byTarget.get( target != null ? target : NO_TARGET ) : null;
+	}
+
+	@Override
+	public void clear() {
+		statistics.clear();
+	}
+
+	@Override
+	public String getManagementDomain() {
+		return null;
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		return GridDialectStatistics.class.getName();
+	}
+
+	@Override
+	public Object getManagementBean() {
+		try {
+			return new StandardMBean( this, GridDialectStatistics.class, true );
+		}
+		catch (NotCompliantMBeanException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.stat.impl;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.stat.spi.GridDialectStatisticsImplementor;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Contributes the {@link GridDialectStatisticsImplementor} service.
+ */
+@SuppressWarnings("rawtypes")
+public class GridDialectStatisticsInitiator implements StandardServiceInitiator<GridDialectStatisticsImplementor> {
+
+	public static final GridDialectStatisticsInitiator INSTANCE = new GridDialectStatisticsInitiator();
+
+	private GridDialectStatisticsInitiator() {
+	}
+
+	@Override
+	public Class<GridDialectStatisticsImplementor> getServiceInitiated() {
+		return GridDialectStatisticsImplementor.class;
+	}
+
+	@Override
+	public GridDialectStatisticsImplementor initiateService(Map configurationValues, ServiceRegistryImplementor registry) {
+		boolean enabled = new ConfigurationPropertyReader( configurationValues )
+				.property( OgmProperties.DATASTORE_STATISTICS, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		return new GridDialectStatisticsImpl( enabled );
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.stat.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.hibernate.ogm.stat.GridDialectOperationStatistics;
+
+/**
+ * Thread-safe statistics of one operation and target.
+ * <p>
+ * Latencies are recorded in a histogram with logarithmic buckets, each power of two being divided into eight linear
+ * sub-buckets (akin to a HDR histogram with three significant bits). Recording an invocation thus only takes a few
+ * atomic increments, without any locking nor allocation.
+ */
+class OperationStatisticsImpl implements GridDialectOperationStatistics {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = ( 64 - SUB_BUCKET_BITS ) * SUB_BUCKET_COUNT;
+
+	private final String operation;
+	private final String target;
+
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong errorCount = new AtomicLong();
+	private final AtomicLong rowCount = new AtomicLong();
+	private final AtomicLong totalLatency = new AtomicLong();
+	private final AtomicLong maxLatency = new AtomicLong();
+	private final AtomicLongArray latencyBuckets = new AtomicLongArray( BUCKET_COUNT );
+
+	OperationStatisticsImpl(String operation, String target) {
+		this.operation = operation;
+		this.target = target;
+	}
+
+	void record(long latency, int rows, boolean failed) {
+		long value = Math.max( latency, 0 );
+
+		count.incrementAndGet();
+		if ( failed ) {
+			errorCount.incrementAndGet();
+		}
+		if ( rows > 0 ) {
+			rowCount.addAndGet( rows );
+		}
+		totalLatency.addAndGet( value );
+		latencyBuckets.incrementAndGet( bucketIndex( value ) );
+
+		long currentMax = maxLatency.get();
+		while ( value > currentMax && !maxLatency.compareAndSet( currentMax, value ) ) {
+			currentMax = maxLatency.get();
+		}
+	}
+
+	@Override
+	public String getOperation() {
+		return operation;
+	}
+
+	@Override
+	public String getTarget() {
+		return target;
+	}
+
+	@Override
+	public long getCount() {
+		return count.get();
+	}
+
+	@Override
+	public long getErrorCount() {
+		return errorCount.get();
+	}
+
+	@Override
+	public long getRowCount() {
+		return rowCount.get();
+	}
+
+	@Override
+	public long getTotalLatency() {
+		return totalLatency.get();
+	}
+
+	@Override
+	public long getMeanLatency() {
+		long invocations = count.get();
+		return invocations == 0 ? 0 : totalLatency.get() / invocations;
+	}
+
+	@Override
+	public long getMaxLatency() {
+		return maxLatency.get();
+	}
+
+	@Override
+	public long getMedianLatency() {
+		return getLatencyPercentile( 50 );
+	}
+
+	@Override
+	public long getLatency95thPercentile() {
+		return getLatencyPercentile( 95 );
+	}
+
+	@Override
+	public long getLatency99thPercentile() {
+		return getLatencyPercentile( 99 );
+	}
+
+	/**
+	 * Returns the upper bound of the bucket containing the given percentile, capped by the max latency.
+	 */
+	private long getLatencyPercentile(double percentile) {
+		long total = 0;
+		long[] counts = new long[BUCKET_COUNT];
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[i] = latencyBuckets.get( i );
+			total += counts[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		long rank = (long) Math.ceil( total * percentile / 100 );
+		long seen = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			seen += counts[i];
+			if ( seen >= rank ) {
+				return Math.min( bucketUpperBound( i ), maxLatency.get() );
+			}
+		}
+		return maxLatency.get();
+	}
+
+	static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros( value );
+		int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+		return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+		long subBucket = index % SUB_BUCKET_COUNT;
+		long lowerBound = ( SUB_BUCKET_COUNT + subBucket ) << ( exponent - SUB_BUCKET_BITS );
+		return lowerBound + ( 1L << ( exponent - SUB_BUCKET_BITS ) ) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "OperationStatistics [operation=" + operation + ", target=" + target + ", count=" + getCount()
+				+ ", errorCount=" + getErrorCount() + ", meanLatency=" + getMeanLatency() + "]";
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.stat.spi;
+
+import org.hibernate.ogm.stat.GridDialectStatistics;
+import org.hibernate.service.Service;
+
+/**
+ * Service contract for collecting the {@link GridDialectStatistics}.
+ */
+public interface GridDialectStatisticsImplementor extends GridDialectStatistics, Service {
+
+	/**
+	 * Records one invocation of a grid dialect operation.
+	 *
+	 * @param operation the name of the grid dialect method
+	 * @param target the entity table or association role targeted by the operation, may be {@code null}
+	 * @param latency the time spent in the operation, in nanoseconds
+	 * @param rowCount the number of tuples, associations or batched operations read or written, {@code 0} if unknown
+	 * @param failed whether the operation raised an exception or not
+	 */
+	void recordOperation(String operation, String target, long latency, int rowCount, boolean failed);
+}
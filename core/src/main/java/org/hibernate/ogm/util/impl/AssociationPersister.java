@@ -103,6 +103,15 @@ public AssociationPersister associationKeyMetadata(AssociationKeyMetadata associ
 		return this;
 	}
 
+	/**
+	 * Sets the association managed by this persister, e.g. when it has been loaded together with other associations,
+	 * instead of having it loaded on first access.
+	 */
+	public AssociationPersister association(Association association) {
+		this.association = association;
+		return this;
+	}
+
 	//action methods
 
 	public AssociationKey getAssociationKey() {
@@ -295,4 +295,17 @@ public interface Log extends BasicLogger {
 
 	@Message(id = 87, value = "The tuple context is not available, probably because we are dealing with more than a single entity type")
 	HibernateException tupleContextNotAvailable();
+
+	@Message(id = 88, value = "Scrollable results of Hibernate OGM queries are forward-only, operation '%1$s' is not supported")
+	HibernateException scrollableResultsAreForwardOnly(String operation);
+
+	@Message(id = 89, value = "Interrupted while waiting for the mass indexer to consume the tuples of entity type '%1$s'")
+	HibernateException interruptedMassIndexing(String entityType, @Cause InterruptedException e);
+
+	@LogMessage(level = WARN)
+	@Message(id = 90, value = "Index '%2$s' of table '%1$s' has the unknown type '%3$s', a hash index is created instead. Supported types: 'hash', 'sorted'")
+	void unknownMapIndexType(String table, String indexName, String type);
+
+	@Message(id = 91, value = "The mass indexer option '%1$s' must be at least 1, but was %2$d")
+	IllegalArgumentException massIndexerOptionMustBeAtLeastOne(String option, int value);
 }
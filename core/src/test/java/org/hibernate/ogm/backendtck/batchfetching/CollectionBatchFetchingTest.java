@@ -0,0 +1,131 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.batchfetching;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.utils.InvokedOperationsLoggingDialect;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test that the uninitialized collections of several owners are loaded together when batch fetching is enabled.
+ */
+public class CollectionBatchFetchingTest extends OgmTestCase {
+
+	private static final int NUMBER_OF_TOWERS = 3;
+
+	@Test
+	public void testCollectionsOfSeveralOwnersAreLoadedInOneBatch() throws Exception {
+		Session session = openSession();
+		List<Tower> towers = prepareTowers( session );
+		session.clear();
+
+		session.beginTransaction();
+		List<Tower> loadedTowers = new ArrayList<Tower>();
+		for ( Tower tower : towers ) {
+			Tower loaded = session.get( Tower.class, tower.getId() );
+			assertThat( Hibernate.isInitialized( loaded.getFloors() ) ).isFalse();
+			loadedTowers.add( loaded );
+		}
+
+		getOperationsLogger().reset();
+		assertThat( loadedTowers.get( 0 ).getFloors() ).hasSize( 2 );
+
+		// the collections of the other towers have been loaded as part of the same batch
+		for ( Tower loaded : loadedTowers ) {
+			assertThat( Hibernate.isInitialized( loaded.getFloors() ) ).isTrue();
+			assertThat( loaded.getFloors() ).hasSize( 2 );
+		}
+
+		if ( isMultigetAssociationDialect() ) {
+			assertThat( getOperations() ).contains( "getAssociations" ).excludes( "getAssociation" );
+		}
+		else {
+			assertThat( countOperations( "getAssociation" ) ).isEqualTo( NUMBER_OF_TOWERS );
+		}
+		session.getTransaction().commit();
+
+		cleanTowers( session, towers );
+		session.close();
+	}
+
+	private List<Tower> prepareTowers(Session session) {
+		session.beginTransaction();
+		List<Tower> towers = new ArrayList<Tower>();
+		for ( int i = 0; i < NUMBER_OF_TOWERS; i++ ) {
+			Tower tower = new Tower();
+			tower.setName( "Tower " + i );
+			for ( int level = 0; level < 2; level++ ) {
+				Floor floor = new Floor();
+				floor.setLevel( level );
+				tower.getFloors().add( floor );
+			}
+			session.persist( tower );
+			towers.add( tower );
+		}
+		session.getTransaction().commit();
+		return towers;
+	}
+
+	private void cleanTowers(Session session, List<Tower> towers) {
+		session.beginTransaction();
+		for ( Tower tower : towers ) {
+			session.delete( session.get( Tower.class, tower.getId() ) );
+			for ( Floor floor : tower.getFloors() ) {
+				session.delete( session.get( Floor.class, floor.getId() ) );
+			}
+		}
+		session.getTransaction().commit();
+	}
+
+	private int countOperations(String operation) {
+		int count = 0;
+		for ( String invoked : getOperations() ) {
+			if ( invoked.equals( operation ) ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private boolean isMultigetAssociationDialect() {
+		GridDialect gridDialect = sfi().getServiceRegistry().getService( GridDialect.class );
+		return GridDialects.hasFacet( gridDialect, MultigetAssociationGridDialect.class );
+	}
+
+	private InvokedOperationsLoggingDialect getOperationsLogger() {
+		GridDialect gridDialect = sfi().getServiceRegistry().getService( GridDialect.class );
+		return GridDialects.getDelegateOrNull( gridDialect, InvokedOperationsLoggingDialect.class );
+	}
+
+	private List<String> getOperations() {
+		return getOperationsLogger().getOperations();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.GRID_DIALECT, InvokedOperationsLoggingDialect.class );
+		cfg.put( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "10" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Tower.class, Floor.class };
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.id;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.stat.GridDialectOperationStatistics;
+import org.hibernate.ogm.stat.GridDialectStatistics;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Test the allocation of identifiers by blocks for generators without pooled optimizer.
+ */
+public class SequenceIdBlockAllocationTest extends OgmTestCase {
+
+	private static final int BLOCK_SIZE = 5;
+
+	@Test
+	public void testIdentifiersOfConsecutiveBlocksAreConsecutive() throws Exception {
+		List<Long> ids = persistTickets( 3 * BLOCK_SIZE + 1 );
+
+		for ( int i = 0; i < ids.size(); i++ ) {
+			assertThat( ids.get( i ) ).isEqualTo( ids.get( 0 ) + i );
+		}
+	}
+
+	@Test
+	public void testValuesAreReservedOncePerBlock() throws Exception {
+		int ticketCount = 4 * BLOCK_SIZE;
+		getStatistics().clear();
+
+		persistTickets( ticketCount );
+
+		// a block may have been partially used by another test and the reservation of the block following the last
+		// one may be in progress
+		assertThat( countNextValueInvocations() ).isLessThanOrEqualTo( ticketCount / BLOCK_SIZE + 2 );
+	}
+
+	@Test
+	public void testConcurrentSessionsGetDistinctIdentifiers() throws Exception {
+		int threads = 4;
+		final int ticketsPerThread = 3 * BLOCK_SIZE;
+
+		ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			List<Future<List<Long>>> futures = new ArrayList<Future<List<Long>>>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( new Callable<List<Long>>() {
+
+					@Override
+					public List<Long> call() throws Exception {
+						return persistTickets( ticketsPerThread );
+					}
+				} ) );
+			}
+
+			Set<Long> ids = new HashSet<Long>();
+			for ( Future<List<Long>> future : futures ) {
+				ids.addAll( future.get() );
+			}
+			assertThat( ids ).hasSize( threads * ticketsPerThread );
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	private List<Long> persistTickets(int count) {
+		List<Long> ids = new ArrayList<Long>( count );
+		// openSession() is not meant to be called concurrently
+		Session session = sessions.openSession();
+		session.beginTransaction();
+		for ( int i = 0; i < count; i++ ) {
+			Ticket ticket = new Ticket();
+			ticket.setSeat( "A" + i );
+			session.persist( ticket );
+			ids.add( ticket.getId() );
+		}
+		session.getTransaction().commit();
+		session.close();
+		return ids;
+	}
+
+	private long countNextValueInvocations() {
+		long count = 0;
+		for ( GridDialectOperationStatistics operationStatistics : getStatistics().getOperationStatistics() ) {
+			if ( "nextValue".equals( operationStatistics.getOperation() ) ) {
+				count += operationStatistics.getCount();
+			}
+		}
+		return count;
+	}
+
+	private GridDialectStatistics getStatistics() {
+		return sfi().getGridDialectStatistics();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.ID_BLOCK_SIZE, BLOCK_SIZE );
+		settings.put( OgmProperties.DATASTORE_STATISTICS, true );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Ticket.class };
+	}
+}
@@ -0,0 +1,47 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.id;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+
+import org.hibernate.ogm.id.impl.OgmSequenceGenerator;
+
+/**
+ * Test entity for {@link OgmSequenceGenerator} without pooled optimizer.
+ */
+@Entity
+public class Ticket {
+	static final transient int INITIAL_VALUE = 1;
+	private Long id;
+	private String seat;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticketSequenceGenerator")
+	@SequenceGenerator(name = "ticketSequenceGenerator",
+			sequenceName = "ticket_sequence_name",
+			initialValue = INITIAL_VALUE,
+			allocationSize = 1)
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getSeat() {
+		return seat;
+	}
+
+	public void setSeat(String seat) {
+		this.seat = seat;
+	}
+}
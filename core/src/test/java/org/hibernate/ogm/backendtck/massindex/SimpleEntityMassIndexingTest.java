@@ -10,6 +10,8 @@
 import static org.hibernate.ogm.utils.GridDialectType.MONGODB;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J_REMOTE;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -98,6 +100,46 @@ public void testEntityWithCompositeIdMassIndexing() throws Exception {
 		}
 	}
 
+	@Test
+	@SkipByGridDialect(value = { NEO4J, NEO4J_REMOTE }, comment = "Neo4j is not compatible with HSEARCH 5")
+	public void testMassIndexingWithSeveralLoadingThreadsAndBatches() throws Exception {
+		int numberOfEntities = 23;
+		List<String> ids = new ArrayList<String>();
+		{
+			Session session = openSession();
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < numberOfEntities; i++ ) {
+				Insurance insurance = new Insurance();
+				insurance.setName( "Assurance " + i );
+				session.persist( insurance );
+				ids.add( insurance.getId() );
+			}
+			transaction.commit();
+			session.close();
+		}
+		{
+			purgeAll( Insurance.class );
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			// the last batch is incomplete
+			session.createIndexer( Insurance.class ).threadsToLoadObjects( 3 ).batchSizeToLoadObjects( 5 ).startAndWait();
+			session.close();
+		}
+		{
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			QueryBuilder queryBuilder = session.getSearchFactory().buildQueryBuilder().forEntity( Insurance.class ).get();
+			Query luceneQuery = queryBuilder.keyword().onField( "name" ).matching( "assurance" ).createQuery();
+			Transaction transaction = session.beginTransaction();
+			@SuppressWarnings("unchecked")
+			List<Insurance> list = session.createFullTextQuery( luceneQuery ).list();
+			assertThat( list ).hasSize( numberOfEntities );
+			for ( String id : ids ) {
+				session.delete( session.get( Insurance.class, id ) );
+			}
+			transaction.commit();
+			session.close();
+		}
+	}
+
 	private void startAndWaitMassIndexing(Class<?> entityType) throws InterruptedException {
 		FullTextSession session = Search.getFullTextSession( openSession() );
 		session.createIndexer( entityType ).purgeAllOnStart( true ).startAndWait();
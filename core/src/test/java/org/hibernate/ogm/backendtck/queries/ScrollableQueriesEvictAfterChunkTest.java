@@ -0,0 +1,116 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.queries;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.CASSANDRA;
+import static org.hibernate.ogm.utils.GridDialectType.COUCHDB;
+import static org.hibernate.ogm.utils.GridDialectType.EHCACHE;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+import static org.hibernate.ogm.utils.GridDialectType.REDIS_HASH;
+import static org.hibernate.ogm.utils.GridDialectType.REDIS_JSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.Test;
+
+/**
+ * Tests the chunk-wise iteration over query results when the entities of a chunk are evicted from the session once the
+ * iteration moves on.
+ */
+@SkipByGridDialect(
+		value = { HASHMAP, INFINISPAN, EHCACHE, COUCHDB, CASSANDRA, REDIS_JSON, REDIS_HASH },
+		comment = "Hibernate Search based queries don't support scrolling")
+public class ScrollableQueriesEvictAfterChunkTest extends ScrollableQueriesTest {
+
+	@Test
+	public void evictsOnlyEntitiesLoadedByChunks() {
+		Session session = sessions.openSession();
+		session.setFlushMode( FlushMode.MANUAL );
+		Transaction transaction = session.beginTransaction();
+
+		Helicopter managed = (Helicopter) session.createQuery( "from Helicopter h where h.name = 'Sergio-0'" ).uniqueResult();
+		managed.setName( "Sergio-0-renamed" );
+
+		ScrollableResults results = session.createQuery( "from Helicopter h where h.make = 'Lama'" )
+				.setFetchSize( 2 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		List<Helicopter> loaded = new ArrayList<Helicopter>();
+		try {
+			while ( results.next() ) {
+				Helicopter helicopter = (Helicopter) results.get( 0 );
+				if ( helicopter != managed ) {
+					loaded.add( helicopter );
+				}
+			}
+		}
+		finally {
+			results.close();
+		}
+
+		// the entity managed before the query keeps its pending change, the ones loaded by the chunks are gone
+		assertThat( session.contains( managed ) ).isTrue();
+		assertThat( loaded ).hasSize( NUMBER_OF_HELICOPTERS - 1 );
+		for ( Helicopter helicopter : loaded ) {
+			assertThat( session.contains( helicopter ) ).isFalse();
+		}
+
+		session.flush();
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		Helicopter renamed = (Helicopter) session.get( Helicopter.class, managed.getUUID() );
+		assertThat( renamed.getName() ).isEqualTo( "Sergio-0-renamed" );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void persistenceContextSizeIsBoundedByChunkSize() {
+		Session session = sessions.openSession();
+		Transaction transaction = session.beginTransaction();
+
+		ScrollableResults results = session.createQuery( "from Helicopter h" )
+				.setFetchSize( 2 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		int count = 0;
+		int maxManagedEntities = 0;
+		try {
+			while ( results.next() ) {
+				count++;
+				maxManagedEntities = Math.max( maxManagedEntities, session.getStatistics().getEntityCount() );
+			}
+		}
+		finally {
+			results.close();
+		}
+
+		assertThat( count ).isEqualTo( NUMBER_OF_HELICOPTERS );
+		assertThat( maxManagedEntities ).isLessThanOrEqualTo( 2 );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.QUERY_EVICT_AFTER_CHUNK, true );
+	}
+}
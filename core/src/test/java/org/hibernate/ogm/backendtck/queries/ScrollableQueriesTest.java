@@ -0,0 +1,130 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.queries;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.GridDialectType.CASSANDRA;
+import static org.hibernate.ogm.utils.GridDialectType.COUCHDB;
+import static org.hibernate.ogm.utils.GridDialectType.EHCACHE;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
+import static org.hibernate.ogm.utils.GridDialectType.REDIS_HASH;
+import static org.hibernate.ogm.utils.GridDialectType.REDIS_JSON;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the chunk-wise iteration over query results via {@code Query#scroll()} and {@code Query#iterate()}.
+ */
+@SkipByGridDialect(
+		value = { HASHMAP, INFINISPAN, EHCACHE, COUCHDB, CASSANDRA, REDIS_JSON, REDIS_HASH },
+		comment = "Hibernate Search based queries don't support scrolling")
+public class ScrollableQueriesTest extends OgmTestCase {
+
+	static final int NUMBER_OF_HELICOPTERS = 7;
+
+	@Before
+	public void insertTestEntities() throws Exception {
+		Session session = sessions.openSession();
+		Transaction transaction = session.beginTransaction();
+
+		for ( int i = 0; i < NUMBER_OF_HELICOPTERS; i++ ) {
+			Helicopter helicopter = new Helicopter();
+			helicopter.setMake( "Lama" );
+			helicopter.setName( "Sergio-" + i );
+			session.persist( helicopter );
+		}
+
+		transaction.commit();
+		session.close();
+	}
+
+	@After
+	public void removeTestEntities() throws Exception {
+		Session session = sessions.openSession();
+		Transaction transaction = session.beginTransaction();
+
+		for ( Object helicopter : session.createQuery( "from Helicopter" ).list() ) {
+			session.delete( helicopter );
+		}
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void canScrollThroughResultsInChunks() {
+		Session session = sessions.openSession();
+		Transaction transaction = session.beginTransaction();
+
+		ScrollableResults results = session.createQuery( "from Helicopter h where h.make = 'Lama'" )
+				.setFetchSize( 3 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		List<String> names = new ArrayList<String>();
+		try {
+			while ( results.next() ) {
+				Helicopter helicopter = (Helicopter) results.get( 0 );
+				names.add( helicopter.getName() );
+				assertThat( results.getRowNumber() ).isEqualTo( names.size() - 1 );
+			}
+		}
+		finally {
+			results.close();
+		}
+
+		assertThat( names ).hasSize( NUMBER_OF_HELICOPTERS );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void canIterateThroughResultsInChunks() {
+		Session session = sessions.openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Iterator<?> results = session.createQuery( "from Helicopter h where h.make = 'Lama'" )
+				.setFetchSize( 2 )
+				.iterate();
+
+		int count = 0;
+		try {
+			while ( results.hasNext() ) {
+				Helicopter helicopter = (Helicopter) results.next();
+				assertThat( helicopter.getName() ).startsWith( "Sergio-" );
+				count++;
+			}
+		}
+		finally {
+			Hibernate.close( results );
+		}
+
+		assertThat( count ).isEqualTo( NUMBER_OF_HELICOPTERS );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class };
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.scan;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.TuplePartition;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.utils.GridDialectType;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for dialects implementing the {@link PartitionedScanGridDialect} interface.
+ */
+@SkipByGridDialect(value = { GridDialectType.INFINISPAN, GridDialectType.EHCACHE, GridDialectType.COUCHDB, GridDialectType.NEO4J, GridDialectType.NEO4J_REMOTE },
+		comment = "The dialect cannot split the tuples of an entity type into partitions")
+public class PartitionedScanTest extends OgmTestCase {
+
+	private static final int NUMBER_OF_ENTITIES = 20;
+	private static final int MAX_PARTITIONS = 4;
+
+	@Test
+	public void testPartitionsContainEachTupleOnce() throws Exception {
+		OgmEntityPersister persister = (OgmEntityPersister) sfi().getEntityPersister( Hypothesis.class.getName() );
+		EntityKeyMetadata keyMetadata = persister.getEntityKeyMetadata();
+		TupleContext tupleContext = persister.getTupleContext( null );
+
+		PartitionedScanGridDialect dialect = partitionedScanGridDialect();
+		List<TuplePartition> partitions = dialect.getTuplePartitions( keyMetadata, tupleContext, MAX_PARTITIONS );
+		assertThat( partitions.size() ).isGreaterThan( 0 ).isLessThanOrEqualTo( MAX_PARTITIONS );
+
+		IdCollector collector = new IdCollector();
+		try {
+			for ( TuplePartition partition : partitions ) {
+				dialect.forEachTuple( collector, tupleContext, keyMetadata, partition );
+			}
+		}
+		finally {
+			dialect.closePartitions( partitions );
+		}
+
+		List<String> expectedIds = new ArrayList<String>();
+		for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+			expectedIds.add( id( i ) );
+		}
+		Collections.sort( expectedIds );
+		Collections.sort( collector.ids );
+		assertThat( collector.ids ).isEqualTo( expectedIds );
+	}
+
+	@Test
+	public void testPartitionsCanBeClosedWithoutBeingIterated() throws Exception {
+		OgmEntityPersister persister = (OgmEntityPersister) sfi().getEntityPersister( Hypothesis.class.getName() );
+		EntityKeyMetadata keyMetadata = persister.getEntityKeyMetadata();
+		TupleContext tupleContext = persister.getTupleContext( null );
+
+		PartitionedScanGridDialect dialect = partitionedScanGridDialect();
+		List<TuplePartition> partitions = dialect.getTuplePartitions( keyMetadata, tupleContext, MAX_PARTITIONS );
+
+		IdCollector collector = new IdCollector();
+		dialect.forEachTuple( collector, tupleContext, keyMetadata, partitions.get( 0 ) );
+		dialect.closePartitions( partitions );
+
+		assertThat( collector.ids.size() ).isLessThanOrEqualTo( NUMBER_OF_ENTITIES );
+	}
+
+	@Before
+	public void prepareDataset() {
+		Session session = openSession();
+		Transaction tx = session.beginTransaction();
+		for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+			Hypothesis hypothesis = new Hypothesis( id( i ) );
+			hypothesis.setDescription( "Hypothesis " + i );
+			session.persist( hypothesis );
+		}
+		tx.commit();
+		session.close();
+	}
+
+	@After
+	public void deleteDataset() {
+		Session session = openSession();
+		Transaction tx = session.beginTransaction();
+		for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+			session.delete( session.load( Hypothesis.class, id( i ) ) );
+		}
+		tx.commit();
+		session.close();
+	}
+
+	private String id(int i) {
+		return "hypothesis-" + i;
+	}
+
+	private PartitionedScanGridDialect partitionedScanGridDialect() {
+		return sfi().getServiceRegistry().getService( PartitionedScanGridDialect.class );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class };
+	}
+
+	private static class IdCollector implements ModelConsumer {
+
+		private final List<String> ids = new ArrayList<String>();
+
+		@Override
+		public synchronized void consume(Tuple tuple) {
+			ids.add( (String) tuple.get( "id" ) );
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.document.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ColumnPath}.
+ */
+public class ColumnPathTest {
+
+	@Test
+	public void testFlatColumn() {
+		ColumnPath path = ColumnPath.of( "name" );
+
+		assertThat( path.isFlat() ).isTrue();
+		assertThat( path.getDepth() ).isEqualTo( 1 );
+		assertThat( path.getLeaf() ).isEqualTo( "name" );
+	}
+
+	@Test
+	public void testNestedColumn() {
+		ColumnPath path = ColumnPath.of( "address.city.name" );
+
+		assertThat( path.isFlat() ).isFalse();
+		assertThat( path.getDepth() ).isEqualTo( 3 );
+		assertThat( path.getSegment( 0 ) ).isEqualTo( "address" );
+		assertThat( path.getSegment( 1 ) ).isEqualTo( "city" );
+		assertThat( path.getLeaf() ).isEqualTo( "name" );
+	}
+
+	@Test
+	public void testPathIsCompiledOnce() {
+		assertThat( ColumnPath.of( "address.city" ) ).isSameAs( ColumnPath.of( "address.city" ) );
+	}
+
+	@Test
+	public void testSplitDropsTrailingEmptySegments() {
+		ColumnPath path = ColumnPath.of( "address..city.." );
+
+		assertThat( path.getDepth() ).isEqualTo( 3 );
+		assertThat( path.getSegment( 1 ) ).isEqualTo( "" );
+		assertThat( path.getLeaf() ).isEqualTo( "city" );
+	}
+
+	@Test
+	public void testGetAndRemoveValue() {
+		Map<String, Object> city = new HashMap<String, Object>();
+		city.put( "name", "Paris" );
+		Map<String, Object> address = new HashMap<String, Object>();
+		address.put( "city", city );
+		Map<String, Object> document = new HashMap<String, Object>();
+		document.put( "address", address );
+		document.put( "name", "Bob" );
+
+		assertThat( ColumnPath.of( "address.city.name" ).getValue( document ) ).isEqualTo( "Paris" );
+		assertThat( ColumnPath.of( "name" ).getValue( document ) ).isEqualTo( "Bob" );
+		assertThat( ColumnPath.of( "name.first" ).getValue( document ) ).isNull();
+		assertThat( ColumnPath.of( "address.street.name" ).getValue( document ) ).isNull();
+
+		ColumnPath.of( "address.city.name" ).removeValue( document );
+		ColumnPath.of( "address.street.name" ).removeValue( document );
+
+		assertThat( city ).isEmpty();
+		assertThat( document ).hasSize( 2 );
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.cache;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.ogm.options.shared.TupleCaching;
+
+@Entity
+@TupleCaching
+public class Country {
+
+	@Id
+	private String code;
+
+	private String name;
+
+	public Country() {
+	}
+
+	public Country(String code, String name) {
+		this.code = code;
+		this.name = name;
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	public void setCode(String code) {
+		this.code = code;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.cache;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.cache.impl.TupleCache;
+import org.hibernate.ogm.stat.TupleCacheStatistics;
+import org.hibernate.ogm.test.dialectinvocations.StockItem;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the cache of tuples in front of the grid dialect.
+ */
+public class TupleCacheTest extends OgmTestCase {
+
+	@Before
+	public void insertData() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Country( "fr", "France" ) );
+
+		StockItem item = new StockItem();
+		item.setId( "item-1" );
+		item.setItemName( "Wedge" );
+		item.setCount( 1 );
+		session.persist( item );
+
+		transaction.commit();
+		session.close();
+
+		getStatistics().clear();
+	}
+
+	@After
+	public void deleteData() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.delete( session.get( Country.class, "fr" ) );
+		session.delete( session.get( StockItem.class, "item-1" ) );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldServeRepeatedReadsFromCache() throws Exception {
+		assertThat( loadCountry( "fr" ).getName() ).isEqualTo( "France" );
+		assertThat( getStatistics().getMissCount() ).isEqualTo( 1 );
+		assertThat( getStatistics().getPutCount() ).isEqualTo( 1 );
+
+		assertThat( loadCountry( "fr" ).getName() ).isEqualTo( "France" );
+		assertThat( loadCountry( "fr" ).getName() ).isEqualTo( "France" );
+		assertThat( getStatistics().getHitCount() ).isEqualTo( 2 );
+		assertThat( getStatistics().getMissCount() ).isEqualTo( 1 );
+		assertThat( getStatistics().getSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void shouldInvalidateEntryUponUpdate() throws Exception {
+		loadCountry( "fr" );
+		loadCountry( "fr" );
+		assertThat( getStatistics().getHitCount() ).isEqualTo( 1 );
+
+		// the entity is loaded from the cache and written
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Country country = (Country) session.get( Country.class, "fr" );
+		country.setName( "French Republic" );
+		transaction.commit();
+		session.close();
+
+		assertThat( getStatistics().getInvalidationCount() ).isEqualTo( 1 );
+
+		assertThat( loadCountry( "fr" ).getName() ).isEqualTo( "French Republic" );
+		assertThat( loadCountry( "fr" ).getName() ).isEqualTo( "French Republic" );
+		assertThat( getStatistics().getHitCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void shouldNotCacheReadsOfWritingTransactionAndInvalidateUponRollback() throws Exception {
+		loadCountry( "fr" );
+		assertThat( getStatistics().getPutCount() ).isEqualTo( 1 );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Country country = (Country) session.get( Country.class, "fr" );
+		country.setName( "French Republic" );
+		session.flush();
+		session.clear();
+
+		// the uncommitted state is read from the datastore and not put into the cache
+		session.get( Country.class, "fr" );
+		assertThat( getStatistics().getPutCount() ).isEqualTo( 1 );
+		assertThat( getStatistics().getSize() ).isEqualTo( 0 );
+
+		transaction.rollback();
+		session.close();
+
+		assertThat( getStatistics().getSize() ).isEqualTo( 0 );
+		long misses = getStatistics().getMissCount();
+		loadCountry( "fr" );
+		assertThat( getStatistics().getMissCount() ).isEqualTo( misses + 1 );
+	}
+
+	@Test
+	public void shouldInvalidateEntryCachedByConcurrentReaderUponCommit() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Country country = (Country) session.get( Country.class, "fr" );
+		country.setName( "French Republic" );
+		session.flush();
+
+		// another transaction reads the entity between the write and the commit and puts it into the cache
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit( new Callable<Country>() {
+
+				@Override
+				public Country call() throws Exception {
+					return loadCountry( "fr" );
+				}
+			} ).get();
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat( getStatistics().getSize() ).isEqualTo( 1 );
+
+		transaction.commit();
+		session.close();
+
+		assertThat( getStatistics().getSize() ).isEqualTo( 0 );
+		long misses = getStatistics().getMissCount();
+		assertThat( loadCountry( "fr" ).getName() ).isEqualTo( "French Republic" );
+		assertThat( getStatistics().getMissCount() ).isEqualTo( misses + 1 );
+	}
+
+	@Test
+	public void shouldOnlyDiscardReadsOfInvalidatedKeys() throws Exception {
+		TupleCache cache = new TupleCache( 10 );
+		long franceGeneration = cache.getGeneration( "fr" );
+		long germanyGeneration = cache.getGeneration( "de" );
+
+		// a write of another key completes while both are read
+		cache.invalidate( "de" );
+		cache.put( "fr", "France", null, 0, franceGeneration );
+		cache.put( "de", "Germany", null, 0, germanyGeneration );
+
+		assertThat( cache.get( "fr", null ) ).isEqualTo( "France" );
+		assertThat( cache.get( "de", null ) ).isNull();
+	}
+
+	@Test
+	public void shouldNotCacheEntitiesWithoutTupleCachingOption() throws Exception {
+		for ( int i = 0; i < 2; i++ ) {
+			Session session = openSession();
+			Transaction transaction = session.beginTransaction();
+			assertThat( ( (StockItem) session.get( StockItem.class, "item-1" ) ).getItemName() ).isEqualTo( "Wedge" );
+			transaction.commit();
+			session.close();
+		}
+
+		assertThat( getStatistics().getHitCount() ).isEqualTo( 0 );
+		assertThat( getStatistics().getMissCount() ).isEqualTo( 0 );
+		assertThat( getStatistics().getSize() ).isEqualTo( 0 );
+	}
+
+	private Country loadCountry(String code) {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Country country = (Country) session.get( Country.class, code );
+		transaction.commit();
+		session.close();
+		return country;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Country.class, StockItem.class };
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.TUPLE_CACHE_MAX_ENTRIES, 1000 );
+	}
+
+	private TupleCacheStatistics getStatistics() {
+		return sfi().getTupleCacheStatistics();
+	}
+}
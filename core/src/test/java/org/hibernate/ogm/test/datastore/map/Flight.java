@@ -0,0 +1,91 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import org.hibernate.ogm.options.shared.IndexOption;
+import org.hibernate.ogm.options.shared.IndexOptions;
+
+/**
+ * Test entity with hash indexes on the destination and the status and a sorted index on the number of passengers.
+ */
+@Entity
+@Table(indexes = {
+		@Index(name = "destination_idx", columnList = "destination"),
+		@Index(name = "passengers_idx", columnList = "passengers"),
+		@Index(name = "status_idx", columnList = "status")
+})
+@IndexOptions(@IndexOption(forIndex = "passengers_idx", options = "sorted"))
+public class Flight {
+
+	public enum Status {
+		ON_TIME, DELAYED
+	}
+
+	@Id
+	private String code;
+
+	private String destination;
+
+	private int passengers;
+
+	private String remark;
+
+	@Enumerated(EnumType.STRING)
+	private Status status;
+
+	Flight() {
+	}
+
+	Flight(String code, String destination, int passengers) {
+		this.code = code;
+		this.destination = destination;
+		this.passengers = passengers;
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	public String getDestination() {
+		return destination;
+	}
+
+	public void setDestination(String destination) {
+		this.destination = destination;
+	}
+
+	public int getPassengers() {
+		return passengers;
+	}
+
+	public void setPassengers(int passengers) {
+		this.passengers = passengers;
+	}
+
+	public String getRemark() {
+		return remark;
+	}
+
+	public void setRemark(String remark) {
+		this.remark = remark;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+}
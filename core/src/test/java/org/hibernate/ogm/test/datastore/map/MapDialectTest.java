@@ -0,0 +1,126 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the storage of the tuples by {@link MapDialect}.
+ */
+public class MapDialectTest {
+
+	private static final EntityKeyMetadata HOUSE = new DefaultEntityKeyMetadata( "House", new String[] { "id" } );
+	private static final EntityKeyMetadata GARDEN = new DefaultEntityKeyMetadata( "Garden", new String[] { "id" } );
+
+	private MapDatastoreProvider provider;
+	private MapDialect dialect;
+
+	@Before
+	public void setUp() {
+		provider = new MapDatastoreProvider();
+		provider.start();
+		dialect = new MapDialect( provider );
+	}
+
+	@After
+	public void tearDown() {
+		provider.stop();
+	}
+
+	@Test
+	public void tupleIsOnlyStoredUponInsert() {
+		EntityKey key = new EntityKey( HOUSE, new Object[] { 1 } );
+
+		Tuple tuple = dialect.createTuple( key, null );
+		assertThat( dialect.getTuple( key, null ) ).isNull();
+
+		tuple.put( "id", 1 );
+		tuple.put( "color", "red" );
+		dialect.insertOrUpdateTuple( key, tuple, null );
+
+		assertThat( dialect.getTuple( key, null ).get( "color" ) ).isEqualTo( "red" );
+	}
+
+	@Test
+	public void updateDoesNotChangePreviouslyReadRecord() {
+		EntityKey key = insertHouse( 1, "red" );
+
+		Tuple loaded = dialect.getTuple( key, null );
+		Map<String, Object> before = provider.getEntityTuple( key );
+
+		loaded.put( "color", "blue" );
+		dialect.insertOrUpdateTuple( key, loaded, null );
+
+		assertThat( before.get( "color" ) ).isEqualTo( "red" );
+		assertThat( dialect.getTuple( key, null ).get( "color" ) ).isEqualTo( "blue" );
+	}
+
+	@Test
+	public void concurrentUpdatesOfDifferentColumnsAreMerged() {
+		EntityKey key = insertHouse( 1, "red" );
+
+		Tuple first = dialect.getTuple( key, null );
+		Tuple second = dialect.getTuple( key, null );
+
+		first.put( "color", "blue" );
+		second.put( "floors", 2 );
+
+		dialect.insertOrUpdateTuple( key, first, null );
+		dialect.insertOrUpdateTuple( key, second, null );
+
+		Tuple stored = dialect.getTuple( key, null );
+		assertThat( stored.get( "color" ) ).isEqualTo( "blue" );
+		assertThat( stored.get( "floors" ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void forEachTupleOnlyReturnsTuplesOfGivenTable() {
+		insertHouse( 1, "red" );
+		insertHouse( 2, "green" );
+
+		EntityKey gardenKey = new EntityKey( GARDEN, new Object[] { 1 } );
+		Tuple garden = dialect.createTuple( gardenKey, null );
+		garden.put( "id", 1 );
+		dialect.insertOrUpdateTuple( gardenKey, garden, null );
+
+		final List<Object> colors = new ArrayList<Object>();
+		dialect.forEachTuple( new ModelConsumer() {
+
+			@Override
+			public void consume(Tuple tuple) {
+				colors.add( tuple.get( "color" ) );
+			}
+		}, null, HOUSE );
+
+		assertThat( colors ).containsOnly( "red", "green" );
+		assertThat( provider.getEntityMap() ).hasSize( 3 );
+	}
+
+	private EntityKey insertHouse(int id, String color) {
+		EntityKey key = new EntityKey( HOUSE, new Object[] { id } );
+		Tuple tuple = dialect.createTuple( key, null );
+		tuple.put( "id", id );
+		tuple.put( "color", color );
+		dialect.insertOrUpdateTuple( key, tuple, null );
+		return key;
+	}
+}
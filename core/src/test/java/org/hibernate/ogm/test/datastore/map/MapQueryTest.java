@@ -0,0 +1,180 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.datastore.map.MapProperties;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the execution of JP-QL queries by the map data store, with and without secondary indexes.
+ */
+public class MapQueryTest extends OgmTestCase {
+
+	@Before
+	public void insertFlights() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Flight( "AF101", "Paris", 120 ) );
+		session.persist( new Flight( "AF102", "Paris", 80 ) );
+		session.persist( new Flight( "BA201", "London", 200 ) );
+		session.persist( new Flight( "LH301", "Berlin", 150 ) );
+		Flight withRemark = new Flight( "LH302", "Berlin", 40 );
+		withRemark.setRemark( "delayed" );
+		withRemark.setStatus( Flight.Status.DELAYED );
+		session.persist( withRemark );
+		transaction.commit();
+		session.close();
+	}
+
+	@After
+	public void deleteFlights() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( String code : Arrays.asList( "AF101", "AF102", "BA201", "LH301", "LH302" ) ) {
+			Object flight = session.get( Flight.class, code );
+			if ( flight != null ) {
+				session.delete( flight );
+			}
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testEqualityOnIndexedColumn() {
+		assertThat( codes( "from Flight f where f.destination = 'Paris'" ) ).containsOnly( "AF101", "AF102" );
+	}
+
+	@Test
+	public void testRangeOnSortedIndexWithOrderBy() {
+		assertThat( codes( "from Flight f where f.passengers >= 80 and f.passengers < 200 order by f.passengers desc" ) )
+				.containsExactly( "LH301", "AF101", "AF102" );
+		assertThat( codes( "from Flight f where f.passengers between 40 and 120 order by f.passengers" ) )
+				.containsExactly( "LH302", "AF102", "AF101" );
+	}
+
+	@Test
+	public void testConditionsOnColumnsWithoutIndex() {
+		assertThat( codes( "from Flight f where f.code like 'LH%'" ) ).containsOnly( "LH301", "LH302" );
+		assertThat( codes( "from Flight f where f.remark is null and f.destination = 'Berlin'" ) ).containsOnly( "LH301" );
+		assertThat( codes( "from Flight f where f.remark <> 'delayed'" ) ).isEmpty();
+	}
+
+	@Test
+	public void testDisjunctionAndNegation() {
+		assertThat( codes( "from Flight f where f.destination = 'London' or f.passengers < 50" ) ).containsOnly( "BA201", "LH302" );
+		assertThat( codes( "from Flight f where f.destination not in ('Paris', 'Berlin')" ) ).containsOnly( "BA201" );
+		assertThat( codes( "from Flight f where not ( f.passengers > 100 )" ) ).containsOnly( "AF102", "LH302" );
+	}
+
+	@Test
+	public void testPagingAndProjection() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> result = session.createQuery( "select f.code, f.passengers from Flight f where f.destination = 'Paris' order by f.code" )
+				.setFirstResult( 1 )
+				.setMaxResults( 5 )
+				.list();
+
+		assertThat( result ).hasSize( 1 );
+		assertThat( result.get( 0 )[0] ).isEqualTo( "AF102" );
+		assertThat( result.get( 0 )[1] ).isEqualTo( 80 );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testIndexesAreUpdatedWithEntities() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Flight flight = (Flight) session.get( Flight.class, "AF102" );
+		flight.setDestination( "London" );
+		flight.setPassengers( 250 );
+		session.delete( session.get( Flight.class, "BA201" ) );
+		transaction.commit();
+		session.close();
+
+		assertThat( codes( "from Flight f where f.destination = 'Paris'" ) ).containsOnly( "AF101" );
+		assertThat( codes( "from Flight f where f.destination = 'London'" ) ).containsOnly( "AF102" );
+		assertThat( codes( "from Flight f where f.passengers > 150" ) ).containsOnly( "AF102" );
+	}
+
+	@Test
+	public void testQueryWithParameter() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		@SuppressWarnings("unchecked")
+		List<Flight> flights = session.createQuery( "from Flight f where f.passengers > :passengers" )
+				.setParameter( "passengers", 150 )
+				.list();
+
+		assertThat( flights ).hasSize( 1 );
+		assertThat( flights.get( 0 ).getCode() ).isEqualTo( "BA201" );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testQueryWithParameterConvertedToBackendType() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		@SuppressWarnings("unchecked")
+		List<Flight> flights = session.createQuery( "from Flight f where f.status = :status" )
+				.setParameter( "status", Flight.Status.DELAYED )
+				.list();
+
+		assertThat( flights ).hasSize( 1 );
+		assertThat( flights.get( 0 ).getCode() ).isEqualTo( "LH302" );
+
+		transaction.commit();
+		session.close();
+	}
+
+	private List<String> codes(String query) {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		@SuppressWarnings("unchecked")
+		List<Flight> flights = session.createQuery( query ).list();
+		List<String> codes = new ArrayList<String>( flights.size() );
+		for ( Flight flight : flights ) {
+			codes.add( flight.getCode() );
+		}
+
+		transaction.commit();
+		session.close();
+		return codes;
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( MapProperties.NATIVE_QUERIES, true );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Flight.class };
+	}
+}
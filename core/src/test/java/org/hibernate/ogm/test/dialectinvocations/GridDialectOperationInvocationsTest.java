@@ -9,6 +9,7 @@
 import static org.fest.assertions.Assertions.assertThat;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -159,9 +160,98 @@ public void insertSearchUpdateDelete() throws Exception {
 		);
 	}
 
+	@Test
+	public void inverseSideOfAssociationIsLoadedAtOnce() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Warehouse warehouse = new Warehouse();
+		warehouse.setId( "warehouse-1" );
+		for ( int i = 1; i <= 3; i++ ) {
+			Supplier supplier = new Supplier();
+			supplier.setId( "supplier-" + i );
+			supplier.getWarehouses().add( warehouse );
+			warehouse.getSuppliers().add( supplier );
+			session.persist( supplier );
+		}
+		session.persist( warehouse );
+
+		transaction.commit();
+		session.clear();
+
+		// the association of the warehouse is loaded on its own, the inverse associations of the suppliers at once
+		List<String> operations = getOperations();
+		assertThat( Collections.frequency( operations, "getAssociation" ) ).isEqualTo( 1 );
+		assertThat( Collections.frequency( operations, "getAssociations" ) ).isEqualTo( 1 );
+		assertThat( Collections.frequency( operations, "insertOrUpdateAssociation" ) ).isEqualTo( 4 );
+
+		transaction = session.beginTransaction();
+		warehouse = (Warehouse) session.get( Warehouse.class, warehouse.getId() );
+		assertThat( warehouse.getSuppliers() ).hasSize( 3 );
+		Supplier supplier = (Supplier) session.get( Supplier.class, "supplier-2" );
+		assertThat( supplier.getWarehouses() ).containsOnly( warehouse );
+
+		for ( Supplier loadedSupplier : warehouse.getSuppliers() ) {
+			session.delete( loadedSupplier );
+		}
+		warehouse.getSuppliers().clear();
+		session.delete( warehouse );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void updateAndDeleteOfEntityWithToOneAssociationDoNotReadTupleAgain() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Warehouse warehouse = new Warehouse();
+		warehouse.setId( "warehouse-1" );
+		session.persist( warehouse );
+
+		Shipment shipment = new Shipment();
+		shipment.setId( "shipment-1" );
+		shipment.setTrackingNumber( "TN-1" );
+		shipment.setWarehouse( warehouse );
+		session.persist( shipment );
+
+		transaction.commit();
+		session.clear();
+		transaction = session.beginTransaction();
+
+		// load and update; the tuple loaded by the session is used for maintaining the inverse association
+		shipment = (Shipment) session.get( Shipment.class, "shipment-1" );
+		// the warehouse is loaded upfront, as the inverse association is managed through it
+		session.get( Warehouse.class, "warehouse-1" );
+		int tupleReads = Collections.frequency( getOperations(), "getTuple" );
+		shipment.setTrackingNumber( "TN-2" );
+		session.flush();
+		assertThat( Collections.frequency( getOperations(), "getTuple" ) ).isEqualTo( tupleReads );
+
+		// update again, based on the tuple as written by the previous flush
+		shipment.setTrackingNumber( "TN-3" );
+		session.flush();
+		assertThat( Collections.frequency( getOperations(), "getTuple" ) ).isEqualTo( tupleReads );
+
+		session.delete( shipment );
+		session.flush();
+		assertThat( Collections.frequency( getOperations(), "getTuple" ) ).isEqualTo( tupleReads );
+
+		transaction.commit();
+		session.clear();
+		transaction = session.beginTransaction();
+
+		assertThat( session.get( Shipment.class, "shipment-1" ) ).isNull();
+		session.delete( session.get( Warehouse.class, "warehouse-1" ) );
+
+		transaction.commit();
+		session.close();
+	}
+
 	@Override
 	protected Class<?>[] getAnnotatedClasses() {
-		return new Class<?>[] { StockItem.class };
+		return new Class<?>[] { StockItem.class, Warehouse.class, Supplier.class, Shipment.class };
 	}
 
 	@Override
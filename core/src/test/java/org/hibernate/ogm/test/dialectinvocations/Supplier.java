@@ -0,0 +1,39 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.dialectinvocations;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+
+@Entity
+public class Supplier {
+
+	private String id;
+	private Set<Warehouse> warehouses = new HashSet<Warehouse>();
+
+	@Id
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	@ManyToMany(mappedBy = "suppliers")
+	public Set<Warehouse> getWarehouses() {
+		return warehouses;
+	}
+
+	public void setWarehouses(Set<Warehouse> warehouses) {
+		this.warehouses = warehouses;
+	}
+}
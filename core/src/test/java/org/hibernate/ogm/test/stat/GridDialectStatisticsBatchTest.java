@@ -0,0 +1,159 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.stat;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.backendtck.simpleentity.Hypothesis;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
+import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
+import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
+import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.stat.GridDialectOperationStatistics;
+import org.hibernate.ogm.stat.GridDialectStatistics;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Tests that the statistics of a dialect executing operations in batches record the execution of the batches rather
+ * than the queueing of the operations.
+ */
+public class GridDialectStatisticsBatchTest extends OgmTestCase {
+
+	private static final long BATCH_EXECUTION_MILLIS = 50;
+
+	@Test
+	public void shouldRecordQueuedOperationsWhenBatchIsExecuted() throws Exception {
+		getStatistics().clear();
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Hypothesis( "hypo-1" ) );
+		session.persist( new Hypothesis( "hypo-2" ) );
+		transaction.commit();
+		session.close();
+
+		// the writes have been queued, not executed one by one
+		assertThat( getStatistics().getOperationStatistics( "insertOrUpdateTuple", "Hypothesis" ) ).isNull();
+
+		GridDialectOperationStatistics executeBatch = getStatistics().getOperationStatistics( "executeBatch", "Hypothesis" );
+		assertThat( executeBatch ).isNotNull();
+		assertThat( executeBatch.getCount() ).isGreaterThanOrEqualTo( 1 );
+		assertThat( executeBatch.getRowCount() ).isEqualTo( 2 );
+		assertThat( executeBatch.getMaxLatency() ).isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toNanos( BATCH_EXECUTION_MILLIS ) );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, SlowBatchDatastoreProvider.class.getName() );
+		settings.put( OgmProperties.DATASTORE_STATISTICS, true );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Hypothesis.class };
+	}
+
+	private GridDialectStatistics getStatistics() {
+		return sfi().getGridDialectStatistics();
+	}
+
+	public static class SlowBatchDatastoreProvider extends BaseDatastoreProvider {
+
+		@Override
+		public Class<? extends GridDialect> getDefaultDialect() {
+			return SlowBatchDialect.class;
+		}
+	}
+
+	public static class SlowBatchDialect extends BaseGridDialect implements BatchableGridDialect {
+
+		public SlowBatchDialect(SlowBatchDatastoreProvider provider) {
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			while ( queue.poll() != null ) {
+				// the operations are discarded
+			}
+			try {
+				Thread.sleep( BATCH_EXECUTION_MILLIS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+			return null;
+		}
+
+		@Override
+		public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
+			return new Tuple();
+		}
+
+		@Override
+		public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		}
+
+		@Override
+		public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		}
+
+		@Override
+		public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+			return null;
+		}
+
+		@Override
+		public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
+			return null;
+		}
+
+		@Override
+		public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		}
+
+		@Override
+		public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		}
+
+		@Override
+		public Number nextValue(NextValueRequest request) {
+			return null;
+		}
+
+		@Override
+		public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		}
+
+		@Override
+		public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMetadata, AssociationTypeContext associationTypeContext) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.stat;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.stat.GridDialectOperationStatistics;
+import org.hibernate.ogm.stat.GridDialectStatistics;
+import org.hibernate.ogm.test.dialectinvocations.StockItem;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the collection of statistics about the grid dialect operations.
+ */
+public class GridDialectStatisticsTest extends OgmTestCase {
+
+	@Before
+	public void clearStatistics() {
+		getStatistics().clear();
+	}
+
+	@Test
+	public void shouldRecordOperationsPerTable() throws Exception {
+		assertThat( getStatistics().isStatisticsEnabled() ).isTrue();
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		for ( int i = 0; i < 3; i++ ) {
+			StockItem item = new StockItem();
+			item.setId( "item-" + i );
+			item.setItemName( "Wedge " + i );
+			item.setCount( i );
+			session.persist( item );
+		}
+
+		transaction.commit();
+		session.clear();
+		transaction = session.beginTransaction();
+
+		StockItem item = (StockItem) session.get( StockItem.class, "item-1" );
+		assertThat( item.getItemName() ).isEqualTo( "Wedge 1" );
+
+		transaction.commit();
+		session.clear();
+
+		GridDialectOperationStatistics getTuple = getStatistics().getOperationStatistics( "getTuple", "StockItem" );
+		assertThat( getTuple ).isNotNull();
+		assertThat( getTuple.getCount() ).isGreaterThanOrEqualTo( 1 );
+		assertThat( getTuple.getRowCount() ).isGreaterThanOrEqualTo( 1 );
+		assertThat( getTuple.getErrorCount() ).isEqualTo( 0 );
+		assertThat( getTuple.getMedianLatency() ).isLessThanOrEqualTo( getTuple.getMaxLatency() );
+		assertThat( getTuple.getLatency99thPercentile() ).isLessThanOrEqualTo( getTuple.getMaxLatency() );
+		assertThat( getTuple.getTotalLatency() ).isGreaterThanOrEqualTo( getTuple.getMaxLatency() );
+		assertThat( getStatistics().getOperationStatistics() ).contains( getTuple );
+
+		transaction = session.beginTransaction();
+		for ( int i = 0; i < 3; i++ ) {
+			session.delete( session.get( StockItem.class, "item-" + i ) );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { StockItem.class };
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_STATISTICS, true );
+	}
+
+	private GridDialectStatistics getStatistics() {
+		return sfi().getGridDialectStatistics();
+	}
+}
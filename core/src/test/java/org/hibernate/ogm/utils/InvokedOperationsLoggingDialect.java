@@ -121,6 +121,21 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return association;
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		List<Association> associations = super.getAssociations( keys, associationContexts );
+		StringBuilder sb = new StringBuilder( "[" );
+		for ( Iterator<Association> iterator = associations.iterator(); iterator.hasNext(); ) {
+			sb.append( toShortString( iterator.next() ) );
+			if ( iterator.hasNext() ) {
+				sb.append( ", " );
+			}
+		}
+		sb.append( "]" );
+		log( "getAssociations", Arrays.toString( keys ), sb.toString() );
+		return associations;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Association association = super.createAssociation( key, associationContext );
@@ -7,9 +7,13 @@
 package org.hibernate.ogm.datastore.couchdb;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.persistence.OptimisticLockException;
 
@@ -25,10 +29,20 @@
 import org.hibernate.ogm.datastore.couchdb.dialect.type.impl.CouchDBLongType;
 import org.hibernate.ogm.datastore.couchdb.dialect.type.impl.CouchDBStringType;
 import org.hibernate.ogm.datastore.couchdb.impl.CouchDBDatastoreProvider;
+import org.hibernate.ogm.datastore.couchdb.logging.impl.Log;
+import org.hibernate.ogm.datastore.couchdb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.couchdb.util.impl.Identifier;
 import org.hibernate.ogm.datastore.document.impl.DotPatternMapHelpers;
 import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
 import org.hibernate.ogm.datastore.document.options.spi.AssociationStorageOption;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -63,11 +77,16 @@
  * <p>
  * Tuples are stored in CouchDB documents obtained as a JSON serialization of a {@link EntityDocument} object.
  * Associations are stored in CouchDB documents obtained as a JSON serialization of a {@link AssociationDocument} object.
+ * <p>
+ * The documents written during a flush are sent with a single request to the {@code _bulk_docs} endpoint, documents
+ * are retrieved by id in batches via the {@code _all_docs} endpoint.
  *
  * @author Andrea Boriero &lt;dreborier@gmail.com&gt;
  * @author Gunnar Morling
  */
-public class CouchDBDialect extends BaseGridDialect {
+public class CouchDBDialect extends BaseGridDialect implements BatchableGridDialect, MultigetGridDialect {
+
+	private static final Log logger = LoggerFactory.getLogger();
 
 	private final CouchDBDatastoreProvider provider;
 
@@ -77,6 +96,8 @@ public CouchDBDialect(CouchDBDatastoreProvider provider) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		executePendingOperations( tupleContext.getOperationsQueue() );
+
 		EntityDocument entity = getDataStore().getEntity( Identifier.createEntityId( key ) );
 		if ( entity != null ) {
 			return new Tuple( new CouchDBTupleSnapshot( entity.getProperties() ) );
@@ -85,6 +106,23 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 		return null;
 	}
 
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		executePendingOperations( tupleContext.getOperationsQueue() );
+
+		List<String> ids = new ArrayList<String>( keys.length );
+		for ( EntityKey key : keys ) {
+			ids.add( Identifier.createEntityId( key ) );
+		}
+
+		List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+		for ( EntityDocument entity : getDataStore().getEntities( ids ) ) {
+			tuples.add( entity != null ? new Tuple( new CouchDBTupleSnapshot( entity.getProperties() ) ) : null );
+		}
+
+		return tuples;
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		return new Tuple( new CouchDBTupleSnapshot( key ) );
@@ -118,15 +156,32 @@ public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleCo
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
-		removeDocumentIfPresent( Identifier.createEntityId( key ) );
+		getDataStore().deleteDocumentIfPresent( Identifier.createEntityId( key ) );
 	}
 
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		PendingWrites pendingWrites = getPendingWrites( associationContext.getOperationsQueue() );
+		Operation pendingWrite = pendingWrites.getLastWrite( key );
+
+		if ( pendingWrite instanceof RemoveAssociationOperation ) {
+			return null;
+		}
+		else if ( pendingWrite instanceof InsertOrUpdateAssociationOperation ) {
+			// the association document will be written with the state of this association
+			return ( (InsertOrUpdateAssociationOperation) pendingWrite ).getAssociation();
+		}
+
 		CouchDBAssociation couchDBAssociation = null;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
-			EntityDocument owningEntity = getDataStore().getEntity( Identifier.createEntityId( key.getEntityKey() ) );
+			String entityId = Identifier.createEntityId( key.getEntityKey() );
+			if ( pendingWrites.contains( entityId ) ) {
+				// the association must be read from the owning entity as changed by the queued operations
+				executePendingOperations( associationContext.getOperationsQueue() );
+			}
+
+			EntityDocument owningEntity = getDataStore().getEntity( entityId );
 
 			if ( owningEntity != null && DotPatternMapHelpers.hasField(
 					owningEntity.getPropertiesAsHierarchy(),
@@ -151,7 +206,13 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 		CouchDBAssociation couchDBAssociation = null;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
-			EntityDocument owningEntity = getDataStore().getEntity( Identifier.createEntityId( key.getEntityKey() ) );
+			String entityId = Identifier.createEntityId( key.getEntityKey() );
+			if ( getPendingWrites( associationContext.getOperationsQueue() ).contains( entityId ) ) {
+				// the association is added to the owning entity as changed by the queued operations
+				executePendingOperations( associationContext.getOperationsQueue() );
+			}
+
+			EntityDocument owningEntity = getDataStore().getEntity( entityId );
 			if ( owningEntity == null ) {
 				owningEntity = (EntityDocument) getDataStore().saveDocument( new EntityDocument( key.getEntityKey() ) );
 			}
@@ -159,6 +220,7 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 			couchDBAssociation = CouchDBAssociation.fromEmbeddedAssociation( owningEntity, key.getMetadata() );
 		}
 		else {
+			// a new document, which doesn't depend on the queued operations
 			AssociationDocument association = new AssociationDocument( Identifier.createAssociationId( key ) );
 			couchDBAssociation = CouchDBAssociation.fromAssociationDocument( association );
 		}
@@ -168,12 +230,21 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey associationKey, Association association, AssociationContext associationContext) {
+		getDataStore().saveDocument( getOwningDocumentWithRows( associationKey, association, associationContext ) );
+	}
+
+	/**
+	 * Applies the rows of the given association to the document storing it.
+	 *
+	 * @return the document storing the association; either the owning entity or a separate association document
+	 */
+	private Document getOwningDocumentWithRows(AssociationKey associationKey, Association association, AssociationContext associationContext) {
 		Object rows = getAssociationRows( association, associationKey, associationContext );
 
 		CouchDBAssociation couchDBAssociation = ( (CouchDBAssociationSnapshot) association.getSnapshot() ).getCouchDbAssociation();
 		couchDBAssociation.setRows( rows );
 
-		getDataStore().saveDocument( couchDBAssociation.getOwningDocument() );
+		return couchDBAssociation.getOwningDocument();
 	}
 
 	private Object getAssociationRows(Association association, AssociationKey associationKey, AssociationContext associationContext) {
@@ -248,7 +319,7 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 			}
 		}
 		else {
-			removeDocumentIfPresent( Identifier.createAssociationId( key ) );
+			getDataStore().deleteDocumentIfPresent( Identifier.createAssociationId( key ) );
 		}
 	}
 
@@ -335,10 +406,308 @@ private CouchDBDatastore getDataStore() {
 		return provider.getDataStore();
 	}
 
-	private void removeDocumentIfPresent(String id) {
-		String currentRevision = getDataStore().getCurrentRevision( id, false );
-		if ( currentRevision != null ) {
-			getDataStore().deleteDocument( id, currentRevision );
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			BulkWrite write = new BulkWrite();
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				if ( operation instanceof InsertOrUpdateTupleOperation ) {
+					addInsertOrUpdateTuple( write, (InsertOrUpdateTupleOperation) operation );
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					EntityDocument document = new EntityDocument( ( (RemoveTupleOperation) operation ).getEntityKey() );
+					document.markAsDeleted();
+					write.addWithLatestRevision( document );
+				}
+				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+					write.add( getOwningDocumentWithRows( update.getAssociationKey(), update.getAssociation(), update.getContext() ) );
+				}
+				else if ( operation instanceof RemoveAssociationOperation ) {
+					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+					addRemoveAssociation( write, remove.getAssociationKey(), remove.getContext() );
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported on CouchDB: " + operation.getClass().getName() );
+				}
+				operation = queue.poll();
+			}
+			write.flush();
+			queue.clear();
+		}
+	}
+
+	private void addInsertOrUpdateTuple(BulkWrite write, InsertOrUpdateTupleOperation update) {
+		CouchDBTupleSnapshot snapshot = (CouchDBTupleSnapshot) update.getTuple().getSnapshot();
+		String revision = (String) snapshot.get( Document.REVISION_FIELD_NAME );
+		EntityDocument document = new EntityDocument( update.getEntityKey(), revision, update.getTuple() );
+
+		if ( snapshot.isCreatedOnInsert() ) {
+			write.addInsert( document, update );
+		}
+		else if ( revision == null ) {
+			write.addWithLatestRevision( document );
+		}
+		else {
+			write.add( document );
+		}
+	}
+
+	private void addRemoveAssociation(BulkWrite write, AssociationKey key, AssociationContext associationContext) {
+		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
+			String entityId = Identifier.createEntityId( key.getEntityKey() );
+
+			// the owning entity may have been changed by an operation of this batch
+			write.flush( entityId );
+
+			EntityDocument owningEntity = getDataStore().getEntity( entityId );
+			if ( owningEntity != null ) {
+				owningEntity.removeAssociation( key.getMetadata().getCollectionRole() );
+				write.add( owningEntity );
+			}
+		}
+		else {
+			AssociationDocument document = new AssociationDocument( Identifier.createAssociationId( key ) );
+			document.markAsDeleted();
+			write.addWithLatestRevision( document );
+		}
+	}
+
+	/**
+	 * Executes the operations queued in the current flush, so that reads see them.
+	 */
+	private void executePendingOperations(OperationsQueue queue) {
+		if ( queue != null && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
+	}
+
+	/**
+	 * Collects the documents written by the operations queued in the current flush, leaving the queue unchanged.
+	 */
+	private PendingWrites getPendingWrites(OperationsQueue queue) {
+		PendingWrites pendingWrites = new PendingWrites();
+		if ( queue == null || queue.isClosed() || queue.size() == 0 ) {
+			return pendingWrites;
+		}
+
+		// the queue can only be polled, so the operations are put back in their original order
+		List<Operation> operations = new ArrayList<Operation>( queue.size() );
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			operations.add( operation );
+			pendingWrites.add( operation );
+			operation = queue.poll();
+		}
+		for ( Operation pending : operations ) {
+			if ( pending instanceof InsertOrUpdateTupleOperation ) {
+				queue.add( (InsertOrUpdateTupleOperation) pending );
+			}
+			else {
+				queue.add( pending );
+			}
+		}
+
+		return pendingWrites;
+	}
+
+	/**
+	 * The documents written by the queued operations and the last queued write of each association.
+	 */
+	private class PendingWrites {
+
+		private final Set<String> documentIds = new HashSet<String>();
+		private final Map<AssociationKey, Operation> associationWrites = new HashMap<AssociationKey, Operation>();
+
+		void add(Operation operation) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				documentIds.add( Identifier.createEntityId( ( (InsertOrUpdateTupleOperation) operation ).getEntityKey() ) );
+			}
+			else if ( operation instanceof RemoveTupleOperation ) {
+				documentIds.add( Identifier.createEntityId( ( (RemoveTupleOperation) operation ).getEntityKey() ) );
+			}
+			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+				addAssociationWrite( update.getAssociationKey(), update.getContext(), operation );
+			}
+			else if ( operation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+				addAssociationWrite( remove.getAssociationKey(), remove.getContext(), operation );
+			}
+		}
+
+		private void addAssociationWrite(AssociationKey key, AssociationContext associationContext, Operation operation) {
+			if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
+				documentIds.add( Identifier.createEntityId( key.getEntityKey() ) );
+			}
+			else {
+				documentIds.add( Identifier.createAssociationId( key ) );
+			}
+			associationWrites.put( key, operation );
+		}
+
+		/**
+		 * Whether the document with the given id is written by a queued operation.
+		 */
+		boolean contains(String documentId) {
+			return documentIds.contains( documentId );
+		}
+
+		/**
+		 * Returns the last queued operation writing the given association, if it is stored in a separate document.
+		 * The owning document of an association stored in the entity may be changed by other operations as well.
+		 */
+		Operation getLastWrite(AssociationKey key) {
+			Operation operation = associationWrites.get( key );
+			if ( operation != null && documentIds.contains( Identifier.createAssociationId( key ) ) ) {
+				return operation;
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Collects the documents written by the operations of one flush, to be sent with a single request to the
+	 * {@code _bulk_docs} endpoint. As a request may contain a given document only once, the collected documents are
+	 * sent whenever another version of a document is added.
+	 */
+	private class BulkWrite {
+
+		private final List<Document> documents = new ArrayList<Document>();
+		private final Map<String, Document> documentsById = new HashMap<String, Document>();
+
+		/**
+		 * The current revisions of the documents written in this flush, {@code null} for missing documents; Allows to
+		 * write a document several times and to delete documents without retrieving their revision for each of them.
+		 * Only kept for the flush, as documents may be changed by other clients at any time.
+		 */
+		private final Map<String, String> revisions = new HashMap<String, String>();
+
+		/**
+		 * The documents to be written with their latest known revision rather than the revision they had when read,
+		 * e.g. deletions
+		 */
+		private final Set<Document> withLatestRevision = Collections.newSetFromMap( new IdentityHashMap<Document, Boolean>() );
+
+		/**
+		 * The operations inserting entities, in order to report a conflict as duplicate insert
+		 */
+		private final Map<Document, InsertOrUpdateTupleOperation> inserts = new IdentityHashMap<Document, InsertOrUpdateTupleOperation>();
+
+		void add(Document document) {
+			Document added = documentsById.get( document.getId() );
+			if ( added == document ) {
+				// e.g. an association updated several times in the flush
+				return;
+			}
+			else if ( added != null ) {
+				flush();
+			}
+			documentsById.put( document.getId(), document );
+			documents.add( document );
+		}
+
+		void addWithLatestRevision(Document document) {
+			add( document );
+			withLatestRevision.add( document );
+		}
+
+		void addInsert(Document document, InsertOrUpdateTupleOperation insert) {
+			add( document );
+			inserts.put( document, insert );
+		}
+
+		/**
+		 * Sends the collected documents if they contain the document with the given id, so it can be read.
+		 */
+		void flush(String id) {
+			if ( documentsById.containsKey( id ) ) {
+				flush();
+			}
+		}
+
+		void flush() {
+			retrieveUnknownRevisions();
+
+			List<Document> toSave = new ArrayList<Document>( documents.size() );
+			for ( Document document : documents ) {
+				if ( withLatestRevision.contains( document ) ) {
+					document.setRevision( revisions.get( document.getId() ) );
+				}
+				if ( !isDeletionOfMissingDocument( document ) ) {
+					toSave.add( document );
+				}
+			}
+
+			List<Document> conflicts = getDataStore().saveDocuments( toSave );
+			rememberRevisions( toSave, conflicts );
+
+			List<Document> retries = new ArrayList<Document>();
+			for ( Document conflict : conflicts ) {
+				if ( withLatestRevision.contains( conflict ) ) {
+					// the known revision was outdated
+					conflict.setRevision( getDataStore().getCurrentRevision( conflict.getId(), false ) );
+					if ( !isDeletionOfMissingDocument( conflict ) ) {
+						retries.add( conflict );
+					}
+				}
+				else if ( inserts.containsKey( conflict ) ) {
+					InsertOrUpdateTupleOperation insert = inserts.get( conflict );
+					throw new TupleAlreadyExistsException(
+							insert.getEntityKey().getMetadata(),
+							insert.getTuple(),
+							logger.getDocumentHasBeenConcurrentlyModifiedException( conflict.getId() )
+					);
+				}
+				else {
+					throw logger.getDocumentHasBeenConcurrentlyModifiedException( conflict.getId() );
+				}
+			}
+
+			List<Document> retryConflicts = getDataStore().saveDocuments( retries );
+			if ( !retryConflicts.isEmpty() ) {
+				throw logger.getDocumentHasBeenConcurrentlyModifiedException( retryConflicts.get( 0 ).getId() );
+			}
+			rememberRevisions( retries, retryConflicts );
+
+			documents.clear();
+			documentsById.clear();
+			withLatestRevision.clear();
+			inserts.clear();
+		}
+
+		/**
+		 * Retrieves the current revisions of the documents to be written with their latest revision which have not
+		 * been written in this flush yet, with a single request.
+		 */
+		private void retrieveUnknownRevisions() {
+			List<String> unknown = new ArrayList<String>();
+			for ( Document document : withLatestRevision ) {
+				if ( !revisions.containsKey( document.getId() ) ) {
+					unknown.add( document.getId() );
+				}
+			}
+
+			Map<String, String> currentRevisions = getDataStore().getCurrentRevisions( unknown );
+			for ( String id : unknown ) {
+				revisions.put( id, currentRevisions.get( id ) );
+			}
+		}
+
+		private void rememberRevisions(List<Document> saved, List<Document> conflicts) {
+			Set<Document> failed = Collections.newSetFromMap( new IdentityHashMap<Document, Boolean>() );
+			failed.addAll( conflicts );
+
+			for ( Document document : saved ) {
+				if ( !failed.contains( document ) ) {
+					revisions.put( document.getId(), document.isDeleted() ? null : document.getRevision() );
+				}
+			}
+		}
+
+		private boolean isDeletionOfMissingDocument(Document document) {
+			return document.isDeleted() && document.getRevision() == null;
 		}
 	}
 }
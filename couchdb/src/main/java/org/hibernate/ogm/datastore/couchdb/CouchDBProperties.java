@@ -17,6 +17,42 @@
  */
 public final class CouchDBProperties implements OgmProperties {
 
+	/**
+	 * The maximum number of HTTP connections kept open to the CouchDB server. Requests issued while all the
+	 * connections are in use wait for a connection to be released.
+	 * <p>
+	 * Default is 10.
+	 */
+	public static final String CONNECTION_POOL_SIZE = "hibernate.ogm.couchdb.client.connection_pool_size";
+
+	/**
+	 * The maximum number of HTTP connections per route, i.e. per target host.
+	 * <p>
+	 * Defaults to the value of {@link #CONNECTION_POOL_SIZE}.
+	 */
+	public static final String MAX_CONNECTIONS_PER_ROUTE = "hibernate.ogm.couchdb.client.max_connections_per_route";
+
+	/**
+	 * Time to live in milliseconds of the connections in the pool; connections are kept alive and reused for at most
+	 * that time. Connections are kept alive as long as the server allows if not set.
+	 */
+	public static final String CONNECTION_TTL = "hibernate.ogm.couchdb.client.connection_ttl";
+
+	/**
+	 * How long will we wait (in milliseconds) to get a connection from the pool?
+	 */
+	public static final String CONNECTION_CHECKOUT_TIMEOUT = "hibernate.ogm.couchdb.client.connection_checkout_timeout";
+
+	/**
+	 * The timeout in milliseconds to make an initial socket connection.
+	 */
+	public static final String ESTABLISH_CONNECTION_TIMEOUT = "hibernate.ogm.couchdb.client.establish_connection_timeout";
+
+	/**
+	 * Socket inactivity timeout in milliseconds.
+	 */
+	public static final String SOCKET_TIMEOUT = "hibernate.ogm.couchdb.client.socket_timeout";
+
 	private CouchDBProperties() {
 	}
 }
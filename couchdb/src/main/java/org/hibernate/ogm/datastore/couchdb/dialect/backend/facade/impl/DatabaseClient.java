@@ -10,6 +10,7 @@
 import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
 import javax.ws.rs.HEAD;
+import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
@@ -19,7 +20,9 @@
 
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.DesignDocument;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.TuplesDesignDocument;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.BulkDocuments;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.Document;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.DocumentKeys;
 
 /**
  * The Interface used by RESTEasy to create the REST calls used to interact with the CouchDB database instance. The
@@ -54,6 +57,16 @@ public interface DatabaseClient {
 	@Path("_design/{id}")
 	Response saveDesign(DesignDocument design, @PathParam("id") String id);
 
+	/**
+	 * Save or delete the given documents with a single request
+	 *
+	 * @param documents the documents to be saved or deleted
+	 * @return the {@link Response} from CouchDB, containing the outcome for each document in the order of the request
+	 */
+	@POST
+	@Path("_bulk_docs")
+	Response saveDocuments(BulkDocuments documents);
+
 	/**
 	 * Delete the CouchDBDocument with the given id and revision
 	 *
@@ -84,6 +97,21 @@ public interface DatabaseClient {
 	@Path("{id}")
 	Response getEntityById(@PathParam("id") String id);
 
+	/**
+	 * Retrieve the {@link org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocument}s with the
+	 * given ids with a single request
+	 *
+	 * @param includeDocuments whether the documents should be returned or only their revisions
+	 * @param keys the ids of the documents to retrieve
+	 * @return the {@link Response} with the
+	 * {@link org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocumentRows}, or the
+	 * {@link org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.DocumentRevisionRows} if the documents are
+	 * not included
+	 */
+	@POST
+	@Path("_all_docs")
+	Response getEntitiesByIds(@QueryParam("include_docs") boolean includeDocuments, DocumentKeys keys);
+
 	/**
 	 * Retrieve the {@link org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.AssociationDocument} with the given id
 	 *
@@ -6,7 +6,12 @@
  */
 package org.hibernate.ogm.datastore.couchdb.dialect.backend.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.Response;
@@ -16,16 +21,22 @@
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.DesignDocument;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.designdocument.impl.EntityTupleRows;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.AssociationDocument;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.BulkDocuments;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.Document;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.DocumentKeys;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.DocumentRevisionRows;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocument;
+import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocumentRows;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.GenericResponse;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.SequenceDocument;
+import org.hibernate.ogm.datastore.couchdb.impl.CouchDBConfiguration;
 import org.hibernate.ogm.datastore.couchdb.logging.impl.Log;
 import org.hibernate.ogm.datastore.couchdb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.couchdb.util.impl.DatabaseIdentifier;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.stat.ConnectionPoolStatistics;
 import org.jboss.resteasy.client.exception.ResteasyClientException;
 import org.jboss.resteasy.client.jaxrs.BasicAuthentication;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
@@ -42,9 +53,14 @@
 public class CouchDBDatastore {
 
 	/**
-	 * Size of the client connection pool used by the RestEasy HTTP client
+	 * Error returned by the bulk API for documents whose revision is not the current one
 	 */
-	private static final int CONNECTION_POOL_SIZE = 10;
+	private static final String CONFLICT_ERROR = "conflict";
+
+	/**
+	 * Error returned by the bulk API for deleted documents which don't exist
+	 */
+	private static final String NOT_FOUND_ERROR = "not_found";
 
 	private static final Log logger = LoggerFactory.getLogger();
 
@@ -60,10 +76,13 @@ public class CouchDBDatastore {
 	 */
 	private final DatabaseClient databaseClient;
 
-	private CouchDBDatastore(DatabaseIdentifier database) {
+	private final ConnectionPoolStatistics connectionPoolStatistics;
+
+	private CouchDBDatastore(DatabaseIdentifier database, CouchDBConfiguration configuration) {
 		logger.connectingToCouchDB( database.getDatabaseName() + "@" + database.getServerUri().toString() );
 
-		client = createRestClient( database );
+		client = createRestClient( database, configuration );
+		connectionPoolStatistics = new HttpConnectionPoolStatistics( client );
 		databaseClient = client.target( database.getDatabaseUri() ).proxy( DatabaseClient.class );
 
 		this.database = database;
@@ -73,14 +92,15 @@ private CouchDBDatastore(DatabaseIdentifier database) {
 	 * Creates an instance of CouchDBDatastore.
 	 *
 	 * @param database a handle to the database
-	 * @param createDatabase if true the database is created
+	 * @param configuration the configuration of the datastore, e.g. whether to create the database and the settings of
+	 * the HTTP connection pool
 	 * @return an instance of CouchDBDatastore
 	 */
-	public static CouchDBDatastore newInstance(DatabaseIdentifier database, boolean createDatabase) {
+	public static CouchDBDatastore newInstance(DatabaseIdentifier database, CouchDBConfiguration configuration) {
 		RegisterBuiltin.register( ResteasyProviderFactory.getInstance() );
 
-		CouchDBDatastore couchDBDatastore = new CouchDBDatastore( database );
-		couchDBDatastore.initialize( createDatabase );
+		CouchDBDatastore couchDBDatastore = new CouchDBDatastore( database, configuration );
+		couchDBDatastore.initialize( configuration.isCreateDatabase() );
 
 		return couchDBDatastore;
 	}
@@ -149,6 +169,62 @@ else if ( response.getStatus() == Response.Status.CONFLICT.getStatusCode() ) {
 		}
 	}
 
+	/**
+	 * Saves or deletes the given documents with a single request to the {@code _bulk_docs} endpoint. The revisions of
+	 * the saved documents are updated.
+	 *
+	 * @param documents the documents to save, with distinct ids; documents {@link Document#markAsDeleted() marked as
+	 * deleted} are deleted
+	 * @return the documents which have not been saved due to a conflict, i.e. as their revision is not the current one
+	 */
+	public List<Document> saveDocuments(List<Document> documents) {
+		if ( documents.isEmpty() ) {
+			return Collections.emptyList();
+		}
+
+		Response response = null;
+		try {
+			response = databaseClient.saveDocuments( new BulkDocuments( documents ) );
+			if ( response.getStatus() != Response.Status.CREATED.getStatusCode() ) {
+				GenericResponse entity = response.readEntity( GenericResponse.class );
+				throw logger.errorSavingDocuments( response.getStatus(), entity.getError(), entity.getReason() );
+			}
+
+			// the results are returned in the order of the documents of the request
+			GenericResponse[] results = response.readEntity( GenericResponse[].class );
+			List<Document> conflicts = new ArrayList<Document>();
+
+			for ( int i = 0; i < results.length; i++ ) {
+				Document document = documents.get( i );
+				GenericResponse result = results[i];
+
+				if ( result.getError() == null ) {
+					updateDocumentRevision( document, result.getRev() );
+				}
+				else if ( CONFLICT_ERROR.equals( result.getError() ) ) {
+					conflicts.add( document );
+				}
+				else if ( document.isDeleted() && NOT_FOUND_ERROR.equals( result.getError() ) ) {
+					// already deleted
+					updateDocumentRevision( document, null );
+				}
+				else {
+					throw logger.errorSavingDocument( document.getId(), result.getError(), result.getReason() );
+				}
+			}
+
+			return conflicts;
+		}
+		catch (ResteasyClientException e) {
+			throw logger.couchDBConnectionProblem( e );
+		}
+		finally {
+			if ( response != null ) {
+				response.close();
+			}
+		}
+	}
+
 	/**
 	 * Retrieves a {@link EntityDocument} from the database
 	 *
@@ -180,6 +256,76 @@ else if ( response.getStatus() == Response.Status.OK.getStatusCode() ) {
 		}
 	}
 
+	/**
+	 * Retrieves the {@link EntityDocument}s with the given ids from the database with a single request to the
+	 * {@code _all_docs} endpoint.
+	 *
+	 * @param ids the ids of the entities to retrieve
+	 * @return the found entities in the order of the given ids, {@code null} for the ids without entity
+	 */
+	public List<EntityDocument> getEntities(List<String> ids) {
+		Response response = null;
+		try {
+			response = databaseClient.getEntitiesByIds( true, new DocumentKeys( ids ) );
+			if ( response.getStatus() == Response.Status.OK.getStatusCode() ) {
+				Map<String, EntityDocument> entities = response.readEntity( EntityDocumentRows.class ).getEntities();
+				List<EntityDocument> result = new ArrayList<EntityDocument>( ids.size() );
+
+				for ( String id : ids ) {
+					result.add( entities.get( id ) );
+				}
+
+				return result;
+			}
+			else {
+				GenericResponse responseEntity = response.readEntity( GenericResponse.class );
+				throw logger.errorRetrievingEntities( response.getStatus(), responseEntity.getError(), responseEntity.getReason() );
+			}
+		}
+		catch (ResteasyClientException e) {
+			throw logger.couchDBConnectionProblem( e );
+		}
+		finally {
+			if ( response != null ) {
+				response.close();
+			}
+		}
+	}
+
+	/**
+	 * Returns the current revisions of the documents with the given ids with a single request to the
+	 * {@code _all_docs} endpoint.
+	 *
+	 * @param ids the ids of the documents
+	 * @return the current revisions of the existing documents, keyed by id; deleted or missing documents are not
+	 * contained
+	 */
+	public Map<String, String> getCurrentRevisions(List<String> ids) {
+		if ( ids.isEmpty() ) {
+			return new HashMap<String, String>();
+		}
+
+		Response response = null;
+		try {
+			response = databaseClient.getEntitiesByIds( false, new DocumentKeys( ids ) );
+			if ( response.getStatus() == Response.Status.OK.getStatusCode() ) {
+				return response.readEntity( DocumentRevisionRows.class ).getRevisions();
+			}
+			else {
+				GenericResponse responseEntity = response.readEntity( GenericResponse.class );
+				throw logger.errorRetrievingEntities( response.getStatus(), responseEntity.getError(), responseEntity.getReason() );
+			}
+		}
+		catch (ResteasyClientException e) {
+			throw logger.couchDBConnectionProblem( e );
+		}
+		finally {
+			if ( response != null ) {
+				response.close();
+			}
+		}
+	}
+
 	/**
 	 * Returns the current revision of the document with the given id.
 	 *
@@ -294,15 +440,38 @@ public long nextValue(IdSourceKey key, int increment, int initialValue) {
 	 * @param revision the revision of the document to be deleted
 	 */
 	public void deleteDocument(String id, String revision) {
+		if ( !doDeleteDocument( id, revision ) ) {
+			throw logger.getDocumentHasBeenConcurrentlyModifiedException( id );
+		}
+	}
+
+	/**
+	 * Deletes the document with the given id from the database, if it exists, using its current revision.
+	 *
+	 * @param id the id of the document to be deleted
+	 */
+	public void deleteDocumentIfPresent(String id) {
+		String revision = getCurrentRevision( id, false );
+		if ( revision != null ) {
+			deleteDocument( id, revision );
+		}
+	}
+
+	/**
+	 * @return {@code false} if the document could not be deleted as the given revision is not the current one,
+	 * {@code true} otherwise
+	 */
+	private boolean doDeleteDocument(String id, String revision) {
 		Response response = null;
 		try {
 			response = databaseClient.deleteDocument( id, revision );
 			if ( response.getStatus() == Response.Status.CONFLICT.getStatusCode() ) {
-				throw logger.getDocumentHasBeenConcurrentlyModifiedException( id );
+				return false;
 			}
 			else if ( response.getStatus() != Response.Status.OK.getStatusCode() &&  response.getStatus() != Response.Status.NOT_FOUND.getStatusCode() ) {
 				throw logger.errorDeletingDocument( response.getStatus(), null, null );
 			}
+			return true;
 		}
 		catch (ResteasyClientException e) {
 			throw logger.couchDBConnectionProblem( e );
@@ -353,6 +522,14 @@ public DatabaseIdentifier getDatabaseIdentifier() {
 		return database;
 	}
 
+	/**
+	 * Returns a live view on the HTTP connection pool used to access the server
+	 * @return the statistics of the connection pool
+	 */
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return connectionPoolStatistics;
+	}
+
 	private void createDatabase(ServerClient serverClient) {
 		Response response = null;
 		try {
@@ -432,16 +609,33 @@ private String getTableName(EntityKeyMetadata entityKeyMetadata) {
 		return entityKeyMetadata.getTable();
 	}
 
-	private static ResteasyClient createRestClient(DatabaseIdentifier database) {
+	private static ResteasyClient createRestClient(DatabaseIdentifier database, CouchDBConfiguration configuration) {
 		ResteasyClientBuilder clientBuilder = new ResteasyClientBuilder();
 
 		if ( database.getUserName() != null ) {
 			clientBuilder.register( new BasicAuthentication( database.getUserName(), database.getPassword() ) );
 		}
 
+		if ( configuration.getConnectionCheckoutTimeout() != null ) {
+			clientBuilder.connectionCheckoutTimeout( configuration.getConnectionCheckoutTimeout(), TimeUnit.MILLISECONDS );
+		}
+
+		if ( configuration.getEstablishConnectionTimeout() != null ) {
+			clientBuilder.establishConnectionTimeout( configuration.getEstablishConnectionTimeout(), TimeUnit.MILLISECONDS );
+		}
+
+		if ( configuration.getConnectionTTL() != null ) {
+			clientBuilder.connectionTTL( configuration.getConnectionTTL(), TimeUnit.MILLISECONDS );
+		}
+
+		if ( configuration.getSocketTimeout() != null ) {
+			clientBuilder.socketTimeout( configuration.getSocketTimeout(), TimeUnit.MILLISECONDS );
+		}
+
 		// using a connection pool size > 1 causes a thread-safe pool implementation to be used under the hoods
 		return clientBuilder
-				.connectionPoolSize( CONNECTION_POOL_SIZE )
+				.connectionPoolSize( configuration.getConnectionPoolSize() )
+				.maxPooledPerRoute( configuration.getMaxConnectionsPerRoute() )
 				.build();
 	}
 
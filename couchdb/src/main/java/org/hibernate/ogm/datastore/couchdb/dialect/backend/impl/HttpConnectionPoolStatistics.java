@@ -0,0 +1,78 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.impl;
+
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.hibernate.ogm.stat.ConnectionPoolStatistics;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.engines.ApacheHttpClient4Engine;
+
+/**
+ * A live view on the HTTP connection pool of a RESTEasy client.
+ * <p>
+ * All values are {@code 0} if the client does not use a pooling connection manager.
+ */
+public class HttpConnectionPoolStatistics implements ConnectionPoolStatistics {
+
+	private final ConnPoolControl<?> pool;
+
+	public HttpConnectionPoolStatistics(ResteasyClient client) {
+		this.pool = getConnectionPool( client );
+	}
+
+	@SuppressWarnings("deprecation")
+	private static ConnPoolControl<?> getConnectionPool(ResteasyClient client) {
+		ClientHttpEngine engine = client.httpEngine();
+
+		if ( engine instanceof ApacheHttpClient4Engine ) {
+			ClientConnectionManager connectionManager = ( (ApacheHttpClient4Engine) engine ).getHttpClient().getConnectionManager();
+
+			if ( connectionManager instanceof ConnPoolControl ) {
+				return (ConnPoolControl<?>) connectionManager;
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	public int getLeasedConnections() {
+		PoolStats stats = getTotalStats();
+		return stats != null ? stats.getLeased() : 0;
+	}
+
+	@Override
+	public int getPendingRequests() {
+		PoolStats stats = getTotalStats();
+		return stats != null ? stats.getPending() : 0;
+	}
+
+	@Override
+	public int getAvailableConnections() {
+		PoolStats stats = getTotalStats();
+		return stats != null ? stats.getAvailable() : 0;
+	}
+
+	@Override
+	public int getMaxConnections() {
+		PoolStats stats = getTotalStats();
+		return stats != null ? stats.getMax() : 0;
+	}
+
+	private PoolStats getTotalStats() {
+		return pool != null ? pool.getTotalStats() : null;
+	}
+
+	@Override
+	public String toString() {
+		return "HttpConnectionPoolStatistics [leased=" + getLeasedConnections() + ", pending=" + getPendingRequests()
+				+ ", available=" + getAvailableConnections() + ", max=" + getMaxConnections() + "]";
+	}
+}
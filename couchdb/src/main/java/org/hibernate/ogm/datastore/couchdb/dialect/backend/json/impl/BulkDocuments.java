@@ -0,0 +1,29 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import java.util.List;
+
+/**
+ * The body of a request to the {@code _bulk_docs} endpoint, creating, updating or deleting several documents at once.
+ *
+ * Used to serialize the JSON with the following structure:
+ *
+ * { "docs": [{ "_id": "", "_rev": "", ... }, { "_id": "", "_rev": "", "_deleted": true, ... }] }
+ */
+public class BulkDocuments {
+
+	private final List<Document> docs;
+
+	public BulkDocuments(List<Document> docs) {
+		this.docs = docs;
+	}
+
+	public List<Document> getDocs() {
+		return docs;
+	}
+}
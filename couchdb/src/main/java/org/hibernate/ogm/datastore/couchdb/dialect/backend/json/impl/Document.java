@@ -11,6 +11,8 @@
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize.Inclusion;
 
 /**
  * Every Json document in CouchDB contains, The field '_id' representing the id of the document and '_rev' representing
@@ -32,12 +34,21 @@ public abstract class Document {
 
 	public static final String REVISION_FIELD_NAME = "_rev";
 
+	/**
+	 * Name of the field marking a document to be deleted by a bulk request
+	 */
+	public static final String DELETED_FIELD_NAME = "_deleted";
+
 	@JsonProperty("_id")
 	private String id;
 
 	@JsonProperty(REVISION_FIELD_NAME)
 	private String revision;
 
+	@JsonProperty(DELETED_FIELD_NAME)
+	@JsonSerialize(include = Inclusion.NON_NULL)
+	private Boolean deleted;
+
 	public Document() {
 	}
 
@@ -68,6 +79,20 @@ public void setRevision(String revision) {
 		this.revision = revision;
 	}
 
+	/**
+	 * Whether this document is to be deleted when being sent with a bulk request.
+	 *
+	 * @return {@code true} if this document is to be deleted, {@code false} otherwise
+	 */
+	@JsonIgnore
+	public boolean isDeleted() {
+		return deleted != null && deleted;
+	}
+
+	public void markAsDeleted() {
+		this.deleted = Boolean.TRUE;
+	}
+
 	@Override
 	public String toString() {
 		return JsonToStringHelper.toString( this );
@@ -0,0 +1,29 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import java.util.List;
+
+/**
+ * The body of a request to the {@code _all_docs} endpoint, selecting the documents with the given ids.
+ *
+ * Used to serialize the JSON with the following structure:
+ *
+ * { "keys": ["id1", "id2"] }
+ */
+public class DocumentKeys {
+
+	private final List<String> keys;
+
+	public DocumentKeys(List<String> keys) {
+		this.keys = keys;
+	}
+
+	public List<String> getKeys() {
+		return keys;
+	}
+}
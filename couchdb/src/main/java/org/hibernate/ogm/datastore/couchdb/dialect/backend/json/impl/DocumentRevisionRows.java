@@ -0,0 +1,97 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Represents the result of a request to the {@code _all_docs} endpoint without the documents, retrieving the current
+ * revisions of documents by their ids.
+ *
+ * Rows of documents which don't exist contain an error instead of a value; the value of deleted documents is flagged
+ * as deleted.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DocumentRevisionRows {
+
+	private List<Row> rows;
+
+	public List<Row> getRows() {
+		return rows;
+	}
+
+	public void setRows(List<Row> rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Returns the current revisions of the existing documents.
+	 *
+	 * @return the revisions of the existing documents, keyed by id
+	 */
+	@JsonIgnore
+	public Map<String, String> getRevisions() {
+		Map<String, String> revisions = new HashMap<String, String>( rows.size() );
+		for ( Row row : rows ) {
+			if ( row.getValue() != null && !row.getValue().isDeleted() ) {
+				revisions.put( row.getKey(), row.getValue().getRev() );
+			}
+		}
+		return revisions;
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Row {
+
+		private String key;
+		private Value value;
+
+		public String getKey() {
+			return key;
+		}
+
+		public void setKey(String key) {
+			this.key = key;
+		}
+
+		public Value getValue() {
+			return value;
+		}
+
+		public void setValue(Value value) {
+			this.value = value;
+		}
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Value {
+
+		private String rev;
+		private boolean deleted;
+
+		public String getRev() {
+			return rev;
+		}
+
+		public void setRev(String rev) {
+			this.rev = rev;
+		}
+
+		public boolean isDeleted() {
+			return deleted;
+		}
+
+		public void setDeleted(boolean deleted) {
+			this.deleted = deleted;
+		}
+	}
+}
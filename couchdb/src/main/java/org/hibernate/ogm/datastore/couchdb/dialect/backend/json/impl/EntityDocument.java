@@ -11,9 +11,9 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 import org.hibernate.ogm.datastore.couchdb.util.impl.Identifier;
+import org.hibernate.ogm.datastore.document.impl.ColumnPath;
 import org.hibernate.ogm.datastore.document.impl.DotPatternMapHelpers;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.spi.Tuple;
@@ -71,7 +71,6 @@ public class EntityDocument extends Document {
 	 */
 	private static final String TABLE_FIELD_NAME = "$table";
 	private static final String PATH_SEPARATOR = ".";
-	private static final Pattern PATH_SPLIT_PATTERN = Pattern.compile( Pattern.quote( PATH_SEPARATOR ) );
 
 	private String table;
 
@@ -168,12 +167,12 @@ public Map<String, Object> getPropertiesAsHierarchy() {
 	 * @param value the value of the property
 	 */
 	public static void putEmbeddedProperty(Map<String, Object> root, String name, Object value) {
-		String[] pathElements = PATH_SPLIT_PATTERN.split( name );
+		ColumnPath path = ColumnPath.of( name );
 
 		Map<String, Object> owner = root;
 
-		for ( int i = 0; i < pathElements.length - 1; i++ ) {
-			String element = pathElements[i];
+		for ( int i = 0; i < path.getDepth() - 1; i++ ) {
+			String element = path.getSegment( i );
 
 			@SuppressWarnings("unchecked")
 			Map<String, Object> nextOwner = (Map<String, Object>) owner.get( element );
@@ -185,7 +184,7 @@ public static void putEmbeddedProperty(Map<String, Object> root, String name, Ob
 			owner = nextOwner;
 		}
 
-		owner.put( pathElements[pathElements.length - 1], value );
+		owner.put( path.getLeaf(), value );
 	}
 
 	public static boolean isEmbeddedProperty(String columnName) {
@@ -0,0 +1,74 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Represents the result of a request to the {@code _all_docs} endpoint including the documents, retrieving entities by
+ * their ids.
+ *
+ * Rows of documents which don't exist contain an error instead of the document; rows of deleted documents have no
+ * document.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EntityDocumentRows {
+
+	private List<Row> rows;
+
+	public List<Row> getRows() {
+		return rows;
+	}
+
+	public void setRows(List<Row> rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Returns the retrieved entities.
+	 *
+	 * @return the existing entities, keyed by id
+	 */
+	@JsonIgnore
+	public Map<String, EntityDocument> getEntities() {
+		Map<String, EntityDocument> entities = new HashMap<String, EntityDocument>( rows.size() );
+		for ( Row row : rows ) {
+			if ( row.getDoc() != null ) {
+				entities.put( row.getKey(), row.getDoc() );
+			}
+		}
+		return entities;
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	public static class Row {
+
+		private String key;
+		private EntityDocument doc;
+
+		public String getKey() {
+			return key;
+		}
+
+		public void setKey(String key) {
+			this.key = key;
+		}
+
+		public EntityDocument getDoc() {
+			return doc;
+		}
+
+		public void setDoc(EntityDocument doc) {
+			this.doc = doc;
+		}
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.couchdb.impl;
 
 import org.hibernate.ogm.cfg.spi.DocumentStoreConfiguration;
+import org.hibernate.ogm.datastore.couchdb.CouchDBProperties;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 
 /**
@@ -19,7 +20,75 @@ public class CouchDBConfiguration extends DocumentStoreConfiguration {
 
 	public static final int DEFAULT_PORT = 5984;
 
+	private static final int DEFAULT_CONNECTION_POOL_SIZE = 10;
+
+	private final int connectionPoolSize;
+	private final int maxConnectionsPerRoute;
+	private final Long connectionTTL;
+	private final Long connectionCheckoutTimeout;
+	private final Long establishConnectionTimeout;
+	private final Long socketTimeout;
+
 	public CouchDBConfiguration(ConfigurationPropertyReader reader) {
 		super( reader, DEFAULT_PORT );
+
+		this.connectionPoolSize = reader.property( CouchDBProperties.CONNECTION_POOL_SIZE, int.class )
+				.withDefault( DEFAULT_CONNECTION_POOL_SIZE )
+				.getValue();
+		this.maxConnectionsPerRoute = reader.property( CouchDBProperties.MAX_CONNECTIONS_PER_ROUTE, int.class )
+				.withDefault( connectionPoolSize )
+				.getValue();
+		this.connectionTTL = reader.property( CouchDBProperties.CONNECTION_TTL, Long.class ).getValue();
+		this.connectionCheckoutTimeout = reader.property( CouchDBProperties.CONNECTION_CHECKOUT_TIMEOUT, Long.class ).getValue();
+		this.establishConnectionTimeout = reader.property( CouchDBProperties.ESTABLISH_CONNECTION_TIMEOUT, Long.class ).getValue();
+		this.socketTimeout = reader.property( CouchDBProperties.SOCKET_TIMEOUT, Long.class ).getValue();
+	}
+
+	/**
+	 * @see CouchDBProperties#CONNECTION_POOL_SIZE
+	 * @return the maximum number of HTTP connections to the server
+	 */
+	public int getConnectionPoolSize() {
+		return connectionPoolSize;
+	}
+
+	/**
+	 * @see CouchDBProperties#MAX_CONNECTIONS_PER_ROUTE
+	 * @return the maximum number of HTTP connections per target host
+	 */
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	/**
+	 * @see CouchDBProperties#CONNECTION_TTL
+	 * @return the time to live in milliseconds of the connections in the pool
+	 */
+	public Long getConnectionTTL() {
+		return connectionTTL;
+	}
+
+	/**
+	 * @see CouchDBProperties#CONNECTION_CHECKOUT_TIMEOUT
+	 * @return the timeout in milliseconds to get a connection from the pool
+	 */
+	public Long getConnectionCheckoutTimeout() {
+		return connectionCheckoutTimeout;
+	}
+
+	/**
+	 * @see CouchDBProperties#ESTABLISH_CONNECTION_TIMEOUT
+	 * @return the timeout in milliseconds to make an initial socket connection
+	 */
+	public Long getEstablishConnectionTimeout() {
+		return establishConnectionTimeout;
+	}
+
+	/**
+	 * @see CouchDBProperties#SOCKET_TIMEOUT
+	 * @return the socket inactivity timeout in milliseconds
+	 */
+	public Long getSocketTimeout() {
+		return socketTimeout;
 	}
 }
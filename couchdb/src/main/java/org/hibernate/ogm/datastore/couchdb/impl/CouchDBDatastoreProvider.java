@@ -8,6 +8,9 @@
 
 import java.util.Map;
 
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
+
 import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.spi.Hosts;
 import org.hibernate.ogm.datastore.couchdb.CouchDBDialect;
@@ -18,20 +21,23 @@
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.SchemaDefiner;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.stat.ConnectionPoolStatistics;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Manageable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
 /**
- * Creates a fully configured instance of {@link CouchDBDatastore}
+ * Creates a fully configured instance of {@link CouchDBDatastore}. Exposes the statistics of its HTTP connection pool
+ * as MBean if JMX is enabled.
  *
  * @author Andrea Boriero &lt;dreborier@gmail.com&gt;
  * @author Gunnar Morling
  */
-public class CouchDBDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable, ServiceRegistryAwareService, Configurable {
+public class CouchDBDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable, ServiceRegistryAwareService, Configurable, Manageable {
 
 	private static final Log logger = LoggerFactory.getLogger();
 
@@ -63,7 +69,7 @@ public void stop() {
 	public void start() {
 		if ( isDatastoreNotInitialized() ) {
 			try {
-				datastore = CouchDBDatastore.newInstance( getDatabase(), configuration.isCreateDatabase() );
+				datastore = CouchDBDatastore.newInstance( getDatabase(), configuration );
 			}
 			catch (HibernateException e) {
 				// Wrap HibernateException in a ServiceException to make the stack trace more friendly
@@ -97,6 +103,35 @@ public CouchDBDatastore getDataStore() {
 		return datastore;
 	}
 
+	/**
+	 * Provides the statistics of the HTTP connection pool used to access CouchDB
+	 *
+	 * @return a live view on the connection pool
+	 */
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return datastore.getConnectionPoolStatistics();
+	}
+
+	@Override
+	public String getManagementDomain() {
+		return null;
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		return ConnectionPoolStatistics.class.getName();
+	}
+
+	@Override
+	public Object getManagementBean() {
+		try {
+			return new StandardMBean( getConnectionPoolStatistics(), ConnectionPoolStatistics.class, true );
+		}
+		catch (NotCompliantMBeanException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
 	private boolean isDatastoreNotInitialized() {
 		return datastore == null;
 	}
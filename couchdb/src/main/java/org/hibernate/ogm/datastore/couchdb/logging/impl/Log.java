@@ -97,4 +97,13 @@ HibernateException malformedDataBaseUrl(@Cause Exception e, String databaseHost,
 
 	@Message(id = 1323, value = "CouchDB does not support multiple hosts configuration: %s")
 	HibernateException doesNotSupportMultipleHosts(String hosts);
+
+	@Message(id = 1324, value = "An error occurred saving CouchDB Documents in bulk, " + ERROR_DESCRIPTION)
+	HibernateException errorSavingDocuments(int status, String error, String reason);
+
+	@Message(id = 1325, value = "An error occurred saving CouchDB Document with id %s in bulk, error: '%s', reason: '%s'")
+	HibernateException errorSavingDocument(String id, String error, String reason);
+
+	@Message(id = 1326, value = "An error occurred retrieving entities by id, " + ERROR_DESCRIPTION)
+	HibernateException errorRetrievingEntities(int status, String error, String reason);
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.couchdb.test.dialect.backend.impl;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hibernate.ogm.datastore.couchdb.utils.CouchDBTestHelper.environmentProperties;
@@ -13,6 +14,9 @@
 import static org.junit.Assert.assertThat;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import javax.persistence.OptimisticLockException;
@@ -22,10 +26,13 @@
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.impl.CouchDBDatastore;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.Document;
 import org.hibernate.ogm.datastore.couchdb.dialect.backend.json.impl.EntityDocument;
+import org.hibernate.ogm.datastore.couchdb.impl.CouchDBConfiguration;
 import org.hibernate.ogm.datastore.couchdb.util.impl.DatabaseIdentifier;
 import org.hibernate.ogm.datastore.couchdb.utils.CouchDBTestHelper;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.stat.ConnectionPoolStatistics;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -83,7 +90,21 @@ public void testCreatingADocumentAfterDeletingDatabase() {
 	@Test(expected = HibernateException.class)
 	public void testCreatingInstanceWithUnavaibleHost() throws Exception {
 		dataStore = null;
-		CouchDBDatastore.newInstance( getDatabaseIdentifierWithUnavailableHost(), true );
+		Properties configuration = new Properties();
+		configuration.putAll( properties );
+		configuration.put( OgmProperties.CREATE_DATABASE, "true" );
+		CouchDBDatastore.newInstance( getDatabaseIdentifierWithUnavailableHost(), getConfiguration( configuration ) );
+	}
+
+	@Test
+	public void testConnectionPoolStatistics() {
+		dataStore.saveDocument( createEntity() );
+
+		ConnectionPoolStatistics statistics = dataStore.getConnectionPoolStatistics();
+		assertThat( statistics.getMaxConnections(), equalTo( 10 ) );
+		assertThat( statistics.getLeasedConnections(), equalTo( 0 ) );
+		assertThat( statistics.getPendingRequests(), equalTo( 0 ) );
+		assertThat( statistics.getAvailableConnections() > 0, equalTo( true ) );
 	}
 
 	@Test
@@ -123,14 +144,67 @@ public void testGetEntityWithWrongIdReturnNullValue() {
 		assertThat( entity, nullValue() );
 	}
 
+	@Test
+	public void testSaveDocumentsInBulk() {
+		EntityDocument created = createEntity( "1" );
+		EntityDocument deleted = (EntityDocument) dataStore.saveDocument( createEntity( "2" ) );
+		deleted.markAsDeleted();
+
+		List<Document> conflicts = dataStore.saveDocuments( Arrays.<Document>asList( created, deleted ) );
+
+		assertThat( conflicts.isEmpty(), equalTo( true ) );
+		assertThat( created.getRevision(), notNullValue() );
+		assertThat( dataStore.getEntity( created.getId() ), notNullValue() );
+		assertThat( dataStore.getEntity( deleted.getId() ), nullValue() );
+	}
+
+	@Test
+	public void testSaveDocumentsInBulkWithWrongRevisionReturnsConflict() {
+		Document createdDocument = dataStore.saveDocument( createEntity() );
+		final String revisionBeforeUpdate = createdDocument.getRevision();
+
+		// saving the document will change its revision value
+		dataStore.saveDocument( createdDocument );
+		createdDocument.setRevision( revisionBeforeUpdate );
+
+		List<Document> conflicts = dataStore.saveDocuments( Arrays.asList( createdDocument ) );
+
+		assertThat( conflicts, equalTo( Arrays.asList( createdDocument ) ) );
+	}
+
+	@Test
+	public void testGetEntities() {
+		Document first = dataStore.saveDocument( createEntity( "1" ) );
+		Document second = dataStore.saveDocument( createEntity( "2" ) );
+
+		List<EntityDocument> entities = dataStore.getEntities( Arrays.asList( second.getId(), first.getId() + "_1", first.getId() ) );
+
+		assertThat( entities.size(), equalTo( 3 ) );
+		assertThat( entities.get( 0 ).getId(), equalTo( second.getId() ) );
+		assertThat( entities.get( 1 ), nullValue() );
+		assertThat( entities.get( 2 ).getRevision(), equalTo( first.getRevision() ) );
+	}
+
+	@Test
+	public void testGetCurrentRevisions() {
+		Document existing = dataStore.saveDocument( createEntity( "1" ) );
+		Document deleted = dataStore.saveDocument( createEntity( "2" ) );
+		dataStore.deleteDocument( deleted.getId(), deleted.getRevision() );
+
+		Map<String, String> revisions = dataStore.getCurrentRevisions( Arrays.asList( existing.getId(), deleted.getId(), existing.getId() + "_1" ) );
+
+		assertThat( revisions.size(), equalTo( 1 ) );
+		assertThat( revisions.get( existing.getId() ), equalTo( existing.getRevision() ) );
+	}
+
 	private void setUpDatastore() throws Exception {
 		dataBaseDropped = false;
 		loadProperties();
-		Object createDatabase = properties.get( OgmProperties.CREATE_DATABASE );
-		dataStore = CouchDBDatastore.newInstance(
-				getDatabaseIdentifier(),
-				createDatabase != null ? Boolean.valueOf( createDatabase.toString() ) : false
-		);
+		dataStore = CouchDBDatastore.newInstance( getDatabaseIdentifier(), getConfiguration( properties ) );
+	}
+
+	private CouchDBConfiguration getConfiguration(Properties properties) {
+		return new CouchDBConfiguration( new ConfigurationPropertyReader( properties ) );
 	}
 
 	private DatabaseIdentifier getDatabaseIdentifier() throws Exception {
@@ -176,7 +250,11 @@ private String getDatabaseHost() {
 	}
 
 	private EntityDocument createEntity() {
-		return new EntityDocument( createEntityKey( "tableName", new String[] { "id", "name" }, new String[] { "1",
+		return createEntity( "1" );
+	}
+
+	private EntityDocument createEntity(String id) {
+		return new EntityDocument( createEntityKey( "tableName", new String[] { "id", "name" }, new String[] { id,
 				"Andrea" } ) );
 	}
 
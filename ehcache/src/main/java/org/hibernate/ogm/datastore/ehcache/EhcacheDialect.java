@@ -6,7 +6,10 @@
  */
 package org.hibernate.ogm.datastore.ehcache;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import net.sf.ehcache.Element;
@@ -25,6 +28,7 @@
 import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.LocalCacheManager.KeyProcessor;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -52,7 +56,7 @@
  * @param <AK> the association cache key type
  * @param <ISK> the identity source cache key type
  */
-public class EhcacheDialect<EK, AK, ISK> extends BaseGridDialect {
+public class EhcacheDialect<EK, AK, ISK> extends BaseGridDialect implements MultigetGridDialect {
 
 	EhcacheDatastoreProvider datastoreProvider;
 
@@ -95,6 +99,27 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 		}
 	}
 
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		final Cache<EK> entityCache = getCacheManager().getEntityCache( keys[0].getMetadata() );
+		List<EK> cacheKeys = new ArrayList<EK>( keys.length );
+		for ( EntityKey key : keys ) {
+			cacheKeys.add( getKeyProvider().getEntityCacheKey( key ) );
+		}
+
+		Map<Object, Element> elements = entityCache.getAll( cacheKeys );
+		List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+		for ( EK cacheKey : cacheKeys ) {
+			Element element = elements.get( cacheKey );
+			tuples.add( element != null ? createTuple( element ) : null );
+		}
+		return tuples;
+	}
+
 	@SuppressWarnings("unchecked")
 	private Tuple createTuple(final Element element) {
 		return new Tuple( new MapTupleSnapshot( (Map<String, Object>) element.getObjectValue() ) );
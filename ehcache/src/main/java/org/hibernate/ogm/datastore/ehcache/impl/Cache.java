@@ -6,7 +6,9 @@
  */
 package org.hibernate.ogm.datastore.ehcache.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import net.sf.ehcache.Element;
 
@@ -27,6 +29,10 @@ public Element get(K key) {
 		return delegate.get( key );
 	}
 
+	public Map<Object, Element> getAll(Collection<K> keys) {
+		return delegate.getAll( keys );
+	}
+
 	public List<K> getKeys() {
 		return delegate.getKeys();
 	}
@@ -6,7 +6,11 @@
  */
 package org.hibernate.ogm.datastore.infinispan;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -24,6 +28,7 @@
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager.Bucket;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -53,7 +58,7 @@
  *
  * @author Emmanuel Bernard
  */
-public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect {
+public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements MultigetGridDialect {
 
 	private final InfinispanDatastoreProvider provider;
 
@@ -100,6 +105,32 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 		return getTupleFromCacheKey( cacheKey, cache );
 	}
 
+	/**
+	 * Reads the entries of all the keys with a single {@link AdvancedCache#getAll(Set)}, which in clustered mode
+	 * sends one request per owner node rather than one per key. The tuples are built from the returned values, the
+	 * atomic maps are only looked up when a tuple gets updated.
+	 */
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( keys[0].getMetadata() );
+		List<EK> cacheKeys = new ArrayList<EK>( keys.length );
+		for ( EntityKey key : keys ) {
+			cacheKeys.add( getKeyProvider().getEntityCacheKey( key ) );
+		}
+
+		Map<EK, Map<String, Object>> entries = cache.getAdvancedCache().getAll( new HashSet<EK>( cacheKeys ) );
+		List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+		for ( EK cacheKey : cacheKeys ) {
+			Map<String, Object> values = entries.get( cacheKey );
+			tuples.add( values != null ? new Tuple( new InfinispanTupleSnapshot( values ) ) : null );
+		}
+		return tuples;
+	}
+
 	private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> cache) {
 		FineGrainedAtomicMap<String, Object> atomicMap = AtomicMapLookup.getFineGrainedAtomicMap(
 				cache,
@@ -127,6 +158,11 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
 		Map<String,Object> atomicMap = ( (InfinispanTupleSnapshot) tuple.getSnapshot() ).getAtomicMap();
+		if ( atomicMap == null ) {
+			// the tuple has been read by getTuples()
+			Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+			atomicMap = AtomicMapLookup.getFineGrainedAtomicMap( cache, getKeyProvider().getEntityCacheKey( key ), true );
+		}
 		MapHelpers.applyTupleOpsOnMap( tuple, atomicMap );
 	}
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.infinispan.dialect.impl;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.ogm.model.spi.TupleSnapshot;
@@ -15,26 +16,42 @@
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  */
 public final class InfinispanTupleSnapshot implements TupleSnapshot {
+	private final Map<String, Object> values;
 	private final FineGrainedAtomicMap<String, Object> atomicMap;
 
 	public InfinispanTupleSnapshot(FineGrainedAtomicMap<String,Object> atomicMap) {
+		this.values = atomicMap;
 		this.atomicMap = atomicMap;
 	}
+
+	/**
+	 * Creates a snapshot of the values of an entry read from the cache without looking up its atomic map; the atomic
+	 * map must then be looked up before writing to the entry.
+	 */
+	public InfinispanTupleSnapshot(Map<String, Object> values) {
+		this.values = values;
+		this.atomicMap = null;
+	}
+
 	@Override
 	public Object get(String column) {
-		return atomicMap.get( column );
+		return values.get( column );
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return atomicMap.isEmpty();
+		return values.isEmpty();
 	}
 
 	@Override
 	public Set<String> getColumnNames() {
-		return atomicMap.keySet();
+		return values.keySet();
 	}
 
+	/**
+	 * @return the atomic map of the entry, or {@code null} if this snapshot has been created from the values of the
+	 * entry only
+	 */
 	public FineGrainedAtomicMap<String, Object> getAtomicMap() {
 		return atomicMap;
 	}
@@ -22,6 +22,8 @@
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -39,6 +41,7 @@
 import org.hibernate.ogm.datastore.mongodb.configuration.impl.MongoDBConfiguration;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.AssociationStorageStrategy;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBAssociationSnapshot;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleDecoderFactory;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot.SnapshotType;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoHelpers;
@@ -50,6 +53,7 @@
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.nativequery.impl.MongoDBQueryDescriptorBuilder;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.nativequery.impl.NativeQueryParser;
 import org.hibernate.ogm.datastore.mongodb.type.impl.ObjectIdGridType;
@@ -63,6 +67,7 @@
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -71,6 +76,8 @@
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -88,6 +95,9 @@
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationOperationType;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.TupleOperation;
 import org.hibernate.ogm.type.impl.ByteStringType;
@@ -104,13 +114,18 @@
 
 import com.mongodb.AggregationOutput;
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
 import com.mongodb.BulkWriteOperation;
 import com.mongodb.BulkWriteResult;
+import com.mongodb.Cursor;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
 import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import com.mongodb.DuplicateKeyException;
+import com.mongodb.MongoException;
+import com.mongodb.ParallelScanOptions;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.WriteResult;
@@ -141,7 +156,7 @@
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  * @author Thorsten Möller &lt;thorsten.moeller@sbi.ch&gt;
  */
-public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, OptimisticLockingAwareGridDialect {
+public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, MultigetAssociationGridDialect, OptimisticLockingAwareGridDialect, PartitionedScanGridDialect {
 
 	public static final String ID_FIELDNAME = "_id";
 	public static final String PROPERTY_SEPARATOR = ".";
@@ -151,6 +166,11 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 
 	private static final Log log = LoggerFactory.getLogger();
 
+	/**
+	 * Suffix of the columns mapping the id of embedded objects
+	 */
+	private static final String EMBEDDED_ID_FIELDNAME_SUFFIX = PROPERTY_SEPARATOR + ID_FIELDNAME;
+
 	private static final List<String> ROWS_FIELDNAME_LIST = Collections.singletonList( ROWS_FIELDNAME );
 
 	/**
@@ -160,9 +180,16 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 	 */
 	private static final Pattern PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE = Pattern.compile( ".*\\.(\\$_id_|_id) .*" );
 
+	private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
 	private final MongoDBDatastoreProvider provider;
 	private final DB currentDB;
 
+	/**
+	 * The decoder factories installed on the collections storing entities, by collection name
+	 */
+	private final ConcurrentMap<String, MongoDBTupleDecoderFactory> decoderFactories = new ConcurrentHashMap<String, MongoDBTupleDecoderFactory>();
+
 	public MongoDBDialect(MongoDBDatastoreProvider provider) {
 		this.provider = provider;
 		this.currentDB = this.provider.getDatabase();
@@ -212,6 +239,12 @@ private static List<Tuple> tuplesResult(EntityKey[] keys, Object[] searchObjects
 				}
 			}
 		}
+		for ( int i = 0; i < tuples.length; i++ ) {
+			if ( tuples[i] == null ) {
+				// The entity might be in the insertion queue
+				tuples[i] = createTuple( keys[i], tupleContext, null );
+			}
+		}
 		return Arrays.asList( tuples );
 	}
 
@@ -268,6 +301,7 @@ private DBObject getObject(EntityKey key, TupleContext tupleContext) {
 		ReadPreference readPreference = getReadPreference( tupleContext );
 
 		DBCollection collection = getCollection( key );
+		registerSelectableColumns( collection, key.getTable(), tupleContext );
 		DBObject searchObject = prepareIdObject( key );
 		BasicDBObject projection = getProjection( tupleContext );
 
@@ -279,6 +313,7 @@ private DBCursor getObjects(EntityKeyMetadata entityKeyMetadata, Object[] search
 
 		DBCollection collection = getCollection( entityKeyMetadata );
 		collection.setReadPreference( readPreference );
+		registerSelectableColumns( collection, entityKeyMetadata.getTable(), tupleContext );
 
 		BasicDBObject projection = getProjection( tupleContext );
 
@@ -287,6 +322,30 @@ private DBCursor getObjects(EntityKeyMetadata entityKeyMetadata, Object[] search
 		return collection.find( query, projection );
 	}
 
+	/**
+	 * Makes sure the documents of the given entity collection are decoded into array-backed objects laid out by the
+	 * selectable columns of the given context. The decoder is installed on the collection when it is read for the
+	 * first time; its layout grows with the columns of all the entity types sharing the collection.
+	 */
+	private void registerSelectableColumns(DBCollection collection, String collectionName, TupleContext tupleContext) {
+		if ( tupleContext == null ) {
+			return;
+		}
+
+		MongoDBTupleDecoderFactory decoderFactory = decoderFactories.get( collectionName );
+		if ( decoderFactory == null ) {
+			decoderFactory = new MongoDBTupleDecoderFactory();
+			MongoDBTupleDecoderFactory existing = decoderFactories.putIfAbsent( collectionName, decoderFactory );
+			if ( existing == null ) {
+				collection.setDBDecoderFactory( decoderFactory );
+			}
+			else {
+				decoderFactory = existing;
+			}
+		}
+		decoderFactory.addColumns( tupleContext.getSelectableColumns() );
+	}
+
 	private static BasicDBObject getProjection(TupleContext tupleContext) {
 		return getProjection( tupleContext.getSelectableColumns() );
 	}
@@ -503,7 +562,7 @@ private static DBObject objectForUpdate(Tuple tuple, DBObject idObject, TupleCon
 	}
 
 	private static boolean notInIdField(MongoDBTupleSnapshot snapshot, String column) {
-		return !column.equals( ID_FIELDNAME ) && !column.endsWith( PROPERTY_SEPARATOR + ID_FIELDNAME ) && !snapshot.isKeyColumn( column );
+		return !column.equals( ID_FIELDNAME ) && !column.endsWith( EMBEDDED_ID_FIELDNAME_SUFFIX ) && !snapshot.isKeyColumn( column );
 	}
 
 	@Override
@@ -583,6 +642,95 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		}
 	}
 
+	/**
+	 * Loads the association documents (or the entity documents embedding the associations) of all the given keys using
+	 * a single query with an {@code $in} operator.
+	 */
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		Association[] associations = new Association[keys.length];
+		if ( keys.length == 0 ) {
+			return Arrays.asList( associations );
+		}
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( keys[0], associationContexts[0] );
+		List<Integer> toRead = new ArrayList<Integer>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( isEmbeddedAssociation( keys[i] ) && isInTheQueue( keys[i].getEntityKey(), associationContexts[i] ) ) {
+				// The association is embedded and the owner of the association is in the insertion queue
+				DBObject idObject = prepareIdObject( keys[i].getEntityKey() );
+				associations[i] = new Association( new MongoDBAssociationSnapshot( idObject, keys[i], storageStrategy ) );
+			}
+			else {
+				toRead.add( i );
+			}
+		}
+		if ( toRead.isEmpty() ) {
+			return Arrays.asList( associations );
+		}
+
+		// We need to execute the previous operations first or it won't be able to find the keys that should have
+		// been created
+		executeBatch( associationContexts[0].getOperationsQueue() );
+
+		List<Integer> toFind = new ArrayList<Integer>( toRead.size() );
+		for ( Integer i : toRead ) {
+			if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY && associationContexts[i].getEntityTuple() != null ) {
+				associations[i] = embeddedAssociation( keys[i], getEmbeddingEntity( keys[i], associationContexts[i] ), storageStrategy );
+			}
+			else {
+				toFind.add( i );
+			}
+		}
+		if ( toFind.isEmpty() ) {
+			return Arrays.asList( associations );
+		}
+
+		Object[] searchObjects = new Object[toFind.size()];
+		for ( int i = 0; i < searchObjects.length; i++ ) {
+			AssociationKey key = keys[toFind.get( i )];
+			searchObjects[i] = storageStrategy == AssociationStorageStrategy.IN_ENTITY
+					? prepareIdObjectValue( key.getEntityKey().getColumnNames(), key.getEntityKey().getColumnValues() )
+					: associationKeyToObject( key, storageStrategy ).get( ID_FIELDNAME );
+		}
+
+		DBCollection collection = storageStrategy == AssociationStorageStrategy.IN_ENTITY
+				? getCollection( keys[0].getEntityKey() )
+				: getAssociationCollection( keys[0], storageStrategy );
+		DBObject query = new BasicDBObject( ID_FIELDNAME, new BasicDBObject( "$in", searchObjects ) );
+		DBObject projection = getProjection( keys[0], storageStrategy == AssociationStorageStrategy.IN_ENTITY );
+
+		DBCursor cursor = collection.find( query, projection ).setReadPreference( getReadPreference( associationContexts[0] ) );
+		try {
+			// The documents might not be in the same order as the keys and some keys might not have a matching document
+			for ( DBObject document : cursor ) {
+				for ( int i = 0; i < searchObjects.length; i++ ) {
+					if ( document.get( ID_FIELDNAME ).equals( searchObjects[i] ) ) {
+						int index = toFind.get( i );
+						associations[index] = storageStrategy == AssociationStorageStrategy.IN_ENTITY
+								? embeddedAssociation( keys[index], document, storageStrategy )
+								: new Association( new MongoDBAssociationSnapshot( document, keys[index], storageStrategy ) );
+						// We assume there are no duplicated keys
+						break;
+					}
+				}
+			}
+		}
+		finally {
+			cursor.close();
+		}
+		return Arrays.asList( associations );
+	}
+
+	private static Association embeddedAssociation(AssociationKey key, DBObject entity, AssociationStorageStrategy storageStrategy) {
+		if ( entity != null && hasField( entity, key.getMetadata().getCollectionRole() ) ) {
+			return new Association( new MongoDBAssociationSnapshot( entity, key, storageStrategy ) );
+		}
+		else {
+			return null;
+		}
+	}
+
 	private static boolean isEmbeddedAssociation(AssociationKey key) {
 		return AssociationKind.EMBEDDED_COLLECTION == key.getMetadata().getAssociationKind();
 	}
@@ -678,24 +826,29 @@ private static Object getAssociationRow(Tuple row, AssociationKey associationKey
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		insertOrUpdateAssociation( key, association, associationContext, null );
+	}
+
+	/**
+	 * Writes the given association; the updates are added to the given batch write tasks if not {@code null}, or
+	 * executed right away otherwise.
+	 */
+	private void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext,
+			Map<DBCollection, BatchWriteTask> writes) {
 		DBCollection collection;
 		DBObject query;
 		MongoDBAssociationSnapshot assocSnapshot = (MongoDBAssociationSnapshot) association.getSnapshot();
 		String associationField;
+		DBObject embeddingDocument = null;
 
 		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
 		WriteConcern writeConcern = getWriteConcern( associationContext );
 
-		Object rows = getAssociationRows( association, key, associationContext );
-		Object toStore = key.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ? ( (List<?>) rows ).get( 0 ) : rows;
-
 		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
 			collection = this.getCollection( key.getEntityKey() );
 			query = prepareIdObject( key.getEntityKey() );
 			associationField = key.getMetadata().getCollectionRole();
-
-			//TODO would that fail if getCollectionRole has dots?
-			( (MongoDBTupleSnapshot) associationContext.getEntityTuple().getSnapshot() ).getDbObject().put( key.getMetadata().getCollectionRole(), toStore );
+			embeddingDocument = ( (MongoDBTupleSnapshot) associationContext.getEntityTuple().getSnapshot() ).getDbObject();
 		}
 		else {
 			collection = getAssociationCollection( key, storageStrategy );
@@ -703,13 +856,147 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 			associationField = ROWS_FIELDNAME;
 		}
 
+		if ( isDeltaUpdatePossible( key, association, associationContext ) ) {
+			updateAssociationRowsByDelta( collection, query, associationField, key, association, embeddingDocument, associationContext, writeConcern, writes );
+			return;
+		}
+
+		Object rows = getAssociationRows( association, key, associationContext );
+		Object toStore = key.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ? ( (List<?>) rows ).get( 0 ) : rows;
+
+		if ( embeddingDocument != null ) {
+			//TODO would that fail if getCollectionRole has dots?
+			embeddingDocument.put( key.getMetadata().getCollectionRole(), toStore );
+		}
+
 		DBObject update = new BasicDBObject( "$set", new BasicDBObject( associationField, toStore ) );
 
-		collection.update( query, update, true, false, writeConcern );
+		update( collection, query, update, true, writeConcern, writes );
+	}
+
+	/**
+	 * Whether the changes of the given association can be written by pulling the removed rows from and pushing the
+	 * added rows to the stored array, rather than by replacing the whole array. That's not the case for associations
+	 * stored as a single value or organized by row key, nor if the association has been cleared or existing rows have
+	 * been changed (e.g. when re-ordering an indexed list).
+	 */
+	private static boolean isDeltaUpdatePossible(AssociationKey key, Association association, AssociationContext associationContext) {
+		if ( key.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE
+				|| DotPatternMapHelpers.organizeAssociationMapByRowKey( association, key, associationContext ) ) {
+			return false;
+		}
+
+		AssociationSnapshot snapshot = association.getSnapshot();
+		for ( AssociationOperation operation : association.getOperations() ) {
+			switch ( operation.getType() ) {
+				case CLEAR:
+					return false;
+				case PUT:
+					if ( snapshot.containsKey( operation.getKey() ) ) {
+						return false;
+					}
+					break;
+				case REMOVE:
+					break;
+			}
+		}
+
+		return true;
+	}
+
+	private static void updateAssociationRowsByDelta(DBCollection collection, DBObject query, String associationField, AssociationKey key,
+			Association association, DBObject embeddingDocument, AssociationContext associationContext, WriteConcern writeConcern,
+			Map<DBCollection, BatchWriteTask> writes) {
+		AssociationSnapshot snapshot = association.getSnapshot();
+		List<Object> addedRows = new ArrayList<>();
+		List<Object> removedRows = new ArrayList<>();
+		List<Object> removedRowConditions = new ArrayList<>();
+
+		for ( AssociationOperation operation : association.getOperations() ) {
+			if ( operation.getType() == AssociationOperationType.PUT ) {
+				addedRows.add( getAssociationRow( operation.getValue(), key ) );
+			}
+			// rows added and removed again before the flush are not stored yet
+			else if ( snapshot.containsKey( operation.getKey() ) ) {
+				Tuple snapshotRow = snapshot.get( operation.getKey() );
+				Object removedRow = getAssociationRow( snapshotRow, key );
+				removedRows.add( removedRow );
+				removedRowConditions.add( removedRow instanceof DBObject ? getAssociationRowCondition( snapshotRow, key ) : removedRow );
+			}
+		}
+
+		// $pull and $push cannot be applied to the same field within one update
+		if ( !removedRows.isEmpty() ) {
+			Object condition;
+			if ( !( removedRows.get( 0 ) instanceof DBObject ) ) {
+				condition = new BasicDBObject( "$in", removedRowConditions );
+			}
+			else if ( removedRowConditions.size() == 1 ) {
+				condition = removedRowConditions.get( 0 );
+			}
+			else {
+				condition = new BasicDBObject( "$or", removedRowConditions );
+			}
+			DBObject update = new BasicDBObject( "$pull", new BasicDBObject( associationField, condition ) );
+			update( collection, query, update, false, writeConcern, writes );
+		}
+
+		if ( !addedRows.isEmpty() ) {
+			DBObject update = new BasicDBObject( "$push", new BasicDBObject( associationField, new BasicDBObject( "$each", addedRows ) ) );
+			update( collection, query, update, true, writeConcern, writes );
+		}
+
+		if ( embeddingDocument != null ) {
+			String collectionRole = key.getMetadata().getCollectionRole();
+			Object storedRows = embeddingDocument.get( collectionRole );
+
+			if ( storedRows instanceof List ) {
+				List<Object> rows = new ArrayList<>( (List<?>) storedRows );
+				rows.removeAll( removedRows );
+				rows.addAll( addedRows );
+				embeddingDocument.put( collectionRole, rows );
+			}
+			else {
+				embeddingDocument.put( collectionRole, getAssociationRows( association, key, associationContext ) );
+			}
+		}
+	}
+
+	/**
+	 * Returns a condition matching the given row as stored by {@link #getAssociationRow(Tuple, AssociationKey)}, to be
+	 * used with {@code $pull}. Columns without value are part of the condition so they match absent fields only.
+	 */
+	private static DBObject getAssociationRowCondition(Tuple row, AssociationKey associationKey) {
+		String[] rowKeyColumnsToPersist = associationKey.getMetadata().getColumnsWithoutKeyColumns( row.getColumnNames() );
+		String prefix = getColumnSharedPrefixOfAssociatedEntityLink( associationKey );
+
+		DBObject condition = new BasicDBObject( rowKeyColumnsToPersist.length );
+		for ( String column : rowKeyColumnsToPersist ) {
+			String columnName = column.startsWith( prefix ) ? column.substring( prefix.length() ) : column;
+			condition.put( columnName, row.get( column ) );
+		}
+		return condition;
+	}
+
+	/**
+	 * Executes the given update right away or adds it to the given batch write tasks if not {@code null}.
+	 */
+	private static void update(DBCollection collection, DBObject query, DBObject update, boolean upsert, WriteConcern writeConcern,
+			Map<DBCollection, BatchWriteTask> writes) {
+		if ( writes == null ) {
+			collection.update( query, update, upsert, false, writeConcern );
+		}
+		else {
+			getOrCreateBatchWriteTask( writes, collection, writeConcern ).update( query, update, upsert, null, null );
+		}
 	}
 
 	@Override
 	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		removeAssociation( key, associationContext, null );
+	}
+
+	private void removeAssociation(AssociationKey key, AssociationContext associationContext, Map<DBCollection, BatchWriteTask> writes) {
 		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
 		WriteConcern writeConcern = getWriteConcern( associationContext );
 
@@ -721,7 +1008,7 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 				DBObject dbObject = getEmbeddingEntity( key, associationContext );
 				if ( dbObject != null ) {
 					dbObject.removeField( key.getMetadata().getCollectionRole() );
-					getCollection( key.getEntityKey() ).update( entity, updater, true, false, writeConcern );
+					update( getCollection( key.getEntityKey() ), entity, updater, true, writeConcern, writes );
 				}
 			}
 		}
@@ -729,8 +1016,13 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 			DBCollection collection = getAssociationCollection( key, storageStrategy );
 			DBObject query = associationKeyToObject( key, storageStrategy );
 
-			int nAffected = collection.remove( query, writeConcern ).getN();
-			log.removedAssociation( nAffected );
+			if ( writes == null ) {
+				int nAffected = collection.remove( query, writeConcern ).getN();
+				log.removedAssociation( nAffected );
+			}
+			else {
+				getOrCreateBatchWriteTask( writes, collection, writeConcern ).remove( query, null );
+			}
 		}
 	}
 
@@ -800,11 +1092,66 @@ else if ( type instanceof StringAsObjectIdType ) {
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
 		DB db = provider.getDatabase();
 		DBCollection collection = db.getCollection( entityKeyMetadata.getTable() );
+		registerSelectableColumns( collection, entityKeyMetadata.getTable(), tupleContext );
 		for ( DBObject dbObject : collection.find() ) {
 			consumer.consume( new Tuple( new MongoDBTupleSnapshot( dbObject, entityKeyMetadata, UPDATE ) ) );
 		}
 	}
 
+	/**
+	 * Uses the {@code parallelCollectionScan} command which returns several cursors over the collection; the number of
+	 * cursors actually returned depends on the storage engine. Falls back to a single cursor where the command is not
+	 * supported, e.g. on a sharded cluster.
+	 */
+	@Override
+	public List<TuplePartition> getTuplePartitions(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, int maxPartitions) {
+		DBCollection collection = provider.getDatabase().getCollection( entityKeyMetadata.getTable() );
+		registerSelectableColumns( collection, entityKeyMetadata.getTable(), tupleContext );
+		List<TuplePartition> partitions = new ArrayList<TuplePartition>( maxPartitions );
+		if ( maxPartitions > 1 ) {
+			try {
+				for ( Cursor cursor : collection.parallelScan( ParallelScanOptions.builder().numCursors( maxPartitions ).build() ) ) {
+					partitions.add( new CursorPartition( cursor ) );
+				}
+			}
+			catch (MongoException e) {
+				log.debugf( e, "Unable to scan collection %s in parallel, using a single cursor", collection.getName() );
+				for ( TuplePartition partition : partitions ) {
+					( (CursorPartition) partition ).cursor.close();
+				}
+				partitions.clear();
+			}
+		}
+		if ( partitions.isEmpty() ) {
+			partitions.add( new CursorPartition( collection.find() ) );
+		}
+		return partitions;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
+		Cursor cursor = ( (CursorPartition) partition ).cursor;
+		try {
+			while ( cursor.hasNext() ) {
+				consumer.consume( new Tuple( new MongoDBTupleSnapshot( cursor.next(), entityKeyMetadata, UPDATE ) ) );
+			}
+		}
+		finally {
+			cursor.close();
+		}
+	}
+
+	/**
+	 * Closes the cursors of the partitions; the cursors of the partitions which have not been iterated would otherwise
+	 * remain open on the server until they time out.
+	 */
+	@Override
+	public void closePartitions(List<TuplePartition> partitions) {
+		for ( TuplePartition partition : partitions ) {
+			( (CursorPartition) partition ).cursor.close();
+		}
+	}
+
 	@Override
 	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDescriptor> backendQuery, QueryParameters queryParameters, TupleContext tupleContext) {
 		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery();
@@ -815,11 +1162,16 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDesc
 
 		String collectionName = getCollectionName( backendQuery, queryDescriptor, entityKeyMetadata );
 		DBCollection collection = provider.getDatabase().getCollection( collectionName );
+		if ( entityKeyMetadata != null ) {
+			registerSelectableColumns( collection, collectionName, tupleContext );
+		}
 
 		if ( !queryParameters.getPositionalParameters().isEmpty() ) { // TODO Implement binding positional parameters.
 			throw new UnsupportedOperationException( "Positional parameters are not yet supported for MongoDB native queries." );
 		}
 
+		queryDescriptor = bindParameters( queryDescriptor, queryParameters );
+
 		switch ( queryDescriptor.getOperation() ) {
 			case FIND:
 				return doFind( queryDescriptor, queryParameters, collection, entityKeyMetadata );
@@ -840,6 +1192,28 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDesc
 		}
 	}
 
+	/**
+	 * Binds the values of the named parameters to the placeholders of a query created from JP-QL; the query is parsed
+	 * only once and then shared by all its executions.
+	 */
+	private static MongoDBQueryDescriptor bindParameters(MongoDBQueryDescriptor queryDescriptor, QueryParameters queryParameters) {
+		DBObject criteria = MongoDBQueryParameter.bind( queryDescriptor.getCriteria(), queryParameters.getNamedParameters() );
+
+		if ( criteria == queryDescriptor.getCriteria() ) {
+			return queryDescriptor;
+		}
+
+		return new MongoDBQueryDescriptor(
+				queryDescriptor.getCollectionName(),
+				queryDescriptor.getOperation(),
+				criteria,
+				queryDescriptor.getProjection(),
+				queryDescriptor.getOrderBy(),
+				queryDescriptor.getOptions(),
+				queryDescriptor.getUpdateOrInsert(),
+				queryDescriptor.getUnwinds() );
+	}
+
 	@Override
 	public int executeBackendUpdateQuery(final BackendQuery<MongoDBQueryDescriptor> backendQuery, final QueryParameters queryParameters, final TupleContext tupleContext) {
 		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery();
@@ -1154,13 +1528,14 @@ public void executeBatch(OperationsQueue queue) {
 		if ( !queue.isClosed() ) {
 			Operation operation = queue.poll();
 			Map<DBCollection, BatchInsertionTask> inserts = new HashMap<DBCollection, BatchInsertionTask>();
+			Map<DBCollection, BatchWriteTask> writes = new HashMap<DBCollection, BatchWriteTask>();
 
 			List<MongoDBTupleSnapshot> insertSnapshots = new ArrayList<MongoDBTupleSnapshot>();
 
 			while ( operation != null ) {
 				if ( operation instanceof InsertOrUpdateTupleOperation ) {
 					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
-					executeBatchUpdate( inserts, update );
+					executeBatchUpdate( inserts, writes, update );
 					MongoDBTupleSnapshot snapshot = (MongoDBTupleSnapshot) update.getTuple().getSnapshot();
 					if ( snapshot.getSnapshotType() == INSERT ) {
 						insertSnapshots.add( snapshot );
@@ -1168,21 +1543,23 @@ public void executeBatch(OperationsQueue queue) {
 				}
 				else if ( operation instanceof RemoveTupleOperation ) {
 					RemoveTupleOperation tupleOp = (RemoveTupleOperation) operation;
-					executeBatchRemove( inserts, tupleOp );
+					executeBatchRemove( inserts, writes, tupleOp );
 				}
 				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
-					executeBatchUpdateAssociation( inserts, update );
+					executeBatchUpdateAssociation( inserts, writes, update );
 				}
 				else if ( operation instanceof RemoveAssociationOperation ) {
 					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
-					removeAssociation( remove.getAssociationKey(), remove.getContext() );
+					removeAssociation( remove.getAssociationKey(), remove.getContext(), writes );
 				}
 				else {
 					throw new UnsupportedOperationException( "Operation not supported on MongoDB: " + operation.getClass().getName() );
 				}
 				operation = queue.poll();
 			}
+			// updates and removals are applied before the insertions, as it was the case when executing them one by one
+			flushWrites( writes );
 			flushInserts( inserts );
 
 			for ( MongoDBTupleSnapshot insertSnapshot : insertSnapshots ) {
@@ -1192,7 +1569,7 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 		}
 	}
 
-	private void executeBatchRemove(Map<DBCollection, BatchInsertionTask> inserts, RemoveTupleOperation tupleOperation) {
+	private void executeBatchRemove(Map<DBCollection, BatchInsertionTask> inserts, Map<DBCollection, BatchWriteTask> writes, RemoveTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
 		DBCollection collection = getCollection( entityKey );
 		BatchInsertionTask batchedInserts = inserts.get( collection );
@@ -1201,11 +1578,12 @@ private void executeBatchRemove(Map<DBCollection, BatchInsertionTask> inserts, R
 			batchedInserts.remove( entityKey );
 		}
 		else {
-			removeTuple( entityKey, tupleOperation.getTupleContext() );
+			WriteConcern writeConcern = getWriteConcern( tupleOperation.getTupleContext() );
+			getOrCreateBatchWriteTask( writes, collection, writeConcern ).remove( prepareIdObject( entityKey ), entityKey );
 		}
 	}
 
-	private void executeBatchUpdate(Map<DBCollection, BatchInsertionTask> inserts, InsertOrUpdateTupleOperation tupleOperation) {
+	private void executeBatchUpdate(Map<DBCollection, BatchInsertionTask> inserts, Map<DBCollection, BatchWriteTask> writes, InsertOrUpdateTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
 		Tuple tuple = tupleOperation.getTuple();
 		MongoDBTupleSnapshot snapshot = (MongoDBTupleSnapshot) tupleOperation.getTuple().getSnapshot();
@@ -1216,11 +1594,14 @@ private void executeBatchUpdate(Map<DBCollection, BatchInsertionTask> inserts, I
 		}
 		else {
 			// Object already exists in the db or has invalid fields:
-			insertOrUpdateTuple( entityKey, tuple, tupleOperation.getTupleContext() );
+			BasicDBObject idObject = prepareIdObject( entityKey );
+			DBObject updater = objectForUpdate( tuple, idObject, tupleOperation.getTupleContext() );
+			getOrCreateBatchWriteTask( writes, getCollection( entityKey ), writeConcern ).update( idObject, updater, true, entityKey, tuple );
 		}
 	}
 
-	private void executeBatchUpdateAssociation(Map<DBCollection, BatchInsertionTask> inserts, InsertOrUpdateAssociationOperation updateOp) {
+	private void executeBatchUpdateAssociation(Map<DBCollection, BatchInsertionTask> inserts, Map<DBCollection, BatchWriteTask> writes,
+			InsertOrUpdateAssociationOperation updateOp) {
 		AssociationKey associationKey = updateOp.getAssociationKey();
 		if ( isEmbeddedAssociation( associationKey ) ) {
 			DBCollection collection = getCollection( associationKey.getEntityKey() );
@@ -1236,11 +1617,11 @@ private void executeBatchUpdateAssociation(Map<DBCollection, BatchInsertionTask>
 				MongoHelpers.setValue( documentForInsertion, collectionRole, embeddedElements );
 			}
 			else {
-				insertOrUpdateAssociation( updateOp.getAssociationKey(), updateOp.getAssociation(), updateOp.getContext() );
+				insertOrUpdateAssociation( updateOp.getAssociationKey(), updateOp.getAssociation(), updateOp.getContext(), writes );
 			}
 		}
 		else {
-			insertOrUpdateAssociation( updateOp.getAssociationKey(), updateOp.getAssociation(), updateOp.getContext() );
+			insertOrUpdateAssociation( updateOp.getAssociationKey(), updateOp.getAssociation(), updateOp.getContext(), writes );
 		}
 	}
 
@@ -1298,6 +1679,40 @@ private static void flushInserts(Map<DBCollection, BatchInsertionTask> inserts)
 		inserts.clear();
 	}
 
+	private static BatchWriteTask getOrCreateBatchWriteTask(Map<DBCollection, BatchWriteTask> writes, DBCollection collection, WriteConcern writeConcern) {
+		BatchWriteTask writesForCollection = writes.get( collection );
+
+		if ( writesForCollection != null && !writesForCollection.hasWriteConcern( writeConcern ) ) {
+			// a bulk write is executed with a single write concern, so the writes gathered so far are sent with theirs;
+			// splitting the writes by write concern instead could change the order of the writes of a document
+			flushWrites( collection, writesForCollection );
+			writesForCollection = null;
+		}
+
+		if ( writesForCollection == null ) {
+			writesForCollection = new BatchWriteTask( writeConcern );
+			writes.put( collection, writesForCollection );
+		}
+
+		return writesForCollection;
+	}
+
+	private static void flushWrites(Map<DBCollection, BatchWriteTask> writes) {
+		for ( Map.Entry<DBCollection, BatchWriteTask> entry : writes.entrySet() ) {
+			flushWrites( entry.getKey(), entry.getValue() );
+		}
+		writes.clear();
+	}
+
+	private static void flushWrites(DBCollection collection, BatchWriteTask task) {
+		try {
+			task.execute( collection );
+		}
+		catch ( BulkWriteException bwe ) {
+			throw task.toConstraintViolation( bwe );
+		}
+	}
+
 	private static WriteConcern getWriteConcern(TupleContext tupleContext) {
 		return tupleContext.getOptionsContext().getUnique( WriteConcernOption.class );
 	}
@@ -1314,6 +1729,15 @@ private static ReadPreference getReadPreference(AssociationContext associationCo
 		return associationContext.getAssociationTypeContext().getOptionsContext().getUnique( ReadPreferenceOption.class );
 	}
 
+	private static class CursorPartition implements TuplePartition {
+
+		private final Cursor cursor;
+
+		private CursorPartition(Cursor cursor) {
+			this.cursor = cursor;
+		}
+	}
+
 	private static class MongoDBAggregationOutput implements ClosableIterator<Tuple> {
 
 		private final Iterator<DBObject> results;
@@ -1465,4 +1889,120 @@ public boolean isEmpty() {
 			return inserts.isEmpty();
 		}
 	}
+
+	/**
+	 * The updates and removals of the documents of one collection with the same write concern, sent together as one
+	 * bulk write operation. The operation is ordered only if several writes target the same document.
+	 */
+	private static class BatchWriteTask {
+
+		private final WriteConcern writeConcern;
+		private final List<BatchWrite> writes;
+		private final Set<DBObject> queries;
+		private boolean ordered;
+
+		public BatchWriteTask(WriteConcern writeConcern) {
+			this.writeConcern = writeConcern;
+			this.writes = new ArrayList<BatchWrite>();
+			this.queries = new HashSet<DBObject>();
+		}
+
+		public boolean hasWriteConcern(WriteConcern writeConcern) {
+			return this.writeConcern == null ? writeConcern == null : this.writeConcern.equals( writeConcern );
+		}
+
+		public void update(DBObject query, DBObject update, boolean upsert, EntityKey entityKey, Tuple tuple) {
+			add( new BatchWrite( query, update, upsert, entityKey, tuple ) );
+		}
+
+		public void remove(DBObject query, EntityKey entityKey) {
+			add( new BatchWrite( query, null, false, entityKey, null ) );
+		}
+
+		private void add(BatchWrite write) {
+			if ( !queries.add( write.query ) ) {
+				ordered = true;
+			}
+			writes.add( write );
+		}
+
+		public void execute(DBCollection collection) {
+			BulkWriteOperation operation = ordered ? collection.initializeOrderedBulkOperation() : collection.initializeUnorderedBulkOperation();
+
+			for ( BatchWrite write : writes ) {
+				if ( write.update == null ) {
+					if ( write.entityKey != null ) {
+						operation.find( write.query ).removeOne();
+					}
+					else {
+						operation.find( write.query ).remove();
+					}
+				}
+				else if ( isUpdateDocument( write.update ) ) {
+					if ( write.upsert ) {
+						operation.find( write.query ).upsert().updateOne( write.update );
+					}
+					else {
+						operation.find( write.query ).updateOne( write.update );
+					}
+				}
+				// the id object of entities without other fields
+				else {
+					operation.find( write.query ).upsert().replaceOne( write.update );
+				}
+			}
+
+			operation.execute( writeConcern != null ? writeConcern : collection.getWriteConcern() );
+		}
+
+		/**
+		 * Maps the first error of the given bulk write failure to the exception that would have been raised when
+		 * executing the failing write on its own.
+		 */
+		public RuntimeException toConstraintViolation(BulkWriteException bwe) {
+			if ( bwe.getWriteErrors().isEmpty() || bwe.getWriteErrors().get( 0 ).getCode() != DUPLICATE_KEY_ERROR_CODE ) {
+				return bwe;
+			}
+
+			BulkWriteError error = bwe.getWriteErrors().get( 0 );
+			BatchWrite write = writes.get( error.getIndex() );
+
+			if ( write.entityKey == null ) {
+				return log.constraintViolationOnFlush( error.getMessage(), bwe );
+			}
+			// This error is used by MongoDB for all the unique indexes violation, not only the primary key
+			// so we determine if it concerns the primary key by matching on the message
+			else if ( PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( error.getMessage() ).matches() ) {
+				return new TupleAlreadyExistsException( write.entityKey.getMetadata(), write.tuple, bwe );
+			}
+			else {
+				return log.constraintViolationForEntity( write.entityKey, error.getMessage(), bwe );
+			}
+		}
+
+		private static boolean isUpdateDocument(DBObject document) {
+			Iterator<String> fields = document.keySet().iterator();
+			return fields.hasNext() && fields.next().startsWith( "$" );
+		}
+	}
+
+	/**
+	 * An update, or a removal if there is no update document; the entity key is given for the writes of entities.
+	 */
+	private static class BatchWrite {
+
+		private final DBObject query;
+		private final DBObject update;
+		private final boolean upsert;
+		private final EntityKey entityKey;
+		private final Tuple tuple;
+
+		public BatchWrite(DBObject query, DBObject update, boolean upsert, EntityKey entityKey, Tuple tuple) {
+			this.query = query;
+			this.update = update;
+			this.upsert = upsert;
+			this.entityKey = entityKey;
+			this.tuple = tuple;
+		}
+	}
 }
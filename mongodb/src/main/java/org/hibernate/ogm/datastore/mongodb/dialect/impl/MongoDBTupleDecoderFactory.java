@@ -0,0 +1,156 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDbPointer;
+import org.bson.BsonType;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.BSONTimestamp;
+import org.bson.types.Binary;
+import org.bson.types.CodeWScope;
+
+import com.mongodb.DBCollection;
+import com.mongodb.DBDecoder;
+import com.mongodb.DBDecoderFactory;
+import com.mongodb.DBObject;
+import com.mongodb.DBRef;
+import com.mongodb.DefaultDBDecoder;
+import com.mongodb.MongoClient;
+
+/**
+ * Creates decoders reading the documents of an entity collection directly into {@link MongoDBTupleDocument}s laid out
+ * by the selectable columns of the entities stored in the collection.
+ * <p>
+ * Scalar values are decoded into the same types as with the default decoder of the driver, while embedded objects
+ * and arrays are decoded only when accessed.
+ */
+public final class MongoDBTupleDecoderFactory implements DBDecoderFactory {
+
+	private static final CodecRegistry CODEC_REGISTRY = MongoClient.getDefaultCodecRegistry();
+
+	private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+	/**
+	 * The mapping of BSON types to Java types applied by the driver when decoding into {@link DBObject}s.
+	 */
+	private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = createBsonTypeClassMap();
+
+	private final Set<List<String>> knownColumns = Collections.newSetFromMap( new ConcurrentHashMap<List<String>, Boolean>() );
+
+	private final TupleDocumentDecoder decoder = new TupleDocumentDecoder();
+
+	private volatile MongoDBTupleDocument.Layout layout = MongoDBTupleDocument.Layout.forColumns( Collections.<String>emptyList() );
+
+	/**
+	 * Adds the top-level fields of the given columns to the layout of the documents decoded from now on. Documents
+	 * decoded before keep their layout.
+	 *
+	 * @param columns the selectable columns of an entity stored in the collection
+	 */
+	public void addColumns(List<String> columns) {
+		if ( columns == null || knownColumns.contains( columns ) ) {
+			return;
+		}
+
+		synchronized ( this ) {
+			layout = layout.with( columns );
+		}
+		knownColumns.add( columns );
+	}
+
+	@Override
+	public DBDecoder create() {
+		// the decoder is stateless
+		return decoder;
+	}
+
+	private static BsonTypeClassMap createBsonTypeClassMap() {
+		Map<BsonType, Class<?>> replacements = new HashMap<BsonType, Class<?>>();
+		replacements.put( BsonType.REGULAR_EXPRESSION, Pattern.class );
+		replacements.put( BsonType.SYMBOL, String.class );
+		replacements.put( BsonType.TIMESTAMP, BSONTimestamp.class );
+		return new BsonTypeClassMap( replacements );
+	}
+
+	private class TupleDocumentDecoder extends DefaultDBDecoder {
+
+		@Override
+		public DBObject decode(byte[] bytes, DBCollection collection) {
+			MongoDBTupleDocument document = new MongoDBTupleDocument( layout );
+			BsonBinaryReader reader = new BsonBinaryReader( ByteBuffer.wrap( bytes ) );
+			try {
+				reader.readStartDocument();
+				while ( reader.readBsonType() != BsonType.END_OF_DOCUMENT ) {
+					String name = reader.readName();
+					BsonType type = reader.getCurrentBsonType();
+					if ( type == BsonType.DOCUMENT || type == BsonType.ARRAY ) {
+						int offset = reader.getBsonInput().getPosition();
+						reader.skipValue();
+						int length = reader.getBsonInput().getPosition() - offset;
+						document.putLazily( name, bytes, offset, length, type == BsonType.ARRAY );
+					}
+					else {
+						document.put( name, readValue( reader, type ) );
+					}
+				}
+				reader.readEndDocument();
+			}
+			finally {
+				reader.close();
+			}
+			return document;
+		}
+
+		private Object readValue(BsonBinaryReader reader, BsonType type) {
+			switch ( type ) {
+				case NULL:
+					reader.readNull();
+					return null;
+				case UNDEFINED:
+					reader.readUndefined();
+					return null;
+				case BINARY:
+					return readBinary( reader );
+				case DB_POINTER:
+					BsonDbPointer pointer = reader.readDBPointer();
+					return new DBRef( pointer.getNamespace(), pointer.getId() );
+				case JAVASCRIPT_WITH_SCOPE:
+					String code = reader.readJavaScriptWithScope();
+					return new CodeWScope( code, CODEC_REGISTRY.get( DBObject.class ).decode( reader, DECODER_CONTEXT ) );
+				default:
+					return CODEC_REGISTRY.get( BSON_TYPE_CLASS_MAP.get( type ) ).decode( reader, DECODER_CONTEXT );
+			}
+		}
+
+		private Object readBinary(BsonBinaryReader reader) {
+			byte subType = reader.peekBinarySubType();
+			if ( subType == BsonBinarySubType.UUID_LEGACY.getValue() || subType == BsonBinarySubType.UUID_STANDARD.getValue() ) {
+				return CODEC_REGISTRY.get( UUID.class ).decode( reader, DECODER_CONTEXT );
+			}
+			else if ( subType == BsonBinarySubType.BINARY.getValue() || subType == BsonBinarySubType.OLD_BINARY.getValue() ) {
+				return CODEC_REGISTRY.get( byte[].class ).decode( reader, DECODER_CONTEXT );
+			}
+			else {
+				return CODEC_REGISTRY.get( Binary.class ).decode( reader, DECODER_CONTEXT );
+			}
+		}
+	}
+}
@@ -0,0 +1,293 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BSONObject;
+import org.bson.BsonBinaryReader;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.hibernate.ogm.datastore.document.impl.ColumnPath;
+import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.MongoClient;
+import com.mongodb.util.JSON;
+
+/**
+ * A {@link DBObject} decoded from a document loaded by {@link MongoDBTupleDecoderFactory}.
+ * <p>
+ * The top-level fields of the document are stored in an array laid out by a {@link Layout} which is shared by all
+ * documents loaded from the same collection; fields not part of the layout are kept in a separate
+ * {@link BasicDBObject}. Embedded objects and arrays (used for embeddables, element collections and associations stored
+ * within the entity) are only decoded from the raw BSON on first access.
+ */
+public final class MongoDBTupleDocument implements DBObject {
+
+	private static final Decoder<DBObject> DBOBJECT_DECODER = MongoClient.getDefaultCodecRegistry().get( DBObject.class );
+
+	/**
+	 * Marks a field explicitly set to {@code null}, as opposed to a field not contained in the document.
+	 */
+	private static final Object NULL_VALUE = new Object();
+
+	private final Layout layout;
+	private final Object[] values;
+	private BasicDBObject otherFields;
+	private boolean partial;
+
+	MongoDBTupleDocument(Layout layout) {
+		this.layout = layout;
+		this.values = new Object[layout.size()];
+	}
+
+	/**
+	 * Sets a field to a nested document or array which is decoded from the given BSON bytes once it is accessed.
+	 */
+	void putLazily(String key, byte[] bytes, int offset, int length, boolean array) {
+		put( key, new LazyValue( bytes, offset, length, array ) );
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		int index = layout.indexOf( key );
+		if ( index < 0 ) {
+			return otherFields().put( key, value );
+		}
+
+		Object previous = resolve( index );
+		values[index] = value == null ? NULL_VALUE : value;
+		return previous;
+	}
+
+	@Override
+	public void putAll(BSONObject o) {
+		for ( String key : o.keySet() ) {
+			put( key, o.get( key ) );
+		}
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public void putAll(Map m) {
+		for ( Object entry : m.entrySet() ) {
+			put( String.valueOf( ( (Map.Entry) entry ).getKey() ), ( (Map.Entry) entry ).getValue() );
+		}
+	}
+
+	@Override
+	public Object get(String key) {
+		int index = layout.indexOf( key );
+		if ( index < 0 ) {
+			return otherFields == null ? null : otherFields.get( key );
+		}
+		return resolve( index );
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Map toMap() {
+		Map<String, Object> map = new LinkedHashMap<String, Object>();
+		for ( String key : keySet() ) {
+			map.put( key, get( key ) );
+		}
+		return map;
+	}
+
+	@Override
+	public Object removeField(String key) {
+		int index = layout.indexOf( key );
+		if ( index < 0 ) {
+			return otherFields == null ? null : otherFields.removeField( key );
+		}
+
+		Object previous = resolve( index );
+		values[index] = null;
+		return previous;
+	}
+
+	@Override
+	@Deprecated
+	public boolean containsKey(String s) {
+		return containsField( s );
+	}
+
+	@Override
+	public boolean containsField(String s) {
+		int index = layout.indexOf( s );
+		if ( index < 0 ) {
+			return otherFields != null && otherFields.containsField( s );
+		}
+		return values[index] != null;
+	}
+
+	@Override
+	public Set<String> keySet() {
+		Set<String> keys = new LinkedHashSet<String>();
+		for ( int index = 0; index < values.length; index++ ) {
+			if ( values[index] != null ) {
+				keys.add( layout.getName( index ) );
+			}
+		}
+		if ( otherFields != null ) {
+			keys.addAll( otherFields.keySet() );
+		}
+		return keys;
+	}
+
+	@Override
+	public void markAsPartialObject() {
+		partial = true;
+	}
+
+	@Override
+	public boolean isPartialObject() {
+		return partial;
+	}
+
+	@Override
+	public String toString() {
+		return JSON.serialize( this );
+	}
+
+	private BasicDBObject otherFields() {
+		if ( otherFields == null ) {
+			otherFields = new BasicDBObject();
+		}
+		return otherFields;
+	}
+
+	private Object resolve(int index) {
+		Object value = values[index];
+		if ( value instanceof LazyValue ) {
+			value = ( (LazyValue) value ).decode();
+			values[index] = value;
+		}
+		return value == NULL_VALUE ? null : value;
+	}
+
+	/**
+	 * The top-level fields of the documents loaded for given lists of selectable columns, i.e. the id field and the
+	 * first segment of each column. Layouts are immutable and shared by all the documents decoded with them.
+	 */
+	public static final class Layout {
+
+		private final String[] names;
+		private final Map<String, Integer> indexes;
+
+		private Layout(String[] names, Map<String, Integer> indexes) {
+			this.names = names;
+			this.indexes = indexes;
+		}
+
+		/**
+		 * Returns the layout of the documents loaded for the given selectable columns.
+		 *
+		 * @param columns the selectable columns of an entity
+		 * @return the layout of the id field and the top-level fields containing these columns
+		 */
+		public static Layout forColumns(List<String> columns) {
+			Map<String, Integer> indexes = new HashMap<String, Integer>();
+			indexes.put( MongoDBDialect.ID_FIELDNAME, 0 );
+			return create( indexes, columns );
+		}
+
+		/**
+		 * Returns a layout containing the fields of this layout, followed by those of the given columns not contained
+		 * yet.
+		 *
+		 * @param columns the selectable columns of an entity
+		 * @return this layout if it contains the fields of all the given columns already, a new layout otherwise
+		 */
+		public Layout with(List<String> columns) {
+			for ( String column : columns ) {
+				if ( indexOf( ColumnPath.of( column ).getSegment( 0 ) ) < 0 ) {
+					return create( new HashMap<String, Integer>( indexes ), columns );
+				}
+			}
+			return this;
+		}
+
+		private static Layout create(Map<String, Integer> indexes, List<String> columns) {
+			for ( String column : columns ) {
+				String field = ColumnPath.of( column ).getSegment( 0 );
+				if ( !indexes.containsKey( field ) ) {
+					indexes.put( field, indexes.size() );
+				}
+			}
+
+			String[] names = new String[indexes.size()];
+			for ( Map.Entry<String, Integer> entry : indexes.entrySet() ) {
+				names[entry.getValue()] = entry.getKey();
+			}
+			return new Layout( names, Collections.unmodifiableMap( indexes ) );
+		}
+
+		int indexOf(String name) {
+			Integer index = indexes.get( name );
+			return index == null ? -1 : index;
+		}
+
+		String getName(int index) {
+			return names[index];
+		}
+
+		int size() {
+			return names.length;
+		}
+	}
+
+	/**
+	 * An embedded object or array not yet decoded; refers to the bytes of the enclosing document to avoid a copy.
+	 */
+	private static final class LazyValue {
+
+		private final byte[] bytes;
+		private final int offset;
+		private final int length;
+		private final boolean array;
+
+		private LazyValue(byte[] bytes, int offset, int length, boolean array) {
+			this.bytes = bytes;
+			this.offset = offset;
+			this.length = length;
+			this.array = array;
+		}
+
+		private Object decode() {
+			BsonBinaryReader reader = new BsonBinaryReader( ByteBuffer.wrap( bytes, offset, length ).slice() );
+			try {
+				DBObject document = DBOBJECT_DECODER.decode( reader, DecoderContext.builder().build() );
+				return array ? toList( document ) : document;
+			}
+			finally {
+				reader.close();
+			}
+		}
+
+		/*
+		 * BSON arrays are encoded as documents whose keys are the indexes of the elements
+		 */
+		private static BasicDBList toList(DBObject document) {
+			BasicDBList list = new BasicDBList();
+			for ( String key : document.keySet() ) {
+				list.add( document.get( key ) );
+			}
+			return list;
+		}
+	}
+}
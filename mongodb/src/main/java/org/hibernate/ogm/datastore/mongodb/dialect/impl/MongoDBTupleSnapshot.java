@@ -9,6 +9,7 @@
 import java.util.Set;
 import java.util.regex.Pattern;
 
+import org.hibernate.ogm.datastore.document.impl.ColumnPath;
 import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
@@ -84,12 +85,18 @@ private Object getKeyColumnValue(String column) {
 		}
 		// multi-column key nested within DBObject
 		else {
-			// the name of the column within the id object
-			if ( column.contains( MongoDBDialect.PROPERTY_SEPARATOR ) ) {
-				column = column.substring( column.indexOf( MongoDBDialect.PROPERTY_SEPARATOR ) + 1 );
+			ColumnPath path = ColumnPath.of( column );
+			Object value = idField;
+
+			// the path of the column within the id object, i.e. without the name of the id property
+			for ( int index = path.isFlat() ? 0 : 1; index < path.getDepth(); index++ ) {
+				if ( !( value instanceof DBObject ) ) {
+					return null;
+				}
+				value = ( (DBObject) value ).get( path.getSegment( index ) );
 			}
 
-			return getValue( (DBObject) idField, column );
+			return value;
 		}
 	}
 
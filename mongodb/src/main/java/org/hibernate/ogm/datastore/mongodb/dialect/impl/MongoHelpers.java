@@ -6,7 +6,7 @@
  */
 package org.hibernate.ogm.datastore.mongodb.dialect.impl;
 
-import java.util.regex.Pattern;
+import org.hibernate.ogm.datastore.document.impl.ColumnPath;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
@@ -20,19 +20,17 @@
  */
 public class MongoHelpers {
 
-	private static final Pattern DOT_SEPARATOR_PATTERN = Pattern.compile( "\\." );
-
 	public static void setValue(DBObject entity, String column, Object value) {
+		ColumnPath path = ColumnPath.of( column );
 		// fast path for non-embedded case
-		if ( !column.contains( "." ) ) {
+		if ( path.isFlat() ) {
 			entity.put( column, value );
 		}
 		else {
-			String[] path = DOT_SEPARATOR_PATTERN.split( column );
 			Object field = entity;
-			int size = path.length;
+			int size = path.getDepth();
 			for (int index = 0 ; index < size ; index++) {
-				String node = path[index];
+				String node = path.getSegment( index );
 				DBObject parent = (DBObject) field;
 				field = parent.get( node );
 				if ( field == null ) {
@@ -55,16 +53,16 @@ public static void setValue(DBObject entity, String column, Object value) {
 	 * @param column the column to remove
 	 */
 	public static void resetValue(DBObject entity, String column) {
+		ColumnPath path = ColumnPath.of( column );
 		// fast path for non-embedded case
-		if ( !column.contains( "." ) ) {
+		if ( path.isFlat() ) {
 			entity.removeField( column );
 		}
 		else {
-			String[] path = DOT_SEPARATOR_PATTERN.split( column );
 			Object field = entity;
-			int size = path.length;
+			int size = path.getDepth();
 			for (int index = 0 ; index < size ; index++) {
-				String node = path[index];
+				String node = path.getSegment( index );
 				DBObject parent = (DBObject) field;
 				field = parent.get( node );
 				if ( field == null && index < size - 1 ) {
@@ -89,24 +87,22 @@ public static <T> T getValueOrNull(DBObject entity, String dotPath, Class<T> typ
 	}
 
 	public static Object getValueOrNull(DBObject entity, String dotPath) {
+		ColumnPath path = ColumnPath.of( dotPath );
 		// fast path for simple properties
-		if ( !dotPath.contains( "." ) ) {
+		if ( path.isFlat() ) {
 			return entity.get( dotPath );
 		}
 
-		String[] path = DOT_SEPARATOR_PATTERN.split( dotPath );
-		int size = path.length;
-
+		int size = path.getDepth();
 		for (int index = 0 ; index < size - 1; index++) {
-			Object next = entity.get( path[index] );
+			Object next = entity.get( path.getSegment( index ) );
 			if ( next == null || !( next instanceof DBObject ) ) {
 				return null;
 			}
 			entity = (DBObject) next;
 		}
 
-		String field = path[size - 1];
-		return entity.get( field );
+		return entity.get( path.getLeaf() );
 	}
 
 	/**
@@ -131,4 +131,6 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@Message(id = 1236, value = "The options for index %2$s of collection %1$s are not a valid JSON object.")
 	HibernateException invalidOptionsFormatForIndex(String collection, String indexName, @Cause Exception e);
 
+	@Message(id = 1237, value = "No value has been bound to the parameter '%1$s' of the query.")
+	HibernateException noValueBoundForQueryParameter(String name);
 }
@@ -0,0 +1,167 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
+import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.util.parser.impl.LikeExpressionToRegExpConverter;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * A placeholder for the value of a named parameter within a query created from JP-QL. This allows to parse a query
+ * once and execute it with different parameter values, binding them via {@link #bind(DBObject, Map)}.
+ * <p>
+ * The placeholder is a document itself, so queries containing it can be serialized and printed as usual.
+ */
+public class MongoDBQueryParameter extends BasicDBObject {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	private static final String PARAMETER = "$parameter";
+	private static final String LIKE_ESCAPE_CHARACTER = "$likeEscapeCharacter";
+
+	/**
+	 * Prefix of the pattern passed to the query builder for a {@code LIKE} predicate whose pattern is given as a
+	 * parameter; it cannot be part of a pattern given in JP-QL.
+	 */
+	private static final String LIKE_PATTERN_PARAMETER_PREFIX = "\u0000:";
+
+	private final String name;
+	private final boolean likePattern;
+	private final Character likeEscapeCharacter;
+
+	private MongoDBQueryParameter(String name, boolean likePattern, Character likeEscapeCharacter) {
+		super( PARAMETER, name );
+		this.name = name;
+		this.likePattern = likePattern;
+		this.likeEscapeCharacter = likeEscapeCharacter;
+		if ( likeEscapeCharacter != null ) {
+			put( LIKE_ESCAPE_CHARACTER, likeEscapeCharacter.toString() );
+		}
+	}
+
+	/**
+	 * @param name the name of the parameter
+	 * @return a placeholder for a parameter value to be compared as is
+	 */
+	public static MongoDBQueryParameter forValue(String name) {
+		return new MongoDBQueryParameter( name, false, null );
+	}
+
+	/**
+	 * @param name the name of the parameter
+	 * @param escapeCharacter the escape character of the {@code LIKE} predicate, may be {@code null}
+	 * @return a placeholder for a parameter value to be converted into a regular expression upon binding
+	 */
+	public static MongoDBQueryParameter forLikePattern(String name, Character escapeCharacter) {
+		return new MongoDBQueryParameter( name, true, escapeCharacter );
+	}
+
+	/**
+	 * Returns the pattern to be passed to the query builder for a {@code LIKE} predicate with the given parameter.
+	 *
+	 * @see #getLikePatternParameterName(String)
+	 */
+	public static String toLikePatternPlaceholder(String name) {
+		return LIKE_PATTERN_PARAMETER_PREFIX + name;
+	}
+
+	/**
+	 * @return the name of the parameter if the given pattern has been created by
+	 * {@link #toLikePatternPlaceholder(String)}, {@code null} otherwise
+	 */
+	public static String getLikePatternParameterName(String pattern) {
+		return pattern.startsWith( LIKE_PATTERN_PARAMETER_PREFIX ) ? pattern.substring( LIKE_PATTERN_PARAMETER_PREFIX.length() ) : null;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Replaces the parameter placeholders within the given query with the given values. The query itself is not
+	 * altered; if it contains placeholders, a copy is returned.
+	 *
+	 * @param query the query, may be {@code null}
+	 * @param parameters the parameter values
+	 * @return the query with the parameter values
+	 */
+	public static DBObject bind(DBObject query, Map<String, TypedGridValue> parameters) {
+		return (DBObject) bindValue( query, parameters );
+	}
+
+	private static Object bindValue(Object value, Map<String, TypedGridValue> parameters) {
+		if ( value instanceof MongoDBQueryParameter ) {
+			return ( (MongoDBQueryParameter) value ).getValue( parameters );
+		}
+		else if ( value instanceof List ) {
+			return bindList( (List<?>) value, parameters );
+		}
+		else if ( value instanceof BasicDBObject ) {
+			return bindDocument( (BasicDBObject) value, parameters );
+		}
+		return value;
+	}
+
+	private static Object bindDocument(BasicDBObject document, Map<String, TypedGridValue> parameters) {
+		BasicDBObject bound = null;
+		for ( Map.Entry<String, Object> entry : document.entrySet() ) {
+			Object value = bindValue( entry.getValue(), parameters );
+			if ( value != entry.getValue() && bound == null ) {
+				bound = new BasicDBObject( document );
+			}
+			if ( bound != null ) {
+				bound.put( entry.getKey(), value );
+			}
+		}
+		return bound != null ? bound : document;
+	}
+
+	/**
+	 * A collection bound to a parameter within a list, e.g. of an {@code $in} operator, is expanded into its elements.
+	 */
+	private static Object bindList(List<?> list, Map<String, TypedGridValue> parameters) {
+		List<Object> bound = null;
+		for ( int i = 0; i < list.size(); i++ ) {
+			Object element = list.get( i );
+			Object value = bindValue( element, parameters );
+			if ( value != element && bound == null ) {
+				bound = new ArrayList<Object>( list.subList( 0, i ) );
+			}
+			if ( bound != null ) {
+				if ( element instanceof MongoDBQueryParameter && value instanceof Collection ) {
+					bound.addAll( (Collection<?>) value );
+				}
+				else {
+					bound.add( value );
+				}
+			}
+		}
+		return bound != null ? bound : list;
+	}
+
+	private Object getValue(Map<String, TypedGridValue> parameters) {
+		TypedGridValue parameter = parameters.get( name );
+		if ( parameter == null ) {
+			throw log.noValueBoundForQueryParameter( name );
+		}
+
+		Object value = parameter.getValue();
+		if ( likePattern && value != null ) {
+			return new LikeExpressionToRegExpConverter( likeEscapeCharacter ).getRegExpFromLikeExpression( value.toString() );
+		}
+		return value;
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
 
+import java.util.Collections;
 import java.util.Map;
 
 import org.hibernate.SessionFactory;
@@ -43,15 +44,18 @@ public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, S
 		return result;
 	}
 
+	/**
+	 * Named parameters are rendered as {@link org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter}s,
+	 * the values are bound when executing the query.
+	 */
 	@Override
 	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
-		throw new UnsupportedOperationException( "MongoDB does not support parameterized queries. Parameter values " +
-				"must be passed to the query parser." );
+		return parseQuery( sessionFactory, queryString, Collections.<String, Object>emptyMap() );
 	}
 
 	@Override
 	public boolean supportsParameters() {
-		return false;
+		return true;
 	}
 
 	private MongoDBProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, Map<String, Object> namedParameters) {
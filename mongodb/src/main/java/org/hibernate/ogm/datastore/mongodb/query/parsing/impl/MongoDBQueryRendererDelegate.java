@@ -7,6 +7,8 @@
 package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +17,8 @@
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
 import org.hibernate.hql.ast.spi.SingleEntityQueryBuilder;
 import org.hibernate.hql.ast.spi.SingleEntityQueryRendererDelegate;
+import org.hibernate.hql.ast.spi.predicate.ComparisonPredicate.Type;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.util.impl.StringHelper;
 
@@ -30,6 +34,7 @@ public class MongoDBQueryRendererDelegate extends SingleEntityQueryRendererDeleg
 
 	private final SessionFactoryImplementor sessionFactory;
 	private final MongoDBPropertyHelper propertyHelper;
+	private final Map<String, Object> namedParameters;
 	private DBObject orderBy;
 	/*
 	 * The fields for which needs to be aggregated using $unwind when running the query
@@ -45,6 +50,7 @@ public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, En
 
 		this.sessionFactory = sessionFactory;
 		this.propertyHelper = propertyHelper;
+		this.namedParameters = namedParameters != null ? namedParameters : Collections.<String, Object>emptyMap();
 	}
 
 	@Override
@@ -125,4 +131,110 @@ protected void addSortField(PropertyPath propertyPath, String collateName, boole
 		// order they're inserted here, which is the order within the original statement
 		orderBy.put( columnName, isAscending ? 1 : -1 );
 	}
+
+	// Methods below were not required here if fromNamedQuery() could be overridden from super
+
+	@Override
+	public void predicateLess(String comparativePredicate) {
+		addComparisonPredicate( comparativePredicate, Type.LESS );
+	}
+
+	@Override
+	public void predicateLessOrEqual(String comparativePredicate) {
+		addComparisonPredicate( comparativePredicate, Type.LESS_OR_EQUAL );
+	}
+
+	@Override
+	public void predicateEquals(String comparativePredicate) {
+		addComparisonPredicate( comparativePredicate, Type.EQUALS );
+	}
+
+	@Override
+	public void predicateNotEquals(String comparativePredicate) {
+		builder.pushNotPredicate();
+		addComparisonPredicate( comparativePredicate, Type.EQUALS );
+		builder.popBooleanPredicate();
+	}
+
+	@Override
+	public void predicateGreaterOrEqual(String comparativePredicate) {
+		addComparisonPredicate( comparativePredicate, Type.GREATER_OR_EQUAL );
+	}
+
+	@Override
+	public void predicateGreater(String comparativePredicate) {
+		addComparisonPredicate( comparativePredicate, Type.GREATER );
+	}
+
+	private void addComparisonPredicate(String comparativePredicate, Type comparisonType) {
+		Object comparisonValue = fromNamedQuery( comparativePredicate );
+		List<String> property = resolveAlias( propertyPath );
+		builder.addComparisonPredicate( property, comparisonType, comparisonValue );
+	}
+
+	@Override
+	public void predicateIn(List<String> list) {
+		List<Object> values = fromNamedQuery( list );
+		List<String> property = resolveAlias( propertyPath );
+		builder.addInPredicate( property, values );
+	}
+
+	@Override
+	public void predicateBetween(String lower, String upper) {
+		Object lowerComparisonValue = fromNamedQuery( lower );
+		Object upperComparisonValue = fromNamedQuery( upper );
+
+		List<String> property = resolveAlias( propertyPath );
+		builder.addRangePredicate( property, lowerComparisonValue, upperComparisonValue );
+	}
+
+	@Override
+	public void predicateLike(String patternValue, Character escapeCharacter) {
+		Object pattern = fromNamedQuery( patternValue );
+		if ( pattern instanceof MongoDBQueryParameter ) {
+			pattern = MongoDBQueryParameter.toLikePatternPlaceholder( ( (MongoDBQueryParameter) pattern ).getName() );
+		}
+		List<String> property = resolveAlias( propertyPath );
+		builder.addLikePredicate( property, (String) pattern, escapeCharacter );
+	}
+
+	@Override
+	public void predicateIsNull() {
+		List<String> property = resolveAlias( propertyPath );
+		builder.addIsNullPredicate( property );
+	}
+
+	/**
+	 * Named parameters are taken as is if their value has been passed to the parser; otherwise a placeholder is
+	 * created, to be bound upon execution of the query.
+	 */
+	private Object fromNamedQuery(String comparativePredicate) {
+		if ( comparativePredicate.startsWith( ":" ) ) {
+			String name = comparativePredicate.substring( 1 );
+			if ( namedParameters.containsKey( name ) ) {
+				return namedParameters.get( name );
+			}
+			return MongoDBQueryParameter.forValue( name );
+		}
+		// It's a value given in JP-QL; Convert the literal value
+		else {
+			return propertyHelper.convertToPropertyType( targetTypeName, resolveAlias( propertyPath ), comparativePredicate );
+		}
+	}
+
+	private List<Object> fromNamedQuery(List<String> list) {
+		List<Object> elements = new ArrayList<Object>( list.size() );
+
+		for ( String string : list ) {
+			Object element = fromNamedQuery( string );
+			if ( element instanceof Collection ) {
+				elements.addAll( (Collection<?>) element );
+			}
+			else {
+				elements.add( element );
+			}
+		}
+
+		return elements;
+	}
 }
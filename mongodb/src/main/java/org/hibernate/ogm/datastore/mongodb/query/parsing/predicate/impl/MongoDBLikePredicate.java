@@ -10,6 +10,7 @@
 
 import org.hibernate.hql.ast.spi.predicate.LikePredicate;
 import org.hibernate.hql.ast.spi.predicate.NegatablePredicate;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.util.parser.impl.LikeExpressionToRegExpConverter;
 
 import com.mongodb.BasicDBObject;
@@ -22,13 +23,22 @@
  */
 public class MongoDBLikePredicate extends LikePredicate<DBObject> implements NegatablePredicate<DBObject> {
 
-	private final Pattern pattern;
+	/**
+	 * The {@link Pattern} or, if the pattern is given as parameter, a {@link MongoDBQueryParameter}
+	 */
+	private final Object pattern;
 
 	public MongoDBLikePredicate(String propertyName, String patternValue, Character escapeCharacter) {
 		super( propertyName, patternValue, escapeCharacter );
 
-		LikeExpressionToRegExpConverter converter = new LikeExpressionToRegExpConverter( escapeCharacter );
-		pattern = converter.getRegExpFromLikeExpression( patternValue );
+		String parameterName = MongoDBQueryParameter.getLikePatternParameterName( patternValue );
+		if ( parameterName != null ) {
+			pattern = MongoDBQueryParameter.forLikePattern( parameterName, escapeCharacter );
+		}
+		else {
+			LikeExpressionToRegExpConverter converter = new LikeExpressionToRegExpConverter( escapeCharacter );
+			pattern = converter.getRegExpFromLikeExpression( patternValue );
+		}
 	}
 
 	@Override
@@ -0,0 +1,113 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.DefaultDBEncoder;
+
+/**
+ * Tests the decoding of documents into {@link MongoDBTupleDocument}s.
+ */
+public class MongoDBTupleDecoderFactoryTest {
+
+	private MongoDBTupleDecoderFactory decoderFactory;
+
+	@Before
+	public void setUpDecoderFactory() {
+		decoderFactory = new MongoDBTupleDecoderFactory();
+		decoderFactory.addColumns( Arrays.asList( "_id", "name", "birthDate", "address.city", "address.street", "nicknames" ) );
+	}
+
+	@Test
+	public void shouldDecodeScalarValues() {
+		Date birthDate = new Date();
+		DBObject document = decode( new BasicDBObject( "_id", 1L ).append( "name", "Bob" ).append( "birthDate", birthDate ) );
+
+		assertThat( document ).isInstanceOf( MongoDBTupleDocument.class );
+		assertThat( document.get( "_id" ) ).isEqualTo( 1L );
+		assertThat( document.get( "name" ) ).isEqualTo( "Bob" );
+		assertThat( document.get( "birthDate" ) ).isEqualTo( birthDate );
+		assertThat( document.keySet() ).containsOnly( "_id", "name", "birthDate" );
+	}
+
+	@Test
+	public void shouldDecodeEmbeddedObjectsAndArrays() {
+		BasicDBList nicknames = new BasicDBList();
+		nicknames.add( "Bobby" );
+		nicknames.add( "Rob" );
+		DBObject document = decode( new BasicDBObject( "_id", 1L )
+				.append( "address", new BasicDBObject( "city", "Paris" ).append( "street", "Rue de Rivoli" ) )
+				.append( "nicknames", nicknames ) );
+
+		assertThat( MongoHelpers.getValueOrNull( document, "address.city" ) ).isEqualTo( "Paris" );
+		assertThat( MongoHelpers.getValueOrNull( document, "address.street" ) ).isEqualTo( "Rue de Rivoli" );
+		assertThat( document.get( "nicknames" ) ).isInstanceOf( List.class );
+		assertThat( (List<?>) document.get( "nicknames" ) ).containsExactly( "Bobby", "Rob" );
+	}
+
+	@Test
+	public void shouldKeepChangesToEmbeddedObjects() {
+		DBObject document = decode( new BasicDBObject( "_id", 1L ).append( "address", new BasicDBObject( "city", "Paris" ) ) );
+
+		MongoHelpers.setValue( document, "address.street", "Rue de Rivoli" );
+		MongoHelpers.resetValue( document, "address.city" );
+
+		assertThat( MongoHelpers.getValueOrNull( document, "address.street" ) ).isEqualTo( "Rue de Rivoli" );
+		assertThat( MongoHelpers.getValueOrNull( document, "address.city" ) ).isNull();
+	}
+
+	@Test
+	public void shouldDistinguishNullValuesFromMissingFields() {
+		DBObject document = decode( new BasicDBObject( "_id", 1L ).append( "name", null ) );
+
+		assertThat( document.containsField( "name" ) ).isTrue();
+		assertThat( document.get( "name" ) ).isNull();
+		assertThat( document.containsField( "birthDate" ) ).isFalse();
+
+		document.removeField( "name" );
+		assertThat( document.containsField( "name" ) ).isFalse();
+		assertThat( document.keySet() ).containsOnly( "_id" );
+	}
+
+	@Test
+	public void shouldKeepFieldsNotPartOfTheLayout() {
+		DBObject document = decode( new BasicDBObject( "_id", 1L ).append( "name", "Bob" ).append( "version", 3 ) );
+
+		assertThat( document.get( "version" ) ).isEqualTo( 3 );
+		assertThat( document.keySet() ).containsOnly( "_id", "name", "version" );
+
+		document.put( "rating", 5 );
+		assertThat( document.get( "rating" ) ).isEqualTo( 5 );
+		assertThat( document.toMap() ).hasSize( 4 );
+	}
+
+	@Test
+	public void shouldExtendLayoutWithFieldsOfFurtherColumns() {
+		decoderFactory.addColumns( Arrays.asList( "_id", "name", "rating" ) );
+
+		DBObject document = decode( new BasicDBObject( "_id", 1L ).append( "name", "Bob" ).append( "rating", 5 ) );
+
+		assertThat( document.get( "rating" ) ).isEqualTo( 5 );
+		assertThat( document.keySet() ).containsOnly( "_id", "name", "rating" );
+	}
+
+	private DBObject decode(DBObject document) {
+		byte[] bytes = new DefaultDBEncoder().encode( document );
+		return decoderFactory.create().decode( bytes, null );
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.datastore.mongodb.utils.MongoDBTestHelper.assertDbObject;
+import static org.hibernate.ogm.datastore.mongodb.utils.MongoDBTestHelper.assertJsonEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.backendtck.associations.collection.manytomany.Car;
+import org.hibernate.ogm.backendtck.associations.collection.manytomany.Tire;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DB;
+import com.mongodb.DBObject;
+
+/**
+ * Tests that the rows added to and removed from an association are written as delta to the stored array, checking the
+ * update operators sent to the database through its profiler.
+ */
+public class AssociationDeltaUpdateTest extends OgmTestCase {
+
+	@Test
+	public void testAddAndRemoveRowsOfEmbeddedAssociation() throws Exception {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Car car = new Car();
+		car.setCarId( new Car.CarId( "Citroen", "AX" ) );
+		car.setHp( 20 );
+		session.persist( car );
+		for ( String model : new String[] { "B1", "B2", "B3" } ) {
+			Tire tire = new Tire();
+			tire.setTireId( new Tire.TireId( "Michelin", model ) );
+			tire.setSize( 17d );
+			car.getTires().add( tire );
+			tire.getCars().add( car );
+			session.persist( tire );
+		}
+		transaction.commit();
+		session.clear();
+
+		startProfiling( session );
+		transaction = session.beginTransaction();
+		car = (Car) session.get( Car.class, car.getCarId() );
+		for ( String model : new String[] { "B1", "B2" } ) {
+			Tire tire = (Tire) session.get( Tire.class, new Tire.TireId( "Michelin", model ) );
+			car.getTires().remove( tire );
+			tire.getCars().remove( car );
+		}
+		Tire tire = new Tire();
+		tire.setTireId( new Tire.TireId( "Michelin", "B4" ) );
+		tire.setSize( 18d );
+		car.getTires().add( tire );
+		tire.getCars().add( car );
+		session.persist( tire );
+		transaction.commit();
+		session.clear();
+		List<DBObject> carUpdates = stopProfiling( session, "Car" );
+
+		// only the removed and added rows have been sent, not the whole array
+		assertThat( carUpdates ).hasSize( 2 );
+		assertJsonEquals(
+				"{ '$pull' : { 'tires' : { '$or' : [ { 'maker' : 'Michelin', 'model' : 'B1' }, { 'maker' : 'Michelin', 'model' : 'B2' } ] } } }",
+				carUpdates.get( 0 ).toString()
+		);
+		assertJsonEquals(
+				"{ '$push' : { 'tires' : { '$each' : [ { 'maker' : 'Michelin', 'model' : 'B4' } ] } } }",
+				carUpdates.get( 1 ).toString()
+		);
+
+		assertDbObject(
+				session.getSessionFactory(),
+				// collection
+				"Car",
+				// query
+				"{ '_id' : { 'maker' : 'Citroen', 'model' : 'AX' } }",
+				// expected
+				"{ '_id' : { 'maker' : 'Citroen', 'model' : 'AX' }, 'hp' : 20, 'tires' : [ { 'maker' : 'Michelin', 'model' : 'B3' }, { 'maker' : 'Michelin', 'model' : 'B4' } ] }"
+		);
+		assertDbObject(
+				session.getSessionFactory(),
+				// collection
+				"Tire",
+				// query
+				"{ '_id' : { 'maker' : 'Michelin', 'model' : 'B1' } }",
+				// expected
+				"{ '_id' : { 'maker' : 'Michelin', 'model' : 'B1' }, 'size' : 17.0 }"
+		);
+
+		transaction = session.beginTransaction();
+		car = (Car) session.get( Car.class, car.getCarId() );
+		assertThat( car.getTires() ).onProperty( "size" ).containsOnly( 17d, 18d );
+		for ( Tire loadedTire : car.getTires() ) {
+			loadedTire.getCars().remove( car );
+		}
+		car.getTires().clear();
+		session.delete( car );
+		for ( String model : new String[] { "B1", "B2", "B3", "B4" } ) {
+			session.delete( session.get( Tire.class, new Tire.TireId( "Michelin", model ) ) );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	/**
+	 * Enables the profiler of the database, so that all the operations sent to it are recorded.
+	 */
+	private static void startProfiling(OgmSession session) {
+		DB database = getDatabase( session );
+		database.command( new BasicDBObject( "profile", 0 ) );
+		database.getCollection( "system.profile" ).drop();
+		database.command( new BasicDBObject( "profile", 2 ) );
+	}
+
+	/**
+	 * Disables the profiler of the database and returns the update documents sent for the given collection since the
+	 * profiler has been enabled; the profile collection is capped, so its natural order is the order of the operations.
+	 */
+	private static List<DBObject> stopProfiling(OgmSession session, String collection) {
+		DB database = getDatabase( session );
+		database.command( new BasicDBObject( "profile", 0 ) );
+
+		DBObject query = new BasicDBObject( "op", "update" ).append( "ns", database.getName() + "." + collection );
+		List<DBObject> updates = new ArrayList<DBObject>();
+		for ( DBObject operation : database.getCollection( "system.profile" ).find( query ) ) {
+			// the update document is logged as "updateobj" up to MongoDB 3.4, as part of the command afterwards
+			Object update = operation.get( "updateobj" );
+			if ( update == null ) {
+				update = ( (DBObject) operation.get( "command" ) ).get( "u" );
+			}
+			updates.add( (DBObject) update );
+		}
+		return updates;
+	}
+
+	private static DB getDatabase(OgmSession session) {
+		MongoDBDatastoreProvider provider = (MongoDBDatastoreProvider) ( (SessionFactoryImplementor) session.getSessionFactory() )
+				.getServiceRegistry()
+				.getService( DatastoreProvider.class );
+		return provider.getDatabase();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Car.class,
+				Tire.class
+		};
+	}
+}
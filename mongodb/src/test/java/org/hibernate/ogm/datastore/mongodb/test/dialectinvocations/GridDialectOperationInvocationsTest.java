@@ -204,6 +204,55 @@ public void insertSearchUpdateDelete() throws Exception {
 		);
 	}
 
+	@Test
+	public void updateAndDeleteSeveralEntitiesInOneBatch() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		for ( int i = 0; i < 10; i++ ) {
+			StockItem item = new StockItem();
+			item.setId( "item-" + i );
+			item.setItemName( "Putter " + i );
+			item.setCount( i );
+			session.persist( item );
+		}
+
+		transaction.commit();
+		session.clear();
+		transaction = session.beginTransaction();
+
+		// update the even items and delete the odd ones
+		@SuppressWarnings("unchecked")
+		List<StockItem> items = session.createQuery( "from StockItem si" ).list();
+		assertThat( items ).hasSize( 10 );
+		getOperationsLogger().reset();
+		for ( StockItem item : items ) {
+			if ( item.getCount() % 2 == 0 ) {
+				item.setCount( item.getCount() + 100 );
+			}
+			else {
+				session.delete( item );
+			}
+		}
+
+		transaction.commit();
+		session.clear();
+
+		// all the updates and removals are applied through one batch
+		assertThat( getOperations() ).containsExactly( "executeBatch" );
+
+		transaction = session.beginTransaction();
+		@SuppressWarnings("unchecked")
+		List<StockItem> remainingItems = session.createQuery( "from StockItem si" ).list();
+		assertThat( remainingItems ).onProperty( "count" ).containsOnly( 100, 102, 104, 106, 108 );
+		for ( StockItem item : remainingItems ) {
+			session.delete( item );
+		}
+
+		transaction.commit();
+		session.close();
+	}
+
 	@Override
 	protected Class<?>[] getAnnotatedClasses() {
 		return new Class<?>[] { StockItem.class, Product.class };
@@ -31,6 +31,7 @@
 
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
+import com.mongodb.DBDecoderFactory;
 import com.mongodb.DBObject;
 import com.mongodb.ReadPreference;
 
@@ -120,6 +121,8 @@ public void shouldApplyConfiguredReadPreferenceForGettingAssociationStoredAsAsso
 		// then expect a findOne() call for the entity and one for the association  with the configured read preference
 		verify( mockClient.getCollection( "GolfPlayer" ) ).findOne( any( DBObject.class ), any( DBObject.class ), eq( ReadPreference.secondaryPreferred() ) );
 		verify( mockClient.getCollection( "Associations" ) ).findOne( any( DBObject.class ), any( DBObject.class ), eq( ReadPreference.primaryPreferred() ) );
+		// the decoder of entity documents is installed when the collection is read for the first time
+		verify( mockClient.getCollection( "GolfPlayer" ) ).setDBDecoderFactory( any( DBDecoderFactory.class ) );
 		verifyNoMoreInteractions( mockClient.getCollection( "GolfPlayer" ) );
 	}
 
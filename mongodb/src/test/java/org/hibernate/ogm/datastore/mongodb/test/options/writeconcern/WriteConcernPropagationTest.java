@@ -8,9 +8,9 @@
 
 import static org.hibernate.ogm.datastore.mongodb.utils.MockMongoClientBuilder.mockClient;
 import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.eq;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.lang.annotation.ElementType;
@@ -34,7 +34,6 @@
 
 import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
-import com.mongodb.DBObject;
 import com.mongodb.WriteConcern;
 
 /**
@@ -90,8 +89,8 @@ public void shouldApplyConfiguredWriteConcernForUpdateOfTuple() {
 		transaction.commit();
 		session.close();
 
-		// then expect one (batched) insert with the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		// then expect a bulk write with the configured write concern
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -113,8 +112,8 @@ public void shouldApplyConfiguredWriteConcernForRemoveTuple() {
 		transaction.commit();
 		session.close();
 
-		// then expect a call to remove with the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ) ).remove( any( DBObject.class ), eq( WriteConcern.MAJORITY ) );
+		// then expect a bulk write with the configured write concern
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -137,8 +136,8 @@ public void shouldApplyConfiguredWriteConcernForCreationOfEmbeddedAssociation()
 		transaction.commit();
 		session.close();
 
-		// then expect one update using the configured write concern for adding the row
-		verify( mockClient.getCollection( "GolfPlayer" ), times( 1 ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		// then expect a bulk write using the configured write concern for adding the row
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -158,7 +157,7 @@ public void shouldApplyConfiguredWriteConcernForCreationOfAssociationStoredAsDoc
 		session.close();
 
 		// then expect association operations using the configured write concern
-		verify( mockClient.getCollection( "Associations" ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "Associations" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -191,7 +190,7 @@ public void shouldApplyWriteConcernConfiguredOnPropertyLevelForCreationOfAssocia
 
 		// then expect tuple and association operations using the configured write concerns
 		verify( mockClient.getCollection( "GolfPlayer" ) ).insert( any( List.class ), eq( WriteConcern.REPLICA_ACKNOWLEDGED ) );
-		verify( mockClient.getCollection( "Associations" ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.ACKNOWLEDGED ) );
+		verify( mockClient.getBulkWriteOperation( "Associations" ), atLeastOnce() ).execute( eq( WriteConcern.ACKNOWLEDGED ) );
 	}
 
 	@Test
@@ -218,7 +217,7 @@ public void shouldApplyConfiguredWriteConcernForUpdateOfEmbeddedAssociation() {
 		session.close();
 
 		// then expect updates to the player document using the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ), times( 2 ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -242,8 +241,8 @@ public void shouldApplyConfiguredWriteConcernForUpdateOfAssociationStoredAsDocum
 		transaction.commit();
 		session.close();
 
-		// then expect one update to the association collection
-		verify( mockClient.getCollection( "Associations" ), times( 1 ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		// then expect an update to the association collection
+		verify( mockClient.getBulkWriteOperation( "Associations" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -269,8 +268,8 @@ public void shouldApplyConfiguredWriteConcernForRemovalOfEmbeddedAssociation() {
 		transaction.commit();
 		session.close();
 
-		// then expect one call to update using the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		// then expect a bulk write using the configured write concern
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -294,8 +293,46 @@ public void shouldApplyConfiguredWriteConcernForRemovalOfAssociationStoredAsDocu
 		transaction.commit();
 		session.close();
 
-		// then expect one call to remove with the configured write concern
-		verify( mockClient.getCollection( "Associations" ) ).remove( any( DBObject.class ), eq( WriteConcern.MAJORITY ) );
+		// then expect a bulk write with the configured write concern
+		verify( mockClient.getBulkWriteOperation( "Associations" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
+	}
+
+	@Test
+	public void shouldApplyEachWriteConcernForUpdatesOfOneDocumentWithDifferentWriteConcerns() {
+		// given a persisted player with one associated golf course
+		BasicDBObject player = getPlayer();
+		player.put( "playedCourses", getPlayedCoursesAssociationEmbedded() );
+
+		MockMongoClient mockClient = mockClient()
+				.insert( "GolfPlayer", player )
+				.insert( "GolfCourse", getGolfCourse() )
+				.build();
+
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( OgmProperties.DATASTORE_PROVIDER, new MongoDBDatastoreProvider( mockClient.getClient() ) );
+
+		TestHelper.configureOptionsFor( settings, MongoDB.class )
+			.entity( GolfPlayer.class )
+				.writeConcern( WriteConcernType.REPLICA_ACKNOWLEDGED )
+				.property( "playedCourses", ElementType.FIELD )
+					.writeConcern( WriteConcernType.ACKNOWLEDGED );
+
+		sessions = TestHelper.getDefaultTestSessionFactory( settings, getAnnotatedClasses() );
+
+		Session session = sessions.openSession();
+		Transaction transaction = session.beginTransaction();
+
+		// when updating the player and its embedded association in one flush
+		GolfPlayer ben = new GolfPlayer( 1L, "Ben", 0.2, new GolfCourse( 1L, "Bepple Peach" ), new GolfCourse( 2L, "Ant Sandrews" ) );
+		session.merge( ben );
+
+		transaction.commit();
+		session.close();
+
+		// then expect the writes to the player document to be sent with their own write concerns
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.REPLICA_ACKNOWLEDGED ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.ACKNOWLEDGED ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), never() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	private Class<?>[] getAnnotatedClasses() {
@@ -13,10 +13,13 @@
 
 import org.hibernate.hql.QueryParser;
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBProcessingChain;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryParsingResult;
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.IndexedEntity;
 import org.hibernate.ogm.datastore.mongodb.utils.MapBasedEntityNamesResolver;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.type.impl.LongType;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.junit.Before;
 import org.junit.Test;
@@ -161,6 +164,27 @@ public void shouldCreateNumericBetweenQuery() {
 				"]}" );
 	}
 
+	@Test
+	public void shouldCreateBetweenQueryWithParameterPlaceholders() {
+		MongoDBQueryParsingResult parsingResult = parseQuery( "select e from IndexedEntity e where e.position between :lower and :upper" );
+
+		assertThat( parsingResult.getQuery().toString() ).isEqualTo(
+				"{ \"$and\" : [ " +
+					"{ \"position\" : { \"$gte\" : { \"$parameter\" : \"lower\"}}} , " +
+					"{ \"position\" : { \"$lte\" : { \"$parameter\" : \"upper\"}}}" +
+				"]}" );
+
+		Map<String, TypedGridValue> parameters = new HashMap<String, TypedGridValue>();
+		parameters.put( "lower", new TypedGridValue( LongType.INSTANCE, 10L ) );
+		parameters.put( "upper", new TypedGridValue( LongType.INSTANCE, 20L ) );
+
+		assertThat( MongoDBQueryParameter.bind( parsingResult.getQuery(), parameters ).toString() ).isEqualTo(
+				"{ \"$and\" : [ " +
+					"{ \"position\" : { \"$gte\" : 10}} , " +
+					"{ \"position\" : { \"$lte\" : 20}}" +
+				"]}" );
+	}
+
 	@Test
 	public void shouldCreateInQuery() {
 		assertMongoDbQuery(
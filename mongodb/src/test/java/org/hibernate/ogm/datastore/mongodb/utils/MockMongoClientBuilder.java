@@ -8,6 +8,7 @@
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -16,6 +17,7 @@
 import java.util.Map;
 import java.util.Map.Entry;
 
+import com.mongodb.BulkWriteOperation;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
@@ -55,7 +57,7 @@ public static class MockMongoClientBuilderContext {
 		 * more general mechanism if required.
 		 */
 		public MockMongoClientBuilderContext insert(String collectionName, DBObject object) {
-			DBCollection collection = mock( DBCollection.class );
+			DBCollection collection = mockCollection();
 			collections.put( collectionName, collection );
 
 			when( collection.findOne( any( DBObject.class ), any( DBObject.class ), any( ReadPreference.class ) ) ).thenReturn( object );
@@ -72,7 +74,7 @@ public MockMongoClientBuilderContext insert(String collectionName, DBObject obje
 		public MockMongoClient build() {
 			DB database = mock( DB.class );
 
-			DBCollection defaultCollection = mock( DBCollection.class );
+			DBCollection defaultCollection = mockCollection();
 			when( database.getCollection( anyString() ) ).thenReturn( defaultCollection );
 
 			for ( Entry<String, DBCollection> collection : collections.entrySet() ) {
@@ -85,6 +87,19 @@ public MockMongoClient build() {
 
 			return new MockMongoClient( collections, defaultCollection, mongoClient );
 		}
+
+		/**
+		 * Creates a mock collection whose bulk write operations are all represented by one mock object.
+		 */
+		private static DBCollection mockCollection() {
+			DBCollection collection = mock( DBCollection.class );
+
+			BulkWriteOperation bulkWriteOperation = mock( BulkWriteOperation.class, RETURNS_DEEP_STUBS );
+			when( collection.initializeOrderedBulkOperation() ).thenReturn( bulkWriteOperation );
+			when( collection.initializeUnorderedBulkOperation() ).thenReturn( bulkWriteOperation );
+
+			return collection;
+		}
 	}
 
 	/**
@@ -119,5 +134,13 @@ public DBCollection getCollection(String collectionName) {
 			DBCollection collection = collections.get( collectionName );
 			return collection != null ? collection : defaultCollection;
 		}
+
+		/**
+		 * Returns the bulk write operation of the collection with a given name. This is a Mockito mock object shared
+		 * by all the bulk writes of the collection, so verifications can be performed on it.
+		 */
+		public BulkWriteOperation getBulkWriteOperation(String collectionName) {
+			return getCollection( collectionName ).initializeUnorderedBulkOperation();
+		}
 	}
 }
@@ -9,6 +9,7 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 import static org.neo4j.graphdb.DynamicRelationshipType.withName;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -87,6 +88,8 @@ public class Neo4jDialect extends BaseNeo4jDialect {
 
 	private final EmbeddedNeo4jSequenceGenerator sequenceGenerator;
 
+	private final boolean nativeKeyLookups;
+
 	private Map<EntityKeyMetadata, EmbeddedNeo4jEntityQueries> entityQueries;
 
 	private Map<AssociationKeyMetadata, EmbeddedNeo4jAssociationQueries> associationQueries;
@@ -95,6 +98,7 @@ public Neo4jDialect(EmbeddedNeo4jDatastoreProvider provider) {
 		super( EmbeddedNeo4jTypeConverter.INSTANCE );
 		this.dataBase = provider.getDatabase();
 		this.sequenceGenerator = provider.getSequenceGenerator();
+		this.nativeKeyLookups = provider.isNativeKeyLookups();
 	}
 
 	@Override
@@ -110,7 +114,7 @@ private Map<EntityKeyMetadata, EmbeddedNeo4jEntityQueries> initializeEntityQueri
 			EntityKeyMetadata entityKeyMetadata = associationKeyMetadata.getAssociatedEntityKeyMetadata().getEntityKeyMetadata();
 			if ( !entityQueries.containsKey( entityKeyMetadata ) ) {
 				// Embeddables metadata
-				entityQueries.put( entityKeyMetadata, new EmbeddedNeo4jEntityQueries( entityKeyMetadata ) );
+				entityQueries.put( entityKeyMetadata, new EmbeddedNeo4jEntityQueries( entityKeyMetadata, nativeKeyLookups ) );
 			}
 		}
 		return entityQueries;
@@ -122,7 +126,7 @@ private Map<EntityKeyMetadata, EmbeddedNeo4jEntityQueries> initializeEntityQueri
 		for ( EntityPersister entityPersister : entityPersisters ) {
 			if (entityPersister instanceof OgmEntityPersister ) {
 				OgmEntityPersister ogmEntityPersister = (OgmEntityPersister) entityPersister;
-				queryMap.put( ogmEntityPersister.getEntityKeyMetadata(), new EmbeddedNeo4jEntityQueries( ogmEntityPersister.getEntityKeyMetadata() ) );
+				queryMap.put( ogmEntityPersister.getEntityKeyMetadata(), new EmbeddedNeo4jEntityQueries( ogmEntityPersister.getEntityKeyMetadata(), nativeKeyLookups ) );
 			}
 		}
 		return queryMap;
@@ -167,49 +171,19 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 
 		// We only supports one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
-		// The result returned by the query might not be in the same order as the keys.
-		ResourceIterator<Node> nodes = entityQueries.get( metadata ).findEntities( dataBase, keys );
-		try {
-			return tuplesResult( keys, tupleContext, nodes );
-		}
-		finally {
-			nodes.close();
-		}
-	}
+		Node[] nodes = entityQueries.get( metadata ).findEntities( dataBase, keys );
 
-	/*
-	 * This method assumes that the nodes might not be in the same order as the keys and some keys might not have a
-	 * matching result in the db.
-	 */
-	private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, ResourceIterator<Node> nodes) {
 		// The list is initialized with null because some keys might not have a corresponding node
 		Tuple[] tuples = new Tuple[keys.length];
-		while ( nodes.hasNext() ) {
-			Node node = nodes.next();
-			for ( int i = 0; i < keys.length; i++ ) {
-				if ( matches( node, keys[i].getColumnNames(), keys[i].getColumnValues() ) ) {
-					tuples[i] = new Tuple( EmbeddedNeo4jTupleSnapshot.fromNode( node, tupleContext.getAllAssociatedEntityKeyMetadata(), tupleContext.getAllRoles(),
-							keys[i].getMetadata() ) );
-					// We assume there are no duplicated keys
-					break;
-				}
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( nodes[i] != null ) {
+				tuples[i] = new Tuple( EmbeddedNeo4jTupleSnapshot.fromNode( nodes[i], tupleContext.getAllAssociatedEntityKeyMetadata(), tupleContext.getAllRoles(),
+						keys[i].getMetadata() ) );
 			}
 		}
 		return Arrays.asList( tuples );
 	}
 
-	private boolean matches(Node node, String[] properties, Object[] values) {
-		for ( int i = 0; i < properties.length; i++ ) {
-			if ( node.hasProperty( properties[i] ) && !node.getProperty( properties[i] ).equals( values[i] )) {
-				return false;
-			}
-			else if ( !node.hasProperty( properties[i] ) && values[i] != null ) {
-				return false;
-			}
-		}
-		return true;
-	}
-
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		return new Tuple( EmbeddedNeo4jTupleSnapshot.emptySnapshot( key.getMetadata() ) );
@@ -327,25 +301,57 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 		return new Association( new EmbeddedNeo4jAssociationSnapshot( tuples ) );
 	}
 
+	/**
+	 * Finds the relationships of all the owners using a single query; the association of an owner without any
+	 * relationship, or which does not exist, is returned as {@code null}.
+	 */
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		List<Map<RowKey, Tuple>> tuplesPerKey = new ArrayList<Map<RowKey, Tuple>>( keys.length );
+		EntityKey[] ownerKeys = new EntityKey[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			tuplesPerKey.add( new HashMap<RowKey, Tuple>() );
+			ownerKeys[i] = keys[i].getEntityKey();
+		}
+
+		if ( keys.length > 0 ) {
+			String relationshipType = associationContexts[0].getAssociationTypeContext().getRoleOnMainSide();
+			AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContexts[0].getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+			Result result = entityQueries.get( ownerKeys[0].getMetadata() ).findAssociations( dataBase, ownerKeys, relationshipType );
+			try {
+				while ( result.hasNext() ) {
+					Map<String, Object> row = result.next();
+					int index = ( (Number) row.get( "i" ) ).intValue();
+					Relationship relationship = (Relationship) row.get( "r" );
+					EmbeddedNeo4jTupleAssociationSnapshot snapshot = new EmbeddedNeo4jTupleAssociationSnapshot( relationship, keys[index], associatedEntityKeyMetadata );
+					tuplesPerKey.get( index ).put( convert( keys[index], snapshot ), new Tuple( snapshot ) );
+				}
+			}
+			finally {
+				result.close();
+			}
+		}
+
+		List<Association> associations = new ArrayList<Association>( keys.length );
+		for ( Map<RowKey, Tuple> tuples : tuplesPerKey ) {
+			associations.add( tuples.isEmpty() ? null : new Association( new EmbeddedNeo4jAssociationSnapshot( tuples ) ) );
+		}
+		return associations;
+	}
+
 	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
-		ResourceIterator<Relationship> relationships = entityQueries.get( entityKey.getMetadata() )
+		List<Relationship> relationships = entityQueries.get( entityKey.getMetadata() )
 				.findAssociation( dataBase, entityKey.getColumnValues(), relationshipType );
 
 		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
-		try {
-			while ( relationships.hasNext() ) {
-				Relationship relationship = relationships.next();
-				AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
-				EmbeddedNeo4jTupleAssociationSnapshot snapshot = new EmbeddedNeo4jTupleAssociationSnapshot( relationship, associationKey, associatedEntityKeyMetadata );
-				RowKey rowKey = convert( associationKey, snapshot );
-				tuples.put( rowKey, new Tuple( snapshot ) );
-			}
-			return tuples;
-		}
-		finally {
-			relationships.close();
+		for ( Relationship relationship : relationships ) {
+			AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+			EmbeddedNeo4jTupleAssociationSnapshot snapshot = new EmbeddedNeo4jTupleAssociationSnapshot( relationship, associationKey, associatedEntityKeyMetadata );
+			RowKey rowKey = convert( associationKey, snapshot );
+			tuples.put( rowKey, new Tuple( snapshot ) );
 		}
+		return tuples;
 	}
 
 	@Override
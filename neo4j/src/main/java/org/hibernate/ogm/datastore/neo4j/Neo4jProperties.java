@@ -34,6 +34,30 @@ public final class Neo4jProperties implements OgmProperties {
 	 */
 	public static final String SEQUENCE_QUERY_CACHE_MAX_SIZE = "hibernate.ogm.neo4j.sequence_query_cache_max_size";
 
+	/**
+	 * Whether entities and associations are looked up by key via the Neo4j core API, i.e. the index backing the unique
+	 * constraint on the identifier and a traversal of the relationships of the owner node, rather than executing a
+	 * Cypher query. Only used with the embedded datastore.
+	 * <p>
+	 * Default is {@code true}.
+	 */
+	public static final String NATIVE_KEY_LOOKUPS = "hibernate.ogm.neo4j.native_key_lookups";
+
+	/**
+	 * The maximum number of HTTP connections kept open to the remote Neo4j server. Requests issued while all the
+	 * connections are in use wait for a connection to be released.
+	 * <p>
+	 * Default is 10.
+	 */
+	public static final String CONNECTION_POOL_SIZE = "hibernate.ogm.neo4j.client.connection_pool_size";
+
+	/**
+	 * The maximum number of HTTP connections per route, i.e. per target host.
+	 * <p>
+	 * Defaults to the value of {@link #CONNECTION_POOL_SIZE}.
+	 */
+	public static final String MAX_CONNECTIONS_PER_ROUTE = "hibernate.ogm.neo4j.client.max_connections_per_route";
+
 	/**
 	 * Socket inactivity timeout in milliseconds.
 	 */
@@ -54,6 +78,14 @@ public final class Neo4jProperties implements OgmProperties {
 	 */
 	public static final String ESTABLISH_CONNECTION_TIMEOUT = "hibernate.ogm.neo4j.client.establish_connection_timeout";
 
+	/**
+	 * The maximum number of statements sent to the remote server within a single request when executing the batched
+	 * operations of a flush. Bigger batches are split into several requests.
+	 * <p>
+	 * Default is 500.
+	 */
+	public static final String MAX_STATEMENTS_PER_REQUEST = "hibernate.ogm.neo4j.client.max_statements_per_request";
+
 	private Neo4jProperties() {
 	}
 }
@@ -6,11 +6,13 @@
  */
 package org.hibernate.ogm.datastore.neo4j;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -40,6 +42,13 @@
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statement;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -73,10 +82,13 @@
  * {@link AssociationKeyMetadata#getCollectionRole()}.
  * <p>
  * If the value of a property is set to null the property will be removed (Neo4j does not allow to store null values).
+ * <p>
+ * The operations batched during a flush are merged into as few requests as possible, each containing at most
+ * {@link Neo4jProperties#MAX_STATEMENTS_PER_REQUEST} statements.
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class RemoteNeo4jDialect extends BaseNeo4jDialect {
+public class RemoteNeo4jDialect extends BaseNeo4jDialect implements BatchableGridDialect {
 
 	private static final Log log = LoggerFactory.getLogger();
 
@@ -84,6 +96,8 @@ public class RemoteNeo4jDialect extends BaseNeo4jDialect {
 
 	private final RemoteNeo4jSequenceGenerator sequenceGenerator;
 
+	private final int maxStatementsPerRequest;
+
 	private Map<EntityKeyMetadata, RemoteNeo4jEntityQueries> entityQueries;
 
 	private Map<AssociationKeyMetadata, RemoteNeo4jAssociationQueries> associationQueries;
@@ -92,6 +106,7 @@ public RemoteNeo4jDialect(RemoteNeo4jDatastoreProvider provider) {
 		super( RemoteNeo4jTypeConverter.INSTANCE );
 		this.dataBase = provider.getDatabase();
 		this.sequenceGenerator = provider.getSequenceGenerator();
+		this.maxStatementsPerRequest = provider.getConfiguration().getMaxStatementsPerRequest();
 	}
 
 	@Override
@@ -143,6 +158,8 @@ private Map<AssociationKeyMetadata, RemoteNeo4jAssociationQueries> initializeAss
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext context) {
+		// The operations in the queue must be executed first or we might not find what we are looking for
+		executePendingOperations( context.getOperationsQueue() );
 		RemoteNeo4jEntityQueries queries = entityQueries.get( key.getMetadata() );
 		Long txId = transactionId( context.getTransactionContext() );
 		Node entityNode = queries.findEntity( dataBase, txId, key.getColumnValues() );
@@ -169,6 +186,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		executePendingOperations( tupleContext.getOperationsQueue() );
 		Long txId = transactionId( tupleContext.getTransactionContext() );
 		// We only supports one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
@@ -237,22 +255,26 @@ else if ( expectedValue != null ) {
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
-		// insert
-		final Map<String, EntityKey> toOneAssociations = new HashMap<>();
 		Statements statements = new Statements();
+		addInsertOrUpdateTupleStatements( statements, key, tuple, tupleContext, tuple.getSnapshot() instanceof EmptyTupleSnapshot );
+		Long txId = transactionId( tupleContext.getTransactionContext() );
+		StatementsResponse readEntity = dataBase.executeQueriesInOpenTransaction( txId, statements );
+		validate( readEntity, key, tuple );
+	}
+
+	private void addInsertOrUpdateTupleStatements(Statements statements, EntityKey key, Tuple tuple, TupleContext tupleContext, boolean insert) {
+		final Map<String, EntityKey> toOneAssociations = new HashMap<>();
 		Map<String, Object> properties = new HashMap<>();
-		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
-		if ( tuple.getSnapshot() instanceof EmptyTupleSnapshot ) {
+		int firstStatement = statements.getStatements().size();
+		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext );
+		if ( insert ) {
 			Statement statement = entityQueries.get( key.getMetadata() ).getCreateEntityWithPropertiesQueryStatement( key.getColumnValues(), properties );
-			statements.getStatements().add( 0, statement );
+			statements.getStatements().add( firstStatement, statement );
 		}
 		else {
 			updateTuple( key, statements, properties );
 		}
 		saveToOneAssociations( statements, key, toOneAssociations );
-		Long txId = transactionId( tupleContext.getTransactionContext() );
-		StatementsResponse readEntity = dataBase.executeQueriesInOpenTransaction( txId, statements );
-		validate( readEntity, key, tuple );
 	}
 
 	private Long transactionId(TransactionContext context) {
@@ -297,8 +319,13 @@ private void saveToOneAssociations(Statements statements, EntityKey key, final M
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
-		Long txId = transactionId( tupleContext.getTransactionContext() );
-		entityQueries.get( key.getMetadata() ).removeEntity( dataBase, txId, key.getColumnValues() );
+		Statements statements = new Statements();
+		addRemoveTupleStatements( statements, key );
+		execute( tupleContext.getTransactionContext(), statements );
+	}
+
+	private void addRemoveTupleStatements(Statements statements, EntityKey key) {
+		statements.addStatement( entityQueries.get( key.getMetadata() ).getRemoveEntityStatement( key.getColumnValues() ) );
 	}
 
 	/**
@@ -309,39 +336,40 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 	 * @param associatedEntityKeyMetadata
 	 * @param action
 	 */
-	private Relationship putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
+	private void putAssociationOperation(Statements statements, AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
 		switch ( associationKey.getMetadata().getAssociationKind() ) {
 			case EMBEDDED_COLLECTION:
-				return createRelationshipWithEmbeddedNode( associationKey, associationContext, action );
+				createRelationshipWithEmbeddedNode( statements, associationKey, associationContext, action );
+				break;
 			case ASSOCIATION:
-				return findOrCreateRelationshipWithEntityNode( associationKey, associationContext, action );
+				findOrCreateRelationshipWithEntityNode( statements, associationKey, associationContext, action );
+				break;
 			default:
 				throw new AssertionFailure( "Unrecognized associationKind: " + associationKey.getMetadata().getAssociationKind() );
 		}
 	}
 
-	private Relationship createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private void createRelationshipWithEmbeddedNode(Statements statements, AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
-		Long txId = transactionId( associationContext.getTransactionContext() );
 		Tuple associationRow = action.getValue();
 		EntityKey embeddedKey = getEntityKey( associationRow, associatedEntityKeyMetadata  );
 		Object[] relationshipProperties = relationshipProperties( associationKey, action );
 
-		Relationship relationship = associationQueries.get( associationKey.getMetadata() )
-				.createRelationshipForEmbeddedAssociation( dataBase, txId, associationKey, embeddedKey, relationshipProperties );
-		return relationship;
+		Statement statement = associationQueries.get( associationKey.getMetadata() )
+				.getCreateRelationshipForEmbeddedAssociationStatement( associationKey, embeddedKey, relationshipProperties );
+		statements.addStatement( statement );
 	}
 
-	private Relationship findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private void findOrCreateRelationshipWithEntityNode(Statements statements, AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
 		Tuple associationRow = action.getValue();
 		EntityKey ownerKey = associationKey.getEntityKey();
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
 		EntityKey targetKey = getEntityKey( associationRow, associatedEntityKeyMetadata  );
 		Object[] relationshipProperties = relationshipProperties( associationKey, associationRow );
-		Long txId = transactionId( associationContext.getTransactionContext() );
 
-		return associationQueries.get( associationKey.getMetadata() )
-			.createRelationship( dataBase, txId, ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
+		Statement statement = associationQueries.get( associationKey.getMetadata() )
+			.getCreateRelationshipStatement( ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
+		statements.addStatement( statement );
 	}
 
 	private Object[] relationshipProperties(AssociationKey associationKey, Tuple associationRow) {
@@ -356,6 +384,7 @@ private Object[] relationshipProperties(AssociationKey associationKey, Tuple ass
 
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Long transactionId = transactionId( associationContext.getTransactionContext() );
 		Node entityNode = entityQueries.get( entityKey.getMetadata() ).findEntity( dataBase, transactionId, entityKey.getColumnValues() );
@@ -367,6 +396,43 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 		return new Association( new RemoteNeo4jAssociationSnapshot( tuples ) );
 	}
 
+	/**
+	 * Finds the relationships of all the owners using a single request; the association of an owner without any
+	 * relationship, or which does not exist, is returned as {@code null}.
+	 */
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		List<Association> associations = new ArrayList<Association>( keys.length );
+		if ( keys.length == 0 ) {
+			return associations;
+		}
+
+		AssociationContext associationContext = associationContexts[0];
+		executePendingOperations( associationContext.getOperationsQueue() );
+
+		EntityKey[] ownerKeys = new EntityKey[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			ownerKeys[i] = keys[i].getEntityKey();
+		}
+
+		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
+		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
+		Long txId = transactionId( associationContext.getTransactionContext() );
+		List<List<RemoteNeo4jAssociationPropertiesRow>> rowsPerOwner = entityQueries.get( ownerKeys[0].getMetadata() )
+				.findAssociations( dataBase, txId, ownerKeys, relationshipType );
+
+		RemoteNeo4jAssociationQueries queries = associationQueries.get( keys[0].getMetadata() );
+		for ( int i = 0; i < keys.length; i++ ) {
+			Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
+			for ( RemoteNeo4jAssociationPropertiesRow row : rowsPerOwner.get( i ) ) {
+				RemoteNeo4jTupleAssociationSnapshot snapshot = new RemoteNeo4jTupleAssociationSnapshot( dataBase, queries, row, keys[i], associatedEntityKeyMetadata );
+				tuples.put( convert( keys[i], snapshot ), new Tuple( snapshot ) );
+			}
+			associations.add( tuples.isEmpty() ? null : new Association( new RemoteNeo4jAssociationSnapshot( tuples ) ) );
+		}
+		return associations;
+	}
+
 	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey, TransactionContext transactionContext) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
 		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
@@ -404,8 +470,18 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 			return;
 		}
 
+		Statements statements = new Statements();
+		addInsertOrUpdateAssociationStatements( statements, key, association, associationContext );
+		execute( associationContext.getTransactionContext(), statements );
+	}
+
+	private void addInsertOrUpdateAssociationStatements(Statements statements, AssociationKey key, Association association, AssociationContext associationContext) {
+		if ( key.getMetadata().isInverse() ) {
+			return;
+		}
+
 		for ( AssociationOperation action : association.getOperations() ) {
-			applyAssociationOperation( association, key, action, associationContext );
+			applyAssociationOperation( statements, key, action, associationContext );
 		}
 	}
 
@@ -416,20 +492,29 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 			return;
 		}
 
-		Long txId = transactionId( associationContext.getTransactionContext() );
-		associationQueries.get( key.getMetadata() ).removeAssociation( dataBase, txId, key );
+		Statements statements = new Statements();
+		addRemoveAssociationStatements( statements, key );
+		execute( associationContext.getTransactionContext(), statements );
+	}
+
+	private void addRemoveAssociationStatements(Statements statements, AssociationKey key) {
+		if ( key.getMetadata().isInverse() ) {
+			return;
+		}
+
+		statements.addStatement( associationQueries.get( key.getMetadata() ).getRemoveAssociationStatement( key ) );
 	}
 
-	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
+	private void applyAssociationOperation(Statements statements, AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
 		switch ( operation.getType() ) {
 		case CLEAR:
-			removeAssociation( key, associationContext );
+			addRemoveAssociationStatements( statements, key );
 			break;
 		case PUT:
-			putAssociationOperation( key, operation, associationContext );
+			putAssociationOperation( statements, key, operation, associationContext );
 			break;
 		case REMOVE:
-			removeAssociationOperation( key, operation, associationContext );
+			removeAssociationOperation( statements, key, operation );
 			break;
 		}
 	}
@@ -443,32 +528,32 @@ private Object[] relationshipProperties(AssociationKey associationKey, Associati
 		return relationshipProperties;
 	}
 
-	private void removeAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
-		Long txId = transactionId( associationContext.getTransactionContext() );
-		associationQueries.get( associationKey.getMetadata() ).removeAssociationRow( dataBase, txId, associationKey, action.getKey() );
+	private void removeAssociationOperation(Statements statements, AssociationKey associationKey, AssociationOperation action) {
+		Statement statement = associationQueries.get( associationKey.getMetadata() ).getRemoveAssociationRowStatement( associationKey, action.getKey() );
+		statements.addStatement( statement );
 	}
 
-	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, Set<TupleOperation> operations, TupleContext tupleContext, TransactionContext transactionContext) {
+	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, Set<TupleOperation> operations, TupleContext tupleContext) {
 		Set<String> processedAssociationRoles = new HashSet<String>();
 
 		for ( TupleOperation operation : operations ) {
-			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, transactionContext, processedAssociationRoles );
+			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 		}
 	}
 
-	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, TupleOperation operation, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, TupleOperation operation, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		switch ( operation.getType() ) {
 		case PUT:
 			putTupleOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 			break;
 		case PUT_NULL:
 		case REMOVE:
-			removeTupleOperation( entityKey, node, operation, statements, tupleContext, transactionContext, processedAssociationRoles );
+			removeTupleOperation( entityKey, node, operation, statements, tupleContext, processedAssociationRoles );
 			break;
 		}
 	}
 
-	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, Statements statements, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, Statements statements, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		if ( !tupleContext.isPartOfAssociation( operation.getColumn() ) ) {
 			if ( isPartOfRegularEmbedded( entityKey.getColumnNames(), operation.getColumn() ) ) {
 				// Embedded node
@@ -484,8 +569,8 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Long txId = transactionId( transactionContext );
-				entityQueries.get( entityKey.getMetadata() ).removeToOneAssociation( dataBase, txId, entityKey.getColumnValues(), associationRole );
+				Statement statement = entityQueries.get( entityKey.getMetadata() ).getRemoveToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.addStatement( statement );
 			}
 		}
 	}
@@ -522,6 +607,7 @@ private void putOneToOneAssociation(EntityKey ownerKey, Tuple tuple, Map<String,
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		executePendingOperations( tupleContext.getOperationsQueue() );
 		Long txId = transactionId( tupleContext.getTransactionContext() );
 		RemoteNeo4jEntityQueries queries = entityQueries.get( entityKeyMetadata );
 		ClosableIterator<Node> queryNodes = entityQueries.get( entityKeyMetadata ).findEntities( dataBase, txId );
@@ -554,6 +640,93 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> backendQ
 		}
 	}
 
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			// The statements of a request are executed in order, so merging the operations preserves the order in
+			// which they have been queued and with it the dependencies between them
+			Statements statements = new Statements();
+			List<Operation> owners = new ArrayList<Operation>();
+			Set<Tuple> insertedTuples = Collections.newSetFromMap( new IdentityHashMap<Tuple, Boolean>() );
+			TransactionContext transactionContext = null;
+
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				int firstStatement = statements.getStatements().size();
+				if ( operation instanceof InsertOrUpdateTupleOperation ) {
+					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+					Tuple tuple = update.getTuple();
+					// The same tuple might be queued more than once, the node must only be created the first time
+					boolean insert = tuple.getSnapshot() instanceof EmptyTupleSnapshot && insertedTuples.add( tuple );
+					addInsertOrUpdateTupleStatements( statements, update.getEntityKey(), tuple, update.getTupleContext(), insert );
+					transactionContext = update.getTupleContext().getTransactionContext();
+				}
+				else if ( operation instanceof RemoveTupleOperation ) {
+					RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+					addRemoveTupleStatements( statements, remove.getEntityKey() );
+					transactionContext = remove.getTupleContext().getTransactionContext();
+				}
+				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+					addInsertOrUpdateAssociationStatements( statements, update.getAssociationKey(), update.getAssociation(), update.getContext() );
+					transactionContext = update.getContext().getTransactionContext();
+				}
+				else if ( operation instanceof RemoveAssociationOperation ) {
+					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+					addRemoveAssociationStatements( statements, remove.getAssociationKey() );
+					transactionContext = remove.getContext().getTransactionContext();
+				}
+				else {
+					throw new UnsupportedOperationException( "Operation not supported on Neo4j: " + operation.getClass().getName() );
+				}
+
+				for ( int i = firstStatement; i < statements.getStatements().size(); i++ ) {
+					owners.add( operation );
+				}
+
+				if ( statements.getStatements().size() >= maxStatementsPerRequest ) {
+					executeBatch( transactionContext, statements, owners );
+					statements = new Statements();
+					owners = new ArrayList<Operation>();
+				}
+				operation = queue.poll();
+			}
+
+			if ( !statements.getStatements().isEmpty() ) {
+				executeBatch( transactionContext, statements, owners );
+			}
+			queue.clear();
+		}
+	}
+
+	private void executeBatch(TransactionContext transactionContext, Statements statements, List<Operation> owners) {
+		log.debugf( "Executing %1$d batched statements", statements.getStatements().size() );
+		StatementsResponse response = dataBase.executeQueriesInOpenTransaction( transactionId( transactionContext ), statements );
+		if ( !response.getErrors().isEmpty() ) {
+			// The execution stops at the first failing statement, so the number of results tells us which one it was
+			int failedStatement = response.getResults() == null ? 0 : response.getResults().size();
+			Operation owner = failedStatement < owners.size() ? owners.get( failedStatement ) : null;
+			if ( owner instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) owner;
+				validate( response, update.getEntityKey(), update.getTuple() );
+			}
+			throw new HibernateException( String.valueOf( response.getErrors().get( 0 ) ) );
+		}
+	}
+
+	private void executePendingOperations(OperationsQueue queue) {
+		if ( queue != null && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
+	}
+
+	private void execute(TransactionContext transactionContext, Statements statements) {
+		StatementsResponse response = dataBase.executeQueriesInOpenTransaction( transactionId( transactionContext ), statements );
+		if ( !response.getErrors().isEmpty() ) {
+			throw new HibernateException( String.valueOf( response.getErrors().get( 0 ) ) );
+		}
+	}
+
 	@Override
 	public Number nextValue(NextValueRequest request) {
 		return sequenceGenerator.nextValue( request );
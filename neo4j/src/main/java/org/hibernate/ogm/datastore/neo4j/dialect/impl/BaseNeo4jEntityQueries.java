@@ -12,6 +12,8 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -46,6 +48,7 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 
 	private final BoundedConcurrentHashMap<String, String> updateEmbeddedPropertyQueryCache;
 	private final BoundedConcurrentHashMap<String, String> findAssociationQueryCache;
+	private final BoundedConcurrentHashMap<String, String> findAssociationsQueryCache;
 	private final BoundedConcurrentHashMap<Integer, String> multiGetQueryCache;
 
 	private final String removeToOneAssociation;
@@ -53,6 +56,7 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	private final String findEntityQuery;
 	private final String findEntitiesQuery;
 	private final String findAssociationPartialQuery;
+	private final String findAssociationsPartialQuery;
 	private final String createEntityQuery;
 	private final String createEntityWithPropertiesQuery;
 	private final String updateEntityProperties;
@@ -67,9 +71,11 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext
 		this.entityKeyMetadata = entityKeyMetadata;
 		this.updateEmbeddedPropertyQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.findAssociationQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.findAssociationsQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.multiGetQueryCache = new BoundedConcurrentHashMap<Integer, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 
 		this.findAssociationPartialQuery = initMatchOwnerEntityNode( entityKeyMetadata );
+		this.findAssociationsPartialQuery = initMatchOwnerEntityNodes( entityKeyMetadata );
 		this.createEmbeddedNodeQuery = initCreateEmbeddedNodeQuery( entityKeyMetadata );
 		this.findEntityQuery = initFindEntityQuery( entityKeyMetadata );
 		this.findEntitiesQuery = initFindEntitiesQuery( entityKeyMetadata );
@@ -289,6 +295,33 @@ private static String initMatchOwnerEntityNode(EntityKeyMetadata ownerEntityKeyM
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Example:
+	 *
+	 * UNWIND range(0, size({0}) - 1) AS i WITH i, {0}[i] AS ownerKey
+	 * MATCH (owner:ENTITY:Car {`carId.maker`: ownerKey[0], `carId.model`: ownerKey[1]})
+	 */
+	private static String initMatchOwnerEntityNodes(EntityKeyMetadata ownerEntityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder();
+		queryBuilder.append( "UNWIND range(0, size({0}) - 1) AS i WITH i, {0}[i] AS ownerKey MATCH (owner:" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( ownerEntityKeyMetadata, queryBuilder );
+		String[] columnNames = ownerEntityKeyMetadata.getColumnNames();
+		queryBuilder.append( " {" );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			escapeIdentifier( queryBuilder, columnNames[i] );
+			queryBuilder.append( ": ownerKey[" );
+			queryBuilder.append( i );
+			queryBuilder.append( "]" );
+			if ( i < columnNames.length - 1 ) {
+				queryBuilder.append( ", " );
+			}
+		}
+		queryBuilder.append( "})" );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example:
 	 *
@@ -301,11 +334,24 @@ private static String initMatchOwnerEntityNode(EntityKeyMetadata ownerEntityKeyM
 	 * RETURN id(target), r, owner, target ORDER BY id(target)
 	 */
 	private String completeFindAssociationQuery(String relationshipType) {
-		StringBuilder queryBuilder = findAssociationPartialQuery( relationshipType );
+		StringBuilder queryBuilder = findAssociationPartialQuery( findAssociationPartialQuery, relationshipType );
 		queryBuilder.append( "RETURN id(target), r, owner, target ORDER BY id(target) " );
 		return queryBuilder.toString();
 	}
 
+	/*
+	 * Example:
+	 *
+	 * UNWIND range(0, size({0}) - 1) AS i WITH i, {0}[i] AS ownerKey
+	 * MATCH (owner:ENTITY:Car {`carId.maker`: ownerKey[0], `carId.model`: ownerKey[1]}) -[r:tires]- (target)
+	 * RETURN i, id(target), r, owner, target ORDER BY i, id(target)
+	 */
+	private String completeFindAssociationsQuery(String relationshipType) {
+		StringBuilder queryBuilder = findAssociationPartialQuery( findAssociationsPartialQuery, relationshipType );
+		queryBuilder.append( "RETURN i, id(target), r, owner, target ORDER BY i, id(target) " );
+		return queryBuilder.toString();
+	}
+
 	/*
 	 * Example:
 	 *
@@ -320,15 +366,30 @@ private String completeFindAssociationQuery(String relationshipType) {
 	 * RETURN id(target), extract(n IN x| type(n)), x, e ORDER BY id(target)
 	 */
 	protected String getFindAssociationTargetEmbeddedValues(String relationshipType) {
-		StringBuilder queryBuilder = findAssociationPartialQuery( relationshipType );
+		StringBuilder queryBuilder = findAssociationPartialQuery( findAssociationPartialQuery, relationshipType );
 		queryBuilder.append( "OPTIONAL MATCH (target) -[x*1..]->(e:EMBEDDED) " );
 		// Should we split this in two Queries?
 		queryBuilder.append( "RETURN id(target), extract(n IN x| type(n)), x, e ORDER BY id(target)" );
 		return queryBuilder.toString();
 	}
 
-	private StringBuilder findAssociationPartialQuery(String relationshipType) {
-		StringBuilder queryBuilder = new StringBuilder( findAssociationPartialQuery );
+	/*
+	 * Example:
+	 *
+	 * UNWIND range(0, size({0}) - 1) AS i WITH i, {0}[i] AS ownerKey
+	 * MATCH (owner:ENTITY:Car {`carId.maker`: ownerKey[0], `carId.model`: ownerKey[1]}) -[r:tires]- (target)
+	 * OPTIONAL MATCH (target) -[x*1..]->(e:EMBEDDED)
+	 * RETURN i, id(target), extract(n IN x| type(n)), x, e ORDER BY i, id(target)
+	 */
+	protected String getFindAssociationsTargetEmbeddedValues(String relationshipType) {
+		StringBuilder queryBuilder = findAssociationPartialQuery( findAssociationsPartialQuery, relationshipType );
+		queryBuilder.append( "OPTIONAL MATCH (target) -[x*1..]->(e:EMBEDDED) " );
+		queryBuilder.append( "RETURN i, id(target), extract(n IN x| type(n)), x, e ORDER BY i, id(target)" );
+		return queryBuilder.toString();
+	}
+
+	private StringBuilder findAssociationPartialQuery(String matchOwnerQuery, String relationshipType) {
+		StringBuilder queryBuilder = new StringBuilder( matchOwnerQuery );
 		if ( isPartOfEmbedded( relationshipType ) ) {
 			String[] path = split( relationshipType );
 			int index = 0;
@@ -521,6 +582,30 @@ public String getFindAssociationQuery(String role) {
 		return query;
 	}
 
+	/**
+	 * Returns the query finding the associations with the given role of several owners, the index of the owner in the
+	 * parameter created by {@link #findAssociationsParams(EntityKey[])} being returned in the column {@code i}.
+	 */
+	public String getFindAssociationsQuery(String role) {
+		String query = findAssociationsQueryCache.get( role );
+		if ( query == null ) {
+			query = completeFindAssociationsQuery( role );
+			String cached = findAssociationsQueryCache.putIfAbsent( role, query );
+			if ( cached != null ) {
+				query = cached;
+			}
+		}
+		return query;
+	}
+
+	protected Map<String, Object> findAssociationsParams(EntityKey[] ownerKeys) {
+		List<List<Object>> ownerKeyValues = new ArrayList<>( ownerKeys.length );
+		for ( EntityKey ownerKey : ownerKeys ) {
+			ownerKeyValues.add( Arrays.asList( ownerKey.getColumnValues() ) );
+		}
+		return Collections.<String, Object>singletonMap( "0", ownerKeyValues );
+	}
+
 	/*
 	 * When the id is mapped on several properties
 	 */
@@ -6,9 +6,16 @@
  */
 package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
 
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.EMBEDDED;
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.ENTITY;
 import static org.hibernate.ogm.datastore.neo4j.query.parsing.cypherdsl.impl.CypherDSL.escapeIdentifier;
+import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
+import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
+import static org.neo4j.graphdb.DynamicRelationshipType.withName;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
@@ -16,7 +23,10 @@
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.util.impl.ArrayHelper;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicLabel;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.graphdb.ResourceIterator;
@@ -26,17 +36,35 @@
  * Container for the queries related to one entity type in Neo4j. Unfortunately, we cannot use the same queries for all
  * entities, as Neo4j does not allow to parameterize on node labels which would be required, as the entity name is
  * stored as a label.
+ * <p>
+ * Unless disabled, entities and associations are looked up by key via the core API, i.e. using the index backing the
+ * unique constraint on the identifier and traversing the relationships of the owner node, which avoids the overhead of
+ * executing a Cypher query on the hottest paths of the dialect. Cypher is used if a key contains {@code null} values.
  *
  * @author Davide D'Alto
  */
 public class EmbeddedNeo4jEntityQueries extends BaseNeo4jEntityQueries {
 
+	private final Label label;
+
+	private final boolean nativeKeyLookups;
+
 	public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata) {
-		super( entityKeyMetadata, null );
+		this( entityKeyMetadata, null, true );
+	}
+
+	public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, boolean nativeKeyLookups) {
+		this( entityKeyMetadata, null, nativeKeyLookups );
 	}
 
 	public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext) {
+		this( entityKeyMetadata, tupleContext, true );
+	}
+
+	public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, boolean nativeKeyLookups) {
 		super( entityKeyMetadata, tupleContext );
+		this.label = DynamicLabel.label( entityKeyMetadata.getTable() );
+		this.nativeKeyLookups = nativeKeyLookups;
 	}
 
 	/**
@@ -45,16 +73,88 @@ public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleCont
 	 * @param executionEngine the queries executor
 	 * @param columnValues the values for the entity key column names of the owner node
 	 * @param role the relationship type mapping the role of the association
-	 * @return an iterator on the results
+	 * @return the relationships representing the association
 	 */
 	// We should move this in EmbeddedNeo4jAssociationQueries but, at the moment, having a query that only requires an
 	// EntityKeyMetadata make it easier
 	// to deal with the *ToOne scenario
-	public ResourceIterator<Relationship> findAssociation(GraphDatabaseService executionEngine, Object[] columnValues, String role) {
+	public List<Relationship> findAssociation(GraphDatabaseService executionEngine, Object[] columnValues, String role) {
+		if ( isNativeKeyLookup( columnValues ) ) {
+			Node owner = findEntityNode( executionEngine, columnValues );
+			if ( owner == null ) {
+				return Collections.emptyList();
+			}
+			return findAssociationRelationships( owner, role );
+		}
+
 		String query = getFindAssociationQuery( role );
 		Map<String, Object> params = params( columnValues );
-		executionEngine.execute( query, params );
-		return executionEngine.execute( query, params( columnValues ) ).columnAs( "r" );
+		ResourceIterator<Relationship> relationships = executionEngine.execute( query, params ).columnAs( "r" );
+		try {
+			List<Relationship> result = new ArrayList<Relationship>();
+			while ( relationships.hasNext() ) {
+				result.add( relationships.next() );
+			}
+			return result;
+		}
+		finally {
+			relationships.close();
+		}
+	}
+
+	/*
+	 * Same as:
+	 *
+	 * (owner) -[r:role]- (target)
+	 *
+	 * or for embedded associations:
+	 *
+	 * (owner) -[:evilBranch]-> (:EMBEDDED) -[r:additionalEndings]-> (target:EMBEDDED)
+	 */
+	private static List<Relationship> findAssociationRelationships(Node owner, String role) {
+		List<Relationship> relationships = new ArrayList<Relationship>();
+		if ( isPartOfEmbedded( role ) ) {
+			String[] path = split( role );
+			List<Node> nodes = Collections.singletonList( owner );
+			for ( int i = 0; i < path.length - 1; i++ ) {
+				List<Node> embeddedNodes = new ArrayList<Node>();
+				for ( Node node : nodes ) {
+					for ( Relationship relationship : node.getRelationships( Direction.OUTGOING, withName( path[i] ) ) ) {
+						if ( relationship.getEndNode().hasLabel( EMBEDDED ) ) {
+							embeddedNodes.add( relationship.getEndNode() );
+						}
+					}
+				}
+				nodes = embeddedNodes;
+			}
+			for ( Node node : nodes ) {
+				for ( Relationship relationship : node.getRelationships( Direction.OUTGOING, withName( path[path.length - 1] ) ) ) {
+					if ( relationship.getEndNode().hasLabel( EMBEDDED ) ) {
+						relationships.add( relationship );
+					}
+				}
+			}
+		}
+		else {
+			for ( Relationship relationship : owner.getRelationships( Direction.BOTH, withName( role ) ) ) {
+				relationships.add( relationship );
+			}
+		}
+		return relationships;
+	}
+
+	/**
+	 * Find the relationships representing the associations of several owners.
+	 *
+	 * @param executionEngine the queries executor
+	 * @param ownerKeys the keys of the owner nodes
+	 * @param role the relationship type mapping the role of the association
+	 * @return the result of the query; the column {@code i} is the index of the owner key of the relationship in the
+	 * column {@code r}
+	 */
+	public Result findAssociations(GraphDatabaseService executionEngine, EntityKey[] ownerKeys, String role) {
+		String query = getFindAssociationsQuery( role );
+		return executionEngine.execute( query, findAssociationsParams( ownerKeys ) );
 	}
 
 	/**
@@ -78,25 +178,96 @@ public Node createEmbedded(GraphDatabaseService executionEngine, Object[] column
 	 * @return the corresponding node
 	 */
 	public Node findEntity(GraphDatabaseService executionEngine, Object[] columnValues) {
+		if ( isNativeKeyLookup( columnValues ) ) {
+			return findEntityNode( executionEngine, columnValues );
+		}
+
 		Map<String, Object> params = params( columnValues );
 		Result result = executionEngine.execute( getFindEntityQuery(), params );
 		return singleResult( result );
 	}
 
+	/*
+	 * Same as MATCH (owner:ENTITY:table {id: {0}}) RETURN owner, using the index backing the unique constraint on the
+	 * first key column if present. The other columns of a composite id are compared with the properties of the nodes.
+	 */
+	private Node findEntityNode(GraphDatabaseService executionEngine, Object[] columnValues) {
+		ResourceIterator<Node> nodes = executionEngine.findNodes( label, keyColumns[0], columnValues[0] );
+		try {
+			while ( nodes.hasNext() ) {
+				Node node = nodes.next();
+				if ( node.hasLabel( ENTITY ) && matches( node, keyColumns, columnValues ) ) {
+					return node;
+				}
+			}
+			return null;
+		}
+		finally {
+			nodes.close();
+		}
+	}
+
+	private boolean isNativeKeyLookup(Object[] columnValues) {
+		if ( !nativeKeyLookups ) {
+			return false;
+		}
+		for ( Object columnValue : columnValues ) {
+			if ( columnValue == null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Find the nodes corresponding to an array of entity keys.
 	 *
 	 * @param executionEngine the {@link GraphDatabaseService} used to run the query
 	 * @param keys an array of keys identifying the nodes to return
-	 * @return the list of nodes representing the entities
+	 * @return the nodes representing the entities, in the order of the keys; {@code null} for the keys without a
+	 * matching node
 	 */
-	public ResourceIterator<Node> findEntities(GraphDatabaseService executionEngine, EntityKey[] keys) {
-		if ( singlePropertyKey ) {
-			return singlePropertyIdFindEntities( executionEngine, keys );
+	public Node[] findEntities(GraphDatabaseService executionEngine, EntityKey[] keys) {
+		Node[] nodes = new Node[keys.length];
+		if ( nativeKeyLookups ) {
+			for ( int i = 0; i < keys.length; i++ ) {
+				nodes[i] = findEntity( executionEngine, keys[i].getColumnValues() );
+			}
+			return nodes;
 		}
-		else {
-			return multiPropertiesIdFindEntities( executionEngine, keys );
+
+		// The result returned by the query might not be in the same order as the keys.
+		ResourceIterator<Node> result = singlePropertyKey
+				? singlePropertyIdFindEntities( executionEngine, keys )
+				: multiPropertiesIdFindEntities( executionEngine, keys );
+		try {
+			while ( result.hasNext() ) {
+				Node node = result.next();
+				for ( int i = 0; i < keys.length; i++ ) {
+					if ( matches( node, keys[i].getColumnNames(), keys[i].getColumnValues() ) ) {
+						nodes[i] = node;
+						// We assume there are no duplicated keys
+						break;
+					}
+				}
+			}
+			return nodes;
+		}
+		finally {
+			result.close();
+		}
+	}
+
+	private static boolean matches(Node node, String[] properties, Object[] values) {
+		for ( int i = 0; i < properties.length; i++ ) {
+			if ( node.hasProperty( properties[i] ) && !node.getProperty( properties[i] ).equals( values[i] ) ) {
+				return false;
+			}
+			else if ( !node.hasProperty( properties[i] ) && values[i] != null ) {
+				return false;
+			}
 		}
+		return true;
 	}
 
 	/*
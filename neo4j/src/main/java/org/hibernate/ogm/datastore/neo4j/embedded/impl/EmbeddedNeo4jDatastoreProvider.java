@@ -50,6 +50,8 @@ public class EmbeddedNeo4jDatastoreProvider extends BaseDatastoreProvider implem
 
 	private Integer sequenceCacheMaxSize;
 
+	private boolean nativeKeyLookups;
+
 	@Override
 	public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.registry = serviceRegistry;
@@ -67,6 +69,10 @@ public void configure(Map cfg) {
 			.property( Neo4jProperties.SEQUENCE_QUERY_CACHE_MAX_SIZE, int.class )
 			.withDefault( DEFAULT_SEQUENCE_QUERY_CACHE_MAX_SIZE )
 			.getValue();
+		nativeKeyLookups = new ConfigurationPropertyReader( cfg )
+			.property( Neo4jProperties.NATIVE_KEY_LOOKUPS, boolean.class )
+			.withDefault( true )
+			.getValue();
 	}
 
 	@Override
@@ -96,6 +102,14 @@ public GraphDatabaseService getDatabase() {
 		return neo4jDb;
 	}
 
+	/**
+	 * @see Neo4jProperties#NATIVE_KEY_LOOKUPS
+	 * @return whether entities and associations are looked up by key via the core API rather than Cypher
+	 */
+	public boolean isNativeKeyLookups() {
+		return nativeKeyLookups;
+	}
+
 	public EmbeddedNeo4jSequenceGenerator getSequenceGenerator() {
 		return this.sequenceGenerator;
 	}
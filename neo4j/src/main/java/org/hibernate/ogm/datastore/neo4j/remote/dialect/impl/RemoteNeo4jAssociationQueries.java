@@ -17,6 +17,7 @@
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph.Relationship;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Row;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statement;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
@@ -36,8 +37,8 @@ public RemoteNeo4jAssociationQueries(EntityKeyMetadata ownerEntityKeyMetadata, A
 		super( ownerEntityKeyMetadata, associationKeyMetadata );
 	}
 
-	public void removeAssociation(RemoteNeo4jClient dataBase, Long txId, AssociationKey associationKey) {
-		executeQuery( dataBase, txId, removeAssociationQuery, params( associationKey.getEntityKey().getColumnValues() ) );
+	public Statement getRemoveAssociationStatement(AssociationKey associationKey) {
+		return new Statement( removeAssociationQuery, params( associationKey.getEntityKey().getColumnValues() ) );
 	}
 
 	public Relationship findRelationship(RemoteNeo4jClient dataBase, Long txId, AssociationKey associationKey, RowKey rowKey) {
@@ -52,26 +53,21 @@ public Relationship findRelationship(RemoteNeo4jClient dataBase, Long txId, Asso
 		return null;
 	}
 
-	public Relationship createRelationshipForEmbeddedAssociation(RemoteNeo4jClient executionEngine, Long txId, AssociationKey associationKey, EntityKey embeddedKey,
-			Object[] relationshipProperties) {
+	public Statement getCreateRelationshipForEmbeddedAssociationStatement(AssociationKey associationKey, EntityKey embeddedKey, Object[] relationshipProperties) {
 		String query = initCreateEmbeddedAssociationQuery( associationKey, embeddedKey );
 		Object[] queryValues = createRelationshipForEmbeddedQueryValues( associationKey, embeddedKey, relationshipProperties );
-		Map<String, Object> params = params( queryValues );
-		Graph result = executeQuery( executionEngine, txId, query, params );
-		return result.getRelationships().get( 0 );
+		return new Statement( query, params( queryValues ) );
 	}
 
-	public Relationship createRelationship(RemoteNeo4jClient dataBase, Long txId, Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
+	public Statement getCreateRelationshipStatement(Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
 		Object[] concat = ArrayHelper.concat( Arrays.asList( ownerKeyValues, targetKeyValues, relationshipProperties ) );
-		Map<String, Object> params = params( concat );
-		Graph result = executeQuery( dataBase, txId, createRelationshipQuery, params );
-		return result.getRelationships().get( 0 );
+		return new Statement( createRelationshipQuery, params( concat ) );
 	}
 
-	public void removeAssociationRow(RemoteNeo4jClient database, Long txId, AssociationKey associationKey, RowKey rowKey) {
+	public Statement getRemoveAssociationRowStatement(AssociationKey associationKey, RowKey rowKey) {
 		Object[] relationshipValues = relationshipValues( associationKey, rowKey );
 		Object[] queryValues = ArrayHelper.concat( associationKey.getEntityKey().getColumnValues(), relationshipValues );
-		executeQuery( database, txId, removeAssociationRowQuery, params( queryValues ) );
+		return new Statement( removeAssociationRowQuery, params( queryValues ) );
 	}
 
 	private static Graph executeQuery(RemoteNeo4jClient executionEngine, Long txId, String query, Map<String, Object> properties) {
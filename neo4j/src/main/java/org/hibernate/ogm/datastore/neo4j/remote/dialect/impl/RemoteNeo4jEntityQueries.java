@@ -97,8 +97,8 @@ public Statement getUpdateEntityPropertiesStatement(Object[] columnvalues, Map<S
 		return new Statement( query, params( paramsValues ) );
 	}
 
-	public void removeEntity(RemoteNeo4jClient executionEngine, Long txId, Object[] columnValues) {
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveEntityQuery(), params( columnValues ) );
+	public Statement getRemoveEntityStatement(Object[] columnValues) {
+		return new Statement( getRemoveEntityQuery(), params( columnValues ) );
 	}
 
 	public ClosableIterator<Node> findEntities(RemoteNeo4jClient executionEngine, Long txId) {
@@ -270,7 +270,7 @@ public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Rem
 					Row row = embeddedNodes.get( embeddedNodesIndex );
 					String embeddedOwnerId = row.getRow().get( 0 ).toString();
 					if ( embeddedOwnerId.equals( idTarget ) ) {
-						addTargetEmbeddedProperties( targetNode, row );
+						addTargetEmbeddedProperties( targetNode, row, 0 );
 						embeddedNodesIndex++;
 					}
 					else {
@@ -288,11 +288,65 @@ public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Rem
 		return EMPTY_RELATIONSHIPS;
 	}
 
+	/**
+	 * Find the associations of several owners with a single request.
+	 *
+	 * @param executionEngine the client executing the queries
+	 * @param txId the id of the current transaction, if any
+	 * @param ownerKeys the keys of the owner nodes
+	 * @param role the relationship type mapping the role of the association
+	 * @return for each owner key, at the same position, the rows representing the association
+	 */
+	@SuppressWarnings("unchecked")
+	public List<List<RemoteNeo4jAssociationPropertiesRow>> findAssociations(RemoteNeo4jClient executionEngine, Long txId, EntityKey[] ownerKeys, String role) {
+		List<List<RemoteNeo4jAssociationPropertiesRow>> rowsPerOwner = new ArrayList<>( ownerKeys.length );
+		for ( int i = 0; i < ownerKeys.length; i++ ) {
+			rowsPerOwner.add( new ArrayList<RemoteNeo4jAssociationPropertiesRow>() );
+		}
+
+		Map<String, Object> params = findAssociationsParams( ownerKeys );
+		Statements statements = new Statements();
+		statements.addStatement( getFindAssociationsQuery( role ), params, Statement.AS_ROW );
+		statements.addStatement( getFindAssociationsTargetEmbeddedValues( role ), params, Statement.AS_ROW );
+		List<StatementResult> response = executeQuery( executionEngine, txId, statements );
+
+		if ( response != null ) {
+			List<Row> data = response.get( 0 ).getData();
+			List<Row> embeddedNodes = response.get( 1 ).getData();
+			int embeddedNodesIndex = 0;
+			for ( Row dataRow : data ) {
+				int ownerIndex = ( (Number) dataRow.getRow().get( 0 ) ).intValue();
+				String idTarget = String.valueOf( dataRow.getRow().get( 1 ) );
+
+				// Read the properties of the owner, the target and the relationship that joins them
+				Map<String, Object> rel = (Map<String, Object>) dataRow.getRow().get( 2 );
+				Map<String, Object> ownerNode = (Map<String, Object>) dataRow.getRow().get( 3 );
+				Map<String, Object> targetNode = (Map<String, Object>) dataRow.getRow().get( 4 );
+
+				// Read the embedded column and add them to the target node, both results are sorted the same way
+				while ( embeddedNodesIndex < embeddedNodes.size() ) {
+					Row row = embeddedNodes.get( embeddedNodesIndex );
+					int embeddedOwnerIndex = ( (Number) row.getRow().get( 0 ) ).intValue();
+					String embeddedOwnerId = row.getRow().get( 1 ).toString();
+					if ( embeddedOwnerIndex == ownerIndex && embeddedOwnerId.equals( idTarget ) ) {
+						addTargetEmbeddedProperties( targetNode, row, 1 );
+						embeddedNodesIndex++;
+					}
+					else {
+						break;
+					}
+				}
+				rowsPerOwner.get( ownerIndex ).add( new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode ) );
+			}
+		}
+		return rowsPerOwner;
+	}
+
 	@SuppressWarnings("unchecked")
-	private void addTargetEmbeddedProperties(Map<String, Object> targetNode, Row row) {
-		List<String> pathToNode = (List<String>) row.getRow().get( 1 );
+	private void addTargetEmbeddedProperties(Map<String, Object> targetNode, Row row, int offset) {
+		List<String> pathToNode = (List<String>) row.getRow().get( offset + 1 );
 		if ( pathToNode != null ) {
-			Map<String, Object> embeddedNodeProperties = (Map<String, Object>) row.getRow().get( 3 );
+			Map<String, Object> embeddedNodeProperties = (Map<String, Object>) row.getRow().get( offset + 3 );
 			String path = concat( pathToNode );
 			for ( Map.Entry<String, Object> entry : embeddedNodeProperties.entrySet() ) {
 				targetNode.put( path + "." + entry.getKey(), entry.getValue() );
@@ -317,9 +371,9 @@ public Node findEmbeddedNode(RemoteNeo4jClient neo4jClient, Long txId, Object[]
 		return result.getNodes().get( 0 );
 	}
 
-	public void removeToOneAssociation(RemoteNeo4jClient executionEngine, Long txId, Object[] columnValues, String associationRole) {
+	public Statement getRemoveToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveToOneAssociation(), params );
+		return new Statement( getRemoveToOneAssociation(), params );
 	}
 
 	private static class ClosableIteratorAdapter<T> implements ClosableIterator<T> {
@@ -16,6 +16,7 @@
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
 import org.hibernate.ogm.datastore.neo4j.remote.transaction.impl.RemoteNeo4jTransaction;
+import org.hibernate.ogm.stat.ConnectionPoolStatistics;
 import org.jboss.resteasy.client.jaxrs.BasicAuthentication;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
 import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
@@ -27,11 +28,6 @@
  */
 public class RemoteNeo4jClient implements AutoCloseable {
 
-	/**
-	 * Size of the client connection pool used by the RestEasy HTTP client
-	 */
-	private static final int CONNECTION_POOL_SIZE = 10;
-
 	/**
 	 * Client for accessing the server
 	 */
@@ -41,8 +37,11 @@ public class RemoteNeo4jClient implements AutoCloseable {
 
 	private final RemoteNeo4jTransactionFacade neo4jFacade;
 
+	private final ConnectionPoolStatistics connectionPoolStatistics;
+
 	public RemoteNeo4jClient(RemoteNeo4jDatabaseIdentifier database, RemoteNeo4jConfiguration configuration) {
 		this.client = createRestClient( database, configuration );
+		this.connectionPoolStatistics = new HttpConnectionPoolStatistics( client );
 		this.authenticationClient = client.target( database.getServerUri() ).proxy( RemoteNeo4jAuthenticationFacade.class );
 		this.neo4jFacade = client.target( database.getDatabaseUri() ).proxy( RemoteNeo4jTransactionFacade.class );
 	}
@@ -73,7 +72,19 @@ private static ResteasyClient createRestClient(RemoteNeo4jDatabaseIdentifier dat
 		clientBuilder.register( XStreamRequestHeaderFilter.INSTANCE );
 
 		// using a connection pool size > 1 causes a thread-safe pool implementation to be used under the hoods
-		return clientBuilder.connectionPoolSize( CONNECTION_POOL_SIZE ).build();
+		return clientBuilder
+				.connectionPoolSize( configuration.getConnectionPoolSize() )
+				.maxPooledPerRoute( configuration.getMaxConnectionsPerRoute() )
+				.build();
+	}
+
+	/**
+	 * Returns a live view on the HTTP connection pool of the client.
+	 *
+	 * @return the statistics of the connection pool
+	 */
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return connectionPoolStatistics;
 	}
 
 	public Response authenticate(String username) {
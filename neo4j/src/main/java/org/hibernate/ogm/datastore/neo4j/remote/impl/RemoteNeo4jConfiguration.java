@@ -29,15 +29,22 @@ public class RemoteNeo4jConfiguration {
 
 	private static final String DEFAULT_DB = "db/data";
 
+	private static final int DEFAULT_MAX_STATEMENTS_PER_REQUEST = 500;
+
+	private static final int DEFAULT_CONNECTION_POOL_SIZE = 10;
+
 	private final Hosts hosts;
 	private final String databaseName;
 	private final String username;
 	private final String password;
 	private final boolean createDatabase;
+	private final int connectionPoolSize;
+	private final int maxConnectionsPerRoute;
 	private final Long socketTimeout;
 	private final Long establishConnectionTimeout;
 	private final Long connectionCheckoutTimeout;
 	private final Long connectionTTL;
+	private final int maxStatementsPerRequest;
 
 	public RemoteNeo4jConfiguration(ConfigurationPropertyReader propertyReader) {
 		String host = propertyReader.property( OgmProperties.HOST, String.class )
@@ -57,10 +64,19 @@ public RemoteNeo4jConfiguration(ConfigurationPropertyReader propertyReader) {
 
 		this.username = propertyReader.property( OgmProperties.USERNAME, String.class ).getValue();
 		this.password = propertyReader.property( OgmProperties.PASSWORD, String.class ).getValue();
+		this.connectionPoolSize = propertyReader.property( Neo4jProperties.CONNECTION_POOL_SIZE, int.class )
+				.withDefault( DEFAULT_CONNECTION_POOL_SIZE )
+				.getValue();
+		this.maxConnectionsPerRoute = propertyReader.property( Neo4jProperties.MAX_CONNECTIONS_PER_ROUTE, int.class )
+				.withDefault( connectionPoolSize )
+				.getValue();
 		this.socketTimeout = propertyReader.property( Neo4jProperties.SOCKET_TIMEOUT, Long.class ).getValue();
 		this.establishConnectionTimeout = propertyReader.property( Neo4jProperties.ESTABLISH_CONNECTION_TIMEOUT, Long.class ).getValue();
 		this.connectionCheckoutTimeout = propertyReader.property( Neo4jProperties.CONNECTION_CHECKOUT_TIMEOUT, Long.class ).getValue();
 		this.connectionTTL = propertyReader.property( Neo4jProperties.CONNECTION_TTL, Long.class ).getValue();
+		this.maxStatementsPerRequest = propertyReader.property( Neo4jProperties.MAX_STATEMENTS_PER_REQUEST, int.class )
+				.withDefault( DEFAULT_MAX_STATEMENTS_PER_REQUEST )
+				.getValue();
 
 		this.createDatabase = propertyReader.property( OgmProperties.CREATE_DATABASE, boolean.class )
 				.withDefault( false )
@@ -108,6 +124,22 @@ public boolean isCreateDatabase() {
 		return createDatabase;
 	}
 
+	/**
+	 * @see Neo4jProperties#CONNECTION_POOL_SIZE
+	 * @return the maximum number of HTTP connections to the server
+	 */
+	public int getConnectionPoolSize() {
+		return connectionPoolSize;
+	}
+
+	/**
+	 * @see Neo4jProperties#MAX_CONNECTIONS_PER_ROUTE
+	 * @return the maximum number of HTTP connections per target host
+	 */
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
 	/**
 	 * @see Neo4jProperties#SOCKET_TIMEOUT
 	 * return Socket inactivity timeout in milliseconds
@@ -139,4 +171,12 @@ public Long getConnectionTTL() {
 	public Long getEstablishConnectionTimeout() {
 		return establishConnectionTimeout;
 	}
+
+	/**
+	 * @see Neo4jProperties#MAX_STATEMENTS_PER_REQUEST
+	 * @return the maximum number of statements sent within a single request when executing a batch
+	 */
+	public int getMaxStatementsPerRequest() {
+		return maxStatementsPerRequest;
+	}
 }
@@ -8,6 +8,8 @@
 
 import java.util.Map;
 
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
 import javax.ws.rs.core.Response;
 
 import org.hibernate.HibernateException;
@@ -23,9 +25,11 @@
 import org.hibernate.ogm.datastore.spi.SchemaDefiner;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.query.spi.QueryParserService;
+import org.hibernate.ogm.stat.ConnectionPoolStatistics;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.resource.transaction.TransactionCoordinatorBuilder;
 import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Manageable;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Startable;
@@ -34,7 +38,7 @@
 /**
  * @author Davide D'Alto
  */
-public class RemoteNeo4jDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable, Configurable, ServiceRegistryAwareService {
+public class RemoteNeo4jDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable, Configurable, ServiceRegistryAwareService, Manageable {
 
 	private static final int OK = 200;
 
@@ -121,11 +125,44 @@ public boolean allowsTransactionEmulation() {
 		return true;
 	}
 
+	public RemoteNeo4jConfiguration getConfiguration() {
+		return configuration;
+	}
+
 	// Note that it's called getDatabase() for consistency with the other Neo4j provider
 	public RemoteNeo4jClient getDatabase() {
 		return remoteNeo4j;
 	}
 
+	/**
+	 * Provides the statistics of the HTTP connection pool used to access the remote server
+	 *
+	 * @return a live view on the connection pool
+	 */
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return remoteNeo4j.getConnectionPoolStatistics();
+	}
+
+	@Override
+	public String getManagementDomain() {
+		return null;
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		return ConnectionPoolStatistics.class.getName();
+	}
+
+	@Override
+	public Object getManagementBean() {
+		try {
+			return new StandardMBean( getConnectionPoolStatistics(), ConnectionPoolStatistics.class, true );
+		}
+		catch (NotCompliantMBeanException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
 	private RemoteNeo4jDatabaseIdentifier getDatabaseIdentifier() {
 		if ( !configuration.getHosts().isSingleHost() ) {
 			logger.doesNotSupportMultipleHosts( configuration.getHosts().toString() );
@@ -6,18 +6,25 @@
  */
 package org.hibernate.ogm.datastore.neo4j.test.query;
 
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jEntityQueries;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.junit.Test;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.ResourceIterator;
 import org.neo4j.graphdb.Result;
 
 /**
@@ -88,6 +95,53 @@ public void testUpdateNestedEmbeddedColumnQuery() throws Exception {
 		verify( executionEngine ).execute( eq( expected ), anyMap() );
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFindEntityWithCompositeIdUsesCoreApi() throws Exception {
+		Node embedded = node( false, "Davide", "D'Alto" );
+		Node otherEntity = node( true, "Davide", "Rossi" );
+		Node entity = node( true, "Davide", "D'Alto" );
+
+		ResourceIterator<Node> nodes = mock( ResourceIterator.class );
+		when( nodes.hasNext() ).thenReturn( true, true, true, false );
+		when( nodes.next() ).thenReturn( embedded, otherEntity, entity );
+
+		GraphDatabaseService executionEngine = createExecutionEngine();
+		when( executionEngine.findNodes( any( Label.class ), eq( "id.name" ), eq( "Davide" ) ) ).thenReturn( nodes );
+
+		EntityKeyMetadata metadata = metadata( "Example", "id.name", "id.surname" );
+		EmbeddedNeo4jEntityQueries entityQueries = new EmbeddedNeo4jEntityQueries( metadata );
+		Node found = entityQueries.findEntity( executionEngine, new String[] { "Davide", "D'Alto" } );
+
+		assertThat( found ).isSameAs( entity );
+		verify( nodes ).close();
+		verify( executionEngine, never() ).execute( anyString(), anyMap() );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFindEntityWithCypherLookups() throws Exception {
+		String expected = "MATCH (owner:ENTITY:Example {id: {0}}) RETURN owner";
+
+		EntityKeyMetadata metadata = metadata( "Example", "id" );
+		GraphDatabaseService executionEngine = createExecutionEngine();
+		EmbeddedNeo4jEntityQueries entityQueries = new EmbeddedNeo4jEntityQueries( metadata, false );
+		entityQueries.findEntity( executionEngine, new Object[] { 1L } );
+
+		verify( executionEngine ).execute( eq( expected ), anyMap() );
+		verify( executionEngine, never() ).findNodes( any( Label.class ), anyString(), any() );
+	}
+
+	private Node node(boolean entity, String name, String surname) {
+		Node node = mock( Node.class );
+		when( node.hasLabel( NodeLabel.ENTITY ) ).thenReturn( entity );
+		when( node.hasProperty( "id.name" ) ).thenReturn( true );
+		when( node.getProperty( "id.name" ) ).thenReturn( name );
+		when( node.hasProperty( "id.surname" ) ).thenReturn( true );
+		when( node.getProperty( "id.surname" ) ).thenReturn( surname );
+		return node;
+	}
+
 	private EntityKeyMetadata metadata(String tableName, String... columnNames) {
 		EntityKeyMetadata metadata = new DefaultEntityKeyMetadata( tableName, columnNames );
 		return metadata;
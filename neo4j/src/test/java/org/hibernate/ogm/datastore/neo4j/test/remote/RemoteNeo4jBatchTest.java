@@ -0,0 +1,127 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.RemoteNeo4jDialect;
+import org.hibernate.ogm.datastore.neo4j.remote.impl.RemoteNeo4jDatastoreProvider;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.utils.GridDialectType;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByGridDialect;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test that the operations queued during a flush are executed in batches by the remote dialect.
+ */
+@SkipByGridDialect(value = { GridDialectType.NEO4J }, comment = "Only the remote dialect batches operations")
+public class RemoteNeo4jBatchTest extends OgmTestCase {
+
+	@Test
+	public void testInsertsAreBatched() throws Exception {
+		int numInsert = 5;
+
+		Session session = openSession();
+		session.beginTransaction();
+		for ( int i = 0; i < numInsert; i++ ) {
+			session.persist( helicopter( "H_" + i ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+
+		assertThat( LeakingRemoteNeo4jDialect.queueSize ).isEqualTo( numInsert );
+		assertThat( helicopterNames() ).containsOnly( "H_0", "H_1", "H_2", "H_3", "H_4" );
+	}
+
+	@Test
+	public void testInsertsAndDeletesOfTheSameEntitiesAreExecutedInOrder() throws Exception {
+		int numInsert = 3;
+
+		Session session = openSession();
+		session.beginTransaction();
+		List<Helicopter> helicopters = new ArrayList<Helicopter>();
+		for ( int i = 0; i < numInsert; i++ ) {
+			Helicopter helicopter = helicopter( "H_" + i );
+			session.persist( helicopter );
+			helicopters.add( helicopter );
+		}
+		session.delete( helicopters.get( 0 ) );
+		helicopters.get( 1 ).setName( "H_updated" );
+		session.getTransaction().commit();
+		session.close();
+
+		assertThat( LeakingRemoteNeo4jDialect.queueSize ).isEqualTo( numInsert + 2 );
+		assertThat( helicopterNames() ).containsOnly( "H_updated", "H_2" );
+	}
+
+	@After
+	public void clean() {
+		Session session = openSession();
+		session.beginTransaction();
+		List<?> helicopters = session.createQuery( "FROM Helicopter" ).list();
+		for ( Object helicopter : helicopters ) {
+			session.delete( helicopter );
+		}
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private List<String> helicopterNames() {
+		Session session = openSession();
+		session.beginTransaction();
+		List<String> names = new ArrayList<String>();
+		for ( Object helicopter : session.createQuery( "FROM Helicopter" ).list() ) {
+			names.add( ( (Helicopter) helicopter ).getName() );
+		}
+		session.getTransaction().commit();
+		session.close();
+		return names;
+	}
+
+	private Helicopter helicopter(String name) {
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( name );
+		return helicopter;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class };
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.GRID_DIALECT, LeakingRemoteNeo4jDialect.class );
+		// Force the batched operations to be split into several requests
+		settings.put( Neo4jProperties.MAX_STATEMENTS_PER_REQUEST, 2 );
+	}
+
+	public static class LeakingRemoteNeo4jDialect extends RemoteNeo4jDialect {
+
+		static volatile int queueSize = 0;
+
+		public LeakingRemoteNeo4jDialect(RemoteNeo4jDatastoreProvider provider) {
+			super( provider );
+		}
+
+		@Override
+		public void executeBatch(OperationsQueue queue) {
+			queueSize = queue.size();
+			super.executeBatch( queue );
+		}
+	}
+}
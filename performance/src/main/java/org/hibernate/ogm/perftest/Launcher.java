@@ -6,7 +6,9 @@
  */
 package org.hibernate.ogm.perftest;
 
+import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
@@ -18,8 +20,13 @@
  * <li>Generate the JMH benchmark classes by running {@code mvn compile -pl performance} from the root dir</li>
  * <li>Adapt the settings in {@code persistence.xml} and/or {@code native-settings.properties} as per your environment
  * (both under {@code src/main/resources)}
- * <li>(optional:) Adapt the includes below to run a sub-set of all benchmarks
+ * <li>(optional:) Run a sub-set of all benchmarks by passing a regular expression, e.g.
+ * {@code -DbenchmarkIncludes=".*local.*"} runs the benchmarks which don't require an external datastore server</li>
+ * <li>(optional:) Restrict the datastores used by the local benchmarks, e.g. {@code -DbenchmarkDatastores=map,fongo}</li>
  * </ul>
+ * <p>
+ * The results are written in JSON format to the file given via {@code -DbenchmarkResultFile}, {@code jmh-result.json}
+ * by default, allowing to compare them between releases.
  * Refer to the <a href="http://openjdk.java.net/projects/code-tools/jmh/">JMH documentation</a> to learn more about the
  * Java Micro-benchmark Harness in general.
  *
@@ -38,6 +45,12 @@ public class Launcher {
 	 */
 	private static final String BENCHMARK_VM_ARGS_KEY = "benchmarkVmArgs";
 
+	private static final String BENCHMARK_INCLUDES_KEY = "benchmarkIncludes";
+
+	private static final String BENCHMARK_DATASTORES_KEY = "benchmarkDatastores";
+
+	private static final String BENCHMARK_RESULT_FILE_KEY = "benchmarkResultFile";
+
 	public static void main(String... args) throws Exception {
 		String benchmarkArgsString = System.getProperty( BENCHMARK_VM_ARGS_KEY );
 		String[] benchMarkArgs;
@@ -49,14 +62,22 @@ public static void main(String... args) throws Exception {
 			benchMarkArgs = new String[0];
 		}
 
-		Options opts = new OptionsBuilder()
-			.include( ".*" )
+		ChainedOptionsBuilder builder = new OptionsBuilder()
+			.include( System.getProperty( BENCHMARK_INCLUDES_KEY, ".*" ) )
 			.warmupIterations( 20 )
 			.measurementIterations( 20 )
 			.jvmArgs( "-server" )
 			.jvmArgsAppend( benchMarkArgs )
 			.forks( 1 )
-			.build();
+			.resultFormat( ResultFormatType.JSON )
+			.result( System.getProperty( BENCHMARK_RESULT_FILE_KEY, "jmh-result.json" ) );
+
+		String datastores = System.getProperty( BENCHMARK_DATASTORES_KEY );
+		if ( datastores != null ) {
+			builder.param( "datastore", datastores.split( "\\s*,\\s*" ) );
+		}
+
+		Options opts = builder.build();
 
 		new Runner(opts).run();
 	}
@@ -0,0 +1,219 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.local;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.jpa.HibernateEntityManagerFactory;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.hibernate.ogm.perftest.model.FieldOfScience;
+import org.hibernate.ogm.perftest.model.ResearchPaper;
+import org.hibernate.ogm.perftest.model.ScientistWithSequence;
+import org.hibernate.search.jpa.Search;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Context object controlling the {@link EntityManagerFactory} lifecycle for the benchmarks running against datastores
+ * which don't require an external server.
+ * <p>
+ * Each benchmark is executed once per datastore given via {@link #datastore}; the datastore is populated with the test
+ * data and indexed before the benchmark starts. {@code neo4j_embedded_cypher} is the embedded Neo4j datastore with the
+ * lookups by key done via Cypher queries instead of the core API, allowing to compare both.
+ */
+@State(Scope.Benchmark)
+public class LocalDatastoreHolder {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	public static final int NUMBER_OF_SCIENTISTS = 1000;
+
+	public static final int NUMBER_OF_FIELDS_OF_SCIENCE = 100;
+
+	public static final int FIELDS_OF_SCIENCE_PER_SCIENTIST = 10;
+
+	/**
+	 * Not referring to the constants of the backend modules, as Ehcache, Infinispan and Neo4j are not on the class path
+	 * when building on JDK 9.
+	 */
+	private static final String INFINISPAN_CONFIGURATION_RESOURCE_NAME = "hibernate.ogm.infinispan.configuration_resource_name";
+	private static final String NEO4J_DATABASE_PATH = "hibernate.ogm.neo4j.database_path";
+	private static final String NEO4J_NATIVE_KEY_LOOKUPS = "hibernate.ogm.neo4j.native_key_lookups";
+
+	private static final String NEO4J_EMBEDDED_CYPHER = "neo4j_embedded_cypher";
+
+	@Param({ "map", "fongo", "infinispan", "ehcache", "neo4j_embedded", NEO4J_EMBEDDED_CYPHER })
+	String datastore;
+
+	EntityManagerFactory entityManagerFactory;
+	TransactionManager transactionManager;
+	Random rand;
+
+	long[] authorIds;
+	long[] scientistIds;
+
+	private File neo4jDirectory;
+
+	@Setup
+	public void setupEntityManagerFactory() throws Exception {
+		Map<String, Object> settings = new HashMap<String, Object>();
+		settings.put( OgmProperties.DATASTORE_PROVIDER, datastore );
+
+		if ( "infinispan".equals( datastore ) ) {
+			settings.put( INFINISPAN_CONFIGURATION_RESOURCE_NAME, "perftest-infinispan-local.xml" );
+		}
+		else if ( "neo4j_embedded".equals( datastore ) || NEO4J_EMBEDDED_CYPHER.equals( datastore ) ) {
+			neo4jDirectory = Files.createTempDirectory( "ogm-perftest-neo4j" ).toFile();
+			settings.put( NEO4J_DATABASE_PATH, neo4jDirectory.getAbsolutePath() );
+
+			if ( NEO4J_EMBEDDED_CYPHER.equals( datastore ) ) {
+				settings.put( OgmProperties.DATASTORE_PROVIDER, "neo4j_embedded" );
+				settings.put( NEO4J_NATIVE_KEY_LOOKUPS, false );
+			}
+		}
+
+		entityManagerFactory = Persistence.createEntityManagerFactory( "localPerfTestPu", settings );
+		transactionManager = extractJBossTransactionManager( entityManagerFactory );
+		rand = new Random();
+
+		insertTestData();
+		buildIndex();
+	}
+
+	@TearDown
+	public void closeEntityManagerFactory() {
+		entityManagerFactory.close();
+
+		if ( neo4jDirectory != null ) {
+			delete( neo4jDirectory );
+		}
+	}
+
+	long randomAuthorId() {
+		return authorIds[rand.nextInt( authorIds.length )];
+	}
+
+	long randomScientistId() {
+		return scientistIds[rand.nextInt( scientistIds.length )];
+	}
+
+	int randomFieldOfScienceId() {
+		return rand.nextInt( NUMBER_OF_FIELDS_OF_SCIENCE );
+	}
+
+	AuthorWithSequence newAuthor() {
+		AuthorWithSequence author = new AuthorWithSequence();
+
+		author.setBio( "This is a decent size bio made of " + rand.nextDouble() + " stuffs" );
+		author.setDob( new Date() );
+		author.setFname( "Jessie " + rand.nextInt() );
+		author.setLname( "Landis " + rand.nextInt() );
+		author.setMname( "" + rand.nextInt( 26 ) );
+
+		return author;
+	}
+
+	private void insertTestData() throws Exception {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+
+		transactionManager.begin();
+		entityManager.joinTransaction();
+
+		FieldOfScience[] fieldsOfScience = new FieldOfScience[NUMBER_OF_FIELDS_OF_SCIENCE];
+		for ( int i = 0; i < NUMBER_OF_FIELDS_OF_SCIENCE; i++ ) {
+			fieldsOfScience[i] = new FieldOfScience( i, "Field of science " + i, rand.nextDouble() );
+			entityManager.persist( fieldsOfScience[i] );
+		}
+
+		transactionManager.commit();
+
+		authorIds = new long[NUMBER_OF_TEST_ENTITIES];
+		for ( int i = 0; i < NUMBER_OF_TEST_ENTITIES; i++ ) {
+			if ( i % 1000 == 0 ) {
+				transactionManager.begin();
+				entityManager.joinTransaction();
+			}
+
+			AuthorWithSequence author = newAuthor();
+			entityManager.persist( author );
+			authorIds[i] = author.getA_id();
+
+			if ( i % 1000 == 999 ) {
+				transactionManager.commit();
+				entityManager.clear();
+			}
+		}
+
+		scientistIds = new long[NUMBER_OF_SCIENTISTS];
+		for ( int i = 0; i < NUMBER_OF_SCIENTISTS; i++ ) {
+			if ( i % 100 == 0 ) {
+				transactionManager.begin();
+				entityManager.joinTransaction();
+			}
+
+			ScientistWithSequence scientist = new ScientistWithSequence();
+			scientist.setName( "Scientist " + i );
+			scientist.setBio( "This is a decent size bio made of " + rand.nextDouble() + " stuffs" );
+			scientist.setDob( new Date() );
+
+			for ( int j = 0; j < 3; j++ ) {
+				scientist.getPublishedPapers().add( new ResearchPaper( "Paper " + j + " of " + i, new Date(), rand.nextInt( 10000 ) ) );
+			}
+
+			for ( int j = 0; j < FIELDS_OF_SCIENCE_PER_SCIENTIST; j++ ) {
+				scientist.getInterestedIn().add( entityManager.getReference( FieldOfScience.class, ( i + j ) % NUMBER_OF_FIELDS_OF_SCIENCE ) );
+			}
+
+			entityManager.persist( scientist );
+			scientistIds[i] = scientist.getId();
+
+			if ( i % 100 == 99 ) {
+				transactionManager.commit();
+				entityManager.clear();
+			}
+		}
+
+		entityManager.close();
+	}
+
+	private void buildIndex() throws Exception {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		Search.getFullTextEntityManager( entityManager ).createIndexer( AuthorWithSequence.class ).startAndWait();
+		entityManager.close();
+	}
+
+	private TransactionManager extractJBossTransactionManager(EntityManagerFactory factory) {
+		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) ( (HibernateEntityManagerFactory) factory ).getSessionFactory();
+		return sessionFactory.getServiceRegistry().getService( JtaPlatform.class ).retrieveTransactionManager();
+	}
+
+	private static void delete(File file) {
+		File[] children = file.listFiles();
+		if ( children != null ) {
+			for ( File child : children ) {
+				delete( child );
+			}
+		}
+		file.delete();
+	}
+}
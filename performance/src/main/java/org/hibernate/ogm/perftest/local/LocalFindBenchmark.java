@@ -0,0 +1,113 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.local;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.hibernate.ogm.perftest.model.FieldOfScience;
+import org.hibernate.ogm.perftest.model.ScientistWithSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark measuring the performance of read operations against the local datastores.
+ */
+public class LocalFindBenchmark {
+
+	/**
+	 * The number of operations to be performed with one entity manager. Using an EM only for one op is an anti-pattern,
+	 * but setting the number too high will result in an unrealistic result. Aim for a value to be expected during the
+	 * processing of one web request or similar.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityById(LocalDatastoreHolder stateHolder, Blackhole blackhole) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.randomAuthorId();
+
+			AuthorWithSequence author = entityManager.find( AuthorWithSequence.class, id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( author.getLname() );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	/**
+	 * Loads the elements of a many-to-many association; datastores supporting multi-get read all the elements at once.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findAssociatedEntitiesInBatch(LocalDatastoreHolder stateHolder, Blackhole blackhole) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.randomScientistId();
+
+			ScientistWithSequence scientist = entityManager.find( ScientistWithSequence.class, id );
+
+			if ( scientist == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			for ( FieldOfScience fieldOfScience : scientist.getInterestedIn() ) {
+				blackhole.consume( fieldOfScience.getName() );
+			}
+
+			// Otherwise the fields of science are loaded only once per invocation
+			entityManager.clear();
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityByPropertyUsingJpql(LocalDatastoreHolder stateHolder, Blackhole blackhole) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			int mName = stateHolder.rand.nextInt( 26 );
+
+			TypedQuery<AuthorWithSequence> query = entityManager.createNamedQuery( "author_by_mname", AuthorWithSequence.class );
+			query.setMaxResults( 50 );
+			query.setParameter( "mname", "" + mName );
+			List<AuthorWithSequence> authors = query.getResultList();
+
+			for ( AuthorWithSequence author : authors ) {
+				blackhole.consume( author.getLname() );
+			}
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+}
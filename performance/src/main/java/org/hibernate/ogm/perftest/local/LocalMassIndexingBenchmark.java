@@ -0,0 +1,33 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.local;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.hibernate.search.jpa.Search;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+/**
+ * A JMH benchmark measuring the throughput of the mass indexer, reading all the entities of one type from the local
+ * datastores. The score is given in indexed entities per time unit.
+ */
+public class LocalMassIndexingBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(LocalDatastoreHolder.NUMBER_OF_TEST_ENTITIES)
+	public void rebuildIndex(LocalDatastoreHolder stateHolder) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		Search.getFullTextEntityManager( entityManager )
+			.createIndexer( AuthorWithSequence.class )
+			.startAndWait();
+
+		entityManager.close();
+	}
+}
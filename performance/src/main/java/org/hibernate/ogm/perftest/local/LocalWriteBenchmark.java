@@ -0,0 +1,98 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.local;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.hibernate.ogm.perftest.model.FieldOfScience;
+import org.hibernate.ogm.perftest.model.ScientistWithSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+
+/**
+ * A JMH benchmark measuring the performance of write operations against the local datastores. All the changes of one
+ * invocation are flushed together upon commit.
+ */
+public class LocalWriteBenchmark {
+
+	/**
+	 * The number of entities changed within one transaction.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertEntities(LocalDatastoreHolder stateHolder) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			entityManager.persist( stateHolder.newAuthor() );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void updateEntities(LocalDatastoreHolder stateHolder) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.randomAuthorId();
+
+			AuthorWithSequence author = entityManager.find( AuthorWithSequence.class, id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			author.setBio( "This is an updated bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	/**
+	 * Replaces one element of a many-to-many association, leaving its size unchanged.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void addAndRemoveCollectionElements(LocalDatastoreHolder stateHolder) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.randomScientistId();
+
+			ScientistWithSequence scientist = entityManager.find( ScientistWithSequence.class, id );
+
+			if ( scientist == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			List<FieldOfScience> interestedIn = scientist.getInterestedIn();
+			interestedIn.remove( 0 );
+			interestedIn.add( entityManager.getReference( FieldOfScience.class, stateHolder.randomFieldOfScienceId() ) );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.local;
+
+import java.lang.annotation.ElementType;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.hibernate.search.annotations.Analyze;
+import org.hibernate.search.annotations.Factory;
+import org.hibernate.search.cfg.SearchMapping;
+
+/**
+ * Makes {@link AuthorWithSequence} indexed for the local benchmarks only, so the MongoDB benchmarks sharing the model
+ * don't pay for indexing.
+ * <p>
+ * The index is needed to run JP-QL queries against the datastores which don't support queries natively and is the
+ * target of the mass indexing benchmark.
+ */
+public class PerfTestSearchMappingFactory {
+
+	@Factory
+	public SearchMapping getSearchMapping() {
+		SearchMapping mapping = new SearchMapping();
+
+		mapping.entity( AuthorWithSequence.class ).indexed()
+			.property( "mname", ElementType.FIELD ).field().analyze( Analyze.NO )
+			.property( "lname", ElementType.FIELD ).field();
+
+		return mapping;
+	}
+}
@@ -21,19 +21,33 @@
 
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisTupleSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
+import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
 import org.hibernate.ogm.datastore.redis.impl.json.JsonSerializationStrategy;
 import org.hibernate.ogm.datastore.redis.logging.impl.Log;
 import org.hibernate.ogm.datastore.redis.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.redis.options.impl.TTLOption;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.scan.spi.PartitionedScanGridDialect;
+import org.hibernate.ogm.dialect.scan.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationType;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
+import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.options.spi.OptionsContext;
 
@@ -48,7 +62,7 @@
 /**
  * @author Mark Paluch
  */
-public abstract class AbstractRedisDialect extends BaseGridDialect {
+public abstract class AbstractRedisDialect extends BaseGridDialect implements BatchableGridDialect, PartitionedScanGridDialect {
 
 	public static final String IDENTIFIERS = "Identifiers";
 	public static final String ASSOCIATIONS = "Associations";
@@ -60,15 +74,18 @@ public abstract class AbstractRedisDialect extends BaseGridDialect {
 	protected final JsonSerializationStrategy strategy = new JsonSerializationStrategy();
 	protected final boolean clusterMode;
 
+	private final RedisDatastoreProvider provider;
+
 	/**
 	 * Creates a new {@link AbstractRedisDialect}.
 	 *
-	 * @param connection a Redis connection (A regular Redis connection implements also {@link RedisClusterCommands})
-	 * @param configuredForCluster {@code true} if the connection is configured for cluster operations.
+	 * @param provider the provider of the Redis connections
 	 */
-	public AbstractRedisDialect(RedisClusterCommands<String, String> connection, boolean configuredForCluster) {
+	public AbstractRedisDialect(RedisDatastoreProvider provider) {
 
-		this.connection = connection;
+		this.provider = provider;
+		this.connection = provider.getConnection();
+		boolean configuredForCluster = provider.isCluster();
 
 		String redisMode = getRedisMode( connection );
 		if ( redisMode != null ) {
@@ -139,11 +156,118 @@ protected String identifierId(IdSourceKey key) {
 		return prefix;
 	}
 
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) throws TupleAlreadyExistsException {
+		RedisPipeline pipeline = createPipeline();
+		try {
+			insertOrUpdateTuple( pipeline, key, tuple, tupleContext );
+			pipeline.sync();
+		}
+		finally {
+			pipeline.close();
+		}
+	}
+
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		remove( key );
 	}
 
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		RedisPipeline pipeline = createPipeline();
+		try {
+			insertOrUpdateAssociation( pipeline, key, association, associationContext );
+			pipeline.sync();
+		}
+		finally {
+			pipeline.close();
+		}
+	}
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		RedisPipeline pipeline = createPipeline();
+		try {
+			removeAssociation( pipeline, key, associationContext );
+			pipeline.sync();
+		}
+		finally {
+			pipeline.close();
+		}
+	}
+
+	/**
+	 * Queues the commands storing the given tuple.
+	 */
+	protected abstract void insertOrUpdateTuple(RedisPipeline pipeline, EntityKey key, Tuple tuple, TupleContext tupleContext);
+
+	/**
+	 * Queues the commands storing the given association.
+	 */
+	protected abstract void insertOrUpdateAssociation(RedisPipeline pipeline, AssociationKey key, Association association, AssociationContext associationContext);
+
+	/**
+	 * Queues the commands removing the given association.
+	 */
+	protected abstract void removeAssociation(RedisPipeline pipeline, AssociationKey key, AssociationContext associationContext);
+
+	/**
+	 * Sends all the commands of the queued operations in a single pipeline.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			RedisPipeline pipeline = createPipeline();
+			try {
+				Operation operation = queue.poll();
+				while ( operation != null ) {
+					if ( operation instanceof InsertOrUpdateTupleOperation ) {
+						InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+						insertOrUpdateTuple( pipeline, update.getEntityKey(), update.getTuple(), update.getTupleContext() );
+					}
+					else if ( operation instanceof RemoveTupleOperation ) {
+						RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+						pipeline.del( entityId( remove.getEntityKey() ) );
+					}
+					else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+						InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+						insertOrUpdateAssociation( pipeline, update.getAssociationKey(), update.getAssociation(), update.getContext() );
+					}
+					else if ( operation instanceof RemoveAssociationOperation ) {
+						RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+						removeAssociation( pipeline, remove.getAssociationKey(), remove.getContext() );
+					}
+					else {
+						throw new UnsupportedOperationException( "Operation not supported on Redis: " + operation.getClass().getName() );
+					}
+					operation = queue.poll();
+				}
+				pipeline.sync();
+			}
+			finally {
+				pipeline.close();
+			}
+			queue.clear();
+		}
+	}
+
+	/**
+	 * Executes the operations queued in the current flush, so that reads see them.
+	 */
+	protected void executePendingOperations(OperationsQueue queue) {
+		if ( queue != null && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
+	}
+
+	/**
+	 * Creates a new pipeline, to be closed once used.
+	 */
+	protected RedisPipeline createPipeline() {
+		return provider.createPipeline();
+	}
+
 	protected void addKeyValuesFromKeyName(
 			EntityKeyMetadata entityKeyMetadata,
 			String prefix,
@@ -196,41 +320,8 @@ protected String getKeyWithoutTablePrefix(String prefixBytes, String key) {
 		return key.substring( prefixBytes.length() );
 	}
 
-	protected void setAssociationTTL(
-			AssociationKey associationKey,
-			AssociationContext associationContext,
-			Long currentTtl) {
-		Long ttl = getTTL( associationContext );
-		if ( ttl != null ) {
-			expireAssociation( associationKey, ttl );
-		}
-		else if ( currentTtl != null && currentTtl > 0 ) {
-			expireAssociation( associationKey, currentTtl );
-		}
-	}
-
-	protected void setEntityTTL(EntityKey key, Long currentTtl, Long configuredTTL) {
-		if ( configuredTTL != null ) {
-			expireEntity( key, configuredTTL );
-		}
-		else if ( currentTtl != null && currentTtl > 0 ) {
-			expireEntity( key, currentTtl );
-		}
-	}
-
-	protected void expireEntity(EntityKey key, Long ttl) {
-		String associationId = entityId( key );
-		connection.pexpire( associationId, ttl );
-	}
-
-
-	protected void expireAssociation(AssociationKey key, Long ttl) {
-		String associationId = associationId( key );
-		connection.pexpire( associationId, ttl );
-	}
-
-	protected void removeAssociation(AssociationKey key) {
-		connection.del( associationId( key ) );
+	protected void removeAssociation(RedisPipeline pipeline, AssociationKey key) {
+		pipeline.del( associationId( key ) );
 	}
 
 	protected void remove(EntityKey key) {
@@ -348,25 +439,115 @@ protected org.hibernate.ogm.datastore.redis.dialect.value.Association getAssocia
 	/**
 	 * Store an association to a Redis List or Redis Set, depending on the association type.
 	 *
+	 * @param pipeline the pipeline to queue the commands into
 	 * @param key the association key
 	 * @param association the association document
+	 * @param ttl the TTL of the association or {@code null} to keep its current TTL
 	 */
 	protected void storeAssociation(
+			RedisPipeline pipeline,
 			AssociationKey key,
-			org.hibernate.ogm.datastore.redis.dialect.value.Association association) {
+			org.hibernate.ogm.datastore.redis.dialect.value.Association association,
+			Long ttl) {
 		String associationId = associationId( key );
-		connection.del( associationId );
 
+		List<String> rows = new ArrayList<>( association.getRows().size() );
 		for ( Object row : association.getRows() ) {
-			if ( key.getMetadata().getAssociationType() == AssociationType.SET ) {
-				connection.sadd( associationId, strategy.serialize( row ) );
+			rows.add( strategy.serialize( row ) );
+		}
+
+		if ( key.getMetadata().getAssociationType() == AssociationType.SET ) {
+			pipeline.replaceSet( associationId, rows, ttl );
+		}
+		else {
+			pipeline.replaceList( associationId, rows, ttl );
+		}
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		KeyScanCursor<String> cursor = null;
+		String prefix = entityKeyMetadata.getTable() + ":";
+
+		ScanArgs scanArgs = ScanArgs.Builder.matches( prefix + "*" );
+		do {
+			cursor = scan( cursor, scanArgs );
+
+			for ( String key : cursor.getKeys() ) {
+				consumer.consume( getScannedTuple( entityKeyMetadata, prefix, key ) );
 			}
-			else {
-				connection.rpush( associationId, strategy.serialize( row ) );
+
+		} while ( !cursor.isFinished() );
+	}
+
+	/**
+	 * Returns one partition per master node of the cluster, each one being scanned with its own cursor, or a single
+	 * partition if the client is not connected to a Redis Cluster.
+	 */
+	@Override
+	public List<TuplePartition> getTuplePartitions(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, int maxPartitions) {
+		List<TuplePartition> partitions = new ArrayList<>();
+		if ( clusterMode ) {
+			List<String> nodeIds = getMasterNodeIds( (RedisAdvancedClusterCommands<String, String>) connection );
+			int numberOfPartitions = Math.min( nodeIds.size(), Math.max( maxPartitions, 1 ) );
+
+			// the master nodes are dealt out round-robin, a partition scans all its nodes one after the other
+			for ( int i = 0; i < numberOfPartitions; i++ ) {
+				partitions.add( new NodePartition( new ArrayList<String>() ) );
+			}
+			for ( int i = 0; i < nodeIds.size(); i++ ) {
+				( (NodePartition) partitions.get( i % numberOfPartitions ) ).nodeIds.add( nodeIds.get( i ) );
+			}
+		}
+		if ( partitions.isEmpty() ) {
+			partitions.add( new NodePartition( null ) );
+		}
+		return partitions;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
+		List<String> nodeIds = ( (NodePartition) partition ).nodeIds;
+		if ( nodeIds == null ) {
+			forEachTupleOfNode( consumer, entityKeyMetadata, connection );
+		}
+		else {
+			for ( String nodeId : nodeIds ) {
+				forEachTupleOfNode( consumer, entityKeyMetadata, ( (RedisAdvancedClusterCommands<String, String>) connection ).getConnection( nodeId ) );
 			}
 		}
 	}
 
+	@Override
+	public void closePartitions(List<TuplePartition> partitions) {
+		// nothing to release, the SCAN cursors are not kept on the server
+	}
+
+	private void forEachTupleOfNode(ModelConsumer consumer, EntityKeyMetadata entityKeyMetadata, RedisClusterCommands<String, String> nodeConnection) {
+		KeyScanCursor<String> cursor = null;
+		String prefix = entityKeyMetadata.getTable() + ":";
+
+		ScanArgs scanArgs = ScanArgs.Builder.matches( prefix + "*" );
+		do {
+			cursor = scan( nodeConnection, cursor, scanArgs );
+
+			for ( String key : cursor.getKeys() ) {
+				consumer.consume( getScannedTuple( entityKeyMetadata, prefix, key ) );
+			}
+
+		} while ( !cursor.isFinished() );
+	}
+
+	/**
+	 * Reads the entity stored at a key returned by a scan.
+	 *
+	 * @param entityKeyMetadata the metadata of the scanned entity type
+	 * @param prefix the prefix of the keys of the entity type
+	 * @param key the scanned key
+	 * @return the tuple of the entity, including its key columns
+	 */
+	protected abstract Tuple getScannedTuple(EntityKeyMetadata entityKeyMetadata, String prefix, String key);
+
 	/**
 	 * Scan over keys. This method is aware whether the client is connected to a Redis Cluster.
 	 * If so, then a Redis Cluster scan requires to iterate over master nodes and keep the
@@ -404,16 +585,7 @@ private KeyScanCursor<String> clusterScan(KeyScanCursor<String> cursor, ScanArgs
 		String currentNodeId;
 
 		if ( cursor == null ) {
-			Set<RedisClusterNode> masterNodes = commands.masters().asMap().keySet();
-			nodeIds = new ArrayList<>();
-
-			for ( RedisClusterNode masterNode : masterNodes ) {
-
-				if ( masterNode.getSlots().isEmpty() ) {
-					continue;
-				}
-				nodeIds.add( masterNode.getNodeId() );
-			}
+			nodeIds = getMasterNodeIds( commands );
 
 			if ( nodeIds.isEmpty() ) {
 				return scan( connection, cursor, scanArgs );
@@ -439,6 +611,20 @@ private KeyScanCursor<String> clusterScan(KeyScanCursor<String> cursor, ScanArgs
 		);
 	}
 
+	private List<String> getMasterNodeIds(RedisAdvancedClusterCommands<String, String> commands) {
+		Set<RedisClusterNode> masterNodes = commands.masters().asMap().keySet();
+		List<String> nodeIds = new ArrayList<>();
+
+		for ( RedisClusterNode masterNode : masterNodes ) {
+
+			if ( masterNode.getSlots().isEmpty() ) {
+				continue;
+			}
+			nodeIds.add( masterNode.getNodeId() );
+		}
+		return nodeIds;
+	}
+
 	private String getNodeIdForNextScanIteration(
 			List<String> nodeIds,
 			ClusterwideKeyScanCursor<String> clusterKeyScanCursor) {
@@ -458,6 +644,23 @@ public boolean isClusterMode() {
 		return clusterMode;
 	}
 
+	private static class NodePartition implements TuplePartition {
+
+		/**
+		 * The master nodes scanned by this partition or {@code null} if not running in cluster mode
+		 */
+		private final List<String> nodeIds;
+
+		private NodePartition(List<String> nodeIds) {
+			this.nodeIds = nodeIds;
+		}
+
+		@Override
+		public String toString() {
+			return "NodePartition " + nodeIds;
+		}
+	}
+
 	static class ClusterwideKeyScanCursor<K> extends KeyScanCursor<K> {
 		final List<String> nodeIds;
 		final String currentNodeId;
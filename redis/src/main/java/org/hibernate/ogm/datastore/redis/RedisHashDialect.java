@@ -17,11 +17,10 @@
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisTupleSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.value.HashEntity;
 import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
 import org.hibernate.ogm.datastore.redis.impl.hash.RedisHashTypeConverter;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
-import org.hibernate.ogm.dialect.spi.ModelConsumer;
-import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
@@ -35,8 +34,7 @@
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.type.Type;
 
-import com.lambdaworks.redis.KeyScanCursor;
-import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.RedisFuture;
 
 /**
  * Stores tuples and associations inside Redis using hash data structures.
@@ -49,7 +47,7 @@
 public class RedisHashDialect extends AbstractRedisDialect {
 
 	public RedisHashDialect(RedisDatastoreProvider provider) {
-		super( provider.getConnection(), provider.isCluster() );
+		super( provider );
 	}
 
 	@Override
@@ -61,18 +59,31 @@ public GridType overrideType(Type type) {
 	@SuppressWarnings({"unchecked", "rawtypes" })
 	public Tuple getTuple(
 			EntityKey key, TupleContext tupleContext) {
+		executePendingOperations( tupleContext.getOperationsQueue() );
+
 		String entityIdString = entityId( key );
-		if ( !connection.exists( entityIdString ) ) {
-			return null;
-		}
 
 		Map<String, Object> objects;
 		if ( tupleContext.getSelectableColumns().isEmpty() ) {
+			// A hash without fields does not exist
 			objects = (Map) connection.hgetall( entityIdString );
+			if ( objects.isEmpty() ) {
+				return null;
+			}
 		}
 		else {
-			List<String> hmget = connection.hmget( entityIdString, getFields( tupleContext ) );
-			objects = toEntity( tupleContext, hmget );
+			RedisPipeline pipeline = createPipeline();
+			try {
+				RedisFuture<Boolean> exists = pipeline.exists( entityIdString );
+				RedisFuture<List<String>> hmget = pipeline.hmget( entityIdString, getFields( tupleContext ) );
+				if ( !pipeline.get( exists ) ) {
+					return null;
+				}
+				objects = toEntity( tupleContext, pipeline.get( hmget ) );
+			}
+			finally {
+				pipeline.close();
+			}
 		}
 
 		return new Tuple( new RedisTupleSnapshot( objects ) );
@@ -96,9 +107,7 @@ private String[] getFields(TupleContext tupleContext) {
 	}
 
 	@Override
-	public void insertOrUpdateTuple(
-			EntityKey key, Tuple tuple, TupleContext tupleContext) throws TupleAlreadyExistsException {
-
+	protected void insertOrUpdateTuple(RedisPipeline pipeline, EntityKey key, Tuple tuple, TupleContext tupleContext) {
 		Map<String, Object> map = ( (RedisTupleSnapshot) tuple.getSnapshot() ).getMap();
 		MapHelpers.applyTupleOpsOnMap( tuple, map );
 
@@ -106,17 +115,20 @@ public void insertOrUpdateTuple(
 		List<String> toDelete = getKeysForRemoval( tuple );
 
 		String entityId = entityId( key );
-		Long currentTtl = connection.pttl( entityId( key ) );
 
 		if ( !toDelete.isEmpty() ) {
-			connection.hdel( entityId, toDelete.toArray( new String[toDelete.size()] ) );
+			pipeline.hdel( entityId, toDelete.toArray( new String[toDelete.size()] ) );
 		}
 
 		if ( !entity.isEmpty() ) {
-			connection.hmset( entityId, entity );
+			pipeline.hmset( entityId, entity );
 		}
 
-		setEntityTTL( key, currentTtl, getTTL( tupleContext.getOptionsContext() ) );
+		// HDEL and HMSET keep the current TTL of the hash
+		Long ttl = getTTL( tupleContext.getOptionsContext() );
+		if ( ttl != null ) {
+			pipeline.pexpire( entityId, ttl );
+		}
 	}
 
 	private Map<String, String> getEntityForUpdate(EntityKey key, Tuple tuple) {
@@ -155,13 +167,16 @@ private List<String> getKeysForRemoval(Tuple tuple) {
 	@Override
 	public Association getAssociation(
 			AssociationKey key, AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
+
 		RedisAssociation redisAssociation;
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
-			if ( !connection.exists( entityId( key.getEntityKey() ) ) ) {
+			// A hash without fields does not exist
+			Map<String, String> entity = connection.hgetall( entityId( key.getEntityKey() ) );
+			if ( entity.isEmpty() ) {
 				return null;
 			}
 
-			Map<String, String> entity = connection.hgetall( entityId( key.getEntityKey() ) );
 			redisAssociation = RedisAssociation.fromEmbeddedAssociation( entity, key.getMetadata() );
 		}
 		else {
@@ -183,6 +198,7 @@ public Association getAssociation(
 	@Override
 	public Association createAssociation(
 			AssociationKey key, AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
 
 		RedisAssociation redisAssociation;
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
@@ -207,8 +223,8 @@ public Association createAssociation(
 	}
 
 	@Override
-	public void insertOrUpdateAssociation(
-			AssociationKey associationKey, Association association, AssociationContext associationContext) {
+	protected void insertOrUpdateAssociation(
+			RedisPipeline pipeline, AssociationKey associationKey, Association association, AssociationContext associationContext) {
 		Object rows = getAssociationRows( association, associationKey );
 
 		RedisAssociation redisAssociation = ( (RedisAssociationSnapshot) association.getSnapshot() ).getRedisAssociation();
@@ -219,15 +235,15 @@ public void insertOrUpdateAssociation(
 				associationContext.getAssociationTypeContext()
 		) ) {
 			HashEntity owningDocument = (HashEntity) redisAssociation.getOwningDocument();
-			connection.hmset( entityId( associationKey.getEntityKey() ), owningDocument.getEntity() );
+			pipeline.hmset( entityId( associationKey.getEntityKey() ), owningDocument.getEntity() );
 		}
 		else {
-			Long currentTtl = connection.pttl( associationId( associationKey ) );
 			storeAssociation(
+					pipeline,
 					associationKey,
-					(org.hibernate.ogm.datastore.redis.dialect.value.Association) redisAssociation.getOwningDocument()
+					(org.hibernate.ogm.datastore.redis.dialect.value.Association) redisAssociation.getOwningDocument(),
+					getTTL( associationContext )
 			);
-			setAssociationTTL( associationKey, associationContext, currentTtl );
 		}
 	}
 
@@ -243,14 +259,14 @@ private Object getAssociationRows(
 	}
 
 	@Override
-	public void removeAssociation(
-			AssociationKey key, AssociationContext associationContext) {
+	protected void removeAssociation(
+			RedisPipeline pipeline, AssociationKey key, AssociationContext associationContext) {
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
 			String entityId = entityId( key.getEntityKey() );
-			connection.hdel( entityId, key.getMetadata().getCollectionRole() );
+			pipeline.hdel( entityId, key.getMetadata().getCollectionRole() );
 		}
 		else {
-			connection.del( associationId( key ) );
+			removeAssociation( pipeline, key );
 		}
 	}
 
@@ -264,24 +280,13 @@ public boolean isStoredInEntityStructure(
 	}
 
 	@Override
-	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
-		KeyScanCursor<String> cursor = null;
-		String prefix = entityKeyMetadata.getTable() + ":";
-
-		ScanArgs scanArgs = ScanArgs.Builder.matches( prefix + "*" );
-		do {
-			cursor = scan( cursor, scanArgs );
-
-			for ( String key : cursor.getKeys() ) {
-				Map<String, String> hgetall = connection.hgetall( key );
-				Map<String, Object> entity = new HashMap<>();
-
-				entity.putAll( hgetall );
-				addKeyValuesFromKeyName( entityKeyMetadata, prefix, key, entity );
-				consumer.consume( new Tuple( new RedisTupleSnapshot( entity ) ) );
-			}
+	protected Tuple getScannedTuple(EntityKeyMetadata entityKeyMetadata, String prefix, String key) {
+		Map<String, String> hgetall = connection.hgetall( key );
+		Map<String, Object> entity = new HashMap<>();
 
-		} while ( !cursor.isFinished() );
+		entity.putAll( hgetall );
+		addKeyValuesFromKeyName( entityKeyMetadata, prefix, key, entity );
+		return new Tuple( new RedisTupleSnapshot( entity ) );
 	}
 
 	protected void addKeyValuesFromKeyName(
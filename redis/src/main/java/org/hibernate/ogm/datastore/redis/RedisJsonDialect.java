@@ -11,7 +11,6 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.hibernate.ogm.datastore.document.impl.DotPatternMapHelpers;
 import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
@@ -23,11 +22,11 @@
 import org.hibernate.ogm.datastore.redis.dialect.value.Association;
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
 import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
 import org.hibernate.ogm.datastore.redis.impl.json.JsonEntityStorageStrategy;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
-import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
@@ -37,13 +36,9 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Tuple;
-import org.hibernate.ogm.model.spi.TupleOperation;
-import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.type.spi.GridType;
 import org.hibernate.type.Type;
 
-import com.lambdaworks.redis.KeyScanCursor;
-import com.lambdaworks.redis.ScanArgs;
 
 /**
  * Stores tuples and associations inside Redis as JSON.
@@ -60,7 +55,7 @@ public class RedisJsonDialect extends AbstractRedisDialect implements MultigetGr
 	protected final JsonEntityStorageStrategy entityStorageStrategy;
 
 	public RedisJsonDialect(RedisDatastoreProvider provider) {
-		super( provider.getConnection(), provider.isCluster() );
+		super( provider );
 		this.entityStorageStrategy = new JsonEntityStorageStrategy( strategy, connection );
 	}
 
@@ -71,6 +66,8 @@ public GridType overrideType(Type type) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		executePendingOperations( tupleContext.getOperationsQueue() );
+
 		Entity entity = entityStorageStrategy.getEntity( entityId( key ) );
 
 		if ( entity != null ) {
@@ -82,10 +79,10 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 	}
 
 	@Override
-	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+	protected void insertOrUpdateTuple(RedisPipeline pipeline, EntityKey key, Tuple tuple, TupleContext tupleContext) {
 		Map<String, Object> map = ( (RedisTupleSnapshot) tuple.getSnapshot() ).getMap();
 		MapHelpers.applyTupleOpsOnMap( tuple, map );
-		storeEntity( key, map, tupleContext.getOptionsContext(), tuple.getOperations() );
+		storeEntity( pipeline, key, map, getTTL( tupleContext.getOptionsContext() ) );
 	}
 
 	@Override
@@ -112,6 +109,8 @@ private AssociationStorageType getAssociationStorageType(AssociationTypeContext
 	public org.hibernate.ogm.model.spi.Association getAssociation(
 			AssociationKey key,
 			AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
+
 		RedisAssociation redisAssociation = null;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
@@ -144,13 +143,23 @@ public org.hibernate.ogm.model.spi.Association getAssociation(
 	public org.hibernate.ogm.model.spi.Association createAssociation(
 			AssociationKey key,
 			AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
+
 		RedisAssociation redisAssociation;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
 			Entity owningEntity = getEmbeddingEntity( key );
 
 			if ( owningEntity == null ) {
-				owningEntity = storeEntity( key.getEntityKey(), new Entity(), associationContext );
+				owningEntity = new Entity();
+				RedisPipeline pipeline = createPipeline();
+				try {
+					storeEntity( pipeline, key.getEntityKey(), owningEntity, associationContext );
+					pipeline.sync();
+				}
+				finally {
+					pipeline.close();
+				}
 			}
 
 			redisAssociation = RedisAssociation.fromEmbeddedAssociation( owningEntity, key.getMetadata() );
@@ -174,8 +183,8 @@ private Entity getEmbeddingEntity(AssociationKey key) {
 	}
 
 	@Override
-	public void insertOrUpdateAssociation(
-			AssociationKey associationKey, org.hibernate.ogm.model.spi.Association association,
+	protected void insertOrUpdateAssociation(
+			RedisPipeline pipeline, AssociationKey associationKey, org.hibernate.ogm.model.spi.Association association,
 			AssociationContext associationContext) {
 		Object rows = getAssociationRows( association, associationKey, associationContext );
 
@@ -188,15 +197,19 @@ public void insertOrUpdateAssociation(
 		) ) {
 
 			storeEntity(
+					pipeline,
 					associationKey.getEntityKey(),
 					(Entity) redisAssociation.getOwningDocument(),
 					associationContext
 			);
 		}
 		else {
-			Long currentTtl = connection.pttl( entityId( associationKey.getEntityKey() ) );
-			storeAssociation( associationKey, (Association) redisAssociation.getOwningDocument() );
-			setAssociationTTL( associationKey, associationContext, currentTtl );
+			storeAssociation(
+					pipeline,
+					associationKey,
+					(Association) redisAssociation.getOwningDocument(),
+					getTTL( associationContext )
+			);
 		}
 	}
 
@@ -256,45 +269,35 @@ protected Object getAssociationRows(
 	}
 
 	@Override
-	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+	protected void removeAssociation(RedisPipeline pipeline, AssociationKey key, AssociationContext associationContext) {
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
-			Entity owningEntity = getEmbeddingEntity( key );
+			// The owning entity must reflect the commands queued so far, without sending them
+			Entity owningEntity = entityStorageStrategy.getEntity( pipeline, entityId( key.getEntityKey() ) );
 
 			if ( owningEntity != null ) {
 				owningEntity.removeAssociation( key.getMetadata().getCollectionRole() );
-				storeEntity( key.getEntityKey(), owningEntity, associationContext );
+				storeEntity( pipeline, key.getEntityKey(), owningEntity, associationContext );
 			}
 		}
 		else {
-			removeAssociation( key );
+			removeAssociation( pipeline, key );
 		}
 	}
 
 	@Override
-	public void forEachTuple(final ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
-		KeyScanCursor<String> cursor = null;
-		String prefix = entityKeyMetadata.getTable() + ":";
-
-		ScanArgs scanArgs = ScanArgs.Builder.matches( prefix + "*" );
-		do {
-			cursor = scan( cursor, scanArgs );
-
-			for ( String key : cursor.getKeys() ) {
-				Entity document = entityStorageStrategy.getEntity( key );
+	protected Tuple getScannedTuple(EntityKeyMetadata entityKeyMetadata, String prefix, String key) {
+		Entity document = entityStorageStrategy.getEntity( key );
 
-				addKeyValuesFromKeyName( entityKeyMetadata, prefix, key, document );
-
-				consumer.consume( new Tuple( new RedisTupleSnapshot( document.getProperties() ) ) );
-			}
+		addKeyValuesFromKeyName( entityKeyMetadata, prefix, key, document );
 
-		} while ( !cursor.isFinished() );
+		return new Tuple( new RedisTupleSnapshot( document.getProperties() ) );
 	}
 
 	private void storeEntity(
+			RedisPipeline pipeline,
 			EntityKey key,
 			Map<String, Object> map,
-			OptionsContext optionsContext,
-			Set<TupleOperation> operations) {
+			Long ttl) {
 		Entity entityDocument = new Entity();
 
 		for ( Map.Entry<String, Object> entry : map.entrySet() ) {
@@ -304,33 +307,16 @@ private void storeEntity(
 			entityDocument.set( entry.getKey(), entry.getValue() );
 		}
 
-		storeEntity( key, entityDocument, optionsContext, operations );
+		entityStorageStrategy.storeEntity( pipeline, entityId( key ), entityDocument, ttl );
 	}
 
-	private void storeEntity(
-			EntityKey key,
-			Entity document,
-			OptionsContext optionsContext,
-			Set<TupleOperation> operations) {
-
-		Long currentTtl = connection.pttl( entityId( key ) );
-
-		entityStorageStrategy.storeEntity( entityId( key ), document, operations );
-
-		setEntityTTL( key, currentTtl, getTTL( optionsContext ) );
-	}
-
-	private Entity storeEntity(EntityKey key, Entity entity, AssociationContext associationContext) {
-		Long currentTtl = connection.pttl( entityId( key ) );
-
+	private void storeEntity(RedisPipeline pipeline, EntityKey key, Entity entity, AssociationContext associationContext) {
 		entityStorageStrategy.storeEntity(
+				pipeline,
 				entityId( key ),
 				entity,
-				null
+				getTTL( associationContext )
 		);
-
-		setEntityTTL( key, currentTtl, getTTL( associationContext ) );
-		return entity;
 	}
 
 	public JsonEntityStorageStrategy getEntityStorageStrategy() {
@@ -345,6 +331,8 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		executePendingOperations( tupleContext.getOperationsQueue() );
+
 		String ids[] = new String[keys.length];
 
 		for ( int i = 0; i < keys.length; i++ ) {
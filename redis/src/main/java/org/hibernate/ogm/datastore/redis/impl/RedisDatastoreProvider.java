@@ -53,6 +53,7 @@ public class RedisDatastoreProvider extends BaseDatastoreProvider implements Sta
 	private RedisConfiguration config;
 	private AbstractRedisClient redisClient;
 	private StatefulConnection<String, String> connection;
+	private RedisPipelineConnectionPool pipelineConnectionPool;
 
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
@@ -93,6 +94,7 @@ public void start() {
 				log.connectingToRedis( config.getHosts().toString(), config.getTimeout() );
 				connection = client.connect( new Utf8StringCodec() );
 			}
+			pipelineConnectionPool = new RedisPipelineConnectionPool( redisClient );
 		}
 		catch (RuntimeException e) {
 			// return a ServiceException to be stack trace friendly
@@ -134,6 +136,10 @@ public void stop() {
 			log.disconnectingFromRedis();
 			connection.close();
 			connection = null;
+			if ( pipelineConnectionPool != null ) {
+				pipelineConnectionPool.close();
+				pipelineConnectionPool = null;
+			}
 			shutdownClient();
 		}
 	}
@@ -166,6 +172,24 @@ public RedisClusterCommands<String, String> getConnection() {
 
 	}
 
+	/**
+	 * Creates a new pipeline for sending several commands in a single round trip. The pipeline must be closed once
+	 * used.
+	 * <p>
+	 * Each pipeline holds a connection of its own, taken from a pool, so the commands it queues are neither delayed by
+	 * the synchronous commands executed on {@link #getConnection()} nor sent along with the commands of a pipeline of
+	 * another thread. In cluster mode the commands are sent to each node they are routed to in a single round trip.
+	 *
+	 * @return a new pipeline
+	 */
+	public RedisPipeline createPipeline() {
+		if ( pipelineConnectionPool == null ) {
+			throw new IllegalStateException( "The datastore provider is not started" );
+		}
+
+		return new RedisPipeline( pipelineConnectionPool, config.getTimeout() );
+	}
+
 	/**
 	 * @return {@code true} if {@link RedisDatastoreProvider} is configured for cluster mode.
 	 */
@@ -0,0 +1,233 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.lambdaworks.redis.LettuceFutures;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.ScriptOutputType;
+import com.lambdaworks.redis.SetArgs;
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
+
+/**
+ * Queues Redis commands on the asynchronous API and sends them together, so that a group of commands costs a single
+ * round trip instead of one per command; in cluster mode, the commands are sent to each node in a single round trip.
+ * <p>
+ * Commands are only guaranteed to be executed once {@link #sync()} returns. Overwriting a key (using {@literal SET} or
+ * {@literal DEL}) removes its expiry; when no TTL is given for such an operation, the key is overwritten by a script
+ * which restores its TTL, so that the TTL is kept atomically and without an additional round trip.
+ * <p>
+ * Instances are not thread-safe and are meant to be used for a single unit of work; they must be closed afterwards,
+ * releasing the connection they hold.
+ */
+public class RedisPipeline {
+
+	/**
+	 * The maximum number of values passed at once to a variadic command from a script; Lua limits the number of values
+	 * {@code unpack()} can return.
+	 */
+	private static final int SCRIPT_BATCH_SIZE = 1000;
+
+	private static final String SET_KEEP_TTL_SCRIPT =
+			"local ttl = redis.call('PTTL', KEYS[1]) "
+			+ "redis.call('SET', KEYS[1], ARGV[1]) "
+			+ "if ttl > 0 then redis.call('PEXPIRE', KEYS[1], ttl) end "
+			+ "return ttl";
+
+	private static final String REPLACE_SET_KEEP_TTL_SCRIPT = replaceKeepTtlScript( "SADD" );
+
+	private static final String REPLACE_LIST_KEEP_TTL_SCRIPT = replaceKeepTtlScript( "RPUSH" );
+
+	private final StatefulConnection<String, String> connection;
+	private final RedisClusterAsyncCommands<String, String> commands;
+	private final long timeout;
+	private final RedisPipelineConnectionPool connectionPool;
+
+	private final List<RedisFuture<?>> futures = new ArrayList<>();
+	private final Map<String, String> writtenValues = new HashMap<>();
+	private boolean failed;
+
+	/**
+	 * Creates a pipeline on a connection of its own taken from the given pool, which only sends the commands upon
+	 * {@link #sync()}.
+	 */
+	public RedisPipeline(RedisPipelineConnectionPool connectionPool, long timeout) {
+		this.connection = connectionPool.acquire();
+		this.commands = RedisPipelineConnectionPool.async( connection );
+		this.timeout = timeout;
+		this.connectionPool = connectionPool;
+	}
+
+	public RedisFuture<Boolean> exists(String key) {
+		return add( commands.exists( key ) );
+	}
+
+	public RedisFuture<List<String>> hmget(String key, String... fields) {
+		return add( commands.hmget( key, fields ) );
+	}
+
+	public void del(String key) {
+		writtenValues.put( key, null );
+		add( commands.del( key ) );
+	}
+
+	public void hmset(String key, Map<String, String> map) {
+		add( commands.hmset( key, map ) );
+	}
+
+	public void hdel(String key, String... fields) {
+		add( commands.hdel( key, fields ) );
+	}
+
+	public void pexpire(String key, long ttl) {
+		add( commands.pexpire( key, ttl ) );
+	}
+
+	/**
+	 * Sets the value of a key.
+	 *
+	 * @param key the key
+	 * @param value the value
+	 * @param ttl the TTL in milliseconds or {@code null} to keep the current TTL of the key
+	 */
+	public void set(String key, String value, Long ttl) {
+		writtenValues.put( key, value );
+		if ( ttl == null ) {
+			add( commands.eval( SET_KEEP_TTL_SCRIPT, ScriptOutputType.INTEGER, new String[] { key }, value ) );
+		}
+		else {
+			add( commands.set( key, value, SetArgs.Builder.px( ttl ) ) );
+		}
+	}
+
+	/**
+	 * Replaces the content of a Redis set with the given values using a single {@literal SADD}.
+	 *
+	 * @param key the key
+	 * @param values the new members of the set
+	 * @param ttl the TTL in milliseconds or {@code null} to keep the current TTL of the key
+	 */
+	public void replaceSet(String key, Collection<String> values, Long ttl) {
+		if ( ttl == null ) {
+			replaceKeepingTtl( REPLACE_SET_KEEP_TTL_SCRIPT, key, values );
+		}
+		else {
+			add( commands.del( key ) );
+			if ( !values.isEmpty() ) {
+				add( commands.sadd( key, values.toArray( new String[values.size()] ) ) );
+			}
+			pexpire( key, ttl );
+		}
+	}
+
+	/**
+	 * Replaces the content of a Redis list with the given values using a single {@literal RPUSH}.
+	 *
+	 * @param key the key
+	 * @param values the new elements of the list
+	 * @param ttl the TTL in milliseconds or {@code null} to keep the current TTL of the key
+	 */
+	public void replaceList(String key, List<String> values, Long ttl) {
+		if ( ttl == null ) {
+			replaceKeepingTtl( REPLACE_LIST_KEEP_TTL_SCRIPT, key, values );
+		}
+		else {
+			add( commands.del( key ) );
+			if ( !values.isEmpty() ) {
+				add( commands.rpush( key, values.toArray( new String[values.size()] ) ) );
+			}
+			pexpire( key, ttl );
+		}
+	}
+
+	/**
+	 * Whether a command queued in this pipeline sets or removes the given key, see {@link #getWrittenValue(String)}.
+	 */
+	public boolean isWritten(String key) {
+		return writtenValues.containsKey( key );
+	}
+
+	/**
+	 * Returns the value the given key has once the commands queued so far are executed, without sending them.
+	 *
+	 * @param key a key {@link #isWritten(String) written} by this pipeline using {@link #set(String, String, Long)} or
+	 * {@link #del(String)}
+	 * @return the value last set for the key, {@code null} if the key was last removed
+	 */
+	public String getWrittenValue(String key) {
+		return writtenValues.get( key );
+	}
+
+	/**
+	 * Waits for the result of a queued command, sending the pending commands first.
+	 */
+	public <T> T get(RedisFuture<T> future) {
+		sync();
+		return LettuceFutures.awaitOrCancel( future, timeout, TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 * Sends all the queued commands and waits for their completion.
+	 */
+	public void sync() {
+		writtenValues.clear();
+		if ( futures.isEmpty() ) {
+			return;
+		}
+		boolean completed = false;
+		connection.flushCommands();
+		try {
+			for ( RedisFuture<?> future : futures ) {
+				LettuceFutures.awaitOrCancel( future, timeout, TimeUnit.MILLISECONDS );
+			}
+			completed = true;
+		}
+		finally {
+			futures.clear();
+			failed = failed || !completed;
+		}
+	}
+
+	/**
+	 * Releases the connection of this pipeline. The connection is only reused if all the commands queued on it have
+	 * been sent and completed.
+	 */
+	public void close() {
+		boolean reusable = !failed && futures.isEmpty();
+		connectionPool.release( connection, reusable );
+	}
+
+	private void replaceKeepingTtl(String script, String key, Collection<String> values) {
+		add( commands.eval( script, ScriptOutputType.INTEGER, new String[] { key }, values.toArray( new String[values.size()] ) ) );
+	}
+
+	/**
+	 * A script replacing the content of the key given as {@code KEYS[1]} by the values given as {@code ARGV}, added
+	 * with the given variadic command, and restoring the TTL the key had before.
+	 */
+	private static String replaceKeepTtlScript(String addCommand) {
+		return "local ttl = redis.call('PTTL', KEYS[1]) "
+				+ "redis.call('DEL', KEYS[1]) "
+				+ "for i = 1, #ARGV, " + SCRIPT_BATCH_SIZE + " do "
+				+ "redis.call('" + addCommand + "', KEYS[1], unpack(ARGV, i, math.min(i + " + ( SCRIPT_BATCH_SIZE - 1 ) + ", #ARGV))) "
+				+ "end "
+				+ "if ttl > 0 then redis.call('PEXPIRE', KEYS[1], ttl) end "
+				+ "return ttl";
+	}
+
+	private <T> RedisFuture<T> add(RedisFuture<T> future) {
+		futures.add( future );
+		return future;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.lambdaworks.redis.AbstractRedisClient;
+import com.lambdaworks.redis.RedisClient;
+import com.lambdaworks.redis.api.StatefulConnection;
+import com.lambdaworks.redis.api.StatefulRedisConnection;
+import com.lambdaworks.redis.cluster.RedisClusterClient;
+import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
+import com.lambdaworks.redis.codec.Utf8StringCodec;
+
+/**
+ * The connections used by the {@link RedisPipeline}s, either to a standalone Redis server or to a Redis cluster.
+ * <p>
+ * Commands are only sent when a pipeline gets synchronized, so a connection must not be shared by two pipelines at the
+ * same time: one of them would send the half-built pipeline of the other. Each pipeline thus holds a connection of its
+ * own until it is closed; connections are created on demand and a few of them are kept for later pipelines. A cluster
+ * connection routes each command to the connection of the node serving its key, and sends the commands buffered for
+ * all the nodes when flushed.
+ */
+public class RedisPipelineConnectionPool {
+
+	/**
+	 * The maximum number of idle connections kept open; connections released while that many are idle get closed.
+	 */
+	private static final int MAX_IDLE_CONNECTIONS = 8;
+
+	private final AbstractRedisClient client;
+	private final Queue<StatefulConnection<String, String>> idleConnections = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * @param client a {@link RedisClient} or a {@link RedisClusterClient}
+	 */
+	public RedisPipelineConnectionPool(AbstractRedisClient client) {
+		this.client = client;
+	}
+
+	/**
+	 * Returns an idle connection or a new one if there is none; the connection only sends commands when flushed
+	 * explicitly.
+	 */
+	StatefulConnection<String, String> acquire() {
+		StatefulConnection<String, String> connection = idleConnections.poll();
+		if ( connection == null || !connection.isOpen() ) {
+			connection = connect();
+			connection.setAutoFlushCommands( false );
+		}
+		return connection;
+	}
+
+	private StatefulConnection<String, String> connect() {
+		if ( client instanceof RedisClusterClient ) {
+			return ( (RedisClusterClient) client ).connect( new Utf8StringCodec() );
+		}
+		return ( (RedisClient) client ).connect( new Utf8StringCodec() );
+	}
+
+	/**
+	 * Returns the asynchronous commands of a connection obtained from {@link #acquire()}.
+	 */
+	static RedisClusterAsyncCommands<String, String> async(StatefulConnection<String, String> connection) {
+		if ( connection instanceof StatefulRedisClusterConnection ) {
+			return ( (StatefulRedisClusterConnection<String, String>) connection ).async();
+		}
+		return ( (StatefulRedisConnection<String, String>) connection ).async();
+	}
+
+	/**
+	 * Returns the given connection to the pool.
+	 *
+	 * @param connection a connection obtained from {@link #acquire()}
+	 * @param reusable whether all the commands queued on the connection have been sent and completed; if not, the
+	 * connection is closed, so its pending commands are never sent with those of another pipeline
+	 */
+	void release(StatefulConnection<String, String> connection, boolean reusable) {
+		if ( reusable && connection.isOpen() && idleConnections.size() < MAX_IDLE_CONNECTIONS ) {
+			idleConnections.offer( connection );
+		}
+		else {
+			connection.close();
+		}
+	}
+
+	/**
+	 * Closes the idle connections.
+	 */
+	public void close() {
+		StatefulConnection<String, String> connection = idleConnections.poll();
+		while ( connection != null ) {
+			connection.close();
+			connection = idleConnections.poll();
+		}
+	}
+}
@@ -7,10 +7,9 @@
 package org.hibernate.ogm.datastore.redis.impl.json;
 
 import java.util.Iterator;
-import java.util.Set;
 
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
-import org.hibernate.ogm.model.spi.TupleOperation;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
 
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 
@@ -37,10 +36,34 @@ public Entity getEntity(String key) {
 		return jsonSerializationStrategy.deserialize( value, Entity.class );
 	}
 
-	public void storeEntity(String key, Entity entity, Set<TupleOperation> operations) {
+	/**
+	 * Returns the entity stored at the given key once the commands queued in the given pipeline are executed. The
+	 * entity is read from Redis unless one of these commands writes the key, in which case the pipeline is not sent.
+	 *
+	 * @param pipeline the pipeline whose queued commands are taken into account
+	 * @param key the key of the entity
+	 * @return the entity or {@code null} if there is none
+	 */
+	public Entity getEntity(RedisPipeline pipeline, String key) {
+		if ( !pipeline.isWritten( key ) ) {
+			return getEntity( key );
+		}
+		String value = pipeline.getWrittenValue( key );
+		return value != null ? jsonSerializationStrategy.deserialize( value, Entity.class ) : null;
+	}
+
+	/**
+	 * Queues the commands storing the given entity.
+	 *
+	 * @param pipeline the pipeline to queue the commands into
+	 * @param key the key of the entity
+	 * @param entity the entity
+	 * @param ttl the TTL of the entity or {@code null} to keep its current TTL
+	 */
+	public void storeEntity(RedisPipeline pipeline, String key, Entity entity, Long ttl) {
 		String value = jsonSerializationStrategy.serialize( entity );
 
-		connection.set( key, value );
+		pipeline.set( key, value, ttl );
 	}
 
 	public Iterable<Entity> getEntities(String[] keys) {
@@ -0,0 +1,115 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.test.batch;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.datastore.redis.impl.RedisPipeline;
+import org.hibernate.ogm.datastore.redis.test.RedisOgmTestCase;
+import org.hibernate.ogm.datastore.redis.test.mapping.Donut;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test that the commands of a flush, sent to Redis in a single pipeline, are applied as expected.
+ */
+public class RedisPipelineTest extends RedisOgmTestCase {
+
+	@Before
+	public void before() throws Exception {
+		getConnection().flushall();
+	}
+
+	@Test
+	public void testOperationsOfAFlushAreApplied() throws Exception {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+		Donut deleted = new Donut( "deleted", 1.0, Donut.Glaze.Dark, "deleted" );
+		session.persist( new Donut( "homers-donut", 7.5, Donut.Glaze.Pink, "pink-donut" ) );
+		session.persist( new Donut( "barts-donut", 5.0, Donut.Glaze.Dark, "dark-donut" ) );
+		session.persist( deleted );
+		session.delete( deleted );
+		session.getTransaction().commit();
+		session.clear();
+
+		session.getTransaction().begin();
+		assertThat( session.get( Donut.class, "deleted" ) ).isNull();
+		Donut homers = (Donut) session.get( Donut.class, "homers-donut" );
+		assertThat( homers.getAlias() ).isEqualTo( "pink-donut" );
+		Donut barts = (Donut) session.get( Donut.class, "barts-donut" );
+		assertThat( barts.getAlias() ).isEqualTo( "dark-donut" );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testUpdateKeepsTheCurrentExpiry() throws Exception {
+		OgmSession session = openSession();
+		session.getTransaction().begin();
+		session.persist( new Donut( "homers-donut", 7.5, Donut.Glaze.Pink, "pink-donut" ) );
+		session.getTransaction().commit();
+		session.clear();
+
+		getConnection().pexpire( "Donut:homers-donut", TimeUnit.HOURS.toMillis( 1 ) );
+
+		session.getTransaction().begin();
+		Donut donut = (Donut) session.get( Donut.class, "homers-donut" );
+		donut.setAlias( "glazed-donut" );
+		session.getTransaction().commit();
+		session.close();
+
+		assertThat( getConnection().pttl( "Donut:homers-donut" ) ).isGreaterThan( 0L )
+				.isLessThanOrEqualTo( TimeUnit.HOURS.toMillis( 1 ) );
+	}
+
+	@Test
+	public void testCommandsAreOnlySentUponSync() throws Exception {
+		RedisPipeline pipeline = getProvider().createPipeline();
+		try {
+			pipeline.set( "Donut:pipelined", "{}", null );
+			pipeline.set( "Donut:pipelined-with-ttl", "{}", TimeUnit.HOURS.toMillis( 1 ) );
+
+			assertThat( getConnection().exists( "Donut:pipelined" ) ).isFalse();
+			assertThat( getConnection().exists( "Donut:pipelined-with-ttl" ) ).isFalse();
+
+			pipeline.sync();
+		}
+		finally {
+			pipeline.close();
+		}
+
+		assertThat( getConnection().get( "Donut:pipelined" ) ).isEqualTo( "{}" );
+		assertThat( getConnection().pttl( "Donut:pipelined-with-ttl" ) ).isGreaterThan( 0L );
+	}
+
+	@Test
+	public void testOverwriteKeepsTheCurrentExpiry() throws Exception {
+		getConnection().set( "Donut:expiring", "{}" );
+		getConnection().pexpire( "Donut:expiring", TimeUnit.HOURS.toMillis( 1 ) );
+
+		RedisPipeline pipeline = getProvider().createPipeline();
+		try {
+			pipeline.set( "Donut:expiring", "{\"alias\":\"glazed\"}", null );
+			pipeline.sync();
+		}
+		finally {
+			pipeline.close();
+		}
+
+		assertThat( getConnection().get( "Donut:expiring" ) ).isEqualTo( "{\"alias\":\"glazed\"}" );
+		assertThat( getConnection().pttl( "Donut:expiring" ) ).isGreaterThan( 0L )
+				.isLessThanOrEqualTo( TimeUnit.HOURS.toMillis( 1 ) );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Donut.class };
+	}
+}
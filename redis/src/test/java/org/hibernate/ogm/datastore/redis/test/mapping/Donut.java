@@ -67,7 +67,7 @@ public void setAlias(String alias) {
 		this.alias = alias;
 	}
 
-	enum Glaze {
+	public enum Glaze {
 		Sugar, Dark, Pink
 	}
 